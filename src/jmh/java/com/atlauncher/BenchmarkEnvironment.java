@@ -0,0 +1,87 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import com.atlauncher.data.Settings;
+import com.google.common.io.ByteStreams;
+
+/**
+ * Sets up a throwaway launcher environment for benchmarks so that they never touch the users actual launcher folder
+ * and don't need network access.
+ */
+public final class BenchmarkEnvironment {
+    private static Path workingDir = null;
+
+    private BenchmarkEnvironment() {
+    }
+
+    /**
+     * Points the launcher at a temporary working directory and sets up default settings. This must be called before
+     * anything touches {@link FileSystem} or {@link Network}.
+     */
+    public static synchronized Path setup() throws IOException {
+        if (workingDir == null) {
+            workingDir = Files.createTempDirectory("atlauncher-benchmark");
+            App.workingDir = workingDir;
+            App.settings = new Settings();
+
+            Files.createDirectories(FileSystem.CACHE);
+
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> delete(workingDir)));
+        }
+
+        return workingDir;
+    }
+
+    public static String readResource(String name) throws IOException {
+        try (InputStream is = BenchmarkEnvironment.class.getResourceAsStream(name)) {
+            if (is == null) {
+                throw new IOException("Missing benchmark resource " + name);
+            }
+
+            return new String(ByteStreams.toByteArray(is), StandardCharsets.UTF_8);
+        }
+    }
+
+    public static void delete(Path path) {
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        try (Stream<Path> paths = Files.walk(path)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> {
+                try {
+                    Files.delete(p);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
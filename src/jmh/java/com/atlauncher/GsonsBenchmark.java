@@ -0,0 +1,130 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.atlauncher.data.DisableableMod;
+import com.atlauncher.data.Instance;
+import com.atlauncher.data.InstanceLauncher;
+import com.atlauncher.data.Type;
+import com.atlauncher.data.minecraft.AssetIndex;
+import com.atlauncher.data.minecraft.MinecraftVersion;
+import com.atlauncher.data.minecraft.VersionManifest;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Benchmarks deserializing the larger JSON files the launcher reads through {@link Gsons#DEFAULT}.
+ *
+ * The fixtures are generated to roughly match the size of the real files (an asset index for a modern version of
+ * Minecraft, the full version manifest and an instance with a couple hundred mods).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GsonsBenchmark {
+    private String instanceJson;
+    private String assetIndexJson;
+    private String versionManifestJson;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkEnvironment.setup();
+        Random random = new Random(1);
+
+        MinecraftVersion minecraftVersion = Gsons.DEFAULT
+                .fromJson(BenchmarkEnvironment.readResource("/json/1.16.4.json"), MinecraftVersion.class);
+        Instance instance = new Instance(minecraftVersion);
+        instance.launcher = new InstanceLauncher();
+        instance.launcher.name = "Benchmark Instance";
+        instance.launcher.pack = "Benchmark Pack";
+        instance.launcher.version = "1.0.0";
+        for (int i = 0; i < 250; i++) {
+            instance.launcher.mods.add(new DisableableMod("Mod " + i, "1.0." + i, true, "mod-" + i + ".jar",
+                    Type.mods, null, "A mod used for benchmarking", false, true, true, false, random.nextInt(),
+                    random.nextInt()));
+        }
+        instanceJson = Gsons.DEFAULT.toJson(instance);
+
+        JsonObject objects = new JsonObject();
+        for (int i = 0; i < 4000; i++) {
+            JsonObject object = new JsonObject();
+            object.addProperty("hash", randomHash(random));
+            object.addProperty("size", random.nextInt(1_000_000));
+            objects.add("minecraft/sounds/benchmark/sound" + i + ".ogg", object);
+        }
+        JsonObject assetIndex = new JsonObject();
+        assetIndex.add("objects", objects);
+        assetIndexJson = Gsons.DEFAULT.toJson(assetIndex);
+
+        JsonArray versions = new JsonArray();
+        for (int i = 0; i < 750; i++) {
+            JsonObject version = new JsonObject();
+            version.addProperty("id", "1." + (i / 10) + "." + (i % 10));
+            version.addProperty("type", i % 4 == 0 ? "release" : "snapshot");
+            version.addProperty("url", "https://piston-meta.mojang.com/v1/packages/" + randomHash(random) + "/1."
+                    + (i / 10) + "." + (i % 10) + ".json");
+            version.addProperty("time", "2022-02-25T13:15:31+00:00");
+            version.addProperty("releaseTime", "2020-10-29T15:49:37+00:00");
+            version.addProperty("size", random.nextInt(100_000));
+            version.addProperty("sha1", randomHash(random));
+            versions.add(version);
+        }
+        JsonObject latest = new JsonObject();
+        latest.addProperty("release", "1.74.9");
+        latest.addProperty("snapshot", "1.74.9");
+        JsonObject versionManifest = new JsonObject();
+        versionManifest.add("latest", latest);
+        versionManifest.add("versions", versions);
+        versionManifestJson = Gsons.DEFAULT.toJson(versionManifest);
+    }
+
+    private static String randomHash(Random random) {
+        StringBuilder sb = new StringBuilder(40);
+        for (int i = 0; i < 40; i++) {
+            sb.append(Character.forDigit(random.nextInt(16), 16));
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public Instance instance() {
+        return Gsons.DEFAULT.fromJson(instanceJson, Instance.class);
+    }
+
+    @Benchmark
+    public AssetIndex assetIndex() {
+        return Gsons.DEFAULT.fromJson(assetIndexJson, AssetIndex.class);
+    }
+
+    @Benchmark
+    public VersionManifest versionManifest() {
+        return Gsons.DEFAULT.fromJson(versionManifestJson, VersionManifest.class);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.managers;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.atlauncher.BenchmarkEnvironment;
+
+/**
+ * Benchmarks parsing of Minecraft's output, both plain text logs and log4j XML events, as done for every line a game
+ * outputs while it's running. {@link #minecraftLog4j()} also includes putting the events on the log queue, and so
+ * any back pressure from the logging thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LogManagerBenchmark {
+    private String[] lines;
+    private String[] events;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkEnvironment.setup();
+
+        // events are taken off the queue and posted to log4j as in the launcher, so that the queue never fills up
+        LogManager.start();
+
+        lines = BenchmarkEnvironment.readResource("/logs/latest.log").split("\n");
+
+        // group the XML lines into events the same way Instance does when reading the games output
+        List<String> events = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        for (String line : BenchmarkEnvironment.readResource("/logs/latest.xml").split("\n")) {
+            sb.append(line);
+
+            if (line.contains("</log4j:Event>")) {
+                events.add(sb.toString());
+                sb.setLength(0);
+            }
+        }
+        this.events = events.toArray(new String[0]);
+    }
+
+    @Benchmark
+    public void prepareMessageForMinecraftLog(Blackhole blackhole) {
+        for (String line : lines) {
+            blackhole.consume(LogManager.prepareMessageForMinecraftLog(line));
+        }
+    }
+
+    @Benchmark
+    public void minecraftLog4j() {
+        for (String event : events) {
+            LogManager.minecraftLog4j(event);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.network;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.atlauncher.App;
+import com.atlauncher.BenchmarkEnvironment;
+import com.atlauncher.FileSystem;
+import com.atlauncher.managers.VerifiedFileManager;
+import com.google.common.hash.Hashing;
+
+/**
+ * Benchmarks checking which files need downloading against an asset tree which is already fully downloaded, which is
+ * what happens on every launch of an instance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DownloadPoolBenchmark {
+    @Param({ "true", "false" })
+    public boolean alwaysVerifyGameFiles;
+
+    @Param({ "2000" })
+    public int assetCount;
+
+    private Path objects;
+    private DownloadPool pool;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkEnvironment.setup();
+        App.settings.alwaysVerifyGameFiles = alwaysVerifyGameFiles;
+        VerifiedFileManager.clear();
+
+        objects = Files.createTempDirectory(FileSystem.BASE_DIR, "objects");
+        pool = new DownloadPool();
+
+        Random random = new Random(1);
+        for (int i = 0; i < assetCount; i++) {
+            byte[] data = new byte[512 + random.nextInt(16 * 1024)];
+            random.nextBytes(data);
+
+            String hash = Hashing.sha1().hashBytes(data).toString();
+            Path file = objects.resolve(hash.substring(0, 2)).resolve(hash);
+            Files.createDirectories(file.getParent());
+            Files.write(file, data);
+
+            // the url is never hit as all the files already exist and match
+            pool.add(Download.build().setUrl("http://127.0.0.1/" + hash).hash(hash).size(data.length)
+                    .downloadTo(file));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkEnvironment.delete(objects);
+    }
+
+    @Benchmark
+    public DownloadPool downsize() {
+        return pool.downsize();
+    }
+}
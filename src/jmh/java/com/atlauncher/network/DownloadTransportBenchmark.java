@@ -0,0 +1,132 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.network;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.atlauncher.App;
+import com.atlauncher.BenchmarkEnvironment;
+import com.atlauncher.FileSystem;
+import com.atlauncher.Network;
+import com.google.common.hash.Hashing;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.tls.HandshakeCertificates;
+import okhttp3.tls.HeldCertificate;
+import okio.Buffer;
+
+/**
+ * Benchmarks downloading lots of small files (like assets and libraries) through a {@link DownloadPool} from a local
+ * TLS server, with and without HTTP/2, reporting files per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DownloadTransportBenchmark {
+    private static final int FILES = 500;
+
+    @Param({ "false", "true" })
+    public boolean enableHttp2;
+
+    @Param({ "8" })
+    public int concurrentConnections;
+
+    private MockWebServer server;
+    private Path downloads;
+    private String[] hashes;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkEnvironment.setup();
+        App.settings.enableHttp2 = enableHttp2;
+        App.settings.concurrentConnections = concurrentConnections;
+
+        String localhost = InetAddress.getByName("localhost").getCanonicalHostName();
+        HeldCertificate certificate = new HeldCertificate.Builder().addSubjectAlternativeName(localhost).build();
+        HandshakeCertificates serverCertificates = new HandshakeCertificates.Builder()
+                .heldCertificate(certificate).build();
+
+        Network.addTrustedCertificate(certificate.certificate());
+        Network.setTransportSettings();
+
+        byte[][] bodies = new byte[FILES][];
+        hashes = new String[FILES];
+
+        Random random = new Random(1);
+        for (int i = 0; i < FILES; i++) {
+            bodies[i] = new byte[512 + random.nextInt(16 * 1024)];
+            random.nextBytes(bodies[i]);
+            hashes[i] = Hashing.sha1().hashBytes(bodies[i]).toString();
+        }
+
+        server = new MockWebServer();
+        server.useHttps(serverCertificates.sslSocketFactory(), false);
+        server.setProtocols(Network.CLIENT.protocols());
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                int index = Integer.parseInt(request.getPath().substring(1));
+
+                return new MockResponse().setBody(new Buffer().write(bodies[index]));
+            }
+        });
+        server.start();
+
+        downloads = Files.createTempDirectory(FileSystem.BASE_DIR, "downloads");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        server.shutdown();
+        BenchmarkEnvironment.delete(downloads);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public DownloadPool downloadAll() {
+        DownloadPool pool = new DownloadPool();
+
+        for (int i = 0; i < FILES; i++) {
+            pool.add(Download.build().setUrl(server.url("/" + i).toString()).hash(hashes[i])
+                    .downloadTo(downloads.resolve(hashes[i])).forceDownload());
+        }
+
+        pool.downloadAll();
+
+        return pool;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.atlauncher.BenchmarkEnvironment;
+
+/**
+ * Benchmarks extracting a natives jar, which is done for every native library on every launch of an instance.
+ *
+ * The jar is generated to look like an LWJGL natives jar, with a handful of largish shared libraries along with a
+ * META-INF folder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ArchiveUtilsBenchmark {
+    private Path nativesJar;
+    private Path extractTo;
+
+    @Setup
+    public void setup() throws IOException {
+        Path workingDir = BenchmarkEnvironment.setup();
+        nativesJar = workingDir.resolve("lwjgl-3.2.2-natives-linux.jar");
+
+        Random random = new Random(1);
+        try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(nativesJar))) {
+            zos.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+            zos.write("Manifest-Version: 1.0\n".getBytes(StandardCharsets.UTF_8));
+            zos.closeEntry();
+
+            for (String name : new String[] { "liblwjgl.so", "liblwjgl_opengl.so", "liblwjgl_stb.so", "libglfw.so",
+                    "libopenal.so", "libjemalloc.so" }) {
+                // half random and half zeros so it compresses about as well as a real shared library
+                byte[] data = new byte[256 * 1024 + random.nextInt(512 * 1024)];
+                byte[] randomPart = new byte[data.length / 2];
+                random.nextBytes(randomPart);
+                System.arraycopy(randomPart, 0, data, 0, randomPart.length);
+
+                zos.putNextEntry(new ZipEntry("linux/x64/org/lwjgl/" + name));
+                zos.write(data);
+                zos.closeEntry();
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void createExtractDirectory() throws IOException {
+        extractTo = Files.createTempDirectory(nativesJar.getParent(), "natives");
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteExtractDirectory() {
+        BenchmarkEnvironment.delete(extractTo);
+    }
+
+    @Benchmark
+    public boolean extract() {
+        return ArchiveUtils.extract(nativesJar, extractTo);
+    }
+}
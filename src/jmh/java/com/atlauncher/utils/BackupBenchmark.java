@@ -0,0 +1,95 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.atlauncher.BenchmarkEnvironment;
+
+/**
+ * Benchmarks backing up an instance, with the parallel zipping used for backups against the single threaded zipping
+ * used before.
+ *
+ * The instance is generated with a mods folder of jars (random data, so they don't compress) and a world of region
+ * files (partly random, so they compress about as well as real ones).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BackupBenchmark {
+    private Path instance;
+    private Path backup;
+
+    @Setup
+    public void setup() throws IOException {
+        Path workingDir = BenchmarkEnvironment.setup();
+        instance = Files.createDirectories(workingDir.resolve("instances/benchmark"));
+
+        Random random = new Random(1);
+        Path mods = Files.createDirectories(instance.resolve("mods"));
+        for (int i = 0; i < 100; i++) {
+            byte[] data = new byte[256 * 1024 + random.nextInt(1024 * 1024)];
+            random.nextBytes(data);
+            Files.write(mods.resolve("mod-" + i + ".jar"), data);
+        }
+
+        Path region = Files.createDirectories(instance.resolve("saves/world/region"));
+        for (int i = 0; i < 64; i++) {
+            byte[] data = new byte[2 * 1024 * 1024];
+            byte[] randomPart = new byte[data.length / 3];
+            random.nextBytes(randomPart);
+            System.arraycopy(randomPart, 0, data, 0, randomPart.length);
+            Files.write(region.resolve(String.format("r.%d.%d.mca", i / 8, i % 8)), data);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setBackupPath() throws IOException {
+        backup = Files.createTempFile(instance.getParent(), "backup", ".zip");
+        Files.delete(backup);
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteBackup() {
+        BenchmarkEnvironment.delete(backup);
+    }
+
+    @Benchmark
+    public boolean createZip() {
+        return ArchiveUtils.createZip(instance, backup, ZipNameMapper.FULL_BACKUP);
+    }
+
+    @Benchmark
+    public boolean createZipInParallel() {
+        return ArchiveUtils.createZipInParallel(instance, backup, ZipNameMapper.FULL_BACKUP, null);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.utils;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.sangupta.murmur.Murmur2;
+
+/**
+ * Benchmarks hashing of mod sized files, comparing the streaming murmur implementation against the previous one which
+ * buffered the whole file in memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HashingBenchmark {
+    @Param({ "1048576", "33554432" })
+    public int fileSize;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        byte[] data = new byte[fileSize];
+        new Random(1).nextBytes(data);
+
+        file = Files.createTempFile("atlauncher-hashing-benchmark", ".jar");
+        Files.write(file, data);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long murmur() throws IOException {
+        return Hashing.murmur(file);
+    }
+
+    @Benchmark
+    public long murmurBuffered() throws IOException {
+        try (ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
+            try (BufferedInputStream bis = new BufferedInputStream(Files.newInputStream(file))) {
+                int b;
+                while ((b = bis.read()) != -1) {
+                    if (b != 9 && b != 10 && b != 13 && b != 32) {
+                        bos.write(b);
+                    }
+                }
+            }
+
+            return Murmur2.hash(bos.toByteArray(), bos.size(), 1L);
+        }
+    }
+
+    @Benchmark
+    public Object sha1() {
+        return Hashing.sha1(file);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.utils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.atlauncher.BenchmarkEnvironment;
+import com.atlauncher.evnt.LogEvent.LogType;
+
+/**
+ * Benchmarks classifying lines of a 100k line modded game log, reporting lines per second, against the chain of
+ * contains checks LogManager used before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MinecraftLogClassifierBenchmark {
+    private static final int LINES = 100_000;
+
+    private String[] lines;
+
+    @Setup
+    public void setup() throws IOException {
+        String[] logLines = BenchmarkEnvironment.readResource("/logs/latest.log").split("\n");
+
+        lines = new String[LINES];
+        for (int i = 0; i < LINES; i++) {
+            lines[i] = logLines[i % logLines.length];
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public void classify(Blackhole blackhole) {
+        for (String line : lines) {
+            blackhole.consume(MinecraftLogClassifier.classify(line));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public void classifyLegacy(Blackhole blackhole) {
+        for (String line : lines) {
+            blackhole.consume(classifyLegacy(line));
+        }
+    }
+
+    private static Object[] classifyLegacy(String text) {
+        LogType type; // The log message type
+        String message; // The log message
+
+        if (text.contains("[INFO] [STDERR]")) {
+            message = text.substring(text.indexOf("[INFO] [STDERR]"));
+            type = LogType.WARN;
+        } else if (text.contains("[INFO]")) {
+            message = text.substring(text.indexOf("[INFO]"));
+            if (message.contains("CONFLICT")) {
+                type = LogType.ERROR;
+            } else if (message.contains("overwriting existing item")) {
+                type = LogType.WARN;
+            } else {
+                type = LogType.INFO;
+            }
+        } else if (text.contains("[WARNING]")) {
+            message = text.substring(text.indexOf("[WARNING]"));
+            type = LogType.WARN;
+        } else if (text.contains("WARNING:")) {
+            message = text.substring(text.indexOf("WARNING:"));
+            type = LogType.WARN;
+        } else if (text.contains("INFO:")) {
+            message = text.substring(text.indexOf("INFO:"));
+            type = LogType.INFO;
+        } else if (text.contains("Exception")) {
+            message = text;
+            type = LogType.ERROR;
+        } else if (text.contains("[SEVERE]")) {
+            message = text.substring(text.indexOf("[SEVERE]"));
+            type = LogType.ERROR;
+        } else if (text.contains("[Sound Library Loader/ERROR]")) {
+            message = text.substring(text.indexOf("[Sound Library Loader/ERROR]"));
+            type = LogType.ERROR;
+        } else if (text.contains("[Sound Library Loader/WARN]")) {
+            message = text.substring(text.indexOf("[Sound Library Loader/WARN]"));
+            type = LogType.WARN;
+        } else if (text.contains("[Sound Library Loader/INFO]")) {
+            message = text.substring(text.indexOf("[Sound Library Loader/INFO]"));
+            type = LogType.INFO;
+        } else if (text.contains("[MCO Availability Checker #1/ERROR]")) {
+            message = text.substring(text.indexOf("[MCO Availability Checker #1/ERROR]"));
+            type = LogType.ERROR;
+        } else if (text.contains("[MCO Availability Checker #1/WARN]")) {
+            message = text.substring(text.indexOf("[MCO Availability Checker #1/WARN]"));
+            type = LogType.WARN;
+        } else if (text.contains("[MCO Availability Checker #1/INFO]")) {
+            message = text.substring(text.indexOf("[MCO Availability Checker #1/INFO]"));
+            type = LogType.INFO;
+        } else if (text.contains("[Client thread/ERROR]")) {
+            message = text.substring(text.indexOf("[Client thread/ERROR]"));
+            type = LogType.ERROR;
+        } else if (text.contains("[Client thread/WARN]")) {
+            message = text.substring(text.indexOf("[Client thread/WARN]"));
+            type = LogType.WARN;
+        } else if (text.contains("[Client thread/INFO]")) {
+            message = text.substring(text.indexOf("[Client thread/INFO]"));
+            type = LogType.INFO;
+        } else if (text.contains("[Server thread/ERROR]")) {
+            message = text.substring(text.indexOf("[Server thread/ERROR]"));
+            type = LogType.ERROR;
+        } else if (text.contains("[Server thread/WARN]")) {
+            message = text.substring(text.indexOf("[Server thread/WARN]"));
+            type = LogType.WARN;
+        } else if (text.contains("[Server thread/INFO]")) {
+            message = text.substring(text.indexOf("[Server thread/INFO]"));
+            type = LogType.INFO;
+        } else if (text.contains("[main/ERROR]")) {
+            message = text.substring(text.indexOf("[main/ERROR]"));
+            type = LogType.ERROR;
+        } else if (text.contains("[main/WARN]")) {
+            message = text.substring(text.indexOf("[main/WARN]"));
+            type = LogType.WARN;
+        } else if (text.contains("[main/INFO]")) {
+            message = text.substring(text.indexOf("[main/INFO]"));
+            type = LogType.INFO;
+        } else {
+            message = text;
+            type = LogType.INFO;
+        }
+
+        return new Object[] { type, message };
+    }
+}
@@ -75,6 +75,7 @@ import com.atlauncher.gui.dialogs.ProgressDialog;
 import com.atlauncher.gui.dialogs.SetupDialog;
 import com.atlauncher.managers.ConfigManager;
 import com.atlauncher.managers.DialogManager;
+import com.atlauncher.managers.ImageManager;
 import com.atlauncher.managers.InstanceManager;
 import com.atlauncher.managers.LogManager;
 import com.atlauncher.managers.PackManager;
@@ -206,6 +207,14 @@ public class App {
      */
     public static boolean noConsole = false;
 
+    /**
+     * This will set what to do with log messages when too many are being logged at once, taking precedence over the
+     * policy set in the launcher's settings.
+     * <p/>
+     * --log-overflow-policy
+     */
+    public static LogManager.OverflowPolicy logOverflowPolicy = null;
+
     /**
      * This will close the launcher once Minecraft is launcher. This is only effective when combined with the --launch
      * parameter.
@@ -308,6 +317,9 @@ public class App {
             LogManager.logStackTrace("Error organising filesystem", e, false);
         }
 
+        // clear out old cached images in the background
+        TASKPOOL.execute(ImageManager::pruneCaches);
+
         // Load the settings from json, convert old properties config and validate it
         loadSettings();
 
@@ -911,6 +923,11 @@ public class App {
 
         // validate the settings
         settings.validate();
+
+        // a log overflow policy passed on the command line takes precedence over the one in settings
+        if (logOverflowPolicy == null) {
+            LogManager.overflowPolicy = LogManager.OverflowPolicy.fromString(settings.logOverflowPolicy);
+        }
     }
 
     /**
@@ -1056,6 +1073,9 @@ public class App {
         parser.accepts("debug", "If debug logging should be enabled.").withOptionalArg().ofType(Boolean.class);
         parser.accepts("debug-level", "The level of debug logging that should be logged.").withRequiredArg()
             .ofType(Integer.class);
+        parser.accepts("log-overflow-policy",
+                "What to do with log messages when too many are being logged at once. Can be \"block\", \"drop-debug-first\" or \"spill-to-disk\".")
+            .withRequiredArg().ofType(String.class);
         parser.accepts("launch",
                 "The name of an instance to automatically launch. Can be the instances directory name in the file system or the full name of the instance.")
             .withRequiredArg().ofType(String.class);
@@ -1115,6 +1135,17 @@ public class App {
             LogManager.debug("Debug level has been set to " + options.valueOf("debug-level") + "!");
         }
 
+        if (options.has("log-overflow-policy")) {
+            try {
+                logOverflowPolicy = LogManager.OverflowPolicy
+                    .fromString(String.valueOf(options.valueOf("log-overflow-policy")));
+                LogManager.overflowPolicy = logOverflowPolicy;
+                LogManager.debug("Log overflow policy has been set to " + logOverflowPolicy + "!");
+            } catch (IllegalArgumentException e) {
+                LogManager.warn("Unknown log overflow policy " + options.valueOf("log-overflow-policy"));
+            }
+        }
+
         skipSetupDialog = options.has("skip-setup-dialog");
         if (skipSetupDialog) {
             LogManager.debug("Skipping setup dialog!");
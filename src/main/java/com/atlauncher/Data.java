@@ -17,24 +17,23 @@
  */
 package com.atlauncher;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import com.atlauncher.data.LWJGLVersions;
-import com.atlauncher.data.Pack;
+import com.atlauncher.data.PackRegistry;
 import com.atlauncher.data.minecraft.JavaRuntimes;
-import com.atlauncher.data.minecraft.VersionManifestVersion;
+import com.atlauncher.data.minecraft.MinecraftVersionCatalog;
 
 public final class Data {
 
+    // the config (with any overrides applied) flattened so that each value is keyed by its dotted path
     public static Map<String, Object> CONFIG = new HashMap<>();
-    public static Map<String, Object> CONFIG_OVERRIDES = new HashMap<>();
 
-    public static final List<Pack> PACKS = new ArrayList<>();
+    // replaced as a whole when the packs are reloaded, so is never seen half loaded
+    public static volatile PackRegistry PACKS = PackRegistry.EMPTY;
 
-    public static final Map<String, VersionManifestVersion> MINECRAFT = new HashMap<>();
+    public static MinecraftVersionCatalog MINECRAFT = MinecraftVersionCatalog.EMPTY;
     public static LWJGLVersions LWJGL_VERSIONS = null;
     public static JavaRuntimes JAVA_RUNTIMES = null;
 }
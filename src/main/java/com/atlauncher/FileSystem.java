@@ -40,7 +40,13 @@ public final class FileSystem {
     public static final Path APOLLO_CACHE = CACHE.resolve("apolloCache");
     public static final Path HTTP_CACHE = CACHE.resolve("http");
     public static final Path REMOTE_IMAGE_CACHE = CACHE.resolve("remote_image");
+    public static final Path THUMBNAIL_CACHE = CACHE.resolve("thumbnails");
     public static final Path FRACTURISER_SCANNED_HASHES = CACHE.resolve("fracturiser_scanned_hashes.json");
+    public static final Path FRACTURISER_SCAN_CACHE = CACHE.resolve("fracturiser_scan_cache.bin");
+    public static final Path VERIFIED_FILES = CACHE.resolve("verified_files.json");
+    public static final Path LAUNCHER_FILES_MANIFEST = CACHE.resolve("launcher_files.json");
+    public static final Path JAVA_PROBES = CACHE.resolve("java_probes.json");
+    public static final Path MOD_METADATA = CACHE.resolve("mod_metadata");
     public static final Path LOADERS = BASE_DIR.resolve("loaders");
     public static final Path RUNTIMES = BASE_DIR.resolve("runtimes");
     public static final Path MINECRAFT_RUNTIMES = RUNTIMES.resolve("minecraft");
@@ -233,6 +239,8 @@ public final class FileSystem {
         FileUtils.createDirectory(CACHE);
         FileUtils.createDirectory(HTTP_CACHE);
         FileUtils.createDirectory(REMOTE_IMAGE_CACHE);
+        FileUtils.createDirectory(THUMBNAIL_CACHE);
+        FileUtils.createDirectory(MOD_METADATA);
         FileUtils.createDirectory(INSTANCES);
         FileUtils.createDirectory(LIBRARIES);
         FileUtils.createDirectory(LOADERS);
@@ -30,7 +30,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 import javax.swing.JDialog;
 import javax.swing.JFrame;
@@ -50,44 +50,33 @@ import com.atlauncher.gui.dialogs.ProgressDialog;
 import com.atlauncher.gui.tabs.PacksBrowserTab;
 import com.atlauncher.managers.AccountManager;
 import com.atlauncher.managers.ConfigManager;
-import com.atlauncher.managers.CurseForgeUpdateManager;
 import com.atlauncher.managers.DialogManager;
-import com.atlauncher.managers.FTBUpdateManager;
+import com.atlauncher.managers.ExternalPackUpdateManager;
 import com.atlauncher.managers.InstanceManager;
 import com.atlauncher.managers.LWJGLManager;
+import com.atlauncher.managers.LauncherFilesManager;
 import com.atlauncher.managers.LogManager;
 import com.atlauncher.managers.MinecraftManager;
-import com.atlauncher.managers.ModrinthModpackUpdateManager;
 import com.atlauncher.managers.NewsManager;
 import com.atlauncher.managers.PackManager;
 import com.atlauncher.managers.PerformanceManager;
 import com.atlauncher.managers.ServerManager;
-import com.atlauncher.managers.TechnicModpackUpdateManager;
 import com.atlauncher.network.Analytics;
-import com.atlauncher.network.DownloadPool;
 import com.atlauncher.network.GraphqlClient;
-import com.atlauncher.network.NetworkClient;
 import com.atlauncher.network.analytics.AnalyticsEvent;
 import com.atlauncher.utils.Java;
 import com.atlauncher.utils.OS;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonSyntaxException;
-import com.google.gson.reflect.TypeToken;
-
-import okhttp3.OkHttpClient;
 
 public class Launcher {
     // Holding update data
     private LauncherVersion latestLauncherVersion; // Latest Launcher version
-    private List<DownloadableFile> launcherFiles; // Files the Launcher needs to download
 
     // UI things
     private JFrame parent; // Parent JFrame of the actual Launcher
     private PacksBrowserTab packsBrowserPanel; // The packs browser panel
 
-    // Update thread
-    private Thread updateThread;
-
     // Minecraft tracking variables
     private Process minecraftProcess = null; // The process minecraft is running on
     public boolean minecraftLaunched = false; // If Minecraft has been Launched
@@ -96,7 +85,11 @@ public class Launcher {
 
     public void loadEverything() {
         PerformanceManager.start();
-        if (hasUpdatedFiles()) {
+        CompletableFuture<Boolean> launcherFilesSync = null;
+        if (LauncherFilesManager.hasSyncedFiles()) {
+            // we have everything we need from last time, so start with those and sync any changes in the background
+            launcherFilesSync = CompletableFuture.supplyAsync(this::syncLauncherFiles, App.TASKPOOL);
+        } else if (hasUpdatedFiles()) {
             downloadUpdatedFiles(); // Downloads updated files on the server
         }
 
@@ -152,14 +145,55 @@ public class Launcher {
         }
 
         checkForExternalPackUpdates();
+        ExternalPackUpdateManager.scheduleChecks();
 
         if (App.settings.enableAnalytics && Analytics.isEnabled()) {
             Analytics.startSession(App.settings.selectedTabOnStartup);
         }
         System.gc();
+
+        if (launcherFilesSync != null) {
+            launcherFilesSync.thenAccept(updated -> {
+                if (updated) {
+                    reloadUpdatedLauncherFiles();
+                }
+            });
+        }
         PerformanceManager.end();
     }
 
+    private boolean syncLauncherFiles() {
+        PerformanceManager.start("Launcher::syncLauncherFiles");
+        try {
+            List<DownloadableFile> updatedFiles = LauncherFilesManager.getUpdatedFiles();
+
+            return updatedFiles != null && !updatedFiles.isEmpty()
+                && LauncherFilesManager.downloadUpdatedFiles(null);
+        } finally {
+            PerformanceManager.end("Launcher::syncLauncherFiles");
+        }
+    }
+
+    /**
+     * Reloads everything which comes from the launcher files after they've been updated in the background.
+     */
+    private void reloadUpdatedLauncherFiles() {
+        LogManager.info("Launcher files were updated in the background, so reloading them");
+
+        checkForLauncherUpdate();
+        ConfigManager.loadConfig(); // Load the config
+        NewsManager.loadNews(); // Load the news
+        MinecraftManager.loadMinecraftVersions(); // Load info about the different Minecraft versions
+        MinecraftManager.loadJavaRuntimes(); // Load info about the different java runtimes
+        LWJGLManager.loadLWJGLVersions(); // Load info about the different LWJGL versions
+        PackManager.loadPacks(); // Load the Packs available in the Launcher
+        PackManager.loadUsers(); // Load the Testers and Allowed Players for the packs
+
+        if (this.packsBrowserPanel != null) {
+            reloadPacksBrowserPanel(); // Reload packs browser panel
+        }
+    }
+
     public boolean launcherHasUpdate() {
         try (InputStreamReader fileReader = new InputStreamReader(
             Files.newInputStream(FileSystem.JSON.resolve("version.json")), StandardCharsets.UTF_8)) {
@@ -251,46 +285,11 @@ public class Launcher {
         System.exit(0);
     }
 
-    /**
-     * This checks the servers files.json file and gets the files that the Launcher needs to have
-     */
-    private List<com.atlauncher.network.Download> getLauncherFiles() {
-        if (this.launcherFiles == null) {
-            java.lang.reflect.Type type = new TypeToken<List<DownloadableFile>>() {
-            }.getType();
-
-            try {
-                this.launcherFiles = NetworkClient.get(
-                    String.format("%s/launcher/json/files.json", Constants.DOWNLOAD_SERVER),
-                    type);
-            } catch (Exception e) {
-                LogManager.logStackTrace("Error loading in file hashes!", e);
-                return null;
-            }
-        }
-
-        if (this.launcherFiles == null) {
-            return null;
-        }
-
-        return this.launcherFiles.stream()
-            .filter(file -> !file.isLauncher() && !file.isFiles() && file.isForArchAndOs())
-            .map(DownloadableFile::getDownload).collect(Collectors.toList());
-    }
-
     public void downloadUpdatedFiles() {
         ProgressDialog<Object> progressDialog = new ProgressDialog<>(GetText.tr("Downloading Updates"), 1,
             GetText.tr("Downloading Updates"));
         progressDialog.addThread(new Thread(() -> {
-            DownloadPool pool = new DownloadPool();
-            OkHttpClient httpClient = Network.createProgressClient(progressDialog);
-            pool.addAll(
-                getLauncherFiles().stream().map(dl -> dl.withHttpClient(httpClient)).collect(Collectors.toList()));
-            DownloadPool smallPool = pool.downsize();
-
-            progressDialog.setTotalBytes(smallPool.totalSize());
-
-            pool.downloadAll();
+            LauncherFilesManager.downloadUpdatedFiles(progressDialog);
             progressDialog.doneTask();
             progressDialog.close();
         }));
@@ -300,47 +299,23 @@ public class Launcher {
     }
 
     public boolean checkForUpdatedFiles() {
-        this.launcherFiles = null;
-
-        App.TASKPOOL.execute(this::checkForExternalPackUpdates);
+        checkForExternalPackUpdates();
 
         return hasUpdatedFiles();
     }
 
     /**
-     * This checks the servers hashes.json file and looks for new/updated files that differ from what the user has
+     * This checks the servers files.json file and looks for new/updated files that differ from what the user has
      */
     public boolean hasUpdatedFiles() {
         LogManager.info("Checking for updated files!");
-        List<com.atlauncher.network.Download> downloads = getLauncherFiles();
-
-        if (downloads == null) {
-            return false;
-        }
+        List<DownloadableFile> updatedFiles = LauncherFilesManager.getUpdatedFiles();
 
-        return downloads.stream().anyMatch(com.atlauncher.network.Download::needToDownload);
+        return updatedFiles != null && !updatedFiles.isEmpty();
     }
 
     public void checkForExternalPackUpdates() {
-        if (updateThread != null && updateThread.isAlive()) {
-            updateThread.interrupt();
-        }
-
-        updateThread = new Thread(() -> {
-            if (InstanceManager.getInstances().stream().anyMatch(Instance::isFTBPack)) {
-                FTBUpdateManager.checkForUpdates();
-            }
-            if (InstanceManager.getInstances().stream().anyMatch(Instance::isCurseForgePack)) {
-                CurseForgeUpdateManager.checkForUpdates();
-            }
-            if (InstanceManager.getInstances().stream().anyMatch(Instance::isTechnicPack)) {
-                TechnicModpackUpdateManager.checkForUpdates();
-            }
-            if (InstanceManager.getInstances().stream().anyMatch(Instance::isModrinthPack)) {
-                ModrinthModpackUpdateManager.checkForUpdates();
-            }
-        });
-        updateThread.start();
+        ExternalPackUpdateManager.checkForUpdatesInBackground();
     }
 
     public void updateData() {
@@ -20,8 +20,10 @@ package com.atlauncher;
 import java.io.IOException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -37,12 +39,17 @@ import com.atlauncher.interfaces.NetworkProgressable;
 import com.atlauncher.listener.ProgressListener;
 import com.atlauncher.network.DebugLoggingInterceptor;
 import com.atlauncher.network.ErrorReportingInterceptor;
+import com.atlauncher.network.GraphqlClient;
+import com.atlauncher.network.HostConnectionLimitInterceptor;
+import com.atlauncher.network.RateLimitInterceptor;
 import com.atlauncher.network.UserAgentInterceptor;
 import com.atlauncher.utils.Java;
 import com.atlauncher.utils.OS;
 import com.atlauncher.utils.ProgressResponseBody;
 
 import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
 import okhttp3.Response;
@@ -51,6 +58,19 @@ import okhttp3.tls.HandshakeCertificates;
 public final class Network {
     public static final Cache CACHE = new Cache(FileSystem.HTTP_CACHE.toFile(), 100 * 1024 * 1024); // 100MB cache
 
+    /**
+     * Dispatcher shared by every client (and so every download), so that the per host limits apply across them all.
+     */
+    public static final Dispatcher DISPATCHER = new Dispatcher();
+
+    // the minimum number of requests the dispatcher will run at once, no matter the concurrent connections setting
+    private static final int MIN_DISPATCHER_REQUESTS = 64;
+
+    // the minimum number of idle connections kept alive, no matter the concurrent connections setting
+    private static final int MIN_IDLE_CONNECTIONS = 5;
+
+    private static ConnectionPool connectionPool;
+
     public static OkHttpClient CLIENT;
     public static OkHttpClient GRAPHQL_CLIENT;
     public static OkHttpClient CACHED_CLIENT;
@@ -73,10 +93,20 @@ public final class Network {
     static {
         Logger.getLogger(OkHttpClient.class.getName()).setLevel(Level.FINEST);
 
+        RateLimitInterceptor rateLimitInterceptor = RateLimitInterceptor.forApis();
+
+        updateDispatcherLimits();
+        connectionPool = createConnectionPool();
+
         OkHttpClient baseClient = new OkHttpClient.Builder()
-                .protocols(Collections.singletonList(Protocol.HTTP_1_1))
+                .protocols(getProtocols())
+                .dispatcher(DISPATCHER)
+                .connectionPool(connectionPool)
                 .addNetworkInterceptor(new UserAgentInterceptor())
                 .addInterceptor(new DebugLoggingInterceptor())
+                .addInterceptor(new HostConnectionLimitInterceptor())
+                .addInterceptor(rateLimitInterceptor)
+                .addNetworkInterceptor(rateLimitInterceptor.getNetworkInterceptor())
                 .addNetworkInterceptor(new ErrorReportingInterceptor())
                 .connectTimeout(App.settings.connectionTimeout, TimeUnit.SECONDS)
                 .readTimeout(App.settings.connectionTimeout, TimeUnit.SECONDS)
@@ -105,6 +135,48 @@ public final class Network {
         CACHED_CLIENT = CACHED_CLIENT.newBuilder().connectTimeout(App.settings.connectionTimeout, TimeUnit.SECONDS)
                 .readTimeout(App.settings.connectionTimeout, TimeUnit.SECONDS)
                 .writeTimeout(App.settings.connectionTimeout, TimeUnit.SECONDS).build();
+
+        GraphqlClient.rebuild();
+    }
+
+    /**
+     * Applies the transport related settings (HTTP/2, concurrent connections and max connections per host) to all the
+     * clients, including the one used by the GraphQL client. Connections in the old pool are left to finish what
+     * they're doing and are then closed. The per host limit is read by {@link HostConnectionLimitInterceptor} on each
+     * request, and the dispatcher's own per host limit is kept in step for calls made with enqueue.
+     */
+    public static synchronized void setTransportSettings() {
+        updateDispatcherLimits();
+
+        ConnectionPool oldConnectionPool = connectionPool;
+        connectionPool = createConnectionPool();
+        List<Protocol> protocols = getProtocols();
+
+        CLIENT = CLIENT.newBuilder().protocols(protocols).connectionPool(connectionPool).build();
+        GRAPHQL_CLIENT = GRAPHQL_CLIENT.newBuilder().protocols(protocols).connectionPool(connectionPool).build();
+        CACHED_CLIENT = CACHED_CLIENT.newBuilder().protocols(protocols).connectionPool(connectionPool).build();
+        GraphqlClient.rebuild();
+
+        oldConnectionPool.evictAll();
+    }
+
+    private static List<Protocol> getProtocols() {
+        // when enabled, HTTP/2 is negotiated with hosts that support it, falling back to HTTP/1.1 for those that don't
+        if (App.settings.enableHttp2) {
+            return Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1);
+        }
+
+        return Collections.singletonList(Protocol.HTTP_1_1);
+    }
+
+    private static ConnectionPool createConnectionPool() {
+        return new ConnectionPool(Math.max(MIN_IDLE_CONNECTIONS, App.settings.concurrentConnections), 5,
+                TimeUnit.MINUTES);
+    }
+
+    private static void updateDispatcherLimits() {
+        DISPATCHER.setMaxRequests(Math.max(MIN_DISPATCHER_REQUESTS, App.settings.concurrentConnections));
+        DISPATCHER.setMaxRequestsPerHost(App.settings.maxConnectionsPerHost);
     }
 
     public static OkHttpClient createProgressClient(final NetworkProgressable progressable) {
@@ -133,6 +205,8 @@ public final class Network {
 
         CACHED_CLIENT = CACHED_CLIENT.newBuilder()
                 .sslSocketFactory(certificates.sslSocketFactory(), certificates.trustManager()).build();
+
+        GraphqlClient.rebuild();
     }
 
     public static void allowAllSslCerts() {
@@ -168,6 +242,8 @@ public final class Network {
             CACHED_CLIENT = CACHED_CLIENT.newBuilder()
                     .sslSocketFactory(sslSocketFactory, (X509TrustManager) trustAllCerts[0])
                     .hostnameVerifier((hostname, session) -> true).build();
+
+            GraphqlClient.rebuild();
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
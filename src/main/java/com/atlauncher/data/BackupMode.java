@@ -18,5 +18,5 @@
 package com.atlauncher.data;
 
 public enum BackupMode {
-    NORMAL, NORMAL_PLUS_MODS, FULL
+    NORMAL, NORMAL_PLUS_MODS, FULL, INCREMENTAL
 }
@@ -24,10 +24,10 @@ import java.io.Serializable;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -420,8 +420,8 @@ public class DisableableMod implements Serializable {
                     }
                 }
 
-                List<String> neoForgeForgeCompatabilityVersions = ConfigManager
-                        .getConfigItem("loaders.neoforge.forgeCompatibleMinecraftVersions", new ArrayList<>());
+                Set<String> neoForgeForgeCompatabilityVersions = ConfigManager
+                        .getConfigSet("loaders.neoforge.forgeCompatibleMinecraftVersions");
 
                 // filter out files not for our loader
                 curseForgeFilesStream = curseForgeFilesStream.filter(cf -> {
@@ -585,6 +585,15 @@ public class DisableableMod implements Serializable {
     }
 
     public static DisableableMod generateMod(File file, com.atlauncher.data.Type type, boolean enabled) {
+        return generateMod(file, type, enabled, null);
+    }
+
+    /**
+     * Generates a mod for the given file, using the mod information from the given metadata if it's provided rather
+     * than reading it from the file.
+     */
+    public static DisableableMod generateMod(File file, com.atlauncher.data.Type type, boolean enabled,
+            ModMetadata metadata) {
         DisableableMod mod = new DisableableMod();
         mod.disabled = !enabled;
         mod.userAdded = true;
@@ -596,13 +605,13 @@ public class DisableableMod implements Serializable {
         mod.version = "Unknown";
         mod.description = null;
 
-        MCMod mcMod = Utils.getMCModForFile(file);
+        MCMod mcMod = metadata != null ? metadata.mcMod : Utils.getMCModForFile(file);
         if (mcMod != null) {
             mod.name = Optional.ofNullable(mcMod.name).orElse(file.getName());
             mod.version = Optional.ofNullable(mcMod.version).orElse("Unknown");
             mod.description = mcMod.description;
         } else {
-            FabricMod fabricMod = Utils.getFabricModForFile(file);
+            FabricMod fabricMod = metadata != null ? metadata.fabricMod : Utils.getFabricModForFile(file);
             if (fabricMod != null) {
                 mod.name = Optional.ofNullable(fabricMod.name).orElse(file.getName());
                 mod.version = Optional.ofNullable(fabricMod.version).orElse("Unknown");
@@ -17,6 +17,7 @@
  */
 package com.atlauncher.data;
 
+import java.nio.file.Path;
 import java.util.Locale;
 
 import com.atlauncher.FileSystem;
@@ -65,11 +66,19 @@ public class DownloadableFile {
         return true;
     }
 
+    public String getKey() {
+        return this.folder + "/" + this.name;
+    }
+
+    public Path getPath() {
+        return FileSystem.CONFIGS.resolve(getKey());
+    }
+
     public Download getDownload() {
         return Download.build()
                 .setUrl(String.format("%s/launcher/%s/%s", Constants.DOWNLOAD_SERVER,
                         this.folder.toLowerCase(Locale.ENGLISH),
                         this.name))
-                .downloadTo(FileSystem.CONFIGS.resolve(this.folder + "/" + this.name)).size(this.size).hash(this.sha1);
+                .downloadTo(getPath()).size(this.size).hash(this.sha1);
     }
 }
@@ -0,0 +1,40 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The manifest of a single incremental backup, listing the files which were backed up and the hash of their contents,
+ * which is the name of the object in the backup store holding them.
+ */
+public class IncrementalBackup {
+    /**
+     * The name of the manifest file this was loaded from/saved to.
+     */
+    public transient String name;
+
+    public String instance;
+    public long created;
+    public List<IncrementalBackupFile> files = new ArrayList<>();
+
+    public long getSize() {
+        return files.stream().mapToLong(file -> file.size).sum();
+    }
+}
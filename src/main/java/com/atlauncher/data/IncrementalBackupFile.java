@@ -0,0 +1,40 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.data;
+
+/**
+ * A file in an incremental backup, along with the size and last modified time it had when it was backed up, so the
+ * next backup can tell if it's changed without hashing it again.
+ */
+public class IncrementalBackupFile {
+    public String path;
+    public String hash;
+    public long size;
+    public long modified;
+
+    public IncrementalBackupFile(String path, String hash, long size, long modified) {
+        this.path = path;
+        this.hash = hash;
+        this.size = size;
+        this.modified = modified;
+    }
+
+    public boolean matches(long size, long modified) {
+        return this.size == size && this.modified == modified;
+    }
+}
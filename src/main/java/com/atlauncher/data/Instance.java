@@ -17,16 +17,8 @@
  */
 package com.atlauncher.data;
 
-import java.awt.BorderLayout;
-import java.awt.Dialog.ModalityType;
 import java.awt.Dimension;
-import java.awt.Graphics2D;
-import java.awt.Image;
-import java.awt.RenderingHints;
 import java.awt.Window;
-import java.awt.event.WindowAdapter;
-import java.awt.event.WindowEvent;
-import java.awt.image.BufferedImage;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
@@ -42,6 +34,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.sql.Timestamp;
+import java.text.DateFormat;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -55,21 +48,19 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
-import javax.imageio.ImageIO;
 import javax.swing.Box;
 import javax.swing.BoxLayout;
 import javax.swing.ImageIcon;
 import javax.swing.JComboBox;
-import javax.swing.JDialog;
 import javax.swing.JFileChooser;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
-import javax.swing.JProgressBar;
 import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
 import javax.swing.filechooser.FileNameExtensionFilter;
@@ -144,6 +135,8 @@ import com.atlauncher.managers.ConfigManager;
 import com.atlauncher.managers.CurseForgeUpdateManager;
 import com.atlauncher.managers.DialogManager;
 import com.atlauncher.managers.FTBUpdateManager;
+import com.atlauncher.managers.ImageManager;
+import com.atlauncher.managers.IncrementalBackupManager;
 import com.atlauncher.managers.InstanceManager;
 import com.atlauncher.managers.LWJGLManager;
 import com.atlauncher.managers.LogManager;
@@ -165,6 +158,8 @@ import com.atlauncher.utils.CurseForgeUtils;
 import com.atlauncher.utils.FileUtils;
 import com.atlauncher.utils.Hashing;
 import com.atlauncher.utils.Java;
+import com.atlauncher.utils.LogRedactor;
+import com.atlauncher.utils.ModMetadataIndex;
 import com.atlauncher.utils.ModrinthApi;
 import com.atlauncher.utils.OS;
 import com.atlauncher.utils.Pair;
@@ -196,6 +191,11 @@ public class Instance extends MinecraftVersion implements ModManagement {
      */
     public transient long numPlays;
 
+    /**
+     * Incremented every time this instance is saved, so that anything showing this instance can tell it's changed.
+     */
+    private transient volatile int revision = 0;
+
     public Instance(MinecraftVersion version) {
         setValues(version);
     }
@@ -293,31 +293,17 @@ public class Instance extends MinecraftVersion implements ModManagement {
     }
 
     public ImageIcon getImage() {
-        File customImage = this.getRoot().resolve("instance.png").toFile();
+        Path customImage = this.getRoot().resolve("instance.png");
 
-        if (customImage.exists()) {
-            try {
-                BufferedImage img = ImageIO.read(customImage);
-                if (img != null) {
-                    // if a square image, then make it 300x150 (without stretching) centered
-                    if (img.getHeight(null) == img.getWidth(null)) {
-                        BufferedImage dimg = new BufferedImage(300, 150, BufferedImage.TYPE_INT_ARGB);
-
-                        Graphics2D g2d = dimg.createGraphics();
-                        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
-                            RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-                        g2d.drawImage(img, 75, 0, 150, 150, null);
-                        g2d.dispose();
-
-                        return new ImageIcon(dimg);
-                    }
+        if (Files.exists(customImage)) {
+            ImageIcon image = ImageManager.getImage(customImage, 300, 150, ImageManager.Scaling.BANNER);
 
-                    return new ImageIcon(img.getScaledInstance(300, 150, Image.SCALE_SMOOTH));
-                }
-            } catch (IOException e) {
-                LogManager.warn("Error creating scaled image from the custom image of instance " + this.launcher.name
-                    + ". Using default image.");
+            if (image != null) {
+                return image;
             }
+
+            LogManager.warn("Error creating scaled image from the custom image of instance " + this.launcher.name
+                + ". Using default image.");
         }
 
         if (getPack() != null) {
@@ -991,7 +977,7 @@ public class Instance extends MinecraftVersion implements ModManagement {
                 int detectedError = 0;
                 boolean crashedWithoutKnownResolution = false;
 
-                String replaceUUID = account.uuid.replace("-", "");
+                LogRedactor logRedactor = LogRedactor.forAccount(account, !LogManager.showDebug);
 
                 while ((line = br.readLine()) != null) {
                     if (line.contains("java.lang.OutOfMemoryError")
@@ -1023,17 +1009,7 @@ public class Instance extends MinecraftVersion implements ModManagement {
                         crashedWithoutKnownResolution = true;
                     }
 
-                    if (!LogManager.showDebug) {
-                        line = line.replaceAll(account.minecraftUsername, "**MINECRAFTUSERNAME**");
-                        line = line.replaceAll(account.username, "**MINECRAFTUSERNAME**");
-                        line = line.replaceAll(account.uuid, "**UUID**");
-                        line = line.replaceAll(replaceUUID, "**UUID**");
-                        line = line.replaceAll("\\b(?:\\d{1,3}\\.){3}\\d{1,3}\\b", "**IPADDRESS**");
-                    }
-
-                    if (account.getAccessToken() != null) {
-                        line = line.replaceAll(account.getAccessToken(), "**ACCESSTOKEN**");
-                    }
+                    line = logRedactor.redact(line);
 
                     if (line.contains("log4j:")) {
                         try {
@@ -1587,17 +1563,18 @@ public class Instance extends MinecraftVersion implements ModManagement {
 
         // for any mods not from CurseForge, scan for them on CurseForge
         Map<Long, DisableableMod> murmurHashes = new HashMap<>();
+        ModMetadataIndex modMetadataIndex = ModMetadataIndex.forRoot(ROOT);
 
         this.launcher.mods.stream()
             .filter(m -> !m.disabled && m.type != com.atlauncher.data.Type.worlds)
             .forEach(dm -> {
-                try {
-                    long hash = Hashing.murmur(dm.getFile(this.ROOT, this.id).toPath());
-                    murmurHashes.put(hash, dm);
-                } catch (IOException e) {
-                    LogManager.logStackTrace(e);
+                ModMetadata modMetadata = modMetadataIndex.get(dm.getFile(this.ROOT, this.id));
+
+                if (modMetadata != null) {
+                    murmurHashes.put(modMetadata.murmur, dm);
                 }
             });
+        modMetadataIndex.save();
 
         if (!murmurHashes.isEmpty()) {
             CurseForgeFingerprint fingerprintResponse = CurseForgeApi
@@ -1805,22 +1782,27 @@ public class Instance extends MinecraftVersion implements ModManagement {
         ModrinthModpackManifest manifest = new ModrinthModpackManifest();
 
         // for any mods not from Modrinth, scan for them on Modrinth
-        List<DisableableMod> nonModrinthMods = this.launcher.mods.parallelStream()
-            .filter(m -> !m.disabled && !m.isFromModrinth() && m.getFile(this).exists())
-            .collect(Collectors.toList());
+        ModMetadataIndex modMetadataIndex = ModMetadataIndex.forRoot(ROOT);
+        Map<DisableableMod, String> nonModrinthModHashes = new ConcurrentHashMap<>();
 
-        String[] sha1Hashes = nonModrinthMods.parallelStream()
-            .map(m -> Hashing.sha1(m.getFile(this).toPath()).toString()).toArray(String[]::new);
+        this.launcher.mods.parallelStream()
+            .filter(m -> !m.disabled && !m.isFromModrinth())
+            .forEach(m -> {
+                ModMetadata modMetadata = modMetadataIndex.get(m.getFile(this));
 
-        Map<String, ModrinthVersion> modrinthVersions = ModrinthApi.getVersionsFromSha1Hashes(sha1Hashes);
+                if (modMetadata != null) {
+                    nonModrinthModHashes.put(m, modMetadata.sha1);
+                }
+            });
+
+        Map<String, ModrinthVersion> modrinthVersions = ModrinthApi.getVersionsFromSha1Hashes(
+            nonModrinthModHashes.values().stream().distinct().toArray(String[]::new));
 
         if (!modrinthVersions.isEmpty()) {
             Map<String, ModrinthProject> modrinthProjects = ModrinthApi.getProjectsAsMap(
                 modrinthVersions.values().parallelStream().map(mv -> mv.projectId).toArray(String[]::new));
 
-            nonModrinthMods.parallelStream().forEach(mod -> {
-                String hash = Hashing.sha1(mod.getFile(this).toPath()).toString();
-
+            nonModrinthModHashes.forEach((mod, hash) -> {
                 if (modrinthVersions.containsKey(hash)) {
                     ModrinthVersion modrinthVersion = modrinthVersions.get(hash);
 
@@ -1842,7 +1824,7 @@ public class Instance extends MinecraftVersion implements ModManagement {
         manifest.name = name;
         manifest.summary = this.launcher.description;
         manifest.files = this.launcher.mods.parallelStream()
-            .filter(m -> !m.disabled && m.modrinthVersion != null && m.getFile(this).exists())
+            .filter(m -> !m.disabled && m.modrinthVersion != null && modMetadataIndex.get(m.getFile(this)) != null)
             .filter(mod -> overrides.stream()
                 .anyMatch(path -> getRoot().relativize(mod.getPath(this)).startsWith(path)))
             .collect(Collectors.collectingAndThen(
@@ -1853,15 +1835,16 @@ public class Instance extends MinecraftVersion implements ModManagement {
                         .filter(mod -> seenFileIds.add(mod.modrinthVersion.id))
                         .map(mod -> {
                             Path modPath = mod.getFile(this).toPath();
+                            ModMetadata modMetadata = modMetadataIndex.get(modPath);
 
                             ModrinthModpackFile file = new ModrinthModpackFile();
                             file.path = this.ROOT.relativize(modPath).toString().replace("\\", "/");
 
-                            String sha1Hash = Hashing.sha1(modPath).toString();
+                            String sha1Hash = modMetadata.sha1;
 
                             file.hashes = new HashMap<>();
                             file.hashes.put("sha1", sha1Hash);
-                            file.hashes.put("sha512", Hashing.sha512(modPath).toString());
+                            file.hashes.put("sha512", modMetadata.sha512);
 
                             file.env = new HashMap<>();
                             // mods are always required on the client ALWAYS ALWAYS ALWAYS (for now)
@@ -1873,7 +1856,7 @@ public class Instance extends MinecraftVersion implements ModManagement {
                                 file.env.put("server", "unsupported");
                             }
 
-                            file.fileSize = modPath.toFile().length();
+                            file.fileSize = modMetadata.size;
 
                             file.downloads = new ArrayList<>();
                             file.downloads.add(HttpUrl.get(mod.modrinthVersion.getFileBySha1(sha1Hash).url)
@@ -1883,6 +1866,8 @@ public class Instance extends MinecraftVersion implements ModManagement {
                         })
                         .collect(Collectors.toList());
                 }));
+        modMetadataIndex.save();
+
         manifest.dependencies = new HashMap<>();
 
         manifest.dependencies.put("minecraft", this.id);
@@ -1990,8 +1975,14 @@ public class Instance extends MinecraftVersion implements ModManagement {
         }
     }
 
+    public int getRevision() {
+        return revision;
+    }
+
     @Override
     public void save() {
+        revision++;
+
         try (OutputStreamWriter fileWriter = new OutputStreamWriter(
             Files.newOutputStream(this.getRoot().resolve("instance.json")), StandardCharsets.UTF_8)) {
             Gsons.DEFAULT.toJson(this, fileWriter);
@@ -2250,58 +2241,156 @@ public class Instance extends MinecraftVersion implements ModManagement {
     }
 
     public void backup(BackupMode backupMode) {
+        Analytics.trackEvent(AnalyticsEvent.forInstanceBackup(backupMode, this));
+
+        if (backupMode == BackupMode.INCREMENTAL) {
+            backupIncrementally();
+            return;
+        }
+
+        Timestamp timestamp = new Timestamp(new Date().getTime());
+        String timestampString = timestamp.toString().replaceAll("[^0-9]", "_");
+        String filename = getSafeName() + "-" + timestampString.substring(0, timestampString.lastIndexOf("_"))
+            + ".zip";
+
+        Path backupZip = getBackupsPath().resolve(filename);
+
         // #. {0} is the name of the instance
-        final JDialog dialog = new JDialog(App.launcher.getParent(), GetText.tr("Backing Up {0}", launcher.name),
-            ModalityType.DOCUMENT_MODAL);
-        dialog.setSize(300, 100);
-        dialog.setLocationRelativeTo(App.launcher.getParent());
-        dialog.setResizable(false);
-
-        JPanel topPanel = new JPanel();
-        topPanel.setLayout(new BorderLayout());
-        // #. {0} is the name of the instance
-        JLabel doing = new JLabel(GetText.tr("Backing Up {0}", launcher.name));
-        doing.setHorizontalAlignment(JLabel.CENTER);
-        doing.setVerticalAlignment(JLabel.TOP);
-        topPanel.add(doing);
+        ProgressDialog<Boolean> progressDialog = new ProgressDialog<>(GetText.tr("Backing Up {0}", launcher.name));
+        progressDialog.addThread(new Thread(() -> {
+            boolean success = ArchiveUtils.createZipInParallel(getRoot(), backupZip,
+                ZipNameMapper.getMapperForBackupMode(backupMode), progressDialog);
 
-        JPanel bottomPanel = new JPanel();
-        bottomPanel.setLayout(new BorderLayout());
-        JProgressBar progressBar = new JProgressBar();
-        bottomPanel.add(progressBar, BorderLayout.NORTH);
-        progressBar.setIndeterminate(true);
+            progressDialog.setReturnValue(success);
+            progressDialog.close();
+        }));
+        progressDialog.start();
 
-        dialog.add(topPanel, BorderLayout.CENTER);
-        dialog.add(bottomPanel, BorderLayout.SOUTH);
+        if (Boolean.TRUE.equals(progressDialog.getReturnValue())) {
+            App.TOASTER.pop(GetText.tr("Backup is complete"));
+            LogManager.info(String.format("Backup complete and stored at %s", backupZip.toString()));
+        } else if (!progressDialog.wasClosed) {
+            App.TOASTER.popError(GetText.tr("Error making backup"));
+        }
+    }
 
-        Analytics.trackEvent(AnalyticsEvent.forInstanceBackup(backupMode, this));
+    private Path getBackupsPath() {
+        if (App.settings.backupsPath != null) {
+            return Paths.get(App.settings.backupsPath);
+        }
+
+        return FileSystem.BACKUPS;
+    }
+
+    private void backupIncrementally() {
+        Path backupsPath = getBackupsPath();
 
-        final Thread backupThread = new Thread(() -> {
-            Timestamp timestamp = new Timestamp(new Date().getTime());
-            String timestampString = timestamp.toString().replaceAll("[^0-9]", "_");
-            String filename = getSafeName() + "-" + timestampString.substring(0, timestampString.lastIndexOf("_"))
-                + ".zip";
+        // #. {0} is the name of the instance
+        ProgressDialog<IncrementalBackup> progressDialog = new ProgressDialog<>(
+            GetText.tr("Backing Up {0}", launcher.name));
+        progressDialog.addThread(new Thread(() -> {
+            try {
+                IncrementalBackup backup = IncrementalBackupManager.backup(backupsPath, getSafeName(), getRoot(),
+                    ZipNameMapper.getMapperForBackupMode(BackupMode.INCREMENTAL), progressDialog);
 
-            Path backupsPath = FileSystem.BACKUPS;
-            if (App.settings.backupsPath != null) {
-                backupsPath = Paths.get(App.settings.backupsPath);
+                if (backup != null) {
+                    IncrementalBackupManager.prune(backupsPath, getSafeName(), App.settings.incrementalBackupsToKeep);
+                }
+
+                progressDialog.setReturnValue(backup);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
 
-            ArchiveUtils.createZip(getRoot(), backupsPath.resolve(filename),
-                ZipNameMapper.getMapperForBackupMode(backupMode));
+            progressDialog.close();
+        }));
+        progressDialog.start();
 
-            dialog.dispose();
+        if (progressDialog.getReturnValue() != null) {
             App.TOASTER.pop(GetText.tr("Backup is complete"));
-        });
-        backupThread.start();
-        dialog.addWindowListener(new WindowAdapter() {
-            @Override
-            public void windowClosing(WindowEvent e) {
-                backupThread.interrupt();
-                dialog.dispose();
-            }
-        });
-        dialog.setVisible(true);
+            LogManager.info(String.format("Incremental backup %s complete", progressDialog.getReturnValue().name));
+        } else if (!progressDialog.wasClosed) {
+            App.TOASTER.popError(GetText.tr("Error making backup"));
+        }
+    }
+
+    public void restoreIncrementalBackup() {
+        Analytics.trackEvent(AnalyticsEvent.forInstanceEvent("instance_restore_backup", this));
+
+        if (App.launcher.minecraftLaunched) {
+            DialogManager.okDialog().setTitle(GetText.tr("Cannot Restore Backup"))
+                .setContent(GetText.tr("A backup cannot be restored while Minecraft is running. Please close it and try again."))
+                .setType(DialogManager.ERROR).show();
+            return;
+        }
+
+        Path backupsPath = getBackupsPath();
+        List<IncrementalBackup> backups = IncrementalBackupManager.getBackups(backupsPath, getSafeName());
+
+        if (backups.isEmpty()) {
+            DialogManager.okDialog().setTitle(GetText.tr("No Backups"))
+                .setContent(GetText.tr("There are no incremental backups of this instance to restore."))
+                .setType(DialogManager.INFO).show();
+            return;
+        }
+
+        JComboBox<ComboItem<IncrementalBackup>> backupsDropDown = new JComboBox<>();
+        DateFormat dateFormat = DateFormat.getDateTimeInstance(DateFormat.MEDIUM, DateFormat.MEDIUM);
+        for (IncrementalBackup backup : backups) {
+            backupsDropDown.addItem(new ComboItem<>(backup, String.format(Locale.ENGLISH, "%s (%.2f MB)",
+                dateFormat.format(new Date(backup.created)), backup.getSize() / 1024.0 / 1024.0)));
+        }
+
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+
+        Box box = Box.createHorizontalBox();
+        box.add(new JLabel(GetText.tr("Select Backup To Restore")));
+        box.add(Box.createHorizontalGlue());
+
+        panel.add(box);
+        panel.add(Box.createVerticalStrut(20));
+        panel.add(backupsDropDown);
+        panel.add(Box.createVerticalStrut(20));
+
+        // #. {0} is the name of the instance
+        int ret = JOptionPane.showConfirmDialog(App.launcher.getParent(), panel,
+            GetText.tr("Restoring {0}", launcher.name), JOptionPane.OK_CANCEL_OPTION, JOptionPane.INFORMATION_MESSAGE);
+
+        if (ret != 0) {
+            return;
+        }
+
+        IncrementalBackup backup = ((ComboItem<IncrementalBackup>) backupsDropDown.getSelectedItem()).getValue();
+
+        ret = DialogManager.yesNoDialog().setTitle(GetText.tr("Restore Backup"))
+            .setContent(new HTMLBuilder().center().text(GetText.tr(
+                "Files in the instance will be replaced with the ones in the backup, and any files which have been added since the backup was made will be deleted.<br/><br/>Do you want to continue?"))
+                .build())
+            .setType(DialogManager.WARNING).show();
+
+        if (ret != 0) {
+            return;
+        }
+
+        // #. {0} is the name of the instance
+        ProgressDialog<Boolean> progressDialog = new ProgressDialog<>(GetText.tr("Restoring {0}", launcher.name));
+        progressDialog.addThread(new Thread(() -> {
+            progressDialog.setReturnValue(IncrementalBackupManager.restore(backupsPath, backup, getRoot(),
+                ZipNameMapper.getMapperForBackupMode(BackupMode.INCREMENTAL), progressDialog));
+
+            // the restore may have replaced instance.json and the mods folder, so this object is now stale and
+            // must not be saved over them
+            InstanceManager.loadInstances();
+            progressDialog.close();
+        }));
+        progressDialog.start();
+
+        if (Boolean.TRUE.equals(progressDialog.getReturnValue())) {
+            App.TOASTER.pop(GetText.tr("Backup restored"));
+        } else if (!progressDialog.wasClosed) {
+            App.TOASTER.popError(GetText.tr("Error restoring backup"));
+        }
     }
 
     public boolean canChangeDescription() {
@@ -2831,12 +2920,14 @@ public class Instance extends MinecraftVersion implements ModManagement {
                 GetText.tr("Scanning New Mods"), parent);
 
             progressDialog.addThread(new Thread(() -> {
+                ModMetadataIndex modMetadataIndex = ModMetadataIndex.forRoot(ROOT);
+
                 List<DisableableMod> mods = files.parallelStream()
                     .map(file -> {
                         Type fileType = getTypeOfFileFromPath(file.getParent());
 
                         return DisableableMod.generateMod(file.toFile(), fileType,
-                            !file.getParent().equals(ROOT.resolve("disabledmods")));
+                            !file.getParent().equals(ROOT.resolve("disabledmods")), modMetadataIndex.get(file));
                     })
                     .collect(Collectors.toList());
 
@@ -2846,14 +2937,11 @@ public class Instance extends MinecraftVersion implements ModManagement {
                     mods.stream()
                         .filter(dm -> dm.curseForgeProject == null && dm.curseForgeFile == null)
                         .filter(dm -> dm.getFile(ROOT, id) != null).forEach(dm -> {
-                            try {
-                                long hash = Hashing
-                                    .murmur(dm.disabled ? dm.getDisabledFile(this).toPath()
-                                        : dm
-                                            .getFile(ROOT, id).toPath());
-                                murmurHashes.put(hash, dm);
-                            } catch (IOException e) {
-                                LogManager.logStackTrace(e);
+                            ModMetadata modMetadata = modMetadataIndex
+                                .get(dm.disabled ? dm.getDisabledFile(this) : dm.getFile(ROOT, id));
+
+                            if (modMetadata != null) {
+                                murmurHashes.put(modMetadata.murmur, dm);
                             }
                         });
 
@@ -2862,12 +2950,12 @@ public class Instance extends MinecraftVersion implements ModManagement {
                             .checkFingerprints(murmurHashes.keySet().stream().toArray(Long[]::new));
 
                         if (fingerprintResponse != null && fingerprintResponse.exactMatches != null) {
-                            int[] projectIdsFound = fingerprintResponse.exactMatches.stream().mapToInt(em -> em.id)
-                                .toArray();
+                            List<Integer> projectIdsFound = fingerprintResponse.exactMatches.stream().map(em -> em.id)
+                                .collect(Collectors.toList());
 
-                            if (projectIdsFound.length != 0) {
+                            if (!projectIdsFound.isEmpty()) {
                                 Map<Integer, CurseForgeProject> foundProjects = CurseForgeApi
-                                    .getProjectsAsMap(projectIdsFound);
+                                    .getProjectsByIdAsync(projectIdsFound).join();
 
                                 if (foundProjects != null) {
                                     fingerprintResponse.exactMatches.stream()
@@ -2900,13 +2988,15 @@ public class Instance extends MinecraftVersion implements ModManagement {
                                                 dm.curseForgeProject = null;
 
                                                 File path = dm.getFile(this);
-                                                MCMod mcMod = Utils.getMCModForFile(path);
+                                                ModMetadata modMetadata = modMetadataIndex.get(path);
+                                                MCMod mcMod = modMetadata == null ? null : modMetadata.mcMod;
                                                 if (mcMod != null) {
                                                     dm.name = Optional.ofNullable(mcMod.name)
                                                         .orElse(path.getName());
                                                     dm.description = mcMod.description;
                                                 } else {
-                                                    FabricMod fabricMod = Utils.getFabricModForFile(path);
+                                                    FabricMod fabricMod = modMetadata == null ? null
+                                                        : modMetadata.fabricMod;
                                                     if (fabricMod != null) {
                                                         dm.name = Optional.ofNullable(fabricMod.name)
                                                             .orElse(path.getName());
@@ -2927,29 +3017,26 @@ public class Instance extends MinecraftVersion implements ModManagement {
                     mods.stream()
                         .filter(dm -> dm.modrinthProject == null && dm.modrinthVersion == null)
                         .filter(dm -> dm.getFile(ROOT, id) != null).forEach(dm -> {
-                            try {
-                                sha1Hashes.put(Hashing
-                                    .sha1(dm.disabled ? dm.getDisabledFile(this).toPath()
-                                        : dm
-                                            .getFile(ROOT, id).toPath())
-                                    .toString(), dm);
-                            } catch (Throwable t) {
-                                LogManager.logStackTrace(t);
+                            ModMetadata modMetadata = modMetadataIndex
+                                .get(dm.disabled ? dm.getDisabledFile(this) : dm.getFile(ROOT, id));
+
+                            if (modMetadata != null) {
+                                sha1Hashes.put(modMetadata.sha1, dm);
                             }
                         });
 
                     if (!sha1Hashes.isEmpty()) {
                         Set<String> keys = sha1Hashes.keySet();
                         Map<String, ModrinthVersion> modrinthVersions = ModrinthApi
-                            .getVersionsFromSha1Hashes(keys.toArray(new String[0]));
+                            .getVersionsFromSha1HashesAsync(keys).join();
 
-                        if (modrinthVersions != null && !modrinthVersions.isEmpty()) {
-                            String[] projectIdsFound = modrinthVersions.values().stream().map(mv -> mv.projectId)
-                                .toArray(String[]::new);
+                        if (!modrinthVersions.isEmpty()) {
+                            List<String> projectIdsFound = modrinthVersions.values().stream().map(mv -> mv.projectId)
+                                .collect(Collectors.toList());
 
-                            if (projectIdsFound.length != 0) {
+                            if (!projectIdsFound.isEmpty()) {
                                 Map<String, ModrinthProject> foundProjects = ModrinthApi
-                                    .getProjectsAsMap(projectIdsFound);
+                                    .getProjectsByIdAsync(projectIdsFound).join();
 
                                 if (foundProjects != null) {
                                     for (Map.Entry<String, ModrinthVersion> entry : modrinthVersions.entrySet()) {
@@ -2980,6 +3067,8 @@ public class Instance extends MinecraftVersion implements ModManagement {
                     }
                 }
 
+                modMetadataIndex.save();
+
                 mods.forEach(mod -> LogManager.info("Found extra mod with name of " + mod.file));
                 launcher.mods.addAll(mods);
                 save();
@@ -0,0 +1,40 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.data;
+
+/**
+ * The result of probing a Java executable for its version and architecture, along with the size and last modified
+ * time the executable had at the point it was probed.
+ */
+public class JavaProbe {
+    public long size;
+    public long modified;
+    public String version;
+    public boolean is64bits;
+
+    public JavaProbe(long size, long modified, String version, boolean is64bits) {
+        this.size = size;
+        this.modified = modified;
+        this.version = version;
+        this.is64bits = is64bits;
+    }
+
+    public boolean matches(long size, long modified) {
+        return this.size == size && this.modified == modified;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The launcher files as they were when they were last synced from files.json, keyed by their folder and name.
+ */
+public class LauncherFilesManifest {
+    /**
+     * The ETag of the files.json these files were synced from, so it only needs to be downloaded again if it's
+     * changed.
+     */
+    public String etag;
+
+    public Map<String, SyncedFile> files = new HashMap<>();
+}
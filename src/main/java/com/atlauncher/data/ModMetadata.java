@@ -0,0 +1,52 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.data;
+
+import com.atlauncher.data.minecraft.FabricMod;
+import com.atlauncher.data.minecraft.MCMod;
+
+/**
+ * The hashes and parsed mod information of a mod file, along with the size and last modified time the file had at the
+ * point it was read.
+ */
+public class ModMetadata {
+    public long size;
+    public long modified;
+    public String md5;
+    public String sha1;
+    public String sha512;
+    public long murmur;
+    public MCMod mcMod;
+    public FabricMod fabricMod;
+
+    public ModMetadata(long size, long modified, String md5, String sha1, String sha512, long murmur, MCMod mcMod,
+            FabricMod fabricMod) {
+        this.size = size;
+        this.modified = modified;
+        this.md5 = md5;
+        this.sha1 = sha1;
+        this.sha512 = sha512;
+        this.murmur = murmur;
+        this.mcMod = mcMod;
+        this.fabricMod = fabricMod;
+    }
+
+    public boolean matches(long size, long modified) {
+        return this.size == size && this.modified == modified;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.atlauncher.utils.Hashing;
+import com.google.common.hash.HashCode;
+
+/**
+ * Immutable registry of the packs available in the launcher.
+ *
+ * Packs are indexed by their id, name, safe name and (for semi public packs) code when the registry is built, and the
+ * sorted lists shown in the packs browser are worked out up front, so that looking up the pack for an instance or
+ * server doesn't need to look through every pack. A new registry is built each time the packs are loaded, so anything
+ * reading the packs while they're being reloaded sees either the old packs or the new ones, never a mix of the two.
+ */
+public final class PackRegistry {
+    public static final PackRegistry EMPTY = new PackRegistry(Collections.emptyList());
+
+    private final List<Pack> packs;
+
+    private final Map<Integer, Pack> packsById = new HashMap<>();
+    private final Map<String, Pack> packsByName = new HashMap<>();
+    private final Map<String, Pack> packsBySafeName = new HashMap<>();
+    private final Map<HashCode, Pack> semiPublicPacksByCode = new HashMap<>();
+
+    // packs shown in the packs browser (so not including system packs), sorted ascending
+    private final List<Pack> packsAlphabetically;
+    private final List<Pack> featuredPacksAlphabetically;
+    private final List<Pack> packsPositionally;
+    private final List<Pack> featuredPacksPositionally;
+
+    public PackRegistry(Collection<Pack> packs) {
+        this.packs = Collections.unmodifiableList(new ArrayList<>(packs));
+
+        List<Pack> browsablePacks = new ArrayList<>();
+
+        // the first pack found wins when more than one matches, the same as when looking through the list in order
+        for (Pack pack : this.packs) {
+            packsById.putIfAbsent(pack.getID(), pack);
+            packsByName.putIfAbsent(pack.getName().toLowerCase(Locale.ENGLISH), pack);
+            packsBySafeName.putIfAbsent(pack.getSafeName().toLowerCase(Locale.ENGLISH), pack);
+
+            if (pack.isSemiPublic()) {
+                try {
+                    HashCode code = Hashing.toHashCode(pack.getCode());
+
+                    if (!code.equals(Hashing.EMPTY_HASH_CODE)) {
+                        semiPublicPacksByCode.putIfAbsent(code, pack);
+                    }
+                } catch (IllegalArgumentException ignored) {
+                    // not a valid code, so can't be looked up by code
+                }
+            }
+
+            if (!pack.isSystem()) {
+                browsablePacks.add(pack);
+            }
+        }
+
+        packsAlphabetically = sort(browsablePacks, Comparator.comparing(p -> p.getName().toLowerCase(Locale.ENGLISH)));
+        featuredPacksAlphabetically = getFeatured(packsAlphabetically);
+
+        packsPositionally = sort(browsablePacks, Comparator.comparingInt(Pack::getPosition));
+        featuredPacksPositionally = getFeatured(packsPositionally);
+    }
+
+    private static List<Pack> sort(List<Pack> packs, Comparator<Pack> comparator) {
+        List<Pack> sortedPacks = new ArrayList<>(packs);
+        sortedPacks.sort(comparator);
+
+        return Collections.unmodifiableList(sortedPacks);
+    }
+
+    private static List<Pack> getFeatured(List<Pack> packs) {
+        List<Pack> featuredPacks = new ArrayList<>();
+
+        for (Pack pack : packs) {
+            if (pack.isFeatured()) {
+                featuredPacks.add(pack);
+            }
+        }
+
+        return Collections.unmodifiableList(featuredPacks);
+    }
+
+    /**
+     * Gets all the packs, in the order they were loaded in.
+     */
+    public List<Pack> getPacks() {
+        return packs;
+    }
+
+    public int size() {
+        return packs.size();
+    }
+
+    public Pack getById(int id) {
+        return packsById.get(id);
+    }
+
+    public Pack getByName(String name) {
+        return name == null ? null : packsByName.get(name.toLowerCase(Locale.ENGLISH));
+    }
+
+    public Pack getBySafeName(String safeName) {
+        return safeName == null ? null : packsBySafeName.get(safeName.toLowerCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Gets the semi public pack with the given code.
+     *
+     * @param codeHash the MD5 hash of the code the user entered
+     */
+    public Pack getSemiPublicByCode(HashCode codeHash) {
+        return semiPublicPacksByCode.get(codeHash);
+    }
+
+    /**
+     * Gets the packs shown in the packs browser sorted by name, as a new list which can be changed.
+     */
+    public List<Pack> getSortedAlphabetically(boolean isFeatured, boolean sortDescending) {
+        return copy(isFeatured ? featuredPacksAlphabetically : packsAlphabetically, sortDescending);
+    }
+
+    /**
+     * Gets the packs shown in the packs browser sorted by position, as a new list which can be changed.
+     */
+    public List<Pack> getSortedPositionally(boolean isFeatured, boolean sortDescending) {
+        return copy(isFeatured ? featuredPacksPositionally : packsPositionally, sortDescending);
+    }
+
+    private static List<Pack> copy(List<Pack> packs, boolean reverse) {
+        List<Pack> copy = new ArrayList<>(packs);
+
+        if (reverse) {
+            Collections.reverse(copy);
+        }
+
+        return copy;
+    }
+}
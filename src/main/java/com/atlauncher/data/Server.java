@@ -17,11 +17,7 @@
  */
 package com.atlauncher.data;
 
-import java.awt.Graphics2D;
-import java.awt.Image;
-import java.awt.RenderingHints;
 import java.awt.Window;
-import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
@@ -45,7 +41,6 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
-import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
 import javax.swing.JFileChooser;
 import javax.swing.JOptionPane;
@@ -84,6 +79,7 @@ import com.atlauncher.exceptions.InvalidMinecraftVersion;
 import com.atlauncher.exceptions.InvalidPack;
 import com.atlauncher.gui.dialogs.ProgressDialog;
 import com.atlauncher.managers.DialogManager;
+import com.atlauncher.managers.ImageManager;
 import com.atlauncher.managers.LogManager;
 import com.atlauncher.managers.MinecraftManager;
 import com.atlauncher.managers.PackManager;
@@ -94,9 +90,11 @@ import com.atlauncher.utils.ArchiveUtils;
 import com.atlauncher.utils.CurseForgeApi;
 import com.atlauncher.utils.FileUtils;
 import com.atlauncher.utils.Hashing;
+import com.atlauncher.utils.ModMetadataIndex;
 import com.atlauncher.utils.ModrinthApi;
 import com.atlauncher.utils.OS;
 import com.atlauncher.utils.Utils;
+import com.atlauncher.utils.ZipNameMapper;
 import com.google.gson.JsonIOException;
 
 import io.github.asyncronous.toast.Toaster;
@@ -433,7 +431,8 @@ public class Server implements ModManagement {
         // #. {0} is the name of the server we're backing up
         ProgressDialog<Boolean> progressDialog = new ProgressDialog<>(GetText.tr("Backing Up {0}", name));
         progressDialog.addThread(new Thread(() -> {
-            boolean success = ArchiveUtils.createZip(getRoot(), backupZip);
+            boolean success = ArchiveUtils.createZipInParallel(getRoot(), backupZip, ZipNameMapper.FULL_BACKUP,
+                progressDialog);
 
             progressDialog.setReturnValue(success);
             progressDialog.close();
@@ -443,7 +442,7 @@ public class Server implements ModManagement {
         if (Boolean.TRUE.equals(progressDialog.getReturnValue())) {
             App.TOASTER.pop(GetText.tr("Backup is complete"));
             LogManager.info(String.format("Backup complete and stored at %s", backupZip.toString()));
-        } else {
+        } else if (!progressDialog.wasClosed) {
             App.TOASTER.popError(GetText.tr("Error making backup"));
         }
     }
@@ -502,31 +501,17 @@ public class Server implements ModManagement {
     }
 
     public ImageIcon getImage() {
-        File customImage = this.getRoot().resolve("server.png").toFile();
+        Path customImage = this.getRoot().resolve("server.png");
 
-        if (customImage.exists()) {
-            try {
-                BufferedImage img = ImageIO.read(customImage);
-                if (img != null) {
-                    // if a square image, then make it 300x150 (without stretching) centered
-                    if (img.getHeight(null) == img.getWidth(null)) {
-                        BufferedImage dimg = new BufferedImage(300, 150, BufferedImage.TYPE_INT_ARGB);
-
-                        Graphics2D g2d = dimg.createGraphics();
-                        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
-                            RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-                        g2d.drawImage(img, 75, 0, 150, 150, null);
-                        g2d.dispose();
-
-                        return new ImageIcon(dimg);
-                    }
+        if (Files.exists(customImage)) {
+            ImageIcon image = ImageManager.getImage(customImage, 300, 150, ImageManager.Scaling.BANNER);
 
-                    return new ImageIcon(img.getScaledInstance(300, 150, Image.SCALE_SMOOTH));
-                }
-            } catch (IOException e) {
-                LogManager.warn("Error creating scaled image from the custom image of server " + this.name
-                    + ". Using default image.");
+            if (image != null) {
+                return image;
             }
+
+            LogManager.warn("Error creating scaled image from the custom image of server " + this.name
+                + ". Using default image.");
         }
 
         if (getPack() != null) {
@@ -1161,6 +1146,8 @@ public class Server implements ModManagement {
                 GetText.tr("Scanning New Mods"), parent);
 
             progressDialog.addThread(new Thread(() -> {
+                ModMetadataIndex modMetadataIndex = ModMetadataIndex.forRoot(ROOT);
+
                 List<DisableableMod> allMods = files.parallelStream()
                     .map(file -> {
                         com.atlauncher.data.Type fileType;
@@ -1173,7 +1160,7 @@ public class Server implements ModManagement {
                         }
 
                         return DisableableMod.generateMod(file.toFile(), fileType,
-                            !file.getParent().equals(ROOT.resolve("disabledmods")));
+                            !file.getParent().equals(ROOT.resolve("disabledmods")), modMetadataIndex.get(file));
                     })
                     .collect(Collectors.toList());
 
@@ -1183,14 +1170,11 @@ public class Server implements ModManagement {
                     allMods.stream()
                         .filter(dm -> dm.curseForgeProject == null && dm.curseForgeFile == null)
                         .filter(dm -> dm.getFile(ROOT, version) != null).forEach(dm -> {
-                            try {
-                                long murmurHash = Hashing
-                                    .murmur(dm.disabled ? dm.getDisabledFile(this).toPath()
-                                        : dm
-                                            .getFile(ROOT, version).toPath());
-                                murmurHashes.put(murmurHash, dm);
-                            } catch (IOException e) {
-                                LogManager.logStackTrace(e);
+                            ModMetadata modMetadata = modMetadataIndex
+                                .get(dm.disabled ? dm.getDisabledFile(this) : dm.getFile(ROOT, version));
+
+                            if (modMetadata != null) {
+                                murmurHashes.put(modMetadata.murmur, dm);
                             }
                         });
 
@@ -1199,12 +1183,12 @@ public class Server implements ModManagement {
                             .checkFingerprints(murmurHashes.keySet().stream().toArray(Long[]::new));
 
                         if (fingerprintResponse != null && fingerprintResponse.exactMatches != null) {
-                            int[] projectIdsFound = fingerprintResponse.exactMatches.stream().mapToInt(em -> em.id)
-                                .toArray();
+                            List<Integer> projectIdsFound = fingerprintResponse.exactMatches.stream().map(em -> em.id)
+                                .collect(Collectors.toList());
 
-                            if (projectIdsFound.length != 0) {
+                            if (!projectIdsFound.isEmpty()) {
                                 Map<Integer, CurseForgeProject> foundProjects = CurseForgeApi
-                                    .getProjectsAsMap(projectIdsFound);
+                                    .getProjectsByIdAsync(projectIdsFound).join();
 
                                 if (foundProjects != null) {
                                     fingerprintResponse.exactMatches.stream()
@@ -1237,13 +1221,15 @@ public class Server implements ModManagement {
                                                 dm.curseForgeProject = null;
 
                                                 File path = dm.getFile(this);
-                                                MCMod mcMod = Utils.getMCModForFile(path);
+                                                ModMetadata modMetadata = modMetadataIndex.get(path);
+                                                MCMod mcMod = modMetadata == null ? null : modMetadata.mcMod;
                                                 if (mcMod != null) {
                                                     dm.name = Optional.ofNullable(mcMod.name)
                                                         .orElse(path.getName());
                                                     dm.description = mcMod.description;
                                                 } else {
-                                                    FabricMod fabricMod = Utils.getFabricModForFile(path);
+                                                    FabricMod fabricMod = modMetadata == null ? null
+                                                        : modMetadata.fabricMod;
                                                     if (fabricMod != null) {
                                                         dm.name = Optional.ofNullable(fabricMod.name)
                                                             .orElse(path.getName());
@@ -1264,29 +1250,26 @@ public class Server implements ModManagement {
                     allMods.stream()
                         .filter(dm -> dm.modrinthProject == null && dm.modrinthVersion == null)
                         .filter(dm -> dm.getFile(ROOT, version) != null).forEach(dm -> {
-                            try {
-                                sha1Hashes.put(Hashing
-                                    .sha1(dm.disabled ? dm.getDisabledFile(this).toPath()
-                                        : dm
-                                            .getFile(ROOT, version).toPath())
-                                    .toString(), dm);
-                            } catch (Throwable t) {
-                                LogManager.logStackTrace(t);
+                            ModMetadata modMetadata = modMetadataIndex
+                                .get(dm.disabled ? dm.getDisabledFile(this) : dm.getFile(ROOT, version));
+
+                            if (modMetadata != null) {
+                                sha1Hashes.put(modMetadata.sha1, dm);
                             }
                         });
 
                     if (!sha1Hashes.isEmpty()) {
                         Set<String> keys = sha1Hashes.keySet();
                         Map<String, ModrinthVersion> modrinthVersions = ModrinthApi
-                            .getVersionsFromSha1Hashes(keys.toArray(new String[0]));
+                            .getVersionsFromSha1HashesAsync(keys).join();
 
-                        if (modrinthVersions != null && !modrinthVersions.isEmpty()) {
-                            String[] projectIdsFound = modrinthVersions.values().stream().map(mv -> mv.projectId)
-                                .toArray(String[]::new);
+                        if (!modrinthVersions.isEmpty()) {
+                            List<String> projectIdsFound = modrinthVersions.values().stream().map(mv -> mv.projectId)
+                                .collect(Collectors.toList());
 
-                            if (projectIdsFound.length != 0) {
+                            if (!projectIdsFound.isEmpty()) {
                                 Map<String, ModrinthProject> foundProjects = ModrinthApi
-                                    .getProjectsAsMap(projectIdsFound);
+                                    .getProjectsByIdAsync(projectIdsFound).join();
 
                                 if (foundProjects != null) {
                                     for (Map.Entry<String, ModrinthVersion> entry : modrinthVersions.entrySet()) {
@@ -1317,6 +1300,8 @@ public class Server implements ModManagement {
                     }
                 }
 
+                modMetadataIndex.save();
+
                 allMods.forEach(mod -> LogManager.info("Found extra mod with name of " + mod.file));
                 mods.addAll(allMods);
                 save();
@@ -112,6 +112,7 @@ public class Settings {
     public boolean disableLegacyLaunching = false;
     public boolean useSystemGlfw = false;
     public boolean useSystemOpenAl = false;
+    public boolean alwaysVerifyGameFiles = false;
 
     // Environment Variables
     public Map<String, String> environmentVariables = new HashMap<>();
@@ -119,6 +120,9 @@ public class Settings {
     // Network
     public int concurrentConnections = 8;
     public int connectionTimeout = 60;
+    public int maxConnectionsPerHost = 16;
+    public boolean enableHttp2 = false;
+    public int packUpdateCheckInterval = 60;
     public String modrinthApiKey = null;
     public boolean enableProxy = false;
     public String proxyHost = "";
@@ -129,12 +133,15 @@ public class Settings {
     // Logging
     public boolean enableLogs = true;
     public boolean enableAnalytics = true;
+    public int consoleMaxLines = 10000;
+    public String logOverflowPolicy = "BLOCK";
     public String analyticsClientId = UUID.randomUUID().toString();
 
     // Backups
     public String backupsPath = null;
     public boolean enableAutomaticBackupAfterLaunch = false;
     public BackupMode backupMode = BackupMode.NORMAL;
+    public int incrementalBackupsToKeep = 10;
 
     // Commands
     public boolean enableCommands = false;
@@ -307,11 +314,21 @@ public class Settings {
 
         validateConnectionTimeout();
 
+        validateMaxConnectionsPerHost();
+
+        validatePackUpdateCheckInterval();
+
+        validateConsoleMaxLines();
+
+        validateLogOverflowPolicy();
+
         validateDateFormat();
 
         validateInstanceTitleFormat();
 
         validateBackupsPath();
+
+        validateIncrementalBackupsToKeep();
     }
 
     private void validateAnalyticsClientId() {
@@ -509,6 +526,24 @@ public class Settings {
         }
     }
 
+    private void validateConsoleMaxLines() {
+        if (consoleMaxLines < 1000 || consoleMaxLines > 1000000) {
+            LogManager.warn("Tried to set the console line limit to " + consoleMaxLines
+                + " which is not valid! Must be between 1000 and 1000000. Setting back to default of 10000!");
+            consoleMaxLines = 10000;
+        }
+    }
+
+    private void validateLogOverflowPolicy() {
+        try {
+            logOverflowPolicy = LogManager.OverflowPolicy.fromString(logOverflowPolicy).name();
+        } catch (IllegalArgumentException | NullPointerException e) {
+            LogManager.warn("Tried to set the log overflow policy to " + logOverflowPolicy
+                + " which is not valid! Setting back to default of BLOCK!");
+            logOverflowPolicy = "BLOCK";
+        }
+    }
+
     private void validateConnectionTimeout() {
         if (connectionTimeout < 1 || connectionTimeout > 600) {
             LogManager.warn("Tried to set the number of connection timeout to " + connectionTimeout
@@ -517,6 +552,22 @@ public class Settings {
         }
     }
 
+    private void validateMaxConnectionsPerHost() {
+        if (maxConnectionsPerHost < 1 || maxConnectionsPerHost > 64) {
+            LogManager.warn("Tried to set the max connections per host to " + maxConnectionsPerHost
+                + " which is not valid! Must be between 1 and 64. Setting back to default of 16!");
+            maxConnectionsPerHost = 16;
+        }
+    }
+
+    private void validatePackUpdateCheckInterval() {
+        if (packUpdateCheckInterval < 0 || packUpdateCheckInterval > 1440) {
+            LogManager.warn("Tried to set the pack update check interval to " + packUpdateCheckInterval
+                + " which is not valid! Must be between 0 and 1440. Setting back to default of 60!");
+            packUpdateCheckInterval = 60;
+        }
+    }
+
     private void validateDateFormat() {
         if (!Arrays.asList(Constants.DATE_FORMATS).contains(dateFormat)) {
             LogManager.warn("Tried to set the date format to " + dateFormat + " which is not valid! Setting "
@@ -562,6 +613,14 @@ public class Settings {
         }
     }
 
+    private void validateIncrementalBackupsToKeep() {
+        if (incrementalBackupsToKeep < 1 || incrementalBackupsToKeep > 100) {
+            LogManager.warn("Tried to set the number of incremental backups to keep to " + incrementalBackupsToKeep
+                + " which is not valid! Must be between 1 and 100. Setting back to default of 10!");
+            incrementalBackupsToKeep = 10;
+        }
+    }
+
     public void save() {
         try (OutputStreamWriter fileWriter = new OutputStreamWriter(
             Files.newOutputStream(FileSystem.SETTINGS), StandardCharsets.UTF_8)) {
@@ -0,0 +1,55 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.data;
+
+/**
+ * A file downloaded from the launcher's files.json, along with the hash it was synced to and the size and last
+ * modified time it had on disk after syncing, so it can be checked as unchanged without hashing it again.
+ */
+public class SyncedFile {
+    public String folder;
+    public String name;
+    public String sha1;
+    public long size;
+    public long modified;
+    public String etag;
+
+    public SyncedFile(DownloadableFile file, long size, long modified, String etag) {
+        this.folder = file.folder;
+        this.name = file.name;
+        this.sha1 = file.sha1;
+        this.size = size;
+        this.modified = modified;
+        this.etag = etag;
+    }
+
+    public boolean matches(String sha1, long size, long modified) {
+        return this.sha1 != null && this.sha1.equalsIgnoreCase(sha1) && this.size == size
+                && this.modified == modified;
+    }
+
+    public DownloadableFile toDownloadableFile() {
+        DownloadableFile file = new DownloadableFile();
+        file.folder = this.folder;
+        file.name = this.name;
+        file.sha1 = this.sha1;
+        file.size = (int) this.size;
+
+        return file;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.data;
+
+/**
+ * A file on disk which has previously had its hash verified, along with the size and last modified time it had at
+ * the point it was verified.
+ */
+public class VerifiedFile {
+    public long size;
+    public long modified;
+    public String hash;
+    public Long fingerprint;
+
+    public VerifiedFile(long size, long modified, String hash, Long fingerprint) {
+        this.size = size;
+        this.modified = modified;
+        this.hash = hash;
+        this.fingerprint = fingerprint;
+    }
+
+    public boolean matches(long size, long modified) {
+        return this.size == size && this.modified == modified;
+    }
+}
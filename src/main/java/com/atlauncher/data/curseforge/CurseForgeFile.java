@@ -25,8 +25,6 @@ import java.util.Optional;
 
 import javax.annotation.Nullable;
 
-import org.joda.time.format.ISODateTimeFormat;
-
 import com.atlauncher.annot.ExcludeFromGsonSerialization;
 import com.atlauncher.data.json.DownloadType;
 import com.atlauncher.data.json.Mod;
@@ -160,8 +158,7 @@ public class CurseForgeFile {
                     return null;
                 }
             }).filter(Objects::nonNull)
-            .sorted(Comparator.comparingLong((VersionManifestVersion mv) -> ISODateTimeFormat.dateTimeParser()
-                .parseDateTime(mv.releaseTime).getMillis() / 1000).reversed())
+            .sorted(Comparator.comparingLong(VersionManifestVersion::getReleaseTimeMillis).reversed())
             .map(mv -> mv.id).findFirst();
 
         // worse case if nothing comes back, just grab the first item
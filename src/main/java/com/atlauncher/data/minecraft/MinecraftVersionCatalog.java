@@ -0,0 +1,167 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.data.minecraft;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable catalog of the Minecraft versions from the version manifest.
+ *
+ * Everything needed to filter and sort the versions (release times, the versions of each type in order and the
+ * versions in each major release family) is worked out once when the catalog is built, so that building the version
+ * tables in the UI doesn't need to parse any dates or look through every version.
+ */
+public final class MinecraftVersionCatalog {
+    public static final MinecraftVersionCatalog EMPTY = new MinecraftVersionCatalog(Collections.emptyList());
+
+    private static final VersionManifestVersion[] NO_VERSIONS = new VersionManifestVersion[0];
+
+    private final Map<String, VersionManifestVersion> versionsById = new HashMap<>();
+
+    // all sorted newest first
+    private final VersionManifestVersion[] versions;
+    private final Map<VersionManifestVersionType, VersionManifestVersion[]> versionsByType = new EnumMap<>(
+            VersionManifestVersionType.class);
+    private final Map<String, VersionManifestVersion[]> releasesByMajorVersion = new HashMap<>();
+
+    public MinecraftVersionCatalog(Collection<VersionManifestVersion> manifestVersions) {
+        for (VersionManifestVersion version : manifestVersions) {
+            versionsById.put(version.id, version);
+        }
+
+        // newest first, falling back to the id so the order is always the same for versions released at the same time
+        versions = versionsById.values().stream()
+                .sorted(Comparator.comparingLong(VersionManifestVersion::getReleaseTimeMillis).reversed()
+                        .thenComparing(version -> version.id))
+                .toArray(VersionManifestVersion[]::new);
+
+        Map<VersionManifestVersionType, List<VersionManifestVersion>> byType = new EnumMap<>(
+                VersionManifestVersionType.class);
+        Map<String, List<VersionManifestVersion>> byMajorVersion = new HashMap<>();
+
+        for (VersionManifestVersion version : versions) {
+            byType.computeIfAbsent(version.type, type -> new ArrayList<>()).add(version);
+
+            if (version.type == VersionManifestVersionType.RELEASE) {
+                byMajorVersion.computeIfAbsent(getMajorVersion(version.id), major -> new ArrayList<>()).add(version);
+            }
+        }
+
+        byType.forEach((type, list) -> versionsByType.put(type, list.toArray(NO_VERSIONS)));
+        byMajorVersion.forEach((major, list) -> releasesByMajorVersion.put(major, list.toArray(NO_VERSIONS)));
+    }
+
+    /**
+     * Gets the major version for a version (the first 2 parts), such as 1.20 for 1.20.4.
+     */
+    private static String getMajorVersion(String version) {
+        int firstDot = version.indexOf('.');
+
+        if (firstDot == -1) {
+            return version;
+        }
+
+        int secondDot = version.indexOf('.', firstDot + 1);
+
+        return secondDot == -1 ? version : version.substring(0, secondDot);
+    }
+
+    public boolean contains(String id) {
+        return versionsById.containsKey(id);
+    }
+
+    public VersionManifestVersion get(String id) {
+        return versionsById.get(id);
+    }
+
+    public int size() {
+        return versions.length;
+    }
+
+    /**
+     * Gets all the versions of the given types, newest first, leaving out any of the given disabled versions.
+     */
+    public List<VersionManifestVersion> getVersions(Set<VersionManifestVersionType> types, Set<String> disabledIds) {
+        if (types.size() == 1) {
+            return filter(versionsByType.getOrDefault(types.iterator().next(), NO_VERSIONS), null, disabledIds);
+        }
+
+        return filter(versions, types.size() == VersionManifestVersionType.values().length ? null : types,
+                disabledIds);
+    }
+
+    /**
+     * Gets all the versions, newest first, leaving out any of the given disabled versions.
+     */
+    public List<VersionManifestVersion> getVersions(Set<String> disabledIds) {
+        return filter(versions, null, disabledIds);
+    }
+
+    /**
+     * Gets all the releases with the given prefix, newest first. This is the version itself and any versions which
+     * start with it followed by a dot, so 1.20 will return 1.20, 1.20.1, 1.20.2 and so on.
+     */
+    public List<VersionManifestVersion> getReleasesWithPrefix(String prefix) {
+        String majorVersion = getMajorVersion(prefix);
+        VersionManifestVersion[] candidates = releasesByMajorVersion.get(majorVersion);
+
+        // prefixes which aren't exactly a major version (such as 1 or 1.2.3) need to check through all the releases
+        if (!majorVersion.equals(prefix) || prefix.indexOf('.') == -1) {
+            candidates = versionsByType.getOrDefault(VersionManifestVersionType.RELEASE, NO_VERSIONS);
+        } else if (candidates == null) {
+            return new ArrayList<>();
+        }
+
+        List<VersionManifestVersion> releases = new ArrayList<>();
+
+        for (VersionManifestVersion version : candidates) {
+            if (version.id.equals(prefix)
+                    || (version.id.startsWith(prefix) && version.id.startsWith(".", prefix.length()))) {
+                releases.add(version);
+            }
+        }
+
+        return releases;
+    }
+
+    private static List<VersionManifestVersion> filter(VersionManifestVersion[] candidates,
+            Set<VersionManifestVersionType> types, Set<String> disabledIds) {
+        if (types == null && disabledIds.isEmpty()) {
+            return new ArrayList<>(Arrays.asList(candidates));
+        }
+
+        List<VersionManifestVersion> filtered = new ArrayList<>(candidates.length);
+
+        for (VersionManifestVersion version : candidates) {
+            if ((types == null || types.contains(version.type)) && !disabledIds.contains(version.id)) {
+                filtered.add(version);
+            }
+        }
+
+        return filtered;
+    }
+}
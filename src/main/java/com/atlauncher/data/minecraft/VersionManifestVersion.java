@@ -32,6 +32,9 @@ public class VersionManifestVersion {
     public String sha1;
     public String releaseTime;
 
+    // parsed on first use and kept, as parsing is slow and this is used a lot when sorting versions
+    private transient Long releaseTimeMillis = null;
+
     public static DateTime release_1_2_5 = ISODateTimeFormat.dateTimeParser()
             .parseDateTime("2012-03-29T22:00:00+00:00");
     public static DateTime release_18w48a = ISODateTimeFormat.dateTimeParser()
@@ -52,6 +55,17 @@ public class VersionManifestVersion {
     public static DateTime release_1_18_1 = ISODateTimeFormat.dateTimeParser()
             .parseDateTime("2021-12-10T08:23:00+00:00");
 
+    /**
+     * @return the release time of this version in milliseconds since the epoch
+     */
+    public long getReleaseTimeMillis() {
+        if (releaseTimeMillis == null) {
+            releaseTimeMillis = ISODateTimeFormat.dateTimeParser().parseDateTime(releaseTime).getMillis();
+        }
+
+        return releaseTimeMillis;
+    }
+
     private boolean isBeforeOrEqualDate(DateTime a, DateTime b) {
         return a.isBefore(b) || a.isEqual(b);
     }
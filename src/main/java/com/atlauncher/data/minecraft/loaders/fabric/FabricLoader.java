@@ -248,8 +248,7 @@ public class FabricLoader implements Loader {
 
     public static List<LoaderVersion> getChoosableVersions(String minecraft) {
         try {
-            List<String> disabledVersions = ConfigManager.getConfigItem("loaders.fabric.disabledVersions",
-                    new ArrayList<>());
+            Set<String> disabledVersions = ConfigManager.getConfigSet("loaders.fabric.disabledVersions");
 
             GetFabricLoaderVersionsForMinecraftVersionQuery.Data response = GraphqlClient
                     .callAndWait(new GetFabricLoaderVersionsForMinecraftVersionQuery(minecraft));
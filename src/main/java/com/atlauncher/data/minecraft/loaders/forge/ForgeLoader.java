@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -315,8 +316,7 @@ public class ForgeLoader implements Loader {
             return new ArrayList<>();
         }
 
-        List<String> disabledVersions = ConfigManager.getConfigItem("loaders.forge.disabledVersions",
-                new ArrayList<>());
+        Set<String> disabledVersions = ConfigManager.getConfigSet("loaders.forge.disabledVersions");
 
         return response.loaderVersions().forge().stream().filter(fv -> !disabledVersions.contains(
                 fv.version()))
@@ -280,9 +280,7 @@ public class LegacyFabricLoader implements Loader {
 
     public static List<LoaderVersion> getChoosableVersions(String minecraft) {
         try {
-            List<String> disabledVersions = ConfigManager.getConfigItem(
-                    "loaders.legacyfabric.disabledVersions",
-                    new ArrayList<>());
+            Set<String> disabledVersions = ConfigManager.getConfigSet("loaders.legacyfabric.disabledVersions");
 
             GetLegacyFabricLoaderVersionsForMinecraftVersionQuery.Data response = GraphqlClient
                     .callAndWait(new GetLegacyFabricLoaderVersionsForMinecraftVersionQuery(minecraft));
@@ -26,6 +26,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.atlauncher.FileSystem;
@@ -271,8 +272,7 @@ public class NeoForgeLoader implements Loader {
             return new ArrayList<>();
         }
 
-        List<String> disabledVersions = ConfigManager.getConfigItem("loaders.neoforge.disabledVersions",
-                new ArrayList<>());
+        Set<String> disabledVersions = ConfigManager.getConfigSet("loaders.neoforge.disabledVersions");
 
         return response.loaderVersions().neoforge().stream().filter(fv -> !disabledVersions.contains(
                 fv.version()))
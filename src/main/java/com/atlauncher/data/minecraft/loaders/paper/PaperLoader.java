@@ -23,6 +23,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.atlauncher.FileSystem;
@@ -138,8 +139,7 @@ public class PaperLoader implements Loader {
             return new ArrayList<>();
         }
 
-        List<String> disabledVersions = ConfigManager.getConfigItem("loaders.paper.disabledVersions",
-                new ArrayList<>());
+        Set<String> disabledVersions = ConfigManager.getConfigSet("loaders.paper.disabledVersions");
 
         return response.loaderVersions().paper().stream()
                 .filter(fv -> !disabledVersions.contains(Integer.toString(fv.build())))
@@ -23,6 +23,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.atlauncher.FileSystem;
@@ -138,8 +139,7 @@ public class PurpurLoader implements Loader {
             return new ArrayList<>();
         }
 
-        List<String> disabledVersions = ConfigManager.getConfigItem("loaders.purpur.disabledVersions",
-                new ArrayList<>());
+        Set<String> disabledVersions = ConfigManager.getConfigSet("loaders.purpur.disabledVersions");
 
         return response.loaderVersions().purpur().stream()
                 .filter(fv -> !disabledVersions.contains(Integer.toString(fv.build())))
@@ -25,6 +25,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.jar.Attributes;
 import java.util.jar.Manifest;
 import java.util.stream.Collectors;
@@ -194,8 +195,7 @@ public class QuiltLoader implements Loader {
 
     public static List<LoaderVersion> getChoosableVersions(String minecraft) {
         try {
-            List<String> disabledVersions = ConfigManager.getConfigItem("loaders.quilt.disabledVersions",
-                    new ArrayList<>());
+            Set<String> disabledVersions = ConfigManager.getConfigSet("loaders.quilt.disabledVersions");
 
             GetQuiltLoaderVersionsForMinecraftVersionQuery.Data response = GraphqlClient
                     .callAndWait(new GetQuiltLoaderVersionsForMinecraftVersionQuery(minecraft));
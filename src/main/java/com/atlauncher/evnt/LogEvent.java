@@ -57,12 +57,24 @@ public final class LogEvent {
     }
 
     public void post(Logger logger) {
+        if (App.console != null) {
+            postToConsole(App.console.console);
+        }
+
+        postToLogger(logger);
+    }
+
+    /**
+     * Writes this event to the given console if it should be shown there.
+     */
+    public void postToConsole(Console c) {
         if ((this.meta & CONSOLE) == CONSOLE) {
-            Console c = App.console.console;
             c.setColor(this.type.color()).setBold(true).write("[" + Timestamper.now() + "] ");
             c.setColor(UIManager.getColor("EditorPane.foreground")).setBold(false).write(this.body);
         }
+    }
 
+    public void postToLogger(Logger logger) {
         if ((this.meta & LOG4J) == LOG4J) {
             switch (type) {
                 case WARN: {
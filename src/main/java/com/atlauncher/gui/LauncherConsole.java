@@ -27,6 +27,7 @@ import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.concurrent.CompletableFuture;
 
 import javax.swing.JFrame;
 import javax.swing.JMenuItem;
@@ -148,12 +149,12 @@ public class LauncherConsole extends JFrame implements RelocalizationListener {
     }
 
     /**
-     * Returns a string with the text currently in the console
+     * Returns a future for a string with all the text written to the console
      *
-     * @return String Console Text
+     * @return CompletableFuture Console Text
      */
-    public String getLog() {
-        return console.getText();
+    public CompletableFuture<String> getLog() {
+        return console.getLog();
     }
 
     public void showKillMinecraft() {
@@ -172,7 +173,7 @@ public class LauncherConsole extends JFrame implements RelocalizationListener {
     }
 
     public void clearConsole() {
-        console.setText(null);
+        console.clear();
     }
 
     @Override
@@ -24,7 +24,6 @@ import java.awt.FlowLayout;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.nio.file.Path;
-import java.util.ArrayList;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
@@ -103,6 +102,8 @@ public class InstanceCard extends CollapsiblePanel {
     private final JMenuItem normalBackupMenuItem = new JMenuItem(GetText.tr("Normal Backup"));
     private final JMenuItem normalPlusModsBackupMenuItem = new JMenuItem(GetText.tr("Normal + Mods Backup"));
     private final JMenuItem fullBackupMenuItem = new JMenuItem(GetText.tr("Full Backup"));
+    private final JMenuItem incrementalBackupMenuItem = new JMenuItem(GetText.tr("Incremental Backup"));
+    private final JMenuItem restoreBackupMenuItem = new JMenuItem(GetText.tr("Restore Incremental Backup"));
     private final DropDownButton backupButton = new DropDownButton(GetText.tr("Backup"), backupPopupMenu);
 
     private final JPopupMenu getHelpPopupMenu = new JPopupMenu();
@@ -154,12 +155,14 @@ public class InstanceCard extends CollapsiblePanel {
             editInstancePopupMenu);
 
     private final boolean hasUpdate;
+    private final DisplayState displayState;
 
     public InstanceCard(Instance instance, boolean hasUpdate, String instanceTitleFormat) {
         super(instance, instanceTitleFormat);
         this.instance = instance;
         this.image = new ImagePanel(() -> instance.getImage().getImage());
         this.hasUpdate = hasUpdate;
+        this.displayState = new DisplayState(instance, hasUpdate, instanceTitleFormat);
 
         JSplitPane splitter = new JSplitPane();
         splitter.setLeftComponent(this.image);
@@ -322,6 +325,14 @@ public class InstanceCard extends CollapsiblePanel {
         fullBackupMenuItem.addActionListener(e -> instance.backup(BackupMode.FULL));
         backupPopupMenu.add(fullBackupMenuItem);
 
+        incrementalBackupMenuItem.addActionListener(e -> instance.backup(BackupMode.INCREMENTAL));
+        backupPopupMenu.add(incrementalBackupMenuItem);
+
+        backupPopupMenu.addSeparator();
+
+        restoreBackupMenuItem.addActionListener(e -> instance.restoreIncrementalBackup());
+        backupPopupMenu.add(restoreBackupMenuItem);
+
         setupEditInstanceButton();
     }
 
@@ -334,7 +345,7 @@ public class InstanceCard extends CollapsiblePanel {
         editInstancePopupMenu.addSeparator();
 
         if (ConfigManager.getConfigItem("loaders.fabric.enabled", true)
-                && !ConfigManager.getConfigItem("loaders.fabric.disabledMinecraftVersions", new ArrayList<String>())
+                && !ConfigManager.getConfigSet("loaders.fabric.disabledMinecraftVersions")
                         .contains(instance.id)) {
             editInstancePopupMenu.add(addFabricMenuItem);
             editInstancePopupMenu.add(changeFabricVersionMenuItem);
@@ -342,7 +353,7 @@ public class InstanceCard extends CollapsiblePanel {
         editInstancePopupMenu.add(removeFabricMenuItem);
 
         if (ConfigManager.getConfigItem("loaders.forge.enabled", true)
-                && !ConfigManager.getConfigItem("loaders.forge.disabledMinecraftVersions", new ArrayList<String>())
+                && !ConfigManager.getConfigSet("loaders.forge.disabledMinecraftVersions")
                         .contains(instance.id)) {
             editInstancePopupMenu.add(addForgeMenuItem);
             editInstancePopupMenu.add(changeForgeVersionMenuItem);
@@ -350,8 +361,7 @@ public class InstanceCard extends CollapsiblePanel {
         editInstancePopupMenu.add(removeForgeMenuItem);
 
         if (ConfigManager.getConfigItem("loaders.legacyfabric.enabled", true)
-                && !ConfigManager
-                        .getConfigItem("loaders.legacyfabric.disabledMinecraftVersions", new ArrayList<String>())
+                && !ConfigManager.getConfigSet("loaders.legacyfabric.disabledMinecraftVersions")
                         .contains(instance.id)) {
             editInstancePopupMenu.add(addLegacyFabricMenuItem);
             editInstancePopupMenu.add(changeLegacyFabricVersionMenuItem);
@@ -359,8 +369,7 @@ public class InstanceCard extends CollapsiblePanel {
         editInstancePopupMenu.add(removeLegacyFabricMenuItem);
 
         if (ConfigManager.getConfigItem("loaders.neoforge.enabled", true)
-                && !ConfigManager
-                        .getConfigItem("loaders.neoforge.disabledMinecraftVersions", new ArrayList<String>())
+                && !ConfigManager.getConfigSet("loaders.neoforge.disabledMinecraftVersions")
                         .contains(instance.id)) {
             editInstancePopupMenu.add(addNeoForgeMenuItem);
             editInstancePopupMenu.add(changeNeoForgeVersionMenuItem);
@@ -368,7 +377,7 @@ public class InstanceCard extends CollapsiblePanel {
         editInstancePopupMenu.add(removeNeoForgeMenuItem);
 
         if (ConfigManager.getConfigItem("loaders.quilt.enabled", false)
-                && !ConfigManager.getConfigItem("loaders.quilt.disabledMinecraftVersions", new ArrayList<String>())
+                && !ConfigManager.getConfigSet("loaders.quilt.disabledMinecraftVersions")
                         .contains(instance.id)) {
             editInstancePopupMenu.add(addQuiltMenuItem);
             editInstancePopupMenu.add(changeQuiltVersionMenuItem);
@@ -702,6 +711,14 @@ public class InstanceCard extends CollapsiblePanel {
         return instance;
     }
 
+    /**
+     * Checks if this card is showing the given instance as it currently is, with the given update status and title
+     * format, meaning the card can be reused rather than creating a new one.
+     */
+    public boolean isDisplaying(Instance instance, boolean hasUpdate, String instanceTitleFormat) {
+        return displayState.matches(instance, hasUpdate, instanceTitleFormat);
+    }
+
     @Override
     public void onRelocalization() {
         this.playButton.setText(GetText.tr("Play"));
@@ -720,6 +737,8 @@ public class InstanceCard extends CollapsiblePanel {
         this.normalBackupMenuItem.setText(GetText.tr("Normal Backup"));
         this.normalPlusModsBackupMenuItem.setText(GetText.tr("Normal + Mods Backup"));
         this.fullBackupMenuItem.setText(GetText.tr("Full Backup"));
+        this.incrementalBackupMenuItem.setText(GetText.tr("Incremental Backup"));
+        this.restoreBackupMenuItem.setText(GetText.tr("Restore Incremental Backup"));
         this.backupButton.setText(GetText.tr("Backup"));
 
         this.discordLinkMenuItem.setText(GetText.tr("Discord"));
@@ -729,4 +748,28 @@ public class InstanceCard extends CollapsiblePanel {
         this.sourceLinkMenuItem.setText(GetText.tr("Source"));
         this.getHelpButton.setText(GetText.tr("Get Help"));
     }
+
+    /**
+     * What a card was created to show: the instance (as of its revision when the card was made), its update status
+     * and the title format.
+     */
+    static final class DisplayState {
+        private final Instance instance;
+        private final boolean hasUpdate;
+        private final String instanceTitleFormat;
+        private final int instanceRevision;
+
+        DisplayState(Instance instance, boolean hasUpdate, String instanceTitleFormat) {
+            this.instance = instance;
+            this.hasUpdate = hasUpdate;
+            this.instanceTitleFormat = instanceTitleFormat;
+            this.instanceRevision = instance.getRevision();
+        }
+
+        boolean matches(Instance instance, boolean hasUpdate, String instanceTitleFormat) {
+            return this.instance == instance && this.hasUpdate == hasUpdate
+                && this.instanceTitleFormat.equals(instanceTitleFormat)
+                && this.instanceRevision == instance.getRevision();
+        }
+    }
 }
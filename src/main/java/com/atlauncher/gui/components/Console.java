@@ -18,13 +18,27 @@
 package com.atlauncher.gui.components;
 
 import java.awt.Color;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.swing.JTextPane;
+import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 import javax.swing.text.AbstractDocument;
+import javax.swing.text.AttributeSet;
 import javax.swing.text.BadLocationException;
 import javax.swing.text.BoxView;
 import javax.swing.text.ComponentView;
+import javax.swing.text.Document;
 import javax.swing.text.Element;
 import javax.swing.text.IconView;
 import javax.swing.text.LabelView;
@@ -36,10 +50,35 @@ import javax.swing.text.View;
 import javax.swing.text.ViewFactory;
 
 import com.atlauncher.App;
+import com.atlauncher.FileSystem;
 
+/**
+ * The text pane for the launchers console.
+ *
+ * Text can be written from any thread. It's buffered up and added to the document in one go on the EDT, so a burst of
+ * output only causes one layout and scroll rather than one per write.
+ *
+ * To stop the console growing forever, once it has more lines than the users console line limit, the oldest lines
+ * are removed from the console and written to a history file in the logs folder instead. {@link #getLog()} puts the
+ * two back together so nothing is lost when copying or uploading the log. The history file is only ever written and
+ * read on its own background thread, so the EDT never waits on the disk.
+ */
 public final class Console extends JTextPane {
+    private static final String HISTORY_FILE_NAME = "atlauncher-console.log";
+
     private final SimpleAttributeSet attrs = new SimpleAttributeSet();
 
+    private final Object pendingLock = new Object();
+    private List<PendingText> pending = new ArrayList<>();
+    private boolean flushScheduled = false;
+
+    private final ExecutorService historyExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "ATL-Console-History");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private BufferedWriter historyWriter = null;
+
     public Console() {
         this.setEditable(false);
         this.setEditorKit(new WrapEditorKit());
@@ -62,12 +101,156 @@ public final class Console extends JTextPane {
     }
 
     public void write(String str) {
+        synchronized (pendingLock) {
+            pending.add(new PendingText(str, this.attrs.copyAttributes()));
+
+            if (flushScheduled) {
+                return;
+            }
+
+            flushScheduled = true;
+        }
+
+        SwingUtilities.invokeLater(this::flush);
+    }
+
+    private void flush() {
+        List<PendingText> toWrite;
+
+        synchronized (pendingLock) {
+            toWrite = pending;
+            pending = new ArrayList<>();
+            flushScheduled = false;
+        }
+
+        Document document = this.getDocument();
+
         try {
-            this.getDocument().insertString(this.getDocument().getLength(), str, this.attrs);
-            this.setCaretPosition(this.getDocument().getLength());
+            for (PendingText text : toWrite) {
+                document.insertString(document.getLength(), text.text, text.attrs);
+            }
+
+            trim(document);
         } catch (BadLocationException ex) {
             ex.printStackTrace(System.err);
         }
+
+        this.setCaretPosition(document.getLength());
+    }
+
+    /**
+     * Removes the oldest lines from the document if it's gone over the line limit, writing them to the history file.
+     * A tenth of the limit more than needed is removed, so that this only happens every so often rather than on every
+     * flush once at the limit.
+     */
+    private void trim(Document document) throws BadLocationException {
+        int maxLines = App.settings == null ? Integer.MAX_VALUE : App.settings.consoleMaxLines;
+        Element root = document.getDefaultRootElement();
+        int lines = root.getElementCount();
+
+        if (lines <= maxLines) {
+            return;
+        }
+
+        int linesToRemove = Math.min(lines - maxLines + (maxLines / 10), lines - 1);
+        int end = root.getElement(linesToRemove).getStartOffset();
+
+        writeHistory(document.getText(0, end));
+        document.remove(0, end);
+    }
+
+    private void writeHistory(String text) {
+        historyExecutor.execute(() -> {
+            try {
+                if (historyWriter == null) {
+                    Files.createDirectories(FileSystem.LOGS);
+
+                    // only keep the history for this run of the launcher
+                    historyWriter = Files.newBufferedWriter(getHistoryFile(), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                }
+
+                historyWriter.write(text.replace("\n", System.lineSeparator()));
+                historyWriter.flush();
+            } catch (IOException e) {
+                e.printStackTrace(System.err);
+            }
+        });
+    }
+
+    private Path getHistoryFile() {
+        return FileSystem.LOGS.resolve(HISTORY_FILE_NAME);
+    }
+
+    /**
+     * Gets all the text written to the console, including any lines which have been removed from the console and
+     * written to the history file. This is safe to call from the EDT, as the history is read in the background.
+     *
+     * @return a future completed with the log once the history has been read
+     */
+    public CompletableFuture<String> getLog() {
+        CompletableFuture<String> log = new CompletableFuture<>();
+
+        // the text is taken on the EDT, where lines are trimmed, so the history read is queued after the writes for
+        // any lines already removed and before those for any removed later, so nothing is missed or repeated
+        Runnable snapshot = () -> {
+            String text = this.getText();
+
+            historyExecutor.execute(() -> {
+                String history = "";
+
+                if (historyWriter != null) {
+                    try {
+                        history = new String(Files.readAllBytes(getHistoryFile()), StandardCharsets.UTF_8);
+                    } catch (IOException e) {
+                        e.printStackTrace(System.err);
+                    }
+                }
+
+                log.complete(history + text);
+            });
+        };
+
+        if (SwingUtilities.isEventDispatchThread()) {
+            snapshot.run();
+        } else {
+            SwingUtilities.invokeLater(snapshot);
+        }
+
+        return log;
+    }
+
+    /**
+     * Clears the console, along with any history removed from it.
+     */
+    public void clear() {
+        synchronized (pendingLock) {
+            pending.clear();
+        }
+
+        historyExecutor.execute(() -> {
+            if (historyWriter != null) {
+                try {
+                    historyWriter.close();
+                } catch (IOException e) {
+                    e.printStackTrace(System.err);
+                }
+
+                historyWriter = null;
+            }
+        });
+
+        this.setText(null);
+    }
+
+    private static final class PendingText {
+        private final String text;
+        private final AttributeSet attrs;
+
+        private PendingText(String text, AttributeSet attrs) {
+            this.text = text;
+            this.attrs = attrs;
+        }
     }
 }
 
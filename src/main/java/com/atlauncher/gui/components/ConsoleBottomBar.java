@@ -25,8 +25,10 @@ import java.awt.datatransfer.StringSelection;
 import java.util.concurrent.ExecutionException;
 
 import javax.swing.JButton;
+import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 
 import org.mini2Dx.gettext.GetText;
 
@@ -49,6 +51,7 @@ public class ConsoleBottomBar extends BottomBar implements RelocalizationListene
     private final JButton copyLogButton = new JButton(GetText.tr("Copy Log"));
     private final JButton uploadLogButton = new JButton(GetText.tr("Upload Log"));
     private final JButton killMinecraftButton = new JButton(GetText.tr("Kill Minecraft"));
+    private final JLabel logQueueStats = new JLabel();
 
     public ConsoleBottomBar() {
         this.addActionListeners(); // Setup Action Listeners
@@ -60,6 +63,13 @@ public class ConsoleBottomBar extends BottomBar implements RelocalizationListene
 
         this.killMinecraftButton.setVisible(false);
 
+        // when debugging, keep the log queue's statistics showing so it's clear if anything's being lost
+        if (LogManager.showDebug) {
+            leftSide.add(this.logQueueStats);
+            updateLogQueueStats();
+            new Timer(1000, e -> updateLogQueueStats()).start();
+        }
+
         this.add(leftSide, BorderLayout.WEST);
 
         RelocalizationManager.addListener(this);
@@ -90,11 +100,13 @@ public class ConsoleBottomBar extends BottomBar implements RelocalizationListene
         });
         copyLogButton.addActionListener(e -> {
             Analytics.trackEvent(AnalyticsEvent.simpleEvent("console_copy"));
-            App.TOASTER.pop("Copied Log to clipboard");
-            LogManager.info("Copied Log to clipboard");
-            StringSelection text = new StringSelection(App.console.getLog());
-            Clipboard clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
-            clipboard.setContents(text, null);
+            App.console.getLog().thenAcceptAsync(log -> {
+                App.TOASTER.pop("Copied Log to clipboard");
+                LogManager.info("Copied Log to clipboard");
+                StringSelection text = new StringSelection(log);
+                Clipboard clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
+                clipboard.setContents(text, null);
+            }, SwingUtilities::invokeLater);
         });
         uploadLogButton.addActionListener(e -> {
             String result;
@@ -144,6 +156,11 @@ public class ConsoleBottomBar extends BottomBar implements RelocalizationListene
         });
     }
 
+    private void updateLogQueueStats() {
+        logQueueStats.setText(GetText.tr("Log Queue: {0}/{1} ({2} Dropped, {3} Spilled)", LogManager.getQueueSize(),
+            LogManager.QUEUE_CAPACITY, LogManager.getDroppedEvents(), LogManager.getSpilledEvents()));
+    }
+
     public void showKillMinecraft() {
         killMinecraftButton.setVisible(true);
         hideBottomBarIconsIfNeeded();
@@ -165,5 +182,6 @@ public class ConsoleBottomBar extends BottomBar implements RelocalizationListene
         copyLogButton.setText(GetText.tr("Copy Log"));
         uploadLogButton.setText(GetText.tr("Upload Log"));
         killMinecraftButton.setText(GetText.tr("Kill Minecraft"));
+        updateLogQueueStats();
     }
 }
@@ -23,6 +23,9 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.annotation.Nonnull;
 import javax.swing.JPanel;
@@ -34,26 +37,44 @@ public final class ImagePanel extends JPanel {
     private static final Cursor HAND = new Cursor(Cursor.HAND_CURSOR);
     private static final int DEFAULT_WIDTH = 300, DEFAULT_HEIGHT = 150;
 
+    // shared between all panels so that showing lots of images at once doesn't start a thread for each of them
+    private static final ExecutorService IMAGE_LOADER = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "ImagePanel-Loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Callable<Image> imageToLoad;
+    private final AtomicBoolean loadStarted = new AtomicBoolean(false);
     private volatile Image image;
 
     /**
-     * @param imageToLoad Deferred image loading
+     * @param imageToLoad Deferred image loading. This is only called the first time the panel is painted, so images
+     *                    for panels which are never scrolled into view are never loaded
      */
     public ImagePanel(@Nonnull Callable<Image> imageToLoad) {
+        this.imageToLoad = imageToLoad;
         this.setCursor(HAND);
         setPreferredSize(new Dimension(DEFAULT_WIDTH, DEFAULT_HEIGHT));
+    }
 
-        // Launch a separate thread to load the image
-        new Thread(() -> {
+    private void loadImage() {
+        IMAGE_LOADER.execute(() -> {
             try {
-                setImage(imageToLoad.call());
+                Image loadedImage = imageToLoad.call();
+
+                // only set it if it hasn't been set to something else while loading
+                if (image == null) {
+                    setImage(loadedImage);
+                }
             } catch (Exception e) {
                 LogManager.error(e.getMessage());
             }
-        }).start();
+        });
     }
 
     public void setImage(@Nonnull Image img) {
+        this.loadStarted.set(true);
         this.image = img;
 
         this.setPreferredSize(
@@ -70,6 +91,11 @@ public final class ImagePanel extends JPanel {
     @Override
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
+
+        if (image == null && loadStarted.compareAndSet(false, true)) {
+            loadImage();
+        }
+
         if (image != null) {
             Graphics2D g2 = (Graphics2D) g;
             g2.drawImage(this.image, 0, (this.getHeight() - 150) / 2, 300, 150, null);
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -337,8 +338,8 @@ public class CurseForgeProjectFileSelectorDialog extends JDialog {
                 }
             }
 
-            List<String> neoForgeForgeCompatabilityVersions = ConfigManager
-                .getConfigItem("loaders.neoforge.forgeCompatibleMinecraftVersions", new ArrayList<>());
+            Set<String> neoForgeForgeCompatabilityVersions = ConfigManager
+                .getConfigSet("loaders.neoforge.forgeCompatibleMinecraftVersions");
             boolean hasNeoForgeVersion = projectFiles.stream()
                 .anyMatch(v -> v.gameVersions.contains("NeoForge")
                     || (neoForgeForgeCompatabilityVersions.contains(instanceOrServer.getMinecraftVersion())
@@ -24,7 +24,6 @@ import java.awt.event.ItemEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -55,6 +54,7 @@ import com.atlauncher.builders.HTMLBuilder;
 import com.atlauncher.data.DisableableMod;
 import com.atlauncher.data.Instance;
 import com.atlauncher.data.ModManagement;
+import com.atlauncher.data.ModMetadata;
 import com.atlauncher.data.Server;
 import com.atlauncher.data.curseforge.CurseForgeFingerprint;
 import com.atlauncher.data.curseforge.CurseForgeProject;
@@ -72,7 +72,7 @@ import com.atlauncher.managers.LogManager;
 import com.atlauncher.network.Analytics;
 import com.atlauncher.utils.CurseForgeApi;
 import com.atlauncher.utils.FileUtils;
-import com.atlauncher.utils.Hashing;
+import com.atlauncher.utils.ModMetadataIndex;
 import com.atlauncher.utils.ModrinthApi;
 import com.atlauncher.utils.Utils;
 
@@ -537,6 +537,8 @@ public class EditModsDialog extends JDialog {
                 .addAll(disabledMods.parallelStream().filter(ModsJCheckBox::isSelected)
                     .collect(Collectors.toList()));
 
+            ModMetadataIndex modMetadataIndex = ModMetadataIndex.forRoot(instanceOrServer.getRoot());
+
             // TODO: Generalise this, cause fuck me I've copy pasted this like 10 times now
             if (!App.settings.dontCheckModsOnCurseForge) {
                 Map<Long, ModsJCheckBox> murmurHashes = new HashMap<>();
@@ -545,13 +547,11 @@ public class EditModsDialog extends JDialog {
                     .filter(mjc -> mjc.getDisableableMod().getFile(instanceOrServer.getRoot(),
                         instanceOrServer.getMinecraftVersion()) != null)
                     .forEach(mjc -> {
-                        try {
-                            long hash = Hashing
-                                .murmur(mjc.getDisableableMod().getFile(instanceOrServer.getRoot(),
-                                    instanceOrServer.getMinecraftVersion()).toPath());
-                            murmurHashes.put(hash, mjc);
-                        } catch (IOException t) {
-                            LogManager.logStackTrace(t);
+                        ModMetadata modMetadata = modMetadataIndex.get(mjc.getDisableableMod()
+                            .getFile(instanceOrServer.getRoot(), instanceOrServer.getMinecraftVersion()));
+
+                        if (modMetadata != null) {
+                            murmurHashes.put(modMetadata.murmur, mjc);
                         }
                     });
 
@@ -560,12 +560,12 @@ public class EditModsDialog extends JDialog {
                         .checkFingerprints(murmurHashes.keySet().stream().toArray(Long[]::new));
 
                     if (fingerprintResponse != null && fingerprintResponse.exactMatches != null) {
-                        int[] projectIdsFound = fingerprintResponse.exactMatches.stream().mapToInt(em -> em.id)
-                            .toArray();
+                        List<Integer> projectIdsFound = fingerprintResponse.exactMatches.stream().map(em -> em.id)
+                            .collect(Collectors.toList());
 
-                        if (projectIdsFound.length != 0) {
+                        if (!projectIdsFound.isEmpty()) {
                             Map<Integer, CurseForgeProject> foundProjects = CurseForgeApi
-                                .getProjectsAsMap(projectIdsFound);
+                                .getProjectsByIdAsync(projectIdsFound).join();
 
                             if (foundProjects != null) {
                                 fingerprintResponse.exactMatches.stream().filter(em -> em != null && em.file != null
@@ -595,13 +595,14 @@ public class EditModsDialog extends JDialog {
                                         dm.curseForgeProject = null;
 
                                         File path = dm.getFile(instanceOrServer);
-                                        MCMod mcMod = Utils.getMCModForFile(path);
+                                        ModMetadata modMetadata = modMetadataIndex.get(path);
+                                        MCMod mcMod = modMetadata == null ? null : modMetadata.mcMod;
                                         if (mcMod != null) {
                                             dm.name = Optional.ofNullable(mcMod.name)
                                                 .orElse(path.getName());
                                             dm.description = mcMod.description;
                                         } else {
-                                            FabricMod fabricMod = Utils.getFabricModForFile(path);
+                                            FabricMod fabricMod = modMetadata == null ? null : modMetadata.fabricMod;
                                             if (fabricMod != null) {
                                                 dm.name = Optional.ofNullable(fabricMod.name)
                                                     .orElse(path.getName());
@@ -623,31 +624,26 @@ public class EditModsDialog extends JDialog {
                     .filter(mjc -> mjc.getDisableableMod().getFile(instanceOrServer.getRoot(),
                         instanceOrServer.getMinecraftVersion()) != null)
                     .forEach(mjc -> {
-                        try {
-                            sha1Hashes.put(
-                                Hashing.sha1(
-                                        mjc.getDisableableMod()
-                                            .getFile(instanceOrServer.getRoot(),
-                                                instanceOrServer.getMinecraftVersion())
-                                            .toPath())
-                                    .toString(),
-                                mjc);
-                        } catch (Throwable t) {
-                            LogManager.logStackTrace(t);
+                        ModMetadata modMetadata = modMetadataIndex.get(mjc.getDisableableMod()
+                            .getFile(instanceOrServer.getRoot(), instanceOrServer.getMinecraftVersion()));
+
+                        if (modMetadata != null) {
+                            sha1Hashes.put(modMetadata.sha1, mjc);
                         }
                     });
 
                 if (!sha1Hashes.isEmpty()) {
                     Set<String> keys = sha1Hashes.keySet();
                     Map<String, ModrinthVersion> modrinthVersions = ModrinthApi
-                        .getVersionsFromSha1Hashes(keys.toArray(new String[0]));
+                        .getVersionsFromSha1HashesAsync(keys).join();
 
-                    if (modrinthVersions != null && !modrinthVersions.isEmpty()) {
-                        String[] projectIdsFound = modrinthVersions.values().stream().map(mv -> mv.projectId)
-                            .toArray(String[]::new);
+                    if (!modrinthVersions.isEmpty()) {
+                        List<String> projectIdsFound = modrinthVersions.values().stream().map(mv -> mv.projectId)
+                            .collect(Collectors.toList());
 
-                        if (projectIdsFound.length != 0) {
-                            Map<String, ModrinthProject> foundProjects = ModrinthApi.getProjectsAsMap(projectIdsFound);
+                        if (!projectIdsFound.isEmpty()) {
+                            Map<String, ModrinthProject> foundProjects = ModrinthApi
+                                .getProjectsByIdAsync(projectIdsFound).join();
 
                             if (foundProjects != null) {
                                 for (Map.Entry<String, ModrinthVersion> entry : modrinthVersions.entrySet()) {
@@ -675,6 +671,7 @@ public class EditModsDialog extends JDialog {
                 }
             }
 
+            modMetadataIndex.save();
             instanceOrServer.save();
 
             dialog.close();
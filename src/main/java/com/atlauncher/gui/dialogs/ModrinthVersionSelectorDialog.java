@@ -25,6 +25,7 @@ import java.awt.Window;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -494,8 +495,8 @@ public class ModrinthVersionSelectorDialog extends JDialog {
             if (App.settings.addModRestriction != AddModRestriction.NONE && loaderVersion != null
                 && project.projectType == ModrinthProjectType.MOD
                 && this.installType != com.atlauncher.data.Type.datapack) {
-                List<String> neoForgeForgeCompatabilityVersions = ConfigManager
-                    .getConfigItem("loaders.neoforge.forgeCompatibleMinecraftVersions", new ArrayList<>());
+                Set<String> neoForgeForgeCompatabilityVersions = ConfigManager
+                    .getConfigSet("loaders.neoforge.forgeCompatibleMinecraftVersions");
                 boolean hasNeoForgeVersion = this.versionsData.stream()
                     .anyMatch(v -> v.loaders.contains("neoforge")
                         || (neoForgeForgeCompatabilityVersions.contains(minecraftVersion)
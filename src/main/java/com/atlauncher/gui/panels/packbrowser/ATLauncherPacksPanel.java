@@ -28,7 +28,6 @@ import java.util.stream.Collectors;
 
 import javax.swing.JPanel;
 
-import org.joda.time.format.ISODateTimeFormat;
 import org.mini2Dx.gettext.GetText;
 
 import com.atlauncher.builders.HTMLBuilder;
@@ -185,8 +184,8 @@ public class ATLauncherPacksPanel extends PackBrowserPlatformPanel {
                 .addAll(p.versions.stream().map(v -> v.minecraftVersion).distinct().collect(Collectors.toList())));
 
         return minecraftVersions
-                .stream().distinct().sorted(Comparator.comparingLong((VersionManifestVersion mv) -> ISODateTimeFormat
-                        .dateTimeParser().parseDateTime(mv.releaseTime).getMillis() / 1000).reversed())
+                .stream().distinct()
+                .sorted(Comparator.comparingLong(VersionManifestVersion::getReleaseTimeMillis).reversed())
                 .collect(Collectors.toList());
     }
 
@@ -17,22 +17,42 @@
  */
 package com.atlauncher.gui.tabs.instances;
 
+import java.awt.Component;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.mini2Dx.gettext.GetText;
 
 import com.atlauncher.builders.HTMLBuilder;
 import com.atlauncher.constants.UIConstants;
+import com.atlauncher.data.Instance;
 import com.atlauncher.gui.card.InstanceCard;
 import com.atlauncher.gui.card.NilCard;
+import com.atlauncher.gui.models.InstanceUIModel;
 import com.atlauncher.gui.panels.HierarchyPanel;
 import com.atlauncher.gui.tabs.InstancesTab;
+import com.atlauncher.managers.InstanceManager;
 import com.atlauncher.managers.PerformanceManager;
 import com.atlauncher.viewmodel.base.IInstancesTabViewModel;
-import com.google.common.collect.Lists;
+import com.gitlab.doomsdayrs.lib.rxswing.schedulers.SwingSchedulers;
 
+/**
+ * Panel listing the user's instances.
+ *
+ * Cards are kept between updates (keyed by the instance's UUID), so when searching, sorting or when an instance
+ * changes, only the cards which need to be are created, removed or moved rather than rebuilding the whole list.
+ */
 public final class InstancesListPanel extends HierarchyPanel {
 
     private final InstancesTab instancesTab;
@@ -45,6 +65,9 @@ public final class InstancesListPanel extends HierarchyPanel {
                     NilCard.Action.createDownloadPackAction()
             });
 
+    // includes cards for instances hidden by the search, so they can be shown again without recreating them
+    private final Map<UUID, InstanceCard> cards = new HashMap<>();
+
     public InstancesListPanel(InstancesTab instancesTab, final IInstancesTabViewModel viewModel) {
         super(new GridBagLayout());
         this.instancesTab = instancesTab;
@@ -58,44 +81,40 @@ public final class InstancesListPanel extends HierarchyPanel {
                 .build();
     }
 
+    private static GridBagConstraints getConstraints() {
+        final GridBagConstraints gbc = new GridBagConstraints();
+        // each card is placed below the one before it in the panel, so the order of the cards is the order of the
+        // components, which means moving a card doesn't need the constraints of any other card to change
+        gbc.gridx = 0;
+        gbc.gridy = GridBagConstraints.RELATIVE;
+        gbc.weightx = 1.0;
+        gbc.insets = UIConstants.FIELD_INSETS;
+        gbc.fill = GridBagConstraints.BOTH;
+        return gbc;
+    }
+
     @Override
     protected void onShow() {
         addDisposable(viewModel.getInstancesList()
-                .map(instancesList -> {
+                .observeOn(SwingSchedulers.edt())
+                .subscribe(instancesList -> {
                     viewModel.setIsLoading(true);
-                    return instancesList.instances.stream().map(instance -> new InstanceCard(
-                            instance.instance,
-                            instance.hasUpdate,
-                            instancesList.instanceTitleFormat)).collect(Collectors.toList());
-                }).subscribe(instances -> {
-                    final GridBagConstraints gbc = new GridBagConstraints();
-                    gbc.gridx = gbc.gridy = 0;
-                    gbc.weightx = 1.0;
-                    gbc.insets = UIConstants.FIELD_INSETS;
-                    gbc.fill = GridBagConstraints.BOTH;
-
-                    removeAll();
-
-                    if (instances.isEmpty()) {
-                        this.add(this.nilCard, gbc);
+                    PerformanceManager.start("Render cards");
+
+                    if (instancesList.instances.isEmpty()) {
+                        removeAll();
+                        this.add(this.nilCard, getConstraints());
                     } else {
-                        PerformanceManager.start("Render cards");
-                        // Portion up into chunks of 10, to make rendering easier
-                        Lists.partition(instances, 10).forEach(subInstances -> {
-                            instances.forEach(instance -> {
-                                this.add(
-                                        instance,
-                                        gbc);
-                                gbc.gridy++;
-                            });
-
-                            validate();
-                            repaint();
-                        });
-                        PerformanceManager.end("Render cards");
+                        showCards(instancesList.instances, instancesList.instanceTitleFormat);
                     }
 
-                    viewModel.setIsLoading(false); // Broken, reason above
+                    pruneCards();
+
+                    revalidate();
+                    repaint();
+                    PerformanceManager.end("Render cards");
+
+                    viewModel.setIsLoading(false);
 
                     // After repainting is done, let scroll view resume
                     invokeLater(() -> instancesTab.setScroll(viewModel.getScroll()));
@@ -103,11 +122,74 @@ public final class InstancesListPanel extends HierarchyPanel {
                 }));
     }
 
+    private void showCards(List<InstanceUIModel> instances, String instanceTitleFormat) {
+        List<InstanceCard> wantedCards = getCardsToShow(instances, cards,
+                (card, model) -> card.isDisplaying(model.instance, model.hasUpdate, instanceTitleFormat),
+                model -> new InstanceCard(model.instance, model.hasUpdate, instanceTitleFormat));
+
+        Set<Component> wanted = Collections.newSetFromMap(new IdentityHashMap<>());
+        wanted.addAll(wantedCards);
+
+        // take out anything not wanted anymore (filtered out, replaced or the nil card)
+        for (Component component : getComponents()) {
+            if (!wanted.contains(component)) {
+                remove(component);
+            }
+        }
+
+        // then add or move cards so they're in the right order, leaving alone any already in the right place
+        GridBagConstraints gbc = getConstraints();
+        for (int i = 0; i < wantedCards.size(); i++) {
+            InstanceCard card = wantedCards.get(i);
+
+            if (card.getParent() != this) {
+                add(card, gbc, i);
+            } else if (getComponent(i) != card) {
+                setComponentZOrder(card, i);
+            }
+        }
+    }
+
+    /**
+     * Gets the cards to show for the given instances, in order. The existing card for an instance (found by the
+     * instance's UUID) is reused if it's still displaying the instance as it is now, otherwise a new card is created
+     * and replaces it in the given cards.
+     */
+    static <C> List<C> getCardsToShow(List<InstanceUIModel> instances, Map<UUID, C> cards,
+            BiPredicate<C, InstanceUIModel> isDisplaying, Function<InstanceUIModel, C> createCard) {
+        List<C> wantedCards = new ArrayList<>(instances.size());
+
+        for (InstanceUIModel model : instances) {
+            UUID uuid = model.instance.getUUID();
+            C card = cards.get(uuid);
+
+            if (card == null || !isDisplaying.test(card, model)) {
+                card = createCard.apply(model);
+                cards.put(uuid, card);
+            }
+
+            wantedCards.add(card);
+        }
+
+        return wantedCards;
+    }
+
+    /**
+     * Removes cards for instances which no longer exist.
+     */
+    private void pruneCards() {
+        Set<UUID> instanceUuids = InstanceManager.getInstances().stream().map(Instance::getUUID)
+                .collect(Collectors.toSet());
+
+        cards.keySet().retainAll(instanceUuids);
+    }
+
     @Override
     protected void createViewModel() {}
 
     @Override
     protected void onDestroy() {
         removeAll();
+        cards.clear();
     }
 }
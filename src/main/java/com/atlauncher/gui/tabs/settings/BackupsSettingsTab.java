@@ -29,10 +29,13 @@ import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
 import javax.swing.JFileChooser;
 import javax.swing.JPanel;
+import javax.swing.JSpinner;
 import javax.swing.JTextField;
+import javax.swing.SpinnerNumberModel;
 
 import org.mini2Dx.gettext.GetText;
 
+import com.atlauncher.App;
 import com.atlauncher.builders.HTMLBuilder;
 import com.atlauncher.constants.UIConstants;
 import com.atlauncher.data.BackupMode;
@@ -73,6 +76,8 @@ public class BackupsSettingsTab extends AbstractSettingsTab {
         backupMode.addItem(new ComboItem<>(BackupMode.NORMAL_PLUS_MODS,
                 GetText.tr("Backup saves, mods, configs and options only")));
         backupMode.addItem(new ComboItem<>(BackupMode.FULL, GetText.tr("Backup everything in the instance folder")));
+        backupMode.addItem(new ComboItem<>(BackupMode.INCREMENTAL,
+                GetText.tr("Backup everything in the instance folder, only storing what's changed")));
         backupMode.addItemListener(itemEvent -> {
             if (itemEvent.getStateChange() == ItemEvent.SELECTED)
                 viewModel.setBackupMode(((ComboItem<BackupMode>) itemEvent.getItem()).getValue());
@@ -162,6 +167,32 @@ public class BackupsSettingsTab extends AbstractSettingsTab {
                 .addItemListener(e -> viewModel.setEnableAutoBackup(e.getStateChange() == ItemEvent.SELECTED));
         addDisposable(viewModel.getEnableAutoBackup().subscribe(enableAutomaticBackupAfterLaunch::setSelected));
         add(enableAutomaticBackupAfterLaunch, gbc);
+
+        // Incremental backups to keep
+
+        gbc.gridx = 0;
+        gbc.gridy++;
+        gbc.insets = UIConstants.LABEL_INSETS;
+        gbc.anchor = GridBagConstraints.BASELINE_TRAILING;
+        JLabelWithHover incrementalBackupsToKeepLabel = new JLabelWithHover(
+                GetText.tr("Incremental Backups To Keep") + ":", HELP_ICON,
+                new HTMLBuilder().center().split(100).text(GetText.tr(
+                        "How many incremental backups to keep for each instance. Once there are more than this, the oldest are removed along with any files only they were using."))
+                        .build());
+        add(incrementalBackupsToKeepLabel, gbc);
+
+        gbc.gridx++;
+        gbc.insets = UIConstants.FIELD_INSETS;
+        gbc.anchor = GridBagConstraints.BASELINE_LEADING;
+        SpinnerNumberModel incrementalBackupsToKeepModel = new SpinnerNumberModel(
+                App.settings.incrementalBackupsToKeep, null, null, 1);
+        incrementalBackupsToKeepModel.setMinimum(1);
+        incrementalBackupsToKeepModel.setMaximum(100);
+        incrementalBackupsToKeepModel.addChangeListener(changeEvent -> viewModel
+                .setIncrementalBackupsToKeep((Integer) incrementalBackupsToKeepModel.getValue()));
+        addDisposable(viewModel.getIncrementalBackupsToKeep().subscribe(incrementalBackupsToKeepModel::setValue));
+        JSpinner incrementalBackupsToKeep = new JSpinner(incrementalBackupsToKeepModel);
+        add(incrementalBackupsToKeep, gbc);
     }
 
     private void showBackupsPathWarning() {
@@ -589,6 +589,28 @@ public class JavaSettingsTab extends AbstractSettingsTab {
             itemEvent -> viewModel.setSystemOpenAL(itemEvent.getStateChange() == ItemEvent.SELECTED));
         addDisposable(viewModel.getSystemOpenAL().subscribe(useSystemOpenAl::setSelected));
         add(useSystemOpenAl, gbc);
+
+        // Always Verify Game Files
+
+        gbc.gridx = 0;
+        gbc.gridy++;
+        gbc.insets = UIConstants.LABEL_INSETS;
+        gbc.anchor = GridBagConstraints.BASELINE_TRAILING;
+        JLabelWithHover alwaysVerifyGameFilesLabel = new JLabelWithHover(GetText.tr("Always Verify Game Files") + "?",
+            HELP_ICON,
+            new HTMLBuilder().center().split(100).text(GetText.tr(
+                "By default, libraries and assets which haven't changed since they were last verified are not checked again when launching. Enabling this will check every file on every launch, which is slower but can fix issues with files modified outside of the launcher."))
+                .build());
+        add(alwaysVerifyGameFilesLabel, gbc);
+
+        gbc.gridx++;
+        gbc.insets = UIConstants.CHECKBOX_FIELD_INSETS;
+        gbc.anchor = GridBagConstraints.BASELINE_LEADING;
+        JCheckBox alwaysVerifyGameFiles = new JCheckBox();
+        alwaysVerifyGameFiles.addItemListener(
+            itemEvent -> viewModel.setAlwaysVerifyGameFiles(itemEvent.getStateChange() == ItemEvent.SELECTED));
+        addDisposable(viewModel.getAlwaysVerifyGameFiles().subscribe(alwaysVerifyGameFiles::setSelected));
+        add(alwaysVerifyGameFiles, gbc);
     }
 
     private void showJavaPathWarning() {
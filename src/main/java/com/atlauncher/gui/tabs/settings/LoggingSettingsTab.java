@@ -18,14 +18,21 @@
 package com.atlauncher.gui.tabs.settings;
 
 import java.awt.GridBagConstraints;
+import java.awt.event.ItemEvent;
 
 import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
+import javax.swing.JSpinner;
+import javax.swing.SpinnerNumberModel;
 
 import org.mini2Dx.gettext.GetText;
 
+import com.atlauncher.App;
 import com.atlauncher.builders.HTMLBuilder;
 import com.atlauncher.constants.UIConstants;
 import com.atlauncher.gui.components.JLabelWithHover;
+import com.atlauncher.managers.LogManager;
+import com.atlauncher.utils.ComboItem;
 import com.atlauncher.viewmodel.impl.settings.LoggingSettingsViewModel;
 
 public class LoggingSettingsTab extends AbstractSettingsTab {
@@ -82,6 +89,66 @@ public class LoggingSettingsTab extends AbstractSettingsTab {
         );
         addDisposable(viewModel.getEnableAnalytics().subscribe(enableAnalytics::setSelected));
         add(enableAnalytics, gbc);
+
+        // Console Line Limit
+
+        gbc.gridx = 0;
+        gbc.gridy++;
+        gbc.insets = UIConstants.LABEL_INSETS;
+        gbc.anchor = GridBagConstraints.BASELINE_TRAILING;
+        JLabelWithHover consoleMaxLinesLabel = new JLabelWithHover(GetText.tr("Console Line Limit") + ":", HELP_ICON,
+            new HTMLBuilder().center().split(100).text(GetText.tr(
+                    "The most lines to keep in the console. Once there are more than this, the oldest lines are removed from the console to keep the launcher running smoothly, but are still included when copying or uploading the log."))
+                .build());
+        add(consoleMaxLinesLabel, gbc);
+
+        gbc.gridx++;
+        gbc.insets = UIConstants.FIELD_INSETS;
+        gbc.anchor = GridBagConstraints.BASELINE_LEADING;
+        SpinnerNumberModel consoleMaxLinesModel = new SpinnerNumberModel(App.settings.consoleMaxLines, null, null,
+            1000);
+        consoleMaxLinesModel.setMinimum(1000);
+        consoleMaxLinesModel.setMaximum(1000000);
+        consoleMaxLinesModel.addChangeListener(changeEvent ->
+            viewModel.setConsoleMaxLines((Integer) consoleMaxLinesModel.getValue()));
+        addDisposable(viewModel.getConsoleMaxLines().subscribe(consoleMaxLinesModel::setValue));
+        JSpinner consoleMaxLines = new JSpinner(consoleMaxLinesModel);
+        add(consoleMaxLines, gbc);
+
+        // Log Overflow Policy
+
+        gbc.gridx = 0;
+        gbc.gridy++;
+        gbc.insets = UIConstants.LABEL_INSETS;
+        gbc.anchor = GridBagConstraints.BASELINE_TRAILING;
+        JLabelWithHover logOverflowPolicyLabel = new JLabelWithHover(GetText.tr("When Logging Too Much") + ":",
+            HELP_ICON,
+            new HTMLBuilder().center().split(100).text(GetText.tr(
+                    "What to do when something (normally a game) is logging faster than the launcher can keep up with. Waiting keeps everything but can slow down what's logging, dropping debug messages first keeps the important ones, and writing to a file in the logs folder never slows anything down."))
+                .build());
+        add(logOverflowPolicyLabel, gbc);
+
+        gbc.gridx++;
+        gbc.insets = UIConstants.FIELD_INSETS;
+        gbc.anchor = GridBagConstraints.BASELINE_LEADING;
+        JComboBox<ComboItem<LogManager.OverflowPolicy>> logOverflowPolicy = new JComboBox<>();
+        logOverflowPolicy.addItem(new ComboItem<>(LogManager.OverflowPolicy.BLOCK, GetText.tr("Wait")));
+        logOverflowPolicy.addItem(
+            new ComboItem<>(LogManager.OverflowPolicy.DROP_DEBUG_FIRST, GetText.tr("Drop Debug Messages First")));
+        logOverflowPolicy.addItem(
+            new ComboItem<>(LogManager.OverflowPolicy.SPILL_TO_DISK, GetText.tr("Write To A File")));
+        logOverflowPolicy.addItemListener(itemEvent -> {
+                if (itemEvent.getStateChange() == ItemEvent.SELECTED) {
+                    @SuppressWarnings("unchecked")
+                    ComboItem<LogManager.OverflowPolicy> item =
+                        (ComboItem<LogManager.OverflowPolicy>) itemEvent.getItem();
+                    viewModel.setLogOverflowPolicy(item.getValue());
+                }
+            }
+        );
+        addDisposable(viewModel.getLogOverflowPolicy()
+            .subscribe(policy -> logOverflowPolicy.setSelectedIndex(policy.ordinal())));
+        add(logOverflowPolicy, gbc);
     }
 
     @Override
@@ -97,6 +97,74 @@ public class NetworkSettingsTab extends AbstractSettingsTab {
         JSpinner connectionTimeout = new JSpinner(connectionTimeoutModel);
         add(connectionTimeout, gbc);
 
+        // Max Connections Per Host Settings
+        gbc.gridx = 0;
+        gbc.gridy++;
+        gbc.insets = UIConstants.LABEL_INSETS;
+        gbc.anchor = GridBagConstraints.BASELINE_TRAILING;
+        JLabelWithHover maxConnectionsPerHostLabel = new JLabelWithHover(GetText.tr("Max Connections Per Host") + ":",
+            HELP_ICON, "<html>" + GetText.tr(
+                "This determines how many connections will be made to a single server at once when downloading files.")
+                + "</html>");
+        add(maxConnectionsPerHostLabel, gbc);
+
+        gbc.gridx++;
+        gbc.insets = UIConstants.FIELD_INSETS;
+        gbc.anchor = GridBagConstraints.BASELINE_LEADING;
+        SpinnerNumberModel maxConnectionsPerHostModel = new SpinnerNumberModel(App.settings.maxConnectionsPerHost,
+            null, null, 1);
+        maxConnectionsPerHostModel.setMinimum(1);
+        maxConnectionsPerHostModel.setMaximum(64);
+        maxConnectionsPerHostModel.addChangeListener(changeEvent ->
+            viewModel.setMaxConnectionsPerHost((Integer) maxConnectionsPerHostModel.getValue()));
+        addDisposable(viewModel.getMaxConnectionsPerHost().subscribe(maxConnectionsPerHostModel::setValue));
+        JSpinner maxConnectionsPerHost = new JSpinner(maxConnectionsPerHostModel);
+        add(maxConnectionsPerHost, gbc);
+
+        // Enable HTTP/2
+        gbc.gridx = 0;
+        gbc.gridy++;
+        gbc.insets = UIConstants.LABEL_INSETS;
+        gbc.anchor = GridBagConstraints.BASELINE_TRAILING;
+        JLabelWithHover enableHttp2Label = new JLabelWithHover(GetText.tr("Enable HTTP/2") + "?", HELP_ICON,
+            "<html>" + GetText.tr(
+                "This will use HTTP/2 for servers that support it, which can make downloading lots of small files faster.")
+                + "</html>");
+        add(enableHttp2Label, gbc);
+
+        gbc.gridx++;
+        gbc.insets = UIConstants.CHECKBOX_FIELD_INSETS;
+        gbc.anchor = GridBagConstraints.BASELINE_LEADING;
+        JCheckBox enableHttp2 = new JCheckBox();
+        enableHttp2.addItemListener(itemEvent ->
+            viewModel.setEnableHttp2(itemEvent.getStateChange() == ItemEvent.SELECTED));
+        addDisposable(viewModel.getEnableHttp2().subscribe(enableHttp2::setSelected));
+        add(enableHttp2, gbc);
+
+        // Pack Update Check Interval Settings
+        gbc.gridx = 0;
+        gbc.gridy++;
+        gbc.insets = UIConstants.LABEL_INSETS;
+        gbc.anchor = GridBagConstraints.BASELINE_TRAILING;
+        JLabelWithHover packUpdateCheckIntervalLabel = new JLabelWithHover(
+            GetText.tr("Pack Update Check Interval") + ":", HELP_ICON, "<html>" + GetText.tr(
+                "This determines how often (in minutes) to check for updates to instances from FTB, CurseForge, Technic and Modrinth while the launcher is open.<br/><br/>Set to 0 to only check when the launcher is opened.")
+                + "</html>");
+        add(packUpdateCheckIntervalLabel, gbc);
+
+        gbc.gridx++;
+        gbc.insets = UIConstants.FIELD_INSETS;
+        gbc.anchor = GridBagConstraints.BASELINE_LEADING;
+        SpinnerNumberModel packUpdateCheckIntervalModel = new SpinnerNumberModel(App.settings.packUpdateCheckInterval,
+            null, null, 1);
+        packUpdateCheckIntervalModel.setMinimum(0);
+        packUpdateCheckIntervalModel.setMaximum(1440);
+        packUpdateCheckIntervalModel.addChangeListener(changeEvent ->
+            viewModel.setPackUpdateCheckInterval((Integer) packUpdateCheckIntervalModel.getValue()));
+        addDisposable(viewModel.getPackUpdateCheckInterval().subscribe(packUpdateCheckIntervalModel::setValue));
+        JSpinner packUpdateCheckInterval = new JSpinner(packUpdateCheckIntervalModel);
+        add(packUpdateCheckInterval, gbc);
+
         // Modrinth Api Key Settings
         gbc.gridx = 0;
         gbc.gridy++;
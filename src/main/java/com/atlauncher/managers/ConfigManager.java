@@ -23,8 +23,15 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.atlauncher.App;
 import com.atlauncher.Data;
@@ -36,110 +43,102 @@ import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
 
 public class ConfigManager {
+    // typed views of list values, built on first use and thrown away when the config changes
+    private static volatile TypedViews typedViews = new TypedViews(Data.CONFIG);
 
     /**
-     * Gets a config item. Use dot notation to get an item from the config
-     * ("loaders.fabric.enabled").
+     * Gets a config item. Use dot notation to get an item from the config ("loaders.fabric.enabled").
      *
-     * TODO: make this not shit. It's pretty shit
+     * The config is flattened by its dotted paths when loaded, so this is a single lookup.
      */
+    @SuppressWarnings("unchecked")
     public static <T> T getConfigItem(String key, T defaultValue) {
-        if (hasConfigItem(key, Data.CONFIG_OVERRIDES)) {
-            return getConfigItem(key, defaultValue, Data.CONFIG_OVERRIDES);
-        }
+        Object value = Data.CONFIG.get(key);
 
-        if (hasConfigItem(key, Data.CONFIG)) {
-            return getConfigItem(key, defaultValue, Data.CONFIG);
+        if (value == null) {
+            return defaultValue;
         }
 
-        return defaultValue;
+        return (T) value;
     }
 
-    private static boolean hasConfigItem(String key, Map<String, Object> source) {
-        if (source == null) {
-            return false;
-        }
-
-        try {
-            String[] keyParts = key.split("\\.");
-
-            if (source == null) {
-                return false;
-            }
-
-            if (keyParts.length == 1) {
-                return source.containsKey(keyParts[0]);
-            }
-
-            Map<String, Object> secondLevel = (Map<String, Object>) source.get(keyParts[0]);
-
-            if (secondLevel == null) {
-                return false;
-            }
+    /**
+     * Gets a config item which is a list of strings, such as "minecraft.release.disabledVersions", as an unmodifiable
+     * list. This is built once per load of the config, so is fine to call often.
+     */
+    public static List<String> getConfigList(String key) {
+        return getTypedViews().lists.computeIfAbsent(key,
+                k -> Collections.unmodifiableList(toStrings(Data.CONFIG.get(k)).collect(Collectors.toList())));
+    }
 
-            if (keyParts.length == 2) {
-                return secondLevel.containsKey(keyParts[1]);
-            }
+    /**
+     * Gets a config item which is a list of strings, such as "loaders.neoforge.forgeCompatibleMinecraftVersions", as
+     * an unmodifiable set. This is built once per load of the config, so is fine to call often, including to check if
+     * something is in the list.
+     */
+    public static Set<String> getConfigSet(String key) {
+        return getTypedViews().sets.computeIfAbsent(key,
+                k -> Collections.unmodifiableSet(toStrings(Data.CONFIG.get(k)).collect(Collectors.toSet())));
+    }
 
-            Map<String, Object> thirdLevel = (Map<String, Object>) secondLevel.get(keyParts[1]);
+    private static TypedViews getTypedViews() {
+        TypedViews views = typedViews;
 
-            if (thirdLevel == null) {
-                return false;
-            }
-            return thirdLevel.containsKey(keyParts[2]);
-        } catch (Throwable t) {
-            LogManager.logStackTrace(String.format("Error checking if config value for key '%s' exists", key), t);
-            return false;
+        // the config has been replaced since the views were made
+        if (views.config != Data.CONFIG) {
+            views = new TypedViews(Data.CONFIG);
+            typedViews = views;
         }
+
+        return views;
     }
 
-    private static <T> T getConfigItem(String key, T defaultValue, Map<String, Object> source) {
-        if (source == null) {
-            return defaultValue;
+    private static Stream<String> toStrings(Object value) {
+        if (!(value instanceof List)) {
+            return Stream.empty();
         }
 
-        try {
-            String[] keyParts = key.split("\\.");
-
-            Object data = source.get(keyParts[0]);
-
-            if (keyParts.length == 1) {
-                if (data == null) {
-                    return defaultValue;
-                }
-
-                return (T) data;
-            }
-
-            Map<String, Object> secondLevel = (Map<String, Object>) data;
+        return ((List<?>) value).stream().filter(Objects::nonNull).map(Object::toString);
+    }
 
-            if (secondLevel == null) {
-                return defaultValue;
+    /**
+     * Flattens the given config into the given map, keyed by the dotted path to each value. Maps are kept as values
+     * as well as being flattened, so that they can still be read as a whole.
+     */
+    @SuppressWarnings("unchecked")
+    private static void flattenInto(String prefix, Map<String, Object> source, Map<String, Object> flattened) {
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            String key = prefix + entry.getKey();
+            Object value = entry.getValue();
+
+            if (value == null) {
+                continue;
             }
 
-            if (keyParts.length == 2) {
-                if (!secondLevel.containsKey(keyParts[1])) {
-                    return defaultValue;
-                }
+            flattened.put(key, value);
 
-                return (T) secondLevel.get(keyParts[1]);
+            if (value instanceof Map) {
+                flattenInto(key + ".", (Map<String, Object>) value, flattened);
             }
+        }
+    }
 
-            Map<String, Object> thirdLevel = (Map<String, Object>) secondLevel.get(keyParts[1]);
-
-            if (thirdLevel == null) {
-                return defaultValue;
-            }
+    /**
+     * Flattens the given config and overrides into a single map keyed by dotted paths, with values in the overrides
+     * taking precedence.
+     */
+    static Map<String, Object> flatten(Map<String, Object> config, Map<String, Object> overrides) {
+        Map<String, Object> flattened = new HashMap<>();
 
-            if (!thirdLevel.containsKey(keyParts[2])) {
-                return defaultValue;
-            }
+        if (config != null) {
+            flattenInto("", config, flattened);
+        }
 
-            return (T) thirdLevel.get(keyParts[2]);
-        } catch (Throwable t) {
-            LogManager.logStackTrace(String.format("Error loading config value for key '%s'", key), t);
-            return defaultValue;
+        if (overrides != null) {
+            flattenInto("", overrides, flattened);
         }
+
+        return flattened;
     }
 
     /**
@@ -152,12 +151,15 @@ public class ConfigManager {
         java.lang.reflect.Type type = new TypeToken<Map<String, Object>>() {
         }.getType();
 
+        Map<String, Object> config = null;
+        Map<String, Object> overrides = null;
+
         try {
             Path fileDir = FileSystem.JSON.resolve("config.json");
             BufferedReader in = new BufferedReader(
                     new InputStreamReader(Files.newInputStream(fileDir), StandardCharsets.UTF_8));
 
-            Data.CONFIG = Gsons.DEFAULT.fromJson(in, type);
+            config = Gsons.DEFAULT.fromJson(in, type);
             in.close();
         } catch (JsonIOException | JsonSyntaxException | IOException e) {
             LogManager.logStackTrace(e);
@@ -165,12 +167,14 @@ public class ConfigManager {
 
         if (App.configOverride != null) {
             try {
-                Data.CONFIG_OVERRIDES = Gsons.DEFAULT.fromJson(App.configOverride, type);
+                overrides = Gsons.DEFAULT.fromJson(App.configOverride, type);
             } catch (JsonIOException | JsonSyntaxException e) {
                 LogManager.logStackTrace("Failed to read in config overrides", e);
             }
         }
 
+        Data.CONFIG = flatten(config, overrides);
+
         afterConfigLoaded();
 
         LogManager.debug("Finished loading config");
@@ -180,8 +184,7 @@ public class ConfigManager {
     private static void afterConfigLoaded() {
         if (!App.disableErrorReporting && ConfigManager.getConfigItem("errorReporting.enabled", true)) {
             ErrorReporting.ignoredMessages.clear();
-            ErrorReporting.ignoredMessages
-                    .addAll(ConfigManager.getConfigItem("errorReporting.ignoredMessages", new ArrayList<>()));
+            ErrorReporting.ignoredMessages.addAll(ConfigManager.getConfigList("errorReporting.ignoredMessages"));
 
             // not initiated, so start it up
             if (!ErrorReporting.sentryInitialised) {
@@ -194,4 +197,14 @@ public class ConfigManager {
             ErrorReporting.disable();
         }
     }
+
+    private static final class TypedViews {
+        private final Map<String, Object> config;
+        private final Map<String, List<String>> lists = new ConcurrentHashMap<>();
+        private final Map<String, Set<String>> sets = new ConcurrentHashMap<>();
+
+        private TypedViews(Map<String, Object> config) {
+            this.config = config;
+        }
+    }
 }
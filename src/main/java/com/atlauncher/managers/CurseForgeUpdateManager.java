@@ -17,11 +17,14 @@
  */
 package com.atlauncher.managers;
 
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import com.atlauncher.App;
 import com.atlauncher.data.Instance;
@@ -76,29 +79,36 @@ public class CurseForgeUpdateManager {
     }
 
     /**
-     * Check for new updates.
+     * Get the checks to run for new updates. CurseForge allows looking up all the projects at once, so this is a
+     * single check.
      * <p>
-     * Updates observables.
+     * Updates observables when run.
      */
-    public static void checkForUpdates() {
-        if (!ConfigManager.getConfigItem("platforms.curseforge.modpacksEnabled", true)) {
-            return;
+    static List<Runnable> getUpdateChecks() {
+        if (!ConfigManager.getConfigItem("platforms.curseforge.modpacksEnabled", true)
+            || InstanceManager.getInstances().stream()
+                .noneMatch(i -> i.isCurseForgePack() && i.hasCurseForgeProjectId())) {
+            return Collections.emptyList();
         }
 
-        PerformanceManager.start();
         LogManager.info("Checking for updates to CurseForge instances");
 
-        int[] projectIdsFound = InstanceManager.getInstances().parallelStream()
+        return Collections.singletonList(CurseForgeUpdateManager::checkForUpdates);
+    }
+
+    private static void checkForUpdates() {
+        List<Integer> projectIdsFound = InstanceManager.getInstances().stream()
             .filter(i -> i.isCurseForgePack() && i.hasCurseForgeProjectId())
-            .mapToInt(i -> i.launcher.curseForgeManifest != null
+            .map(i -> i.launcher.curseForgeManifest != null
                 ? i.launcher.curseForgeManifest.projectID
                 : i.launcher.curseForgeProject.id)
-            .toArray();
+            .distinct()
+            .collect(Collectors.toList());
 
-        Map<Integer, CurseForgeProject> foundProjects = CurseForgeApi.getProjectsAsMap(projectIdsFound);
+        Map<Integer, CurseForgeProject> foundProjects = CurseForgeApi.getProjectsByIdAsync(projectIdsFound).join();
 
-        if (foundProjects != null) {
-            InstanceManager.getInstances().parallelStream()
+        if (!foundProjects.isEmpty()) {
+            InstanceManager.getInstances().stream()
                 .filter(i -> i.isCurseForgePack() && i.hasCurseForgeProjectId()).forEach(i -> {
                     CurseForgeProject curseForgeMod = foundProjects.get(i.launcher.curseForgeManifest != null
                         ? i.launcher.curseForgeManifest.projectID
@@ -130,7 +140,5 @@ public class CurseForgeUpdateManager {
                     getSubject(i).onNext(Optional.ofNullable(latestVersion));
                 });
         }
-
-        PerformanceManager.end();
     }
 }
@@ -0,0 +1,130 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.managers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.atlauncher.App;
+
+import okhttp3.CacheControl;
+
+/**
+ * Checks for updates to instances installed from external platforms (FTB, CurseForge, Technic and Modrinth).
+ *
+ * Each platform splits its check up into independent requests, batching ids together where its API allows, and the
+ * requests from all platforms are run concurrently on a small bounded pool. Results are published to each platform's
+ * update observables as they come in.
+ *
+ * Requests go through the HTTP cache but are always revalidated, so a pack which hasn't changed since it was last
+ * checked only costs a 304 from servers which send an ETag or Last-Modified header.
+ *
+ * Checks are run on startup and when an external pack is installed, and then again in the background every
+ * {@link com.atlauncher.data.Settings#packUpdateCheckInterval} minutes.
+ */
+public class ExternalPackUpdateManager {
+    private static final int MAX_CONCURRENT_REQUESTS = 6;
+
+    /**
+     * Cache control for update check requests, which revalidates cached responses rather than using them as is.
+     */
+    static final CacheControl CACHE_CONTROL = new CacheControl.Builder().noCache().build();
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger(0);
+
+    static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(MAX_CONCURRENT_REQUESTS, r -> {
+        Thread thread = new Thread(r, "ExternalPackUpdateCheck-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "ExternalPackUpdateScheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static ScheduledFuture<?> scheduledChecks = null;
+
+    /**
+     * Checks for updates in the background, returning straight away.
+     */
+    public static void checkForUpdatesInBackground() {
+        SCHEDULER.execute(ExternalPackUpdateManager::checkForUpdates);
+    }
+
+    /**
+     * Schedules checking for updates every {@link com.atlauncher.data.Settings#packUpdateCheckInterval} minutes,
+     * replacing anything previously scheduled. Should be called again when the interval is changed.
+     */
+    public static synchronized void scheduleChecks() {
+        if (scheduledChecks != null) {
+            scheduledChecks.cancel(false);
+            scheduledChecks = null;
+        }
+
+        int interval = App.settings.packUpdateCheckInterval;
+
+        if (interval > 0) {
+            scheduledChecks = SCHEDULER.scheduleWithFixedDelay(ExternalPackUpdateManager::checkForUpdates, interval,
+                    interval, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * Checks for updates to all external packs, blocking until done.
+     *
+     * Checks are only run from the scheduler thread, so only one runs at a time.
+     */
+    private static void checkForUpdates() {
+        PerformanceManager.start("ExternalPackUpdateManager::checkForUpdates");
+
+        List<Runnable> checks = new ArrayList<>();
+        checks.addAll(FTBUpdateManager.getUpdateChecks());
+        checks.addAll(CurseForgeUpdateManager.getUpdateChecks());
+        checks.addAll(TechnicModpackUpdateManager.getUpdateChecks());
+        checks.addAll(ModrinthModpackUpdateManager.getUpdateChecks());
+
+        List<Future<?>> futures = new ArrayList<>(checks.size());
+        for (Runnable check : checks) {
+            futures.add(EXECUTOR.submit(check));
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                LogManager.logStackTrace("Error checking for updates to external packs", e.getCause());
+            } catch (InterruptedException e) {
+                futures.forEach(f -> f.cancel(true));
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        PerformanceManager.end("ExternalPackUpdateManager::checkForUpdates");
+    }
+}
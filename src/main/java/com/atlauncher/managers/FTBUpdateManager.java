@@ -17,13 +17,14 @@
  */
 package com.atlauncher.managers;
 
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import com.atlauncher.constants.Constants;
@@ -34,7 +35,6 @@ import com.atlauncher.network.NetworkClient;
 
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.subjects.BehaviorSubject;
-import okhttp3.CacheControl;
 
 public class FTBUpdateManager {
     /**
@@ -78,42 +78,42 @@ public class FTBUpdateManager {
     }
 
     /**
-     * Check for new updates.
+     * Get the checks to run for new updates, one for each FTB pack installed.
      * <p>
-     * Updates observables.
+     * Updates observables when run.
      */
-    public static void checkForUpdates() {
-        if (ConfigManager.getConfigItem("platforms.ftb.modpacksEnabled", true) == false) {
-            return;
+    static List<Runnable> getUpdateChecks() {
+        if (!ConfigManager.getConfigItem("platforms.ftb.modpacksEnabled", true)) {
+            return Collections.emptyList();
         }
 
-        PerformanceManager.start();
-        LogManager.info("Checking for updates to FTB instances");
-
-        InstanceManager.getInstances().parallelStream()
+        List<Integer> packIds = InstanceManager.getInstances().stream()
             .filter(Instance::isFTBPack)
             .map(i -> i.launcher.ftbPackManifest.id)
             .distinct()
-            .collect(Collectors.toList())
-            .forEach(id -> {
+            .collect(Collectors.toList());
 
-                FTBPackManifest packManifest = NetworkClient.getCached(
-                    String.format(Locale.ENGLISH, "%s/modpack/%d", Constants.FTB_API_URL, id),
-                    FTBPackManifest.class,
-                    new CacheControl.Builder().maxStale(10, TimeUnit.MINUTES).build());
+        if (!packIds.isEmpty()) {
+            LogManager.info("Checking for updates to FTB instances");
+        }
 
-                if (packManifest == null) {
-                    return;
-                }
+        return packIds.stream().map(id -> (Runnable) () -> checkForUpdates(id)).collect(Collectors.toList());
+    }
 
-                FTBPackVersion latestVersion = packManifest.versions.stream()
-                    .max(Comparator.comparingInt((FTBPackVersion version) -> version.id)).orElse(null);
+    private static void checkForUpdates(int id) {
+        FTBPackManifest packManifest = NetworkClient.getCached(
+            String.format(Locale.ENGLISH, "%s/modpack/%d", Constants.FTB_API_URL, id),
+            FTBPackManifest.class, ExternalPackUpdateManager.CACHE_CONTROL);
+
+        if (packManifest == null) {
+            return;
+        }
 
-                InstanceManager.getInstances().stream()
-                    .filter(i -> i.isFTBPack() && i.launcher.ftbPackManifest.id == id)
-                    .forEach(i -> getSubject(i).onNext(Optional.ofNullable(latestVersion)));
-            });
+        FTBPackVersion latestVersion = packManifest.versions.stream()
+            .max(Comparator.comparingInt((FTBPackVersion version) -> version.id)).orElse(null);
 
-        PerformanceManager.end();
+        InstanceManager.getInstances().stream()
+            .filter(i -> i.isFTBPack() && i.launcher.ftbPackManifest.id == id)
+            .forEach(i -> getSubject(i).onNext(Optional.ofNullable(latestVersion)));
     }
 }
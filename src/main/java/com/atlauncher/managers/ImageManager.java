@@ -0,0 +1,477 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.managers;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+import javax.swing.SwingUtilities;
+
+import com.atlauncher.FileSystem;
+import com.atlauncher.network.Download;
+import com.google.common.hash.Hashing;
+
+/**
+ * Loads and scales images shown in the launcher (such as pack logos and instance images), caching them at a few levels
+ * so that scrolling back over an image doesn't mean reading and decoding it again:
+ *
+ * <ul>
+ * <li>decoded and scaled images are kept in memory, least recently used first out, up to a memory budget</li>
+ * <li>scaled thumbnails are saved to disk, keyed by the source image's path, size and modified time and the size they
+ * were scaled to, so large source images only need reading and decoding once</li>
+ * <li>remote images are downloaded once to the remote image cache, which is pruned of files not used in a while and
+ * kept under a size limit by removing the least recently used</li>
+ * </ul>
+ *
+ * Loading happens on a small pool of threads shared by everything, so showing lots of images at once doesn't start
+ * loads of threads all decoding images at the same time.
+ */
+public class ImageManager {
+    /**
+     * How images are scaled to the size they're requested at.
+     */
+    public enum Scaling {
+        /**
+         * Scaled to fit within the size, keeping its aspect ratio.
+         */
+        FIT,
+
+        /**
+         * Stretched to fill the size, other than square images which are scaled to the height and centered.
+         */
+        BANNER
+    }
+
+    // roughly 32MB of decoded images, which is around 170 instance images or 350 pack logos
+    private static final long MEMORY_BUDGET_BYTES = 32L * 1024 * 1024;
+
+    private static final long MAX_REMOTE_IMAGE_CACHE_BYTES = 100L * 1024 * 1024;
+    private static final long MAX_THUMBNAIL_CACHE_BYTES = 50L * 1024 * 1024;
+    private static final long MAX_CACHED_IMAGE_AGE_MS = TimeUnit.DAYS.toMillis(30);
+
+    private static final ExecutorService LOADER = Executors.newFixedThreadPool(4, new LoaderThreadFactory());
+
+    private static final MemoryCache MEMORY_CACHE = new MemoryCache(MEMORY_BUDGET_BYTES);
+    private static final Map<String, CompletableFuture<Path>> REMOTE_IMAGE_DOWNLOADS = new ConcurrentHashMap<>();
+
+    /**
+     * Gets an image from disk scaled to the given size, or null if it couldn't be read. If the file hasn't changed
+     * since it was last loaded, this won't touch the disk other than to check that.
+     */
+    public static ImageIcon getImage(Path file, int width, int height, Scaling scaling) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return null;
+        }
+
+        String key = String.format("%s|%d|%d|%dx%d|%s", file.toAbsolutePath(), attributes.size(),
+                attributes.lastModifiedTime().toMillis(), width, height, scaling);
+
+        ImageIcon icon = getFromMemory(key);
+        if (icon != null) {
+            return icon;
+        }
+
+        icon = loadScaledImage(file, attributes, width, height, scaling);
+        if (icon != null) {
+            putInMemory(key, icon);
+        }
+
+        return icon;
+    }
+
+    /**
+     * Loads an image from the given url scaled to fit within the given size, downloading it if it's not been
+     * downloaded before. The image is passed to the callback on the EDT, or null if it couldn't be loaded. If the
+     * image is already in memory, the callback is called straight away.
+     */
+    public static void loadRemoteImage(String url, int width, int height, Consumer<ImageIcon> callback) {
+        String key = String.format("%s|%dx%d|%s", url, width, height, Scaling.FIT);
+
+        ImageIcon cachedIcon = getFromMemory(key);
+        if (cachedIcon != null) {
+            callback.accept(cachedIcon);
+            return;
+        }
+
+        LOADER.execute(() -> {
+            ImageIcon icon = getFromMemory(key);
+
+            if (icon == null) {
+                Path path = getRemoteImage(url);
+
+                if (path != null) {
+                    icon = loadScaledImage(path, null, width, height, Scaling.FIT);
+
+                    if (icon != null) {
+                        putInMemory(key, icon);
+                    }
+                }
+            }
+
+            ImageIcon loadedIcon = icon;
+            SwingUtilities.invokeLater(() -> callback.accept(loadedIcon));
+        });
+    }
+
+    /**
+     * Gets the path to the downloaded image for the given url, downloading it if needed. Only one download is made for
+     * a url at a time, with anyone else wanting it at the same time waiting on that download.
+     */
+    private static Path getRemoteImage(String url) {
+        Path path = FileSystem.REMOTE_IMAGE_CACHE.resolve(Hashing.sha256().hashUnencodedChars(url).toString());
+
+        if (Files.exists(path)) {
+            touch(path);
+            return path;
+        }
+
+        CompletableFuture<Path> download = new CompletableFuture<>();
+        CompletableFuture<Path> inFlight = REMOTE_IMAGE_DOWNLOADS.putIfAbsent(url, download);
+
+        if (inFlight != null) {
+            return inFlight.join();
+        }
+
+        try {
+            download.complete(downloadRemoteImage(url, path));
+        } finally {
+            REMOTE_IMAGE_DOWNLOADS.remove(url, download);
+            download.complete(null);
+        }
+
+        return download.join();
+    }
+
+    private static Path downloadRemoteImage(String url, Path path) {
+        // checked again as another download of it may have finished between checking and starting this one
+        if (Files.exists(path)) {
+            return path;
+        }
+
+        // downloaded to a temporary file and then moved into place, so a partly downloaded image is never read
+        Path tempFile = path.resolveSibling(path.getFileName() + "." + Thread.currentThread().getId() + ".tmp");
+
+        try {
+            Download.build().setUrl(url).ignoreFailures().downloadTo(tempFile).downloadFile();
+
+            if (Files.exists(tempFile)) {
+                Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException ignored) {
+            // ignored
+        } finally {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ignored) {
+                // ignored
+            }
+        }
+
+        return Files.exists(path) ? path : null;
+    }
+
+    /**
+     * Loads the image scaled to the given size, using the saved thumbnail if there is one. Thumbnails are keyed by the
+     * source file's path, size and modified time, so finding one doesn't need the source file to be read.
+     */
+    private static ImageIcon loadScaledImage(Path file, BasicFileAttributes attributes, int width, int height,
+            Scaling scaling) {
+        try {
+            if (attributes == null) {
+                attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            }
+
+            String source = String.format("%s|%d|%d", file.toAbsolutePath(), attributes.size(),
+                    attributes.lastModifiedTime().toMillis());
+            Path thumbnail = FileSystem.THUMBNAIL_CACHE.resolve(String.format("%s-%dx%d-%s.png",
+                    Hashing.sha256().hashUnencodedChars(source), width, height,
+                    scaling.name().toLowerCase(Locale.ENGLISH)));
+
+            if (Files.exists(thumbnail)) {
+                BufferedImage image = ImageIO.read(thumbnail.toFile());
+
+                if (image != null) {
+                    touch(thumbnail);
+                    return new ImageIcon(image);
+                }
+            }
+
+            BufferedImage sourceImage = ImageIO.read(file.toFile());
+            if (sourceImage == null) {
+                return null;
+            }
+
+            BufferedImage scaledImage = scale(sourceImage, width, height, scaling);
+            sourceImage.flush(); // Immediately discard large source image buffer
+
+            saveThumbnail(scaledImage, thumbnail);
+
+            return new ImageIcon(scaledImage);
+        } catch (IOException e) {
+            LogManager.debug("Error loading image " + file.toAbsolutePath() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Marks a cached file as just used, as the caches are pruned of the least recently modified files first.
+     */
+    private static void touch(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+            // ignored, it'll just be pruned sooner
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage sourceImage, int width, int height, Scaling scaling) {
+        int x = 0;
+        int newWidth = width;
+        int newHeight = height;
+
+        if (scaling == Scaling.FIT) {
+            // Compute scales to maintain the aspect ratio
+            if (sourceImage.getWidth() > sourceImage.getHeight()) {
+                newHeight = Math.max(1, (sourceImage.getHeight() * width) / sourceImage.getWidth());
+            } else {
+                newWidth = Math.max(1, (sourceImage.getWidth() * height) / sourceImage.getHeight());
+            }
+        }
+
+        BufferedImage scaledImage = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_ARGB);
+
+        // if a square banner, then scale it to the height (without stretching) and center it
+        if (scaling == Scaling.BANNER && sourceImage.getWidth() == sourceImage.getHeight()) {
+            x = (width - height) / 2;
+            newWidth = height;
+        }
+
+        Graphics2D g2d = scaledImage.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.drawImage(sourceImage, x, 0, newWidth, newHeight, null);
+        g2d.dispose();
+
+        return scaledImage;
+    }
+
+    private static void saveThumbnail(BufferedImage image, Path thumbnail) {
+        Path tempFile = thumbnail.resolveSibling(thumbnail.getFileName() + "." + Thread.currentThread().getId()
+                + ".tmp");
+
+        try {
+            Files.createDirectories(thumbnail.getParent());
+
+            if (ImageIO.write(image, "png", tempFile.toFile())) {
+                Files.move(tempFile, thumbnail, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LogManager.debug("Error saving thumbnail " + thumbnail.getFileName() + ": " + e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ignored) {
+                // ignored
+            }
+        }
+    }
+
+    private static ImageIcon getFromMemory(String key) {
+        return MEMORY_CACHE.get(key);
+    }
+
+    private static void putInMemory(String key, ImageIcon icon) {
+        MEMORY_CACHE.put(key, icon);
+    }
+
+    /**
+     * Removes everything from the in memory cache.
+     */
+    public static void clearMemoryCache() {
+        MEMORY_CACHE.clear();
+    }
+
+    /**
+     * Removes old files from the remote image and thumbnail caches, and then the least recently used files until
+     * they're under their size limits. Files are touched whenever they're used, so their modified time is when they
+     * were last used.
+     */
+    public static void pruneCaches() {
+        PerformanceManager.start("ImageManager::pruneCaches");
+        long oldestAllowed = System.currentTimeMillis() - MAX_CACHED_IMAGE_AGE_MS;
+        pruneCache(FileSystem.REMOTE_IMAGE_CACHE, MAX_REMOTE_IMAGE_CACHE_BYTES, oldestAllowed);
+        pruneCache(FileSystem.THUMBNAIL_CACHE, MAX_THUMBNAIL_CACHE_BYTES, oldestAllowed);
+        PerformanceManager.end("ImageManager::pruneCaches");
+    }
+
+    /**
+     * Removes files last modified before the given time, and then the least recently modified files until the
+     * directory is under the given size.
+     */
+    static void pruneCache(Path directory, long maxBytes, long oldestAllowed) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        List<CachedFile> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.map(CachedFile::read).filter(f -> f != null)
+                    .sorted(Comparator.comparingLong((CachedFile f) -> f.lastModified).reversed())
+                    .collect(Collectors.toCollection(ArrayList::new));
+        } catch (IOException e) {
+            LogManager.logStackTrace("Error pruning image cache " + directory.getFileName(), e, false);
+            return;
+        }
+
+        long totalBytes = 0;
+        int removed = 0;
+
+        // newest first, so once over the limit (or too old), everything after it is removed
+        for (CachedFile file : files) {
+            totalBytes += file.size;
+
+            if (totalBytes > maxBytes || file.lastModified < oldestAllowed) {
+                try {
+                    Files.deleteIfExists(file.path);
+                    removed++;
+                } catch (IOException e) {
+                    LogManager.debug("Couldn't remove cached image " + file.path.getFileName());
+                }
+            }
+        }
+
+        if (removed != 0) {
+            LogManager.debug("Removed " + removed + " old images from " + directory.getFileName() + " cache");
+        }
+    }
+
+    /**
+     * Decoded images kept in memory, with the least recently used removed first once over the budget. Images are
+     * counted as 4 bytes a pixel.
+     */
+    static final class MemoryCache {
+        private final long budgetBytes;
+        private final Map<String, ImageIcon> icons = new LinkedHashMap<>(64, 0.75f, true);
+        private long bytes = 0;
+
+        MemoryCache(long budgetBytes) {
+            this.budgetBytes = budgetBytes;
+        }
+
+        synchronized ImageIcon get(String key) {
+            return icons.get(key);
+        }
+
+        synchronized void put(String key, ImageIcon icon) {
+            long size = getSize(icon);
+
+            // not worth pushing everything else out for a single huge image
+            if (size > budgetBytes / 4) {
+                return;
+            }
+
+            ImageIcon previous = icons.put(key, icon);
+            bytes += size - (previous == null ? 0 : getSize(previous));
+
+            Iterator<ImageIcon> iterator = icons.values().iterator();
+            while (bytes > budgetBytes && iterator.hasNext()) {
+                bytes -= getSize(iterator.next());
+                iterator.remove();
+            }
+        }
+
+        synchronized void clear() {
+            icons.clear();
+            bytes = 0;
+        }
+
+        synchronized long getBytes() {
+            return bytes;
+        }
+
+        private static long getSize(ImageIcon icon) {
+            return (long) Math.max(icon.getIconWidth(), 0) * Math.max(icon.getIconHeight(), 0) * 4;
+        }
+    }
+
+    private static final class CachedFile {
+        private final Path path;
+        private final long size;
+        private final long lastModified;
+
+        private CachedFile(Path path, long size, long lastModified) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        private static CachedFile read(Path path) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+
+                if (!attributes.isRegularFile()) {
+                    return null;
+                }
+
+                return new CachedFile(path, attributes.size(), attributes.lastModifiedTime().toMillis());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+
+    private static final class LoaderThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger(0);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "ImageManager-Loader-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,552 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.managers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nullable;
+
+import org.zeroturnaround.zip.NameMapper;
+
+import com.atlauncher.Gsons;
+import com.atlauncher.data.IncrementalBackup;
+import com.atlauncher.data.IncrementalBackupFile;
+import com.atlauncher.interfaces.NetworkProgressable;
+import com.atlauncher.utils.ArchiveUtils;
+import com.atlauncher.utils.Hashing;
+import com.google.common.hash.HashCode;
+import com.google.gson.JsonParseException;
+
+/**
+ * Makes incremental backups into a content addressed store in the backups folder.
+ *
+ * Each file backed up is stored once as an object named by the SHA1 hash of its contents (compressed unless it's
+ * already a compressed file type), and each backup is a small manifest listing the files in it and their hashes. This
+ * means files which haven't changed between backups (or are the same in multiple instances, such as mods) are only
+ * ever stored once.
+ *
+ * <pre>
+ * incremental/
+ *   objects/ab/ab12...       (stored as is)
+ *   objects/cd/cd34....gz    (gzipped)
+ *   snapshots/{instance}/{timestamp}.json
+ * </pre>
+ *
+ * Objects are only removed when pruning, once no manifest refers to them anymore.
+ */
+public class IncrementalBackupManager {
+    private static final String COMPRESSED_SUFFIX = ".gz";
+
+    // backing up and pruning share objects, so only one can run at a time
+    private static final Object LOCK = new Object();
+
+    private static Path getStore(Path backupsPath) {
+        return backupsPath.resolve("incremental");
+    }
+
+    private static Path getObjects(Path backupsPath) {
+        return getStore(backupsPath).resolve("objects");
+    }
+
+    private static Path getSnapshots(Path backupsPath, String name) {
+        return getStore(backupsPath).resolve("snapshots").resolve(name);
+    }
+
+    private static Path getObject(Path backupsPath, String hash, boolean compressed) {
+        return getObjects(backupsPath).resolve(hash.substring(0, 2))
+                .resolve(compressed ? hash + COMPRESSED_SUFFIX : hash);
+    }
+
+    /**
+     * Backs up the files in the given folder which the name mapper allows, storing only the files which aren't
+     * already in the store.
+     *
+     * @param name         the name to group the backups under, such as the instances safe name
+     * @param progressable optional, given the total size of the files to back up and updated as they're backed up
+     * @return the backup made, or null if it failed
+     */
+    public static IncrementalBackup backup(Path backupsPath, String name, Path root, NameMapper nameMapper,
+            @Nullable NetworkProgressable progressable) throws InterruptedException {
+        synchronized (LOCK) {
+            PerformanceManager.start("IncrementalBackupManager::backup");
+            try {
+                return createBackup(backupsPath, name, root, nameMapper, progressable);
+            } finally {
+                PerformanceManager.end("IncrementalBackupManager::backup");
+            }
+        }
+    }
+
+    private static IncrementalBackup createBackup(Path backupsPath, String name, Path root, NameMapper nameMapper,
+            @Nullable NetworkProgressable progressable) throws InterruptedException {
+        Map<String, BasicFileAttributes> files = new HashMap<>();
+
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (attributes.isRegularFile()) {
+                        String path = nameMapper.map(root.relativize(file).toString()
+                                .replace(File.separatorChar, '/'));
+
+                        if (path != null) {
+                            files.put(path, attributes);
+                        }
+                    }
+
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    LogManager.logStackTrace(String.format("Unable to back up %s", file), e);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            LogManager.logStackTrace("Failed to find files to back up", e);
+            return null;
+        }
+
+        if (progressable != null) {
+            progressable.setTotalBytes(files.values().stream().mapToLong(BasicFileAttributes::size).sum());
+        }
+
+        // files which haven't changed since the last backup don't need hashing again
+        Map<String, IncrementalBackupFile> previousFiles = new HashMap<>();
+        List<IncrementalBackup> backups = getBackups(backupsPath, name);
+        if (!backups.isEmpty()) {
+            backups.get(0).files.forEach(file -> previousFiles.put(file.path, file));
+        }
+
+        IncrementalBackup backup = new IncrementalBackup();
+        backup.instance = name;
+        backup.created = System.currentTimeMillis();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime()
+                .availableProcessors()));
+        try {
+            List<Future<IncrementalBackupFile>> futures = new ArrayList<>();
+            for (Map.Entry<String, BasicFileAttributes> entry : files.entrySet()) {
+                futures.add(executor.submit(() -> {
+                    IncrementalBackupFile file = storeFile(backupsPath, root.resolve(entry.getKey()),
+                            entry.getKey(), entry.getValue(), previousFiles.get(entry.getKey()));
+
+                    if (progressable != null) {
+                        synchronized (progressable) {
+                            progressable.addDownloadedBytes(entry.getValue().size());
+                        }
+                    }
+
+                    return file;
+                }));
+            }
+
+            for (Future<IncrementalBackupFile> future : futures) {
+                IncrementalBackupFile file = future.get();
+
+                if (file != null) {
+                    backup.files.add(file);
+                }
+            }
+        } catch (ExecutionException e) {
+            LogManager.logStackTrace("Failed to back up files", e);
+            return null;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        backup.files.sort(Comparator.comparing(file -> file.path));
+
+        if (!saveBackup(backupsPath, backup)) {
+            return null;
+        }
+
+        return backup;
+    }
+
+    /**
+     * Stores the file in the store if it's not already there.
+     *
+     * @return the file to add to the manifest, or null if it couldn't be backed up
+     */
+    private static IncrementalBackupFile storeFile(Path backupsPath, Path file, String path,
+            BasicFileAttributes attributes, @Nullable IncrementalBackupFile previousFile) {
+        long size = attributes.size();
+        long modified = attributes.lastModifiedTime().toMillis();
+
+        if (previousFile != null && previousFile.matches(size, modified) && hasObject(backupsPath, previousFile.hash)) {
+            return new IncrementalBackupFile(path, previousFile.hash, size, modified);
+        }
+
+        HashCode hashCode = Hashing.sha1(file);
+        if (hashCode.equals(Hashing.EMPTY_HASH_CODE)) {
+            return null;
+        }
+
+        String hash = hashCode.toString();
+        if (!hasObject(backupsPath, hash)) {
+            boolean compressed = !ArchiveUtils.isAlreadyCompressed(file);
+            Path object = getObject(backupsPath, hash, compressed);
+            Path tempFile = object.resolveSibling(object.getFileName() + "." + Thread.currentThread().getId()
+                    + ".tmp");
+
+            try {
+                Files.createDirectories(object.getParent());
+
+                if (compressed) {
+                    try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(tempFile))) {
+                        Files.copy(file, outputStream);
+                    }
+                } else {
+                    Files.copy(file, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+
+                Files.move(tempFile, object, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                LogManager.logStackTrace(String.format("Unable to back up %s", file), e);
+                return null;
+            } finally {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignored) {
+                    // ignored
+                }
+            }
+        }
+
+        return new IncrementalBackupFile(path, hash, size, modified);
+    }
+
+    private static boolean hasObject(Path backupsPath, String hash) {
+        return Files.exists(getObject(backupsPath, hash, true)) || Files.exists(getObject(backupsPath, hash, false));
+    }
+
+    private static boolean saveBackup(Path backupsPath, IncrementalBackup backup) {
+        Path snapshots = getSnapshots(backupsPath, backup.instance);
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date(backup.created));
+
+        backup.name = timestamp + ".json";
+        for (int i = 2; Files.exists(snapshots.resolve(backup.name)); i++) {
+            backup.name = timestamp + "-" + i + ".json";
+        }
+
+        Path manifest = snapshots.resolve(backup.name);
+        Path tempFile = manifest.resolveSibling(backup.name + ".tmp");
+        try {
+            Files.createDirectories(snapshots);
+
+            try (OutputStreamWriter writer = new OutputStreamWriter(Files.newOutputStream(tempFile),
+                    StandardCharsets.UTF_8)) {
+                Gsons.DEFAULT_SLIM.toJson(backup, writer);
+            }
+
+            Files.move(tempFile, manifest, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LogManager.logStackTrace("Failed to save incremental backup", e);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the incremental backups made under the given name, newest first.
+     */
+    public static List<IncrementalBackup> getBackups(Path backupsPath, String name) {
+        Path snapshots = getSnapshots(backupsPath, name);
+
+        if (!Files.isDirectory(snapshots)) {
+            return Collections.emptyList();
+        }
+
+        List<IncrementalBackup> backups = new ArrayList<>();
+        try {
+            for (Path manifest : listManifests(snapshots)) {
+                try {
+                    backups.add(readBackup(manifest));
+                } catch (IOException | JsonParseException e) {
+                    LogManager.logStackTrace("Failed to read incremental backup " + manifest.getFileName(), e, false);
+                }
+            }
+        } catch (IOException e) {
+            LogManager.logStackTrace("Failed to list incremental backups", e, false);
+        }
+
+        backups.sort(Comparator.comparingLong((IncrementalBackup backup) -> backup.created).reversed());
+
+        return backups;
+    }
+
+    private static List<Path> listManifests(Path snapshots) throws IOException {
+        try (Stream<Path> stream = Files.list(snapshots)) {
+            return stream.filter(p -> p.getFileName().toString().endsWith(".json")).collect(Collectors.toList());
+        }
+    }
+
+    private static IncrementalBackup readBackup(Path manifest) throws IOException {
+        try (InputStreamReader reader = new InputStreamReader(Files.newInputStream(manifest),
+                StandardCharsets.UTF_8)) {
+            IncrementalBackup backup = Gsons.DEFAULT_SLIM.fromJson(reader, IncrementalBackup.class);
+
+            if (backup == null || backup.files == null
+                    || backup.files.stream().anyMatch(file -> file == null || file.path == null || file.hash == null)) {
+                throw new JsonParseException("Incomplete incremental backup " + manifest.getFileName());
+            }
+
+            backup.name = manifest.getFileName().toString();
+            return backup;
+        }
+    }
+
+    /**
+     * Restores the given folder to how it was in the given backup. Files the name mapper allows are replaced with the
+     * ones in the backup, and removed if they're not in the backup, while any other files are left alone.
+     *
+     * Every changed file is first copied out of the backup next to where it's going and checked against its hash, so
+     * if any object is missing or corrupt (or the restore is cancelled) the folder is left as it was. Files are only
+     * moved into place, and files not in the backup removed, once everything has been checked.
+     *
+     * @param nameMapper the name mapper the backup was made with
+     */
+    public static boolean restore(Path backupsPath, IncrementalBackup backup, Path to, NameMapper nameMapper,
+            @Nullable NetworkProgressable progressable) {
+        synchronized (LOCK) {
+            if (progressable != null) {
+                progressable.setTotalBytes(backup.getSize());
+            }
+
+            Map<Path, IncrementalBackupFile> stagedFiles = new HashMap<>();
+
+            try {
+                for (IncrementalBackupFile file : backup.files) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        return false;
+                    }
+
+                    Path target = to.resolve(file.path).normalize();
+                    if (!target.startsWith(to.normalize())) {
+                        LogManager.warn(
+                                "Not restoring " + file.path + " as it's outside of the folder being restored to");
+                        continue;
+                    }
+
+                    if (!isUnchanged(target, file)) {
+                        Path stagedFile = getStagedFile(target);
+                        stagedFiles.put(stagedFile, file);
+
+                        if (!stage(backupsPath, file, stagedFile)) {
+                            return false;
+                        }
+                    }
+
+                    if (progressable != null) {
+                        progressable.addDownloadedBytes(file.size);
+                    }
+                }
+
+                for (Map.Entry<Path, IncrementalBackupFile> entry : stagedFiles.entrySet()) {
+                    Path target = to.resolve(entry.getValue().path).normalize();
+
+                    Files.move(entry.getKey(), target, StandardCopyOption.REPLACE_EXISTING);
+                    Files.setLastModifiedTime(target, FileTime.fromMillis(entry.getValue().modified));
+                }
+                stagedFiles.clear();
+
+                removeFilesNotInBackup(backup, to, nameMapper);
+            } catch (IOException e) {
+                LogManager.logStackTrace("Failed to restore incremental backup " + backup.name, e);
+                return false;
+            } finally {
+                for (Path stagedFile : stagedFiles.keySet()) {
+                    try {
+                        Files.deleteIfExists(stagedFile);
+                    } catch (IOException e) {
+                        LogManager.logStackTrace("Failed to remove " + stagedFile, e, false);
+                    }
+                }
+            }
+
+            return true;
+        }
+    }
+
+    private static boolean isUnchanged(Path target, IncrementalBackupFile file) {
+        try {
+            return Files.isRegularFile(target) && file.matches(Files.size(target),
+                    Files.getLastModifiedTime(target).toMillis());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static Path getStagedFile(Path target) {
+        return target.resolveSibling(target.getFileName() + ".restore.tmp");
+    }
+
+    /**
+     * Copies the object for the given file out of the backup, returning false if it's missing or doesn't match the
+     * hash it was stored under.
+     */
+    private static boolean stage(Path backupsPath, IncrementalBackupFile file, Path stagedFile) throws IOException {
+        boolean compressed = Files.exists(getObject(backupsPath, file.hash, true));
+        Path object = getObject(backupsPath, file.hash, compressed);
+
+        if (!Files.exists(object)) {
+            LogManager.error("Cannot restore " + file.path + " as its object " + file.hash + " is missing");
+            return false;
+        }
+
+        Files.createDirectories(stagedFile.getParent());
+
+        try (InputStream inputStream = compressed ? new GZIPInputStream(Files.newInputStream(object))
+                : Files.newInputStream(object)) {
+            Files.copy(inputStream, stagedFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        if (!Hashing.sha1(stagedFile).toString().equals(file.hash)) {
+            LogManager.error("Cannot restore " + file.path + " as its object " + file.hash + " is corrupt");
+            return false;
+        }
+
+        return true;
+    }
+
+    private static void removeFilesNotInBackup(IncrementalBackup backup, Path to, NameMapper nameMapper)
+            throws IOException {
+        if (!Files.isDirectory(to)) {
+            return;
+        }
+
+        Set<String> paths = backup.files.stream().map(file -> file.path).collect(Collectors.toSet());
+
+        Files.walkFileTree(to, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                if (attributes.isRegularFile()) {
+                    String path = nameMapper.map(to.relativize(file).toString().replace(File.separatorChar, '/'));
+
+                    if (path != null && !paths.contains(path)) {
+                        Files.delete(file);
+                    }
+                }
+
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Removes all but the newest given number of backups under the given name, and then removes any objects no longer
+     * used by any backup.
+     */
+    public static void prune(Path backupsPath, String name, int backupsToKeep) {
+        synchronized (LOCK) {
+            PerformanceManager.start("IncrementalBackupManager::prune");
+            List<IncrementalBackup> backups = getBackups(backupsPath, name);
+
+            for (IncrementalBackup backup : backups.subList(Math.min(backupsToKeep, backups.size()),
+                    backups.size())) {
+                try {
+                    Files.deleteIfExists(getSnapshots(backupsPath, name).resolve(backup.name));
+                } catch (IOException e) {
+                    LogManager.logStackTrace("Failed to remove incremental backup " + backup.name, e, false);
+                }
+            }
+
+            removeUnusedObjects(backupsPath);
+            PerformanceManager.end("IncrementalBackupManager::prune");
+        }
+    }
+
+    private static void removeUnusedObjects(Path backupsPath) {
+        Path objects = getObjects(backupsPath);
+        Path snapshots = getStore(backupsPath).resolve("snapshots");
+
+        if (!Files.isDirectory(objects)) {
+            return;
+        }
+
+        Set<String> usedHashes = new HashSet<>();
+        if (Files.isDirectory(snapshots)) {
+            // unlike getBackups, any manifest which can't be read stops this, since we can't tell what it uses
+            try (Stream<Path> stream = Files.list(snapshots)) {
+                for (Path instanceSnapshots : stream.filter(Files::isDirectory).collect(Collectors.toList())) {
+                    for (Path manifest : listManifests(instanceSnapshots)) {
+                        readBackup(manifest).files.forEach(file -> usedHashes.add(file.hash));
+                    }
+                }
+            } catch (IOException | JsonParseException e) {
+                LogManager.logStackTrace("Failed to read incremental backups, so not removing any objects", e, false);
+                return;
+            }
+        }
+
+        int removed = 0;
+        try (Stream<Path> stream = Files.walk(objects)) {
+            for (Path object : stream.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                String hash = object.getFileName().toString();
+                if (hash.endsWith(COMPRESSED_SUFFIX)) {
+                    hash = hash.substring(0, hash.length() - COMPRESSED_SUFFIX.length());
+                }
+
+                if (!usedHashes.contains(hash)) {
+                    Files.deleteIfExists(object);
+                    removed++;
+                }
+            }
+        } catch (IOException e) {
+            LogManager.logStackTrace("Failed to remove unused incremental backup objects", e, false);
+        }
+
+        if (removed != 0) {
+            LogManager.debug("Removed " + removed + " unused incremental backup objects");
+        }
+    }
+}
@@ -27,15 +27,28 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.swing.SwingUtilities;
 
 import com.atlauncher.FileSystem;
 import com.atlauncher.Gsons;
 import com.atlauncher.data.Instance;
 import com.atlauncher.data.MicrosoftAccount;
 import com.atlauncher.data.Pack;
+import com.atlauncher.data.curseforge.CurseForgeFile;
+import com.atlauncher.data.curseforge.CurseForgeProject;
 import com.atlauncher.exceptions.InvalidPack;
 import com.atlauncher.utils.CurseForgeApi;
 import com.atlauncher.utils.FileUtils;
+import com.atlauncher.utils.ModMetadataIndex;
+import com.atlauncher.utils.Pair;
 import com.atlauncher.utils.Utils;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonSyntaxException;
@@ -44,6 +57,9 @@ import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.subjects.BehaviorSubject;
 
 public class InstanceManager {
+    private static final int MAX_LOADING_THREADS = 8;
+    private static final AtomicInteger LOADER_THREAD_COUNT = new AtomicInteger(0);
+
     /**
      * Data holder for Instances.
      * <p>
@@ -68,74 +84,48 @@ public class InstanceManager {
     }
 
     /**
-     * Loads the user installed Instances
+     * Loads the user installed Instances.
+     *
+     * Instances are parsed in parallel, and any conversions which need network access (such as converting legacy
+     * CurseForge manifests) are done in the background after the instances have been published.
      */
     public static void loadInstances() {
         PerformanceManager.start();
         LogManager.debug("Loading instances");
-        List<Instance> newInstances = new ArrayList<>();
 
-        for (String folder : Optional.ofNullable(FileSystem.INSTANCES.toFile().list(Utils.getInstanceFileFilter()))
-            .orElse(new String[0])) {
-            Path instanceDir = FileSystem.INSTANCES.resolve(folder);
+        String[] folders = Optional.ofNullable(FileSystem.INSTANCES.toFile().list(Utils.getInstanceFileFilter()))
+            .orElse(new String[0]);
 
-            Instance instance;
-
-            try {
-                try (InputStreamReader fileReader = new InputStreamReader(
-                    Files.newInputStream(instanceDir.resolve("instance.json")), StandardCharsets.UTF_8)) {
-                    instance = Gsons.DEFAULT.fromJson(fileReader, Instance.class);
-                    if (instance == null) {
-                        throw new JsonSyntaxException("Error parsing instance.json as Instance");
-                    }
-                    instance.ROOT = instanceDir;
-                    LogManager.debug("Loaded instance from " + instanceDir);
-
-                    if (instance.launcher == null) {
-                        instance = null;
-                        throw new JsonSyntaxException("Error parsing instance.json as Instance");
-                    }
-                } catch (JsonIOException | JsonSyntaxException e) {
-                    LogManager.logStackTrace("Failed to load instance in the folder " + instanceDir, e, false);
-                    continue;
-                }
-
-                if (instance.launcher.curseForgeManifest != null
-                    && instance.launcher.curseForgeManifest.projectID != null
-                    && instance.launcher.curseForgeManifest.fileID != null) {
-                    LogManager.info(String.format("Converting instance \"%s\" CurseForge information",
-                        instance.launcher.name));
-                    instance.launcher.curseForgeProject = CurseForgeApi
-                        .getProjectById(instance.launcher.curseForgeManifest.projectID);
-                    instance.launcher.curseForgeFile = CurseForgeApi.getFileForProject(
-                        instance.launcher.curseForgeManifest.projectID,
-                        instance.launcher.curseForgeManifest.fileID);
-                    instance.launcher.curseForgeManifest = null;
-
-                    instance.save();
-                }
+        int threads = Math.max(1, Math.min(MAX_LOADING_THREADS, Runtime.getRuntime().availableProcessors()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "InstanceLoader-" + LOADER_THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
 
-                if (instance.launcher.numPlays == null) {
-                    LogManager.info(String.format("Converting instance \"%s\" numPlays/lastPlayed",
-                        instance.launcher.name));
-                    instance.launcher.numPlays = instance.numPlays;
-                    instance.launcher.lastPlayed = instance.lastPlayed;
+        List<Future<Instance>> futures = new ArrayList<>(folders.length);
+        try {
+            for (String folder : folders) {
+                futures.add(executor.submit(() -> loadInstance(FileSystem.INSTANCES.resolve(folder))));
+            }
+        } finally {
+            executor.shutdown();
+        }
 
-                    instance.save();
-                }
+        // keep the order the folders were listed in, so the order doesn't change between loads
+        List<Instance> newInstances = new ArrayList<>(folders.length);
+        for (Future<Instance> future : futures) {
+            try {
+                Instance instance = future.get();
 
-                if (instance.launcher.account != null
-                    && !AccountManager.isAccountByName(instance.launcher.account)) {
-                    LogManager.warn(
-                        String.format("No account with name of %s, so setting instance account back to default",
-                            instance.launcher.account));
-                    instance.launcher.account = null;
-                    instance.save();
+                if (instance != null) {
+                    newInstances.add(instance);
                 }
-
-                newInstances.add(instance);
-            } catch (IOException e2) {
-                LogManager.logStackTrace("Failed to load instance in the folder " + instanceDir, e2, false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                LogManager.logStackTrace("Failed to load instance", e.getCause(), false);
             }
         }
 
@@ -181,6 +171,103 @@ public class InstanceManager {
         INSTANCES.onNext(newInstances);
         LogManager.debug("Finished loading instances");
         PerformanceManager.end();
+
+        List<Instance> instancesToConvert = newInstances.stream()
+            .filter(InstanceManager::needsCurseForgeConversion).collect(Collectors.toList());
+        if (!instancesToConvert.isEmpty()) {
+            convertCurseForgeInstances(instancesToConvert);
+        }
+    }
+
+    /**
+     * Loads a single instance from its folder, running any conversions that don't need network access.
+     *
+     * @return the loaded instance, or null if it couldn't be loaded
+     */
+    private static Instance loadInstance(Path instanceDir) {
+        Instance instance;
+
+        try (InputStreamReader fileReader = new InputStreamReader(
+            Files.newInputStream(instanceDir.resolve("instance.json")), StandardCharsets.UTF_8)) {
+            instance = Gsons.DEFAULT.fromJson(fileReader, Instance.class);
+            if (instance == null || instance.launcher == null) {
+                throw new JsonSyntaxException("Error parsing instance.json as Instance");
+            }
+            instance.ROOT = instanceDir;
+            LogManager.debug("Loaded instance from " + instanceDir);
+        } catch (JsonIOException | JsonSyntaxException | IOException e) {
+            LogManager.logStackTrace("Failed to load instance in the folder " + instanceDir, e, false);
+            return null;
+        }
+
+        if (instance.launcher.numPlays == null) {
+            LogManager.info(String.format("Converting instance \"%s\" numPlays/lastPlayed",
+                instance.launcher.name));
+            instance.launcher.numPlays = instance.numPlays;
+            instance.launcher.lastPlayed = instance.lastPlayed;
+
+            instance.save();
+        }
+
+        if (instance.launcher.account != null
+            && !AccountManager.isAccountByName(instance.launcher.account)) {
+            LogManager.warn(
+                String.format("No account with name of %s, so setting instance account back to default",
+                    instance.launcher.account));
+            instance.launcher.account = null;
+            instance.save();
+        }
+
+        return instance;
+    }
+
+    private static boolean needsCurseForgeConversion(Instance instance) {
+        return instance.launcher.curseForgeManifest != null
+            && instance.launcher.curseForgeManifest.projectID != null
+            && instance.launcher.curseForgeManifest.fileID != null;
+    }
+
+    /**
+     * Converts instances with a legacy CurseForge manifest to store the CurseForge project and file instead. This
+     * requires looking them up from CurseForge, so the lookups are run in the background after instances have been
+     * loaded, and the results are then applied and saved on the EDT, the same as any other edits to the instance.
+     */
+    private static void convertCurseForgeInstances(List<Instance> instances) {
+        List<CompletableFuture<Void>> conversions = instances.stream().map(instance -> {
+            int projectId = instance.launcher.curseForgeManifest.projectID;
+            int fileId = instance.launcher.curseForgeManifest.fileID;
+
+            // these are batched, so converting many instances only takes a couple of requests
+            return CurseForgeApi.getProjectByIdAsync(projectId)
+                .thenCombine(CurseForgeApi.getFileByIdAsync(fileId), Pair::new)
+                .thenAcceptAsync(result -> applyCurseForgeConversion(instance, projectId, fileId, result.left(),
+                    result.right()), SwingUtilities::invokeLater)
+                .exceptionally(e -> {
+                    LogManager.logStackTrace("Error converting instance CurseForge information", e, false);
+                    return null;
+                });
+        }).collect(Collectors.toList());
+
+        // republish so anything showing the instances picks up the converted information
+        CompletableFuture.allOf(conversions.toArray(new CompletableFuture<?>[0]))
+            .thenRunAsync(() -> INSTANCES.onNext(new ArrayList<>(getInstances())), SwingUtilities::invokeLater);
+    }
+
+    private static void applyCurseForgeConversion(Instance instance, int projectId, int fileId,
+        CurseForgeProject project, CurseForgeFile file) {
+        // the instance may have been changed or removed while looking up its project and file
+        if (!getInstances().contains(instance) || !needsCurseForgeConversion(instance)
+            || instance.launcher.curseForgeManifest.projectID != projectId
+            || instance.launcher.curseForgeManifest.fileID != fileId) {
+            return;
+        }
+
+        LogManager.info(String.format("Converting instance \"%s\" CurseForge information", instance.launcher.name));
+        instance.launcher.curseForgeProject = project;
+        instance.launcher.curseForgeFile = file;
+        instance.launcher.curseForgeManifest = null;
+
+        instance.save();
     }
 
     public static void setInstanceVisbility(Instance instance, boolean collapsed) {
@@ -210,6 +297,7 @@ public class InstanceManager {
 
         if (instances.remove(instance)) {
             FileUtils.delete(instance.getRoot(), true);
+            ModMetadataIndex.delete(instance.getRoot());
             INSTANCES.onNext(instances);
         }
     }
@@ -0,0 +1,291 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.managers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.atlauncher.FileSystem;
+import com.atlauncher.Gsons;
+import com.atlauncher.data.JavaProbe;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Keeps a persistent cache of the version and architecture of Java executables, keyed by their path and checked
+ * against their size and last modified time, so that once a Java install has been probed it doesn't need to be run
+ * again until it's updated.
+ *
+ * Where possible the version is read from the release file at the root of the Java install, and only when that
+ * doesn't exist (or doesn't have what's needed) is the executable run with "-version".
+ */
+public class JavaProbeManager {
+    private static final String UNKNOWN_VERSION = "Unknown";
+
+    // how long to wait for "java -version" before giving up on that Java install
+    private static final int PROBE_TIMEOUT_SECONDS = 10;
+
+    private static final Pattern VERSION_OUTPUT_PATTERN = Pattern.compile("(java|openjdk) version \"([^\"]*)\"");
+    private static final Pattern RELEASE_LINE_PATTERN = Pattern.compile("^([A-Z_]+)=\"?([^\"]*)\"?$");
+
+    private static final AtomicInteger PROBE_THREAD_COUNT = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+        Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())), r -> {
+            Thread thread = new Thread(r, "JavaProbe-" + PROBE_THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    private static final Map<String, JavaProbe> PROBES = new ConcurrentHashMap<>();
+    private static volatile boolean hasLoaded = false;
+    private static volatile boolean isDirty = false;
+
+    /**
+     * Gets the version and architecture of the given Java executable, probing it only if it's not already known.
+     */
+    public static JavaProbe probe(String javaPath) {
+        JavaProbe probe = getOrProbe(javaPath);
+        save();
+
+        return probe;
+    }
+
+    /**
+     * Probes all the given Java executables at the same time, so that any which aren't already known don't need to
+     * wait on each other. Once this returns, calls to {@link #probe(String)} for these executables will not need to
+     * run anything.
+     */
+    public static void probeAll(List<String> javaPaths) {
+        PerformanceManager.start("JavaProbeManager::probeAll");
+        List<CompletableFuture<JavaProbe>> futures = javaPaths.stream()
+            .map(javaPath -> CompletableFuture.supplyAsync(() -> getOrProbe(javaPath), EXECUTOR))
+            .collect(Collectors.toList());
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        save();
+        PerformanceManager.end("JavaProbeManager::probeAll");
+    }
+
+    private static JavaProbe getOrProbe(String javaPath) {
+        load();
+
+        Path executable = Paths.get(javaPath);
+        String key = getKey(executable);
+
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(executable, BasicFileAttributes.class);
+        } catch (IOException e) {
+            if (PROBES.remove(key) != null) {
+                isDirty = true;
+            }
+
+            return new JavaProbe(0, 0, UNKNOWN_VERSION, false);
+        }
+
+        long size = attributes.size();
+        long modified = attributes.lastModifiedTime().toMillis();
+
+        JavaProbe probe = PROBES.get(key);
+        if (probe != null && probe.matches(size, modified)) {
+            return probe;
+        }
+
+        // executables are at <root>/bin/java, which is where the release file is
+        Path binFolder = executable.toAbsolutePath().getParent();
+        probe = binFolder == null || binFolder.getParent() == null ? null
+            : readReleaseFile(binFolder.getParent().resolve("release"), size, modified);
+
+        if (probe == null) {
+            probe = runVersionProbe(javaPath, size, modified);
+        }
+
+        LogManager.debug(String.format("Probed Java at path \"%s\" and got version \"%s\"", javaPath, probe.version));
+
+        // don't remember failures, as they may be due to the system being busy
+        if (!probe.version.equals(UNKNOWN_VERSION)) {
+            PROBES.put(key, probe);
+            isDirty = true;
+        }
+
+        return probe;
+    }
+
+    /**
+     * Reads the version and architecture from a Java install's release file.
+     *
+     * @return the probe, or null if the release file doesn't exist or doesn't contain the version and architecture
+     */
+    static JavaProbe readReleaseFile(Path releaseFile, long size, long modified) {
+        if (!Files.isRegularFile(releaseFile)) {
+            return null;
+        }
+
+        String version = null;
+        String arch = null;
+
+        try {
+            for (String line : Files.readAllLines(releaseFile, StandardCharsets.UTF_8)) {
+                Matcher m = RELEASE_LINE_PATTERN.matcher(line.trim());
+
+                if (!m.find()) {
+                    continue;
+                }
+
+                if (m.group(1).equals("JAVA_VERSION")) {
+                    version = m.group(2);
+                } else if (m.group(1).equals("OS_ARCH")) {
+                    arch = m.group(2);
+                }
+            }
+        } catch (IOException e) {
+            LogManager.logStackTrace("Exception reading Java release file " + releaseFile, e, false);
+            return null;
+        }
+
+        if (version == null || version.isEmpty() || arch == null || arch.isEmpty()) {
+            return null;
+        }
+
+        return new JavaProbe(size, modified, version, is64BitArch(arch));
+    }
+
+    private static boolean is64BitArch(String arch) {
+        String lowerArch = arch.toLowerCase(Locale.ENGLISH);
+
+        return lowerArch.contains("64") || lowerArch.equals("s390x") || lowerArch.equals("sparcv9");
+    }
+
+    private static JavaProbe runVersionProbe(String javaPath, long size, long modified) {
+        ProcessBuilder processBuilder = new ProcessBuilder(javaPath, "-version");
+        processBuilder.redirectErrorStream(true);
+
+        StringBuilder output = new StringBuilder();
+        try {
+            Process process = processBuilder.start();
+
+            // the output of "-version" is small enough to never fill the pipe, so it's safe to wait before reading
+            if (!process.waitFor(PROBE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                LogManager.warn(String.format("Timed out getting the version of Java at path \"%s\"", javaPath));
+                return new JavaProbe(size, modified, UNKNOWN_VERSION, false);
+            }
+
+            try (BufferedReader br = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+
+                while ((line = br.readLine()) != null) {
+                    output.append(line).append("\n");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            LogManager.logStackTrace(e);
+        }
+
+        Matcher m = VERSION_OUTPUT_PATTERN.matcher(output);
+        if (!m.find()) {
+            LogManager.warn("Cannot get Java version from the output of \"" + javaPath + " -version\"");
+            return new JavaProbe(size, modified, UNKNOWN_VERSION, false);
+        }
+
+        return new JavaProbe(size, modified, m.group(2),
+            output.toString().toUpperCase(Locale.ENGLISH).contains("64-BIT"));
+    }
+
+    private static String getKey(Path file) {
+        return file.toAbsolutePath().normalize().toString();
+    }
+
+    private static synchronized void load() {
+        if (hasLoaded) {
+            return;
+        }
+
+        hasLoaded = true;
+
+        if (!Files.exists(FileSystem.JAVA_PROBES)) {
+            return;
+        }
+
+        try (InputStreamReader fileReader = new InputStreamReader(Files.newInputStream(FileSystem.JAVA_PROBES),
+            StandardCharsets.UTF_8)) {
+            Type type = new TypeToken<Map<String, JavaProbe>>() {
+            }.getType();
+            Map<String, JavaProbe> probes = Gsons.DEFAULT_SLIM.fromJson(fileReader, type);
+
+            if (probes != null) {
+                PROBES.putAll(probes);
+            }
+        } catch (JsonSyntaxException | JsonIOException | IOException e) {
+            LogManager.logStackTrace("Exception loading Java probe cache", e, false);
+        }
+    }
+
+    /**
+     * Saves the cache to disk if anything has changed since it was last loaded/saved.
+     */
+    private static synchronized void save() {
+        if (!isDirty) {
+            return;
+        }
+
+        isDirty = false;
+
+        Path tempFile = FileSystem.JAVA_PROBES.resolveSibling(FileSystem.JAVA_PROBES.getFileName() + ".tmp");
+        try (OutputStreamWriter fileWriter = new OutputStreamWriter(Files.newOutputStream(tempFile),
+            StandardCharsets.UTF_8)) {
+            Type type = new TypeToken<Map<String, JavaProbe>>() {
+            }.getType();
+            Gsons.DEFAULT_SLIM.toJson(PROBES, type, fileWriter);
+        } catch (JsonIOException | IOException e) {
+            LogManager.logStackTrace("Exception saving Java probe cache", e, false);
+            return;
+        }
+
+        try {
+            Files.move(tempFile, FileSystem.JAVA_PROBES, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LogManager.logStackTrace("Exception saving Java probe cache", e, false);
+        }
+    }
+}
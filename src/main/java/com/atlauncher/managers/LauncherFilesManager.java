@@ -0,0 +1,357 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.managers;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import com.atlauncher.FileSystem;
+import com.atlauncher.Gsons;
+import com.atlauncher.Network;
+import com.atlauncher.constants.Constants;
+import com.atlauncher.data.DownloadableFile;
+import com.atlauncher.data.LauncherFilesManifest;
+import com.atlauncher.data.SyncedFile;
+import com.atlauncher.interfaces.NetworkProgressable;
+import com.atlauncher.network.Download;
+import com.atlauncher.network.DownloadPool;
+import com.atlauncher.utils.FileUtils;
+import com.atlauncher.utils.Hashing;
+import com.google.common.hash.HashCode;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Syncs the files the launcher needs (such as the packs, news and config json files) from the files.json on the
+ * download server.
+ *
+ * A manifest of the files as they were last synced is kept, so files.json is only downloaded again when its ETag has
+ * changed, and is then diffed against the manifest in memory. Files whose hash, size and last modified time match the
+ * manifest aren't read at all. Only files which have changed are downloaded, in parallel, and they're hashed as
+ * they're downloaded rather than afterwards.
+ *
+ * Files are downloaded to a temporary folder and then moved into place, so they can be synced in the background while
+ * the launcher is still reading the old files.
+ */
+public class LauncherFilesManager {
+    private static final String FILES_JSON_URL = String.format("%s/launcher/json/files.json",
+            Constants.DOWNLOAD_SERVER);
+    private static final Path STAGING = FileSystem.TEMP.resolve("launcher_files");
+    private static final Object LOCK = new Object();
+
+    private static LauncherFilesManifest manifest = null;
+
+    // the changed files found by the last check, along with the ETag of the files.json they came from, which are
+    // waiting to be downloaded
+    private static List<DownloadableFile> updatedFiles = null;
+    private static String updatedEtag = null;
+
+    /**
+     * Checks if every file from the last sync is still on disk, meaning the launcher can start with the files it has
+     * while they're synced in the background.
+     */
+    public static boolean hasSyncedFiles() {
+        synchronized (LOCK) {
+            loadManifest();
+
+            return manifest.etag != null && !manifest.files.isEmpty() && manifest.files.values().stream()
+                    .allMatch(syncedFile -> Files.exists(syncedFile.toDownloadableFile().getPath()));
+        }
+    }
+
+    /**
+     * Checks files.json for files which are missing or have changed since they were last synced.
+     *
+     * @return the files which need downloading, or null if files.json couldn't be loaded
+     */
+    @Nullable
+    public static List<DownloadableFile> getUpdatedFiles() {
+        synchronized (LOCK) {
+            PerformanceManager.start("LauncherFilesManager::getUpdatedFiles");
+            try {
+                updatedFiles = findUpdatedFiles();
+            } finally {
+                PerformanceManager.end("LauncherFilesManager::getUpdatedFiles");
+            }
+
+            return updatedFiles;
+        }
+    }
+
+    private static List<DownloadableFile> findUpdatedFiles() {
+        loadManifest();
+
+        List<DownloadableFile> remoteFiles = getRemoteFiles();
+
+        if (remoteFiles == null) {
+            return null;
+        }
+
+        boolean manifestChanged = false;
+        List<DownloadableFile> changedFiles = new ArrayList<>();
+        Set<String> keys = new HashSet<>();
+
+        for (DownloadableFile file : remoteFiles) {
+            String key = file.getKey();
+            Path path = file.getPath();
+            SyncedFile syncedFile = manifest.files.get(key);
+            keys.add(key);
+
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            } catch (IOException e) {
+                changedFiles.add(file);
+                continue;
+            }
+
+            long size = attributes.size();
+            long modified = attributes.lastModifiedTime().toMillis();
+
+            if (syncedFile != null && syncedFile.matches(file.sha1, size, modified)) {
+                continue;
+            }
+
+            // the file wasn't synced by us (such as from before the manifest existed) or has changed on disk, so
+            // hash it once to see if it actually needs downloading
+            if (Hashing.sha1(path).equals(Hashing.toHashCode(file.sha1))) {
+                manifest.files.put(key, new SyncedFile(file, size, modified, syncedFile == null ? null
+                        : syncedFile.etag));
+                manifestChanged = true;
+            } else {
+                changedFiles.add(file);
+            }
+        }
+
+        if (manifest.files.keySet().retainAll(keys)) {
+            manifestChanged = true;
+        }
+
+        if (changedFiles.isEmpty() && !Objects.equals(updatedEtag, manifest.etag)) {
+            manifest.etag = updatedEtag;
+            manifestChanged = true;
+        }
+
+        if (manifestChanged) {
+            saveManifest();
+        }
+
+        LogManager.debug(String.format("%d of %d launcher files need updating", changedFiles.size(),
+                remoteFiles.size()));
+
+        return changedFiles;
+    }
+
+    @Nullable
+    private static List<DownloadableFile> getRemoteFiles() {
+        boolean canUseEtag = manifest.etag != null && !manifest.files.isEmpty();
+
+        Request.Builder builder = new Request.Builder().url(FILES_JSON_URL);
+        if (canUseEtag) {
+            builder.header("If-None-Match", manifest.etag);
+        }
+
+        List<DownloadableFile> files;
+        try (Response response = Network.CLIENT.newCall(builder.build()).execute()) {
+            if (canUseEtag && response.code() == 304) {
+                LogManager.debug("files.json hasn't changed since the last sync");
+                updatedEtag = manifest.etag;
+
+                return manifest.files.values().stream().map(SyncedFile::toDownloadableFile)
+                        .collect(Collectors.toList());
+            }
+
+            if (!response.isSuccessful() || response.body() == null) {
+                LogManager.error("Error loading in file hashes! Got response code " + response.code());
+                return null;
+            }
+
+            Type type = new TypeToken<List<DownloadableFile>>() {
+            }.getType();
+            files = Gsons.DEFAULT.fromJson(response.body().charStream(), type);
+            updatedEtag = response.header("ETag");
+        } catch (IOException | JsonParseException e) {
+            LogManager.logStackTrace("Error loading in file hashes!", e);
+            return null;
+        }
+
+        if (files == null) {
+            return null;
+        }
+
+        return files.stream().filter(file -> !file.isLauncher() && !file.isFiles() && file.isForArchAndOs())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Downloads the files found by the last call to {@link #getUpdatedFiles()}.
+     *
+     * @return if any files were updated
+     */
+    public static boolean downloadUpdatedFiles(@Nullable NetworkProgressable progressable) {
+        synchronized (LOCK) {
+            if (updatedFiles == null || updatedFiles.isEmpty()) {
+                return false;
+            }
+
+            PerformanceManager.start("LauncherFilesManager::downloadUpdatedFiles");
+            try {
+                return downloadFiles(updatedFiles, progressable);
+            } finally {
+                updatedFiles = null;
+                PerformanceManager.end("LauncherFilesManager::downloadUpdatedFiles");
+            }
+        }
+    }
+
+    private static boolean downloadFiles(List<DownloadableFile> files, @Nullable NetworkProgressable progressable) {
+        OkHttpClient httpClient = progressable == null ? Network.CLIENT
+                : Network.createProgressClient(progressable);
+
+        if (progressable != null) {
+            progressable.setTotalBytes(files.stream().mapToLong(file -> file.size).sum());
+        }
+
+        Map<DownloadableFile, Download> downloads = new LinkedHashMap<>();
+        DownloadPool pool = new DownloadPool();
+        for (DownloadableFile file : files) {
+            Download download = file.getDownload().downloadTo(STAGING.resolve(file.getKey())).forceDownload()
+                    .withHttpClient(httpClient);
+
+            downloads.put(file, download);
+            pool.add(download);
+        }
+
+        pool.downloadAll();
+
+        boolean allDownloaded = true;
+        boolean anyDownloaded = false;
+        for (Map.Entry<DownloadableFile, Download> entry : downloads.entrySet()) {
+            if (moveIntoPlace(entry.getKey(), entry.getValue())) {
+                anyDownloaded = true;
+            } else {
+                allDownloaded = false;
+            }
+        }
+
+        // only remember the new files.json once everything in it has been downloaded, so anything which failed is
+        // tried again next time
+        if (allDownloaded) {
+            manifest.etag = updatedEtag;
+        }
+
+        saveManifest();
+        FileUtils.deleteDirectoryQuietly(STAGING);
+
+        return anyDownloaded;
+    }
+
+    private static boolean moveIntoPlace(DownloadableFile file, Download download) {
+        HashCode hash = download.getDownloadedHash();
+
+        if (hash == null || !hash.equals(Hashing.toHashCode(file.sha1))) {
+            LogManager.error("Failed to download updated launcher file " + file.getKey());
+            return false;
+        }
+
+        Path path = file.getPath();
+        try {
+            Files.createDirectories(path.getParent());
+
+            try {
+                Files.move(download.to, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(download.to, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            manifest.files.put(file.getKey(), new SyncedFile(file, attributes.size(),
+                    attributes.lastModifiedTime().toMillis(),
+                    download.response == null ? null : download.response.header("ETag")));
+        } catch (IOException e) {
+            LogManager.logStackTrace("Failed to move updated launcher file " + file.getKey() + " into place", e);
+            return false;
+        }
+
+        return true;
+    }
+
+    private static void loadManifest() {
+        if (manifest != null) {
+            return;
+        }
+
+        manifest = new LauncherFilesManifest();
+
+        if (!Files.exists(FileSystem.LAUNCHER_FILES_MANIFEST)) {
+            return;
+        }
+
+        try (InputStreamReader fileReader = new InputStreamReader(
+                Files.newInputStream(FileSystem.LAUNCHER_FILES_MANIFEST), StandardCharsets.UTF_8)) {
+            LauncherFilesManifest loadedManifest = Gsons.DEFAULT_SLIM.fromJson(fileReader,
+                    LauncherFilesManifest.class);
+
+            if (loadedManifest != null && loadedManifest.files != null) {
+                manifest = loadedManifest;
+            }
+        } catch (JsonParseException | IOException e) {
+            LogManager.logStackTrace("Exception loading launcher files manifest", e, false);
+        }
+    }
+
+    private static void saveManifest() {
+        Path tempFile = FileSystem.LAUNCHER_FILES_MANIFEST
+                .resolveSibling(FileSystem.LAUNCHER_FILES_MANIFEST.getFileName() + ".tmp");
+        try (OutputStreamWriter fileWriter = new OutputStreamWriter(Files.newOutputStream(tempFile),
+                StandardCharsets.UTF_8)) {
+            Gsons.DEFAULT_SLIM.toJson(manifest, fileWriter);
+        } catch (JsonParseException | IOException e) {
+            LogManager.logStackTrace("Exception saving launcher files manifest", e, false);
+            return;
+        }
+
+        try {
+            Files.move(tempFile, FileSystem.LAUNCHER_FILES_MANIFEST, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LogManager.logStackTrace("Exception saving launcher files manifest", e, false);
+        }
+    }
+}
@@ -17,14 +17,23 @@
  */
 package com.atlauncher.managers;
 
+import java.io.BufferedWriter;
 import java.io.CharArrayWriter;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.atlauncher.FileSystem;
 import com.atlauncher.Gsons;
 import com.atlauncher.evnt.LogEvent;
 import com.atlauncher.evnt.LogEvent.LogType;
@@ -32,11 +41,32 @@ import com.atlauncher.exceptions.LocalException;
 import com.atlauncher.network.DownloadException;
 import com.atlauncher.network.ErrorReporting;
 import com.atlauncher.thread.LoggingThread;
+import com.atlauncher.utils.MinecraftLogClassifier;
 import com.atlauncher.utils.SystemOutInterceptor;
 
 public final class LogManager {
-    private static final BlockingQueue<LogEvent> queue = new ArrayBlockingQueue<>(128);
+    public static final int QUEUE_CAPACITY = 8192;
+
+    // when using the DROP_DEBUG_FIRST policy, debug events are dropped once there's less than this much space left so
+    // that the rest of the queue is kept for more important events
+    private static final int DEBUG_HEADROOM = QUEUE_CAPACITY / 4;
+
+    // the longest a thread will wait for space in the queue before spilling its event to disk, so that nothing can
+    // ever hang forever on logging
+    private static final long MAX_WAIT_SECONDS = 10;
+
+    public static final String SPILL_FILE_NAME = "atlauncher-overflow.log";
+
+    private static final BlockingQueue<LogEvent> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private static final LongAdder queuedEvents = new LongAdder();
+    private static final LongAdder droppedEvents = new LongAdder();
+    private static final LongAdder spilledEvents = new LongAdder();
+    private static final Object spillLock = new Object();
+    private static BufferedWriter spillWriter = null;
+    private static volatile LoggingThread loggingThread = null;
+
     public static boolean showDebug = false;
+    public static volatile OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
 
     private static final Pattern LOG4J_THREAD_REGEX = Pattern.compile("<log4j:Event.*?thread=\"(.*?)\".*?>");
     private static final Pattern LOG4J_LEVEL_REGEX = Pattern.compile("<log4j:Event.*?level=\"(.*?)\".*?>");
@@ -44,11 +74,46 @@ public final class LogManager {
             .compile("<log4j:Message><!\\[CDATA\\[(.*?)\\]\\]></log4j:Message>");
 
     public static void start() {
-        new LoggingThread(queue).start();
+        loggingThread = new LoggingThread(queue);
+        loggingThread.start();
+
+        // log4j's own shutdown hook is disabled in log4j2.xml, so that it's not stopped before the queue is written out
+        Runtime.getRuntime().addShutdownHook(new Thread(LogManager::shutdown, "ATL-Logging-Shutdown"));
 
         redirectSystemOutLogs();
     }
 
+    /**
+     * Writes out anything still on the queue and then shuts down log4j. This is run from a shutdown hook, as otherwise
+     * the logging thread would be stopped along with the JVM, losing whatever was still queued.
+     */
+    private static void shutdown() {
+        LoggingThread thread = loggingThread;
+        loggingThread = null;
+
+        if (thread != null) {
+            thread.interrupt();
+
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(MAX_WAIT_SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized (spillLock) {
+            if (spillWriter != null) {
+                try {
+                    spillWriter.close();
+                } catch (IOException ignored) {
+                }
+                spillWriter = null;
+            }
+        }
+
+        org.apache.logging.log4j.LogManager.shutdown();
+    }
+
     private static void redirectSystemOutLogs() {
         PrintStream origOut = System.out;
         PrintStream origErr = System.err;
@@ -64,21 +129,21 @@ public final class LogManager {
     public static int debugLevel = 0;
 
     public static void info(String message) {
-        queue.offer(new LogEvent(LogType.INFO, message));
+        queue(new LogEvent(LogType.INFO, message));
     }
 
     public static void debug(String message) {
         if (showDebug) {
-            queue.offer(new LogEvent(LogType.DEBUG, message));
+            queue(new LogEvent(LogType.DEBUG, message));
         }
     }
 
     public static void warn(String message) {
-        queue.offer(new LogEvent(LogType.WARN, message));
+        queue(new LogEvent(LogType.WARN, message));
     }
 
     public static void error(String message) {
-        queue.offer(new LogEvent(LogType.ERROR, message));
+        queue(new LogEvent(LogType.ERROR, message));
     }
 
     public static void debugObject(Object object) {
@@ -93,7 +158,7 @@ public final class LogManager {
 
     public static void minecraft(String message) {
         Object[] value = prepareMessageForMinecraftLog(message);
-        queue.offer(new LogEvent((LogType) value[0], (String) value[1], LogEvent.CONSOLE));
+        queue(new LogEvent((LogType) value[0], (String) value[1], LogEvent.CONSOLE));
     }
 
     public static void logStackTrace(Throwable t) {
@@ -139,87 +204,7 @@ public final class LogManager {
     }
 
     public static Object[] prepareMessageForMinecraftLog(String text) {
-        LogType type; // The log message type
-        String message; // The log message
-
-        if (text.contains("[INFO] [STDERR]")) {
-            message = text.substring(text.indexOf("[INFO] [STDERR]"));
-            type = LogType.WARN;
-        } else if (text.contains("[INFO]")) {
-            message = text.substring(text.indexOf("[INFO]"));
-            if (message.contains("CONFLICT")) {
-                type = LogType.ERROR;
-            } else if (message.contains("overwriting existing item")) {
-                type = LogType.WARN;
-            } else {
-                type = LogType.INFO;
-            }
-        } else if (text.contains("[WARNING]")) {
-            message = text.substring(text.indexOf("[WARNING]"));
-            type = LogType.WARN;
-        } else if (text.contains("WARNING:")) {
-            message = text.substring(text.indexOf("WARNING:"));
-            type = LogType.WARN;
-        } else if (text.contains("INFO:")) {
-            message = text.substring(text.indexOf("INFO:"));
-            type = LogType.INFO;
-        } else if (text.contains("Exception")) {
-            message = text;
-            type = LogType.ERROR;
-        } else if (text.contains("[SEVERE]")) {
-            message = text.substring(text.indexOf("[SEVERE]"));
-            type = LogType.ERROR;
-        } else if (text.contains("[Sound Library Loader/ERROR]")) {
-            message = text.substring(text.indexOf("[Sound Library Loader/ERROR]"));
-            type = LogType.ERROR;
-        } else if (text.contains("[Sound Library Loader/WARN]")) {
-            message = text.substring(text.indexOf("[Sound Library Loader/WARN]"));
-            type = LogType.WARN;
-        } else if (text.contains("[Sound Library Loader/INFO]")) {
-            message = text.substring(text.indexOf("[Sound Library Loader/INFO]"));
-            type = LogType.INFO;
-        } else if (text.contains("[MCO Availability Checker #1/ERROR]")) {
-            message = text.substring(text.indexOf("[MCO Availability Checker #1/ERROR]"));
-            type = LogType.ERROR;
-        } else if (text.contains("[MCO Availability Checker #1/WARN]")) {
-            message = text.substring(text.indexOf("[MCO Availability Checker #1/WARN]"));
-            type = LogType.WARN;
-        } else if (text.contains("[MCO Availability Checker #1/INFO]")) {
-            message = text.substring(text.indexOf("[MCO Availability Checker #1/INFO]"));
-            type = LogType.INFO;
-        } else if (text.contains("[Client thread/ERROR]")) {
-            message = text.substring(text.indexOf("[Client thread/ERROR]"));
-            type = LogType.ERROR;
-        } else if (text.contains("[Client thread/WARN]")) {
-            message = text.substring(text.indexOf("[Client thread/WARN]"));
-            type = LogType.WARN;
-        } else if (text.contains("[Client thread/INFO]")) {
-            message = text.substring(text.indexOf("[Client thread/INFO]"));
-            type = LogType.INFO;
-        } else if (text.contains("[Server thread/ERROR]")) {
-            message = text.substring(text.indexOf("[Server thread/ERROR]"));
-            type = LogType.ERROR;
-        } else if (text.contains("[Server thread/WARN]")) {
-            message = text.substring(text.indexOf("[Server thread/WARN]"));
-            type = LogType.WARN;
-        } else if (text.contains("[Server thread/INFO]")) {
-            message = text.substring(text.indexOf("[Server thread/INFO]"));
-            type = LogType.INFO;
-        } else if (text.contains("[main/ERROR]")) {
-            message = text.substring(text.indexOf("[main/ERROR]"));
-            type = LogType.ERROR;
-        } else if (text.contains("[main/WARN]")) {
-            message = text.substring(text.indexOf("[main/WARN]"));
-            type = LogType.WARN;
-        } else if (text.contains("[main/INFO]")) {
-            message = text.substring(text.indexOf("[main/INFO]"));
-            type = LogType.INFO;
-        } else {
-            message = text;
-            type = LogType.INFO;
-        }
-
-        return new Object[] { type, message };
+        return MinecraftLogClassifier.classify(text);
     }
 
     public static void minecraftLog4j(String string) {
@@ -251,7 +236,117 @@ public final class LogManager {
             message = messageMatcher.group(1);
         }
 
-        queue.offer(new LogEvent(level, String.format("[%s/%s] %s", thread, levelString, message),
+        queue(new LogEvent(level, String.format("[%s/%s] %s", thread, levelString, message),
                 LogEvent.CONSOLE));
     }
+
+    private static void queue(LogEvent event) {
+        if (overflowPolicy == OverflowPolicy.DROP_DEBUG_FIRST && event.type == LogType.DEBUG
+                && queue.remainingCapacity() < DEBUG_HEADROOM) {
+            droppedEvents.increment();
+            return;
+        }
+
+        if (queue.offer(event)) {
+            queuedEvents.increment();
+            return;
+        }
+
+        // nothing will make space in the queue if the logging thread isn't running, or if it's the logging thread itself
+        // that's logging, so spill straight away rather than waiting
+        LoggingThread thread = loggingThread;
+        if (overflowPolicy != OverflowPolicy.SPILL_TO_DISK && thread != null && Thread.currentThread() != thread) {
+            try {
+                if (queue.offer(event, MAX_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                    queuedEvents.increment();
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        spill(event);
+    }
+
+    private static void spill(LogEvent event) {
+        // until the logging thread is started, the working directory may not be known yet, and touching FileSystem
+        // before then would fix its paths to the wrong place, so there's nowhere safe to spill to
+        if (loggingThread == null) {
+            droppedEvents.increment();
+            return;
+        }
+
+        synchronized (spillLock) {
+            try {
+                // resolved when first needed rather than up front, for the same reason as above
+                if (spillWriter == null) {
+                    Files.createDirectories(FileSystem.LOGS);
+                    spillWriter = Files.newBufferedWriter(FileSystem.LOGS.resolve(SPILL_FILE_NAME),
+                            StandardCharsets.UTF_8,
+                            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                }
+
+                spillWriter.write(event.toString());
+                spillWriter.flush();
+                spilledEvents.increment();
+            } catch (IOException e) {
+                // can't log this as that may well end up back here, so just count it
+                droppedEvents.increment();
+            }
+        }
+    }
+
+    /**
+     * @return the number of events currently waiting on the queue to be logged
+     */
+    public static int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of events which have been put on the queue to be logged
+     */
+    public static long getQueuedEvents() {
+        return queuedEvents.sum();
+    }
+
+    /**
+     * @return the number of events which were thrown away as the queue was full
+     */
+    public static long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    /**
+     * @return the number of events which were written to the spill file in the logs folder as the queue was full
+     */
+    public static long getSpilledEvents() {
+        return spilledEvents.sum();
+    }
+
+    /**
+     * What to do with log events when the queue is full, which can happen when a game outputs a lot very quickly.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Wait for space in the queue, so nothing is lost. Events are only spilled to disk if there's no space after
+         * waiting a while.
+         */
+        BLOCK,
+
+        /**
+         * Drop debug events once the queue is getting full, and wait for space for everything else.
+         */
+        DROP_DEBUG_FIRST,
+
+        /**
+         * Never wait, writing events to the spill file in the logs folder instead when the queue is full.
+         */
+        SPILL_TO_DISK;
+
+        public static OverflowPolicy fromString(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ENGLISH).replace('-', '_'));
+        }
+    }
 }
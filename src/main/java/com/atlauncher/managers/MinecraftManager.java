@@ -22,17 +22,16 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-
-import org.joda.time.format.ISODateTimeFormat;
+import java.util.Set;
 
 import com.atlauncher.Data;
 import com.atlauncher.FileSystem;
 import com.atlauncher.Gsons;
 import com.atlauncher.data.minecraft.JavaRuntimes;
+import com.atlauncher.data.minecraft.MinecraftVersionCatalog;
 import com.atlauncher.data.minecraft.VersionManifest;
 import com.atlauncher.data.minecraft.VersionManifestVersion;
 import com.atlauncher.data.minecraft.VersionManifestVersionType;
@@ -42,13 +41,13 @@ import com.google.gson.JsonSyntaxException;
 
 public class MinecraftManager {
     /**
-     * Loads info about the different Minecraft versions
+     * Loads info about the different Minecraft versions, building the catalog used to look them up
      */
     public static void loadMinecraftVersions() {
         PerformanceManager.start();
         LogManager.debug("Loading Minecraft versions");
 
-        Data.MINECRAFT.clear();
+        MinecraftVersionCatalog catalog = MinecraftVersionCatalog.EMPTY;
 
         try (InputStreamReader fileReader = new InputStreamReader(
             Files.newInputStream(FileSystem.JSON.resolve("minecraft_versions.json")),
@@ -56,12 +55,14 @@ public class MinecraftManager {
             VersionManifest versionManifest = Gsons.DEFAULT.fromJson(fileReader, VersionManifest.class);
 
             if (versionManifest != null) {
-                versionManifest.versions.forEach((version) -> Data.MINECRAFT.put(version.id, version));
+                catalog = new MinecraftVersionCatalog(versionManifest.versions);
             }
         } catch (JsonSyntaxException | IOException | JsonIOException e) {
             LogManager.logStackTrace(e);
         }
 
+        Data.MINECRAFT = catalog;
+
         LogManager.debug("Finished loading Minecraft versions");
         PerformanceManager.end();
     }
@@ -86,15 +87,17 @@ public class MinecraftManager {
     }
 
     public static boolean isMinecraftVersion(String version) {
-        return Data.MINECRAFT.containsKey(version);
+        return Data.MINECRAFT.contains(version);
     }
 
     public static VersionManifestVersion getMinecraftVersion(String version) throws InvalidMinecraftVersion {
-        if (!Data.MINECRAFT.containsKey(version)) {
+        VersionManifestVersion minecraftVersion = Data.MINECRAFT.get(version);
+
+        if (minecraftVersion == null) {
             throw new InvalidMinecraftVersion("No Minecraft version found matching " + version);
         }
 
-        return Data.MINECRAFT.get(version);
+        return minecraftVersion;
     }
 
     public static List<VersionManifestVersion> getMajorMinecraftVersions(String version)
@@ -111,61 +114,43 @@ public class MinecraftManager {
         String versionFamily = version.contains(".") ? version.substring(0, version.lastIndexOf(".")) : version;
         String versionPrefix = version.split("\\.").length == 2 ? version : versionFamily;
 
-        return Data.MINECRAFT.entrySet().stream()
-                .filter(e -> {
-                    if (e.getValue().type != VersionManifestVersionType.RELEASE) {
-                        return false;
-                    }
-
-                    return e.getKey().equals(versionPrefix) || e.getKey().startsWith(versionPrefix + ".");
-                })
-                .map(Map.Entry::getValue).collect(Collectors.toList());
+        return Data.MINECRAFT.getReleasesWithPrefix(versionPrefix);
     }
 
     public static List<VersionManifestVersion> getFilteredMinecraftVersions(
             List<VersionManifestVersionType> filterTypes) {
-        List<String> disabledVersions = new ArrayList<>();
+        Set<VersionManifestVersionType> types = filterTypes.isEmpty()
+                ? EnumSet.noneOf(VersionManifestVersionType.class)
+                : EnumSet.copyOf(filterTypes);
 
-        filterTypes.forEach(ft -> disabledVersions.addAll(ConfigManager.getConfigItem(
-                String.format("minecraft.%s.disabledVersions", ft.getValue()), new ArrayList<>())));
-
-        return Data.MINECRAFT.values().stream().filter(mv -> {
-            if (disabledVersions.contains(mv.id)) {
-                return false;
-            }
-
-            return filterTypes.contains(mv.type);
-        }).sorted(Comparator.comparingLong((VersionManifestVersion mv) ->
-            ISODateTimeFormat.dateTimeParser().parseDateTime(mv.releaseTime).getMillis() / 1000
-        ).reversed()).collect(Collectors.toList());
+        return Data.MINECRAFT.getVersions(types, getDisabledVersions(types));
     }
 
     public static List<VersionManifestVersion> getFilteredMinecraftVersions(VersionManifestVersionType filterType) {
-        List<String> disabledVersions = ConfigManager.getConfigItem(
-                String.format("minecraft.%s.disabledVersions", filterType.getValue()), new ArrayList<>());
+        Set<VersionManifestVersionType> types = EnumSet.of(filterType);
 
-        return Data.MINECRAFT.values().stream().filter(mv -> {
-            if (disabledVersions.contains(mv.id)) {
-                return false;
-            }
-
-            return mv.type == filterType;
-        }).sorted(Comparator.comparingLong((VersionManifestVersion mv) ->
-            ISODateTimeFormat.dateTimeParser().parseDateTime(mv.releaseTime).getMillis() / 1000
-        ).reversed()).collect(Collectors.toList());
+        return Data.MINECRAFT.getVersions(types, getDisabledVersions(types));
     }
 
     public static List<VersionManifestVersion> getMinecraftVersions() {
-        List<String> disabledVersions = new ArrayList<>();
+        return Data.MINECRAFT.getVersions(getDisabledVersions(EnumSet.allOf(VersionManifestVersionType.class)));
+    }
 
-        for (VersionManifestVersionType vt : VersionManifestVersionType.values()) {
-            disabledVersions.addAll(ConfigManager.getConfigItem(
-                    String.format("minecraft.%s.disabledVersions", vt.getValue()), new ArrayList<>()));
+    private static Set<String> getDisabledVersions(Set<VersionManifestVersionType> types) {
+        if (types.size() == 1) {
+            return getDisabledVersions(types.iterator().next());
         }
 
-        return Data.MINECRAFT.values().stream().filter(mv -> !disabledVersions.contains(mv.id))
-                .sorted(Comparator.comparingLong((VersionManifestVersion mv) ->
-                    ISODateTimeFormat.dateTimeParser().parseDateTime(mv.releaseTime).getMillis() / 1000
-                ).reversed()).collect(Collectors.toList());
+        Set<String> disabledVersions = new HashSet<>();
+
+        for (VersionManifestVersionType type : types) {
+            disabledVersions.addAll(getDisabledVersions(type));
+        }
+
+        return disabledVersions;
+    }
+
+    private static Set<String> getDisabledVersions(VersionManifestVersionType type) {
+        return ConfigManager.getConfigSet(String.format("minecraft.%s.disabledVersions", type.getValue()));
     }
 }
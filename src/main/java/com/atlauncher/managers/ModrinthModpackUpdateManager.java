@@ -17,15 +17,19 @@
  */
 package com.atlauncher.managers;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 import com.atlauncher.data.Instance;
+import com.atlauncher.data.modrinth.ModrinthProject;
 import com.atlauncher.data.modrinth.ModrinthVersion;
 import com.atlauncher.utils.ModrinthApi;
 
@@ -38,6 +42,12 @@ public class ModrinthModpackUpdateManager {
      */
     private static final Map<UUID, BehaviorSubject<Optional<ModrinthVersion>>> MODRINTH_INSTANCE_LATEST_VERSION = new ConcurrentHashMap<>();
 
+    /**
+     * The latest version found for each project, along with when the project was last updated at the time, so
+     * versions only need to be fetched again once the project has been updated
+     */
+    private static final Map<String, CheckedProject> CHECKED_PROJECTS = new ConcurrentHashMap<>();
+
     /**
      * Get the update behavior subject for a given instance.
      *
@@ -74,40 +84,77 @@ public class ModrinthModpackUpdateManager {
     }
 
     /**
-     * Check for new updates.
+     * Get the checks to run for new updates. Modrinth allows looking up all the projects at once, so this is a single
+     * check, which then only fetches the versions of projects which have been updated since they were last checked.
      * <p>
-     * Updates observables.
+     * Updates observables when run.
      */
-    public static void checkForUpdates() {
+    static List<Runnable> getUpdateChecks() {
         if (!ConfigManager.getConfigItem("platforms.modrinth.modpacksEnabled", true)) {
-            return;
+            return Collections.emptyList();
         }
 
-        PerformanceManager.start();
-        LogManager.info("Checking for updates to Modrinth instances");
-
-        InstanceManager.getInstances().parallelStream()
+        String[] projectIds = InstanceManager.getInstances().stream()
             .filter(i -> i.isModrinthPack() && i.launcher.modrinthProject.id != null
                 && !i.launcher.modrinthProject.id.isEmpty())
             .map(i -> i.launcher.modrinthProject.id)
             .distinct()
-            .collect(Collectors.toList())
-            .forEach(id -> {
-                List<ModrinthVersion> packVersions = ModrinthApi.getVersions(id);
-
-                if (packVersions == null) {
-                    return;
-                }
-
-                ModrinthVersion latestVersion = packVersions.stream()
-                    .sorted(Comparator.comparing((ModrinthVersion version) -> version.datePublished).reversed())
-                    .findFirst().orElse(null);
-
-                InstanceManager.getInstances().stream()
-                    .filter(i -> i.isModrinthPack() && i.launcher.modrinthProject.id.equals(id))
-                    .forEach(i -> getSubject(i).onNext(Optional.ofNullable(latestVersion)));
-            });
-        
-        PerformanceManager.end();
+            .toArray(String[]::new);
+
+        if (projectIds.length == 0) {
+            return Collections.emptyList();
+        }
+
+        LogManager.info("Checking for updates to Modrinth instances");
+
+        return Collections.singletonList(() -> checkForUpdates(projectIds));
+    }
+
+    private static void checkForUpdates(String[] projectIds) {
+        // this is the only update check which waits on others, so there are always free threads for these to run on
+        ModrinthApi.getProjectsAsync(Arrays.asList(projectIds), ExternalPackUpdateManager.CACHE_CONTROL)
+            .thenCompose(projects -> CompletableFuture.allOf(projects.values().stream()
+                .distinct()
+                .map(project -> CompletableFuture.runAsync(() -> checkForUpdates(project),
+                    ExternalPackUpdateManager.EXECUTOR))
+                .toArray(CompletableFuture<?>[]::new)))
+            .exceptionally(t -> {
+                LogManager.logStackTrace("Error checking for updates to Modrinth instances", t, false);
+                return null;
+            }).join();
+    }
+
+    private static void checkForUpdates(ModrinthProject project) {
+        CheckedProject checkedProject = CHECKED_PROJECTS.get(project.id);
+
+        if (checkedProject == null || !Objects.equals(checkedProject.updated, project.updated)) {
+            List<ModrinthVersion> packVersions = ModrinthApi.getVersions(project.id,
+                ExternalPackUpdateManager.CACHE_CONTROL);
+
+            if (packVersions == null) {
+                return;
+            }
+
+            ModrinthVersion latestVersion = packVersions.stream()
+                .max(Comparator.comparing((ModrinthVersion version) -> version.datePublished)).orElse(null);
+
+            checkedProject = new CheckedProject(project.updated, latestVersion);
+            CHECKED_PROJECTS.put(project.id, checkedProject);
+        }
+
+        ModrinthVersion latestVersion = checkedProject.latestVersion;
+        InstanceManager.getInstances().stream()
+            .filter(i -> i.isModrinthPack() && project.id.equals(i.launcher.modrinthProject.id))
+            .forEach(i -> getSubject(i).onNext(Optional.ofNullable(latestVersion)));
+    }
+
+    private static final class CheckedProject {
+        private final String updated;
+        private final ModrinthVersion latestVersion;
+
+        private CheckedProject(String updated, ModrinthVersion latestVersion) {
+            this.updated = updated;
+            this.latestVersion = latestVersion;
+        }
     }
 }
@@ -23,8 +23,6 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
@@ -36,6 +34,7 @@ import com.atlauncher.FileSystem;
 import com.atlauncher.Gsons;
 import com.atlauncher.data.MicrosoftAccount;
 import com.atlauncher.data.Pack;
+import com.atlauncher.data.PackRegistry;
 import com.atlauncher.data.PackUsers;
 import com.atlauncher.exceptions.InvalidPack;
 import com.atlauncher.utils.Hashing;
@@ -46,7 +45,7 @@ import com.google.gson.reflect.TypeToken;
 
 public class PackManager {
     public static List<Pack> getPacks() {
-        return Data.PACKS;
+        return Data.PACKS.getPacks();
     }
 
     /**
@@ -55,18 +54,19 @@ public class PackManager {
     public static void loadPacks() {
         PerformanceManager.start();
         LogManager.debug("Loading packs");
-        Data.PACKS.clear();
+        List<Pack> loadedPacks = new ArrayList<>();
         try (InputStreamReader fileReader = new InputStreamReader(
                 Files.newInputStream(FileSystem.JSON.resolve("packsnew.json")),
                 StandardCharsets.UTF_8)) {
             java.lang.reflect.Type type = new TypeToken<List<Pack>>() {}.getType();
             List<Pack> packs = Gsons.DEFAULT.fromJson(fileReader, type);
             if (packs != null) {
-                Data.PACKS.addAll(packs);
+                loadedPacks.addAll(packs);
             }
         } catch (JsonSyntaxException | IOException | JsonIOException e) {
             LogManager.logStackTrace(e);
         }
+        Data.PACKS = new PackRegistry(loadedPacks);
         LogManager.debug("Finished loading packs");
         PerformanceManager.end();
     }
@@ -77,27 +77,7 @@ public class PackManager {
      * @return The Packs available in the Launcher sorted alphabetically
      */
     public static List<Pack> getPacksSortedAlphabetically(boolean isFeatured, boolean sortDescending) {
-        List<Pack> packs = new ArrayList<>();
-
-        for (Pack pack : Data.PACKS) {
-            if (isFeatured) {
-                if (!pack.isFeatured()) {
-                    continue;
-                }
-            }
-
-            if (!pack.isSystem()) {
-                packs.add(pack);
-            }
-        }
-
-        packs.sort(Comparator.comparing(p -> p.getName().toLowerCase(Locale.ENGLISH)));
-
-        if (sortDescending) {
-            Collections.reverse(packs);
-        }
-
-        return packs;
+        return Data.PACKS.getSortedAlphabetically(isFeatured, sortDescending);
     }
 
     /**
@@ -106,27 +86,7 @@ public class PackManager {
      * @return The Packs available in the Launcher sorted by position
      */
     public static List<Pack> getPacksSortedPositionally(boolean isFeatured, boolean sortDescending) {
-        List<Pack> packs = new ArrayList<>();
-
-        for (Pack pack : Data.PACKS) {
-            if (isFeatured) {
-                if (!pack.isFeatured()) {
-                    continue;
-                }
-            }
-
-            if (!pack.isSystem()) {
-                packs.add(pack);
-            }
-        }
-
-        packs.sort(Comparator.comparingInt(Pack::getPosition));
-
-        if (sortDescending) {
-            Collections.reverse(packs);
-        }
-
-        return packs;
+        return Data.PACKS.getSortedPositionally(isFeatured, sortDescending);
     }
 
     public static void setPackVisbility(Pack pack, boolean collapsed) {
@@ -148,7 +108,7 @@ public class PackManager {
 
     public static String getPackInstallableCount() {
         int count = 0;
-        for (Pack pack : Data.PACKS) {
+        for (Pack pack : Data.PACKS.getPacks()) {
             if (pack.canInstall()) {
                 count++;
             }
@@ -164,12 +124,13 @@ public class PackManager {
      * @throws InvalidPack If ID is not found
      */
     public static Pack getPackByID(int id) throws InvalidPack {
-        for (Pack pack : Data.PACKS) {
-            if (pack.getID() == id) {
-                return pack;
-            }
+        Pack pack = Data.PACKS.getById(id);
+
+        if (pack == null) {
+            throw new InvalidPack("No pack exists with ID " + id);
         }
-        throw new InvalidPack("No pack exists with ID " + id);
+
+        return pack;
     }
 
     /**
@@ -179,12 +140,7 @@ public class PackManager {
      * @return True if the pack is found from the name
      */
     public static boolean isPackByName(String name) {
-        for (Pack pack : Data.PACKS) {
-            if (pack.getName().equalsIgnoreCase(name)) {
-                return true;
-            }
-        }
-        return false;
+        return Data.PACKS.getByName(name) != null;
     }
 
     /**
@@ -194,12 +150,7 @@ public class PackManager {
      * @return Pack if the pack is found from the name
      */
     public static Pack getPackByName(String name) {
-        for (Pack pack : Data.PACKS) {
-            if (pack.getName().equalsIgnoreCase(name)) {
-                return pack;
-            }
-        }
-        return null;
+        return Data.PACKS.getByName(name);
     }
 
     /**
@@ -209,52 +160,29 @@ public class PackManager {
      * @return Pack if the pack is found from the safe name
      */
     public static Pack getPackBySafeName(String name) {
-        for (Pack pack : Data.PACKS) {
-            if (pack.getSafeName().equalsIgnoreCase(name)) {
-                return pack;
-            }
-        }
-        return null;
+        return Data.PACKS.getBySafeName(name);
     }
 
     public static boolean semiPublicPackExistsFromCode(String packCode) {
-        for (Pack pack : Data.PACKS) {
-            if (pack.isSemiPublic()) {
-                if (Hashing.toHashCode(pack.getCode()).equals(Hashing.md5(packCode))) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return getSemiPublicPackByCode(packCode) != null;
     }
 
     public static Pack getSemiPublicPackByCode(String packCode) {
-        for (Pack pack : Data.PACKS) {
-            if (pack.isSemiPublic()) {
-                if (Hashing.toHashCode(pack.getCode()).equals(Hashing.md5(packCode))) {
-                    return pack;
-                }
-            }
-        }
-
-        return null;
+        return Data.PACKS.getSemiPublicByCode(Hashing.md5(packCode));
     }
 
     public static boolean addPack(String packCode) {
-        for (Pack pack : Data.PACKS) {
-            if (pack.isSemiPublic() && !canViewSemiPublicPackByCode(Hashing.md5(packCode).toString())) {
-                if (Hashing.toHashCode(pack.getCode()).equals(Hashing.md5(packCode))) {
-                    if (pack.isTester()) {
-                        return false;
-                    }
-                    App.settings.addedPacks.add(packCode);
-                    App.settings.save();
-                    App.launcher.refreshPacksBrowserPanel();
-                    return true;
-                }
-            }
+        HashCode codeHash = Hashing.md5(packCode);
+        Pack pack = Data.PACKS.getSemiPublicByCode(codeHash);
+
+        if (pack == null || pack.isTester() || canViewSemiPublicPackByCode(codeHash.toString())) {
+            return false;
         }
-        return false;
+
+        App.settings.addedPacks.add(packCode);
+        App.settings.save();
+        App.launcher.refreshPacksBrowserPanel();
+        return true;
     }
 
     public static void removePack(String packCode) {
@@ -299,7 +227,7 @@ public class PackManager {
         PerformanceManager.start();
         File[] files = FileSystem.IMAGES.toFile().listFiles();
 
-        Set<String> packImageFilenames = Data.PACKS.stream()
+        Set<String> packImageFilenames = Data.PACKS.getPacks().stream()
                 .map(p -> p.getSafeName().toLowerCase(Locale.ENGLISH) + ".png")
                 .collect(Collectors.toSet());
         packImageFilenames.add("defaultimage.png");
@@ -19,12 +19,13 @@ package com.atlauncher.managers;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class PerformanceManager {
 
-    private static final Map<String, Instant> times = new HashMap<>();
+    // timings can be started and ended from background threads (such as when syncing launcher files)
+    private static final Map<String, Instant> times = new ConcurrentHashMap<>();
 
     public static void start() {
         start(new Throwable().getStackTrace()[1].getMethodName());
@@ -41,10 +42,14 @@ public final class PerformanceManager {
     }
 
     public static void end(String name) {
-        if (LogManager.showDebug && times.containsKey(name)) {
-            long timeElapsed = Duration.between(times.get(name), Instant.now()).toMillis();
+        if (LogManager.showDebug) {
+            Instant start = times.remove(name);
+
+            if (start == null) {
+                return;
+            }
 
-            times.remove(name);
+            long timeElapsed = Duration.between(start, Instant.now()).toMillis();
 
             LogManager.debug(name + " took " + timeElapsed + " ms", 5);
         }
@@ -30,6 +30,7 @@ import com.atlauncher.Gsons;
 import com.atlauncher.data.MicrosoftAccount;
 import com.atlauncher.data.Server;
 import com.atlauncher.utils.FileUtils;
+import com.atlauncher.utils.ModMetadataIndex;
 import com.atlauncher.utils.Utils;
 
 import io.reactivex.rxjava3.core.Observable;
@@ -132,6 +133,7 @@ public class ServerManager {
 
         if (servers.remove(server)) {
             FileUtils.delete(server.getRoot(), true);
+            ModMetadataIndex.delete(server.getRoot());
             SERVERS.onNext(servers);
         }
     }
@@ -17,10 +17,14 @@
  */
 package com.atlauncher.managers;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import com.atlauncher.Gsons;
 import com.atlauncher.data.Instance;
@@ -115,49 +119,64 @@ public class TechnicModpackUpdateManager {
     }
 
     /**
-     * Check for new updates.
+     * Get the checks to run for new updates, one for each Technic modpack installed, with instances of the same
+     * modpack sharing the same check.
      * <p>
-     * Updates observables.
+     * Updates observables when run.
      */
-    public static void checkForUpdates() {
+    static List<Runnable> getUpdateChecks() {
         if (!ConfigManager.getConfigItem("platforms.technic.modpacksEnabled", true)) {
-            return;
+            return Collections.emptyList();
         }
 
-        PerformanceManager.start();
-        LogManager.info("Checking for updates to Technic Modpack instances");
-
-        InstanceManager.getInstances().parallelStream()
-            .filter(i -> i.isTechnicPack() && i.launcher.checkForUpdates).forEach(i -> {
-                TechnicModpack technicModpack = null;
-
-                try {
-                    technicModpack = TechnicApi.getModpackBySlugWithThrow(i.launcher.technicModpack.name);
-                } catch (DownloadException e) {
-                    if (e.response != null) {
-                        LogManager.debug(Gsons.DEFAULT.toJson(e.response));
-                    }
-
-                    if (e.statusCode == 404) {
-                        LogManager.error(String.format(
-                            "Technic pack with name of %s no longer exists, disabling update checks.",
-                            i.launcher.technicModpack.displayName));
-                        i.launcher.checkForUpdates = false;
-                        i.save();
-                    }
-                }
+        Map<String, List<Instance>> instancesBySlug = InstanceManager.getInstances().stream()
+            .filter(i -> i.isTechnicPack() && i.launcher.checkForUpdates)
+            .collect(Collectors.groupingBy(i -> i.launcher.technicModpack.name, LinkedHashMap::new,
+                Collectors.toList()));
+
+        if (!instancesBySlug.isEmpty()) {
+            LogManager.info("Checking for updates to Technic Modpack instances");
+        }
 
-                if (technicModpack != null && i.isTechnicSolderPack() && technicModpack.solder != null) {
-                    TechnicSolderModpack technicSolderModpack = TechnicApi.getSolderModpackBySlug(
-                        technicModpack.solder,
-                        technicModpack.name);
+        return instancesBySlug.entrySet().stream()
+            .map(entry -> (Runnable) () -> checkForUpdates(entry.getKey(), entry.getValue()))
+            .collect(Collectors.toList());
+    }
 
-                    getSolderSubject(i).onNext(Optional.ofNullable(technicSolderModpack));
-                } else {
-                    getSubject(i).onNext(Optional.ofNullable(technicModpack));
+    private static void checkForUpdates(String slug, List<Instance> instances) {
+        TechnicModpack technicModpack = null;
+
+        try {
+            technicModpack = TechnicApi.getModpackBySlugWithThrow(slug, ExternalPackUpdateManager.CACHE_CONTROL);
+        } catch (DownloadException e) {
+            if (e.response != null) {
+                LogManager.debug(Gsons.DEFAULT.toJson(e.response));
+            }
+
+            if (e.statusCode == 404) {
+                for (Instance i : instances) {
+                    LogManager.error(String.format(
+                        "Technic pack with name of %s no longer exists, disabling update checks.",
+                        i.launcher.technicModpack.displayName));
+                    i.launcher.checkForUpdates = false;
+                    i.save();
                 }
-            });
+            }
+        }
+
+        TechnicSolderModpack technicSolderModpack = null;
+        if (technicModpack != null && technicModpack.solder != null
+            && instances.stream().anyMatch(Instance::isTechnicSolderPack)) {
+            technicSolderModpack = TechnicApi.getSolderModpackBySlug(technicModpack.solder, technicModpack.name,
+                ExternalPackUpdateManager.CACHE_CONTROL);
+        }
 
-        PerformanceManager.end();
+        for (Instance i : instances) {
+            if (technicModpack != null && i.isTechnicSolderPack() && technicModpack.solder != null) {
+                getSolderSubject(i).onNext(Optional.ofNullable(technicSolderModpack));
+            } else {
+                getSubject(i).onNext(Optional.ofNullable(technicModpack));
+            }
+        }
     }
 }
@@ -0,0 +1,206 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.managers;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.atlauncher.App;
+import com.atlauncher.FileSystem;
+import com.atlauncher.Gsons;
+import com.atlauncher.data.VerifiedFile;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Keeps a persistent index of files whose hashes have been verified, keyed by their path and checked against their
+ * size and last modified time. This means files such as libraries and assets which haven't changed since they were
+ * last verified only need to be stat'd rather than read and hashed in full on every launch.
+ */
+public class VerifiedFileManager {
+    private static final Map<String, VerifiedFile> VERIFIED_FILES = new ConcurrentHashMap<>();
+    private static volatile boolean hasLoaded = false;
+    private static volatile boolean isDirty = false;
+
+    /**
+     * If the index should be used to skip verifying files. This is disabled when the user has chosen to always verify
+     * game files, or when running outside of the launcher (such as in tests).
+     */
+    private static boolean isEnabled() {
+        return App.settings != null && !App.settings.alwaysVerifyGameFiles;
+    }
+
+    public static boolean isVerified(Path file, String hash) {
+        if (!isEnabled() || !isUsableHash(hash)) {
+            return false;
+        }
+
+        VerifiedFile verifiedFile = getVerifiedFile(file);
+
+        return verifiedFile != null && verifiedFile.hash != null && verifiedFile.hash.equalsIgnoreCase(hash);
+    }
+
+    public static boolean isVerified(Path file, long fingerprint) {
+        if (!isEnabled()) {
+            return false;
+        }
+
+        VerifiedFile verifiedFile = getVerifiedFile(file);
+
+        return verifiedFile != null && verifiedFile.fingerprint != null && verifiedFile.fingerprint == fingerprint;
+    }
+
+    public static void markVerified(Path file, String hash) {
+        if (App.settings == null || !isUsableHash(hash)) {
+            return;
+        }
+
+        addVerifiedFile(file, hash, null);
+    }
+
+    public static void markVerified(Path file, long fingerprint) {
+        if (App.settings == null) {
+            return;
+        }
+
+        addVerifiedFile(file, null, fingerprint);
+    }
+
+    private static boolean isUsableHash(String hash) {
+        return hash != null && !hash.isEmpty() && !hash.equals("-");
+    }
+
+    private static VerifiedFile getVerifiedFile(Path file) {
+        load();
+
+        String key = getKey(file);
+        VerifiedFile verifiedFile = VERIFIED_FILES.get(key);
+
+        if (verifiedFile == null) {
+            return null;
+        }
+
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+
+            if (verifiedFile.matches(attributes.size(), attributes.lastModifiedTime().toMillis())) {
+                return verifiedFile;
+            }
+        } catch (IOException ignored) {
+            // file no longer exists or can't be read, so treat it as unverified
+        }
+
+        VERIFIED_FILES.remove(key);
+        isDirty = true;
+
+        return null;
+    }
+
+    private static void addVerifiedFile(Path file, String hash, Long fingerprint) {
+        load();
+
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+
+            VERIFIED_FILES.put(getKey(file), new VerifiedFile(attributes.size(),
+                attributes.lastModifiedTime().toMillis(), hash, fingerprint));
+            isDirty = true;
+        } catch (IOException e) {
+            LogManager.debug("Couldn't read attributes of verified file " + file.toAbsolutePath());
+        }
+    }
+
+    private static String getKey(Path file) {
+        return file.toAbsolutePath().normalize().toString();
+    }
+
+    private static synchronized void load() {
+        if (hasLoaded) {
+            return;
+        }
+
+        hasLoaded = true;
+
+        if (!Files.exists(FileSystem.VERIFIED_FILES)) {
+            return;
+        }
+
+        PerformanceManager.start("VerifiedFileManager::load");
+        try (InputStreamReader fileReader = new InputStreamReader(Files.newInputStream(FileSystem.VERIFIED_FILES),
+            StandardCharsets.UTF_8)) {
+            Type type = new TypeToken<Map<String, VerifiedFile>>() {
+            }.getType();
+            Map<String, VerifiedFile> verifiedFiles = Gsons.DEFAULT_SLIM.fromJson(fileReader, type);
+
+            if (verifiedFiles != null) {
+                VERIFIED_FILES.putAll(verifiedFiles);
+            }
+        } catch (JsonSyntaxException | JsonIOException | IOException e) {
+            LogManager.logStackTrace("Exception loading verified files index", e, false);
+        }
+        PerformanceManager.end("VerifiedFileManager::load");
+    }
+
+    /**
+     * Saves the index to disk if anything has changed since it was last loaded/saved.
+     */
+    public static synchronized void save() {
+        if (!isDirty) {
+            return;
+        }
+
+        isDirty = false;
+
+        Path tempFile = FileSystem.VERIFIED_FILES.resolveSibling(FileSystem.VERIFIED_FILES.getFileName() + ".tmp");
+        try (OutputStreamWriter fileWriter = new OutputStreamWriter(Files.newOutputStream(tempFile),
+            StandardCharsets.UTF_8)) {
+            Type type = new TypeToken<Map<String, VerifiedFile>>() {
+            }.getType();
+            Gsons.DEFAULT_SLIM.toJson(VERIFIED_FILES, type, fileWriter);
+        } catch (JsonIOException | IOException e) {
+            LogManager.logStackTrace("Exception saving verified files index", e, false);
+            return;
+        }
+
+        try {
+            Files.move(tempFile, FileSystem.VERIFIED_FILES, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LogManager.logStackTrace("Exception saving verified files index", e, false);
+        }
+    }
+
+    /**
+     * Removes everything from the index, forcing all files to be verified again the next time they're checked.
+     */
+    public static synchronized void clear() {
+        hasLoaded = true;
+        VERIFIED_FILES.clear();
+        isDirty = true;
+        save();
+    }
+}
@@ -18,6 +18,7 @@
 package com.atlauncher.network;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.SocketTimeoutException;
 import java.nio.channels.Channels;
@@ -37,12 +38,15 @@ import com.atlauncher.Network;
 import com.atlauncher.constants.Constants;
 import com.atlauncher.data.modrinth.ModrinthDownloadMetadata;
 import com.atlauncher.managers.LogManager;
+import com.atlauncher.managers.VerifiedFileManager;
 import com.atlauncher.utils.ArchiveUtils;
 import com.atlauncher.utils.FileUtils;
 import com.atlauncher.utils.Hashing;
 import com.atlauncher.utils.Utils;
 import com.atlauncher.workers.InstanceInstaller;
 import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.HashingInputStream;
 
 import okhttp3.CacheControl;
 import okhttp3.Headers;
@@ -79,6 +83,7 @@ public final class Download {
 
     // generated on/after request
     public Response response;
+    private HashCode downloadedHash = null;
 
     public Download() {
 
@@ -418,6 +423,15 @@ public final class Download {
         return this.size;
     }
 
+    /**
+     * Gets the hash of the file as it was last downloaded, worked out while it was being written to disk.
+     *
+     * @return the hash, or null if the file hasn't been downloaded or couldn't be hashed while downloading
+     */
+    public HashCode getDownloadedHash() {
+        return this.downloadedHash;
+    }
+
     public boolean needToDownload() {
         if (this.to == null || this.forceDownload) {
             return true;
@@ -430,21 +444,23 @@ public final class Download {
             }
 
             if (this.fingerprint != null) {
+                if (VerifiedFileManager.isVerified(this.to, this.fingerprint)) {
+                    return false;
+                }
+
                 try {
                     if (Hashing.murmur(this.to) == this.fingerprint) {
+                        VerifiedFileManager.markVerified(this.to, this.fingerprint);
                         return false;
                     }
                 } catch (IOException e) {
                     LogManager.error("Error getting murmur hash");
                     return false;
                 }
-            } else if (this.md5() && Hashing.md5(this.to).equals(Hashing.toHashCode(this.getHash()))) {
-                return false;
-            } else if (this.sha256() && Hashing.sha256(this.to).equals(Hashing.toHashCode(this.getHash()))) {
-                return false;
-            } else if (this.sha512() && Hashing.sha512(this.to).equals(Hashing.toHashCode(this.getHash()))) {
+            } else if (VerifiedFileManager.isVerified(this.to, this.hash)) {
                 return false;
-            } else if (Hashing.sha1(this.to).equals(Hashing.toHashCode(this.getHash()))) {
+            } else if (fileHashMatches(this.to)) {
+                VerifiedFileManager.markVerified(this.to, this.hash);
                 return false;
             }
 
@@ -463,37 +479,90 @@ public final class Download {
                 instanceInstaller.addBytesToDownload(size);
             }
         }
+
+        this.downloadedHash = null;
+
+        // hash the body as it's written to disk so we don't need to read the file back in to verify it. Fingerprints
+        // can't be done this way as they need to know the length of the file (minus whitespace) before hashing
+        HashFunction hashFunction = this.getHashFunction();
+        InputStream body = this.response.body().byteStream();
+        HashingInputStream hashingBody = hashFunction == null ? null : new HashingInputStream(hashFunction, body);
+
         try (FileChannel fc = FileChannel.open(this.to, Utils.WRITE);
-            ReadableByteChannel rbc = Channels.newChannel(this.response.body().byteStream())) {
+            ReadableByteChannel rbc = Channels.newChannel(hashingBody == null ? body : hashingBody)) {
             fc.transferFrom(rbc, 0, Long.MAX_VALUE);
+
+            if (hashingBody != null) {
+                this.downloadedHash = hashingBody.hash();
+            }
         } catch (Exception e) {
             LogManager.logStackTrace("Failed to download file " + this.to, e, false);
         }
     }
 
+    @SuppressWarnings("deprecation")
+    private HashFunction getHashFunction() {
+        if (this.fingerprint != null || this.hash == null || this.hash.isEmpty() || this.hash.equals("-")) {
+            return null;
+        }
+
+        if (this.md5()) {
+            return com.google.common.hash.Hashing.md5();
+        } else if (this.sha256()) {
+            return com.google.common.hash.Hashing.sha256();
+        } else if (this.sha512()) {
+            return com.google.common.hash.Hashing.sha512();
+        }
+
+        return com.google.common.hash.Hashing.sha1();
+    }
+
     private boolean hashMatches() {
         if (Files.exists(this.to)) {
             if (this.fingerprint != null) {
                 try {
-                    return Hashing.murmur(this.to) == this.fingerprint;
+                    if (Hashing.murmur(this.to) == this.fingerprint) {
+                        VerifiedFileManager.markVerified(this.to, this.fingerprint);
+                        return true;
+                    }
+
+                    return false;
                 } catch (IOException e) {
                     LogManager.error("Error getting murmur hash");
                     return false;
                 }
-            } else if (this.md5()) {
-                return Hashing.md5(this.to).equals(Hashing.toHashCode(this.getHash()));
-            } else if (this.sha256()) {
-                return Hashing.sha256(this.to).equals(Hashing.toHashCode(this.getHash()));
-            } else if (this.sha512()) {
-                return Hashing.sha512(this.to).equals(Hashing.toHashCode(this.getHash()));
-            } else {
-                return Hashing.sha1(this.to).equals(Hashing.toHashCode(this.getHash()));
+            }
+
+            if (this.downloadedHash != null) {
+                if (this.downloadedHash.equals(Hashing.toHashCode(this.getHash()))) {
+                    VerifiedFileManager.markVerified(this.to, this.hash);
+                    return true;
+                }
+
+                return false;
+            }
+
+            if (fileHashMatches(this.to)) {
+                VerifiedFileManager.markVerified(this.to, this.hash);
+                return true;
             }
         }
 
         return false;
     }
 
+    private boolean fileHashMatches(Path file) {
+        if (this.md5()) {
+            return Hashing.md5(file).equals(Hashing.toHashCode(this.getHash()));
+        } else if (this.sha256()) {
+            return Hashing.sha256(file).equals(Hashing.toHashCode(this.getHash()));
+        } else if (this.sha512()) {
+            return Hashing.sha512(file).equals(Hashing.toHashCode(this.getHash()));
+        }
+
+        return Hashing.sha1(file).equals(Hashing.toHashCode(this.getHash()));
+    }
+
     private boolean downloadRec(int attempt) {
         if (attempt > MAX_ATTEMPTS) {
             return false;
@@ -692,33 +761,9 @@ public final class Download {
                 }
             }
 
+            // file was just downloaded and verified, so copy it over as is rather than hashing both files again
             if (downloaded && this.copyTo != null) {
-                if (this.fingerprint != null) {
-                    try {
-                        if (Hashing.murmur(this.copyTo) != this.fingerprint) {
-                            this.copy();
-                        }
-                    } catch (IOException ignored) {
-                        // ignored
-                    }
-                } else {
-                    HashCode fileHash2 = Hashing.EMPTY_HASH_CODE;
-                    if (Files.exists(this.copyTo)) {
-                        if (this.md5()) {
-                            fileHash2 = Hashing.md5(this.copyTo);
-                        } else if (this.sha256()) {
-                            fileHash2 = Hashing.sha256(this.copyTo);
-                        } else if (this.sha512()) {
-                            fileHash2 = Hashing.sha512(this.copyTo);
-                        } else {
-                            fileHash2 = Hashing.sha1(this.copyTo);
-                        }
-                    }
-
-                    if (!fileHash2.equals(expected)) {
-                        this.copy();
-                    }
-                }
+                FileUtils.copyFile(this.to, this.copyTo, true);
             }
         }
 
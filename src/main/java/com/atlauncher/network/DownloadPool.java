@@ -21,12 +21,11 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CancellationException;
 import java.util.stream.Collectors;
 
-import com.atlauncher.App;
 import com.atlauncher.managers.LogManager;
+import com.atlauncher.managers.VerifiedFileManager;
 import com.atlauncher.utils.FileUtils;
 
 public final class DownloadPool extends ArrayList<Download> {
@@ -47,17 +46,24 @@ public final class DownloadPool extends ArrayList<Download> {
             }
         }
 
-        ExecutorService executor = Executors.newFixedThreadPool(App.settings.concurrentConnections);
+        final List<Downloader> downloaders;
         synchronized (this) {
-            for (Download dl : this) {
-                executor.execute(new Downloader(dl));
-            }
+            downloaders = this.stream().map(Downloader::new).collect(Collectors.toList());
         }
-        executor.shutdown();
-        if (this.wait) {
-            while (!executor.isTerminated()) {
-            }
+
+        if (!this.wait) {
+            Thread thread = new Thread(() -> {
+                DownloadScheduler.runAll(downloaders);
+                VerifiedFileManager.save();
+            });
+            thread.setDaemon(true);
+            thread.start();
+            return;
         }
+
+        DownloadScheduler.runAll(downloaders);
+
+        VerifiedFileManager.save();
     }
 
     public long totalSize() {
@@ -74,25 +80,20 @@ public final class DownloadPool extends ArrayList<Download> {
 
     public DownloadPool downsize() {
         final DownloadPool pool = new DownloadPool(this.wait);
-        final List<Download> downloads = this.stream().distinct().collect(Collectors.toList());
-
-        ExecutorService executor = Executors.newFixedThreadPool(App.settings.concurrentConnections);
-        for (final Download dl : downloads) {
-            executor.submit(() -> {
-                if (dl.needToDownload()) {
-                    synchronized (pool) {
-                        pool.add(dl);
-                    }
-                } else {
-                    dl.copy();
-                    dl.runPostProcessors();
+        final List<Runnable> checks = this.stream().distinct().map(dl -> (Runnable) () -> {
+            if (dl.needToDownload()) {
+                synchronized (pool) {
+                    pool.add(dl);
                 }
-            });
-        }
+            } else {
+                dl.copy();
+                dl.runPostProcessors();
+            }
+        }).collect(Collectors.toList());
 
-        executor.shutdown();
-        while (!executor.isTerminated()) {
-        }
+        DownloadScheduler.runAll(checks);
+
+        VerifiedFileManager.save();
 
         return pool;
     }
@@ -118,14 +119,25 @@ public final class DownloadPool extends ArrayList<Download> {
 
         @Override
         public void run() {
+            if (this.dl.instanceInstaller != null && this.dl.instanceInstaller.isCancelled()) {
+                return;
+            }
+
             try {
-                if (this.dl.needToDownload()) {
-                    this.dl.downloadFile();
-                } else {
-                    this.dl.copy();
-                }
-            } catch (IOException e) {
-                LogManager.logStackTrace("Error trying to download " + this.dl.to.getFileName(), e);
+                DownloadScheduler.runForHost(this.dl.url, () -> {
+                    try {
+                        if (this.dl.needToDownload()) {
+                            this.dl.downloadFile();
+                        } else {
+                            this.dl.copy();
+                        }
+                    } catch (IOException e) {
+                        LogManager.logStackTrace("Error trying to download " + this.dl.to.getFileName(), e);
+                    }
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted waiting to download " + this.dl.to.getFileName());
             }
         }
     }
@@ -0,0 +1,259 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.network;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.atlauncher.App;
+import com.atlauncher.managers.LogManager;
+
+import okhttp3.HttpUrl;
+
+/**
+ * Shared, long lived scheduler used for running downloads (and the checks done before downloading).
+ *
+ * Work is run on a single pool sized to the users concurrent connections setting, with the number of tasks queued
+ * at once bounded so that callers block rather than flooding the queue, and with a limit on the number of
+ * concurrent connections made to any single host. The per host limit is shared with
+ * {@link HostConnectionLimitInterceptor}, so it also applies to requests made outside of the scheduler.
+ */
+public final class DownloadScheduler {
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger(0);
+    private static final ThreadLocal<Boolean> IS_SCHEDULER_THREAD = ThreadLocal.withInitial(() -> false);
+    private static final Map<String, HostPermits> HOST_PERMITS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<String, HeldPermit>> HELD_HOST_PERMITS =
+        ThreadLocal.withInitial(HashMap::new);
+
+    private static ThreadPoolExecutor executor = null;
+
+    private DownloadScheduler() {
+    }
+
+    private static int getMaxConnectionsPerHost() {
+        return App.settings == null ? 16 : Math.max(1, App.settings.maxConnectionsPerHost);
+    }
+
+    private static int getConcurrency() {
+        return App.settings == null ? 8 : Math.max(1, App.settings.concurrentConnections);
+    }
+
+    private static synchronized ThreadPoolExecutor getExecutor() {
+        int concurrency = getConcurrency();
+
+        if (executor == null) {
+            ThreadFactory threadFactory = runnable -> {
+                Thread thread = new Thread(() -> {
+                    IS_SCHEDULER_THREAD.set(true);
+                    runnable.run();
+                }, "DownloadScheduler-" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+
+            executor = new ThreadPoolExecutor(concurrency, concurrency, 30L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+            executor.allowCoreThreadTimeOut(true);
+        } else if (executor.getMaximumPoolSize() != concurrency) {
+            // order matters here as core size can never be larger than max size
+            if (concurrency > executor.getMaximumPoolSize()) {
+                executor.setMaximumPoolSize(concurrency);
+                executor.setCorePoolSize(concurrency);
+            } else {
+                executor.setCorePoolSize(concurrency);
+                executor.setMaximumPoolSize(concurrency);
+            }
+        }
+
+        return executor;
+    }
+
+    /**
+     * Runs all the given tasks on the scheduler, blocking until they've all completed.
+     *
+     * If the calling thread is interrupted (such as when an {@link com.atlauncher.workers.InstanceInstaller} is
+     * cancelled) then any tasks not yet completed are cancelled and this returns early with the interrupt flag set.
+     * Tasks can also cancel themselves by throwing a {@link CancellationException}, such as when they're interrupted
+     * before they could start.
+     *
+     * @return true if all the tasks ran to completion, false if any were cancelled
+     */
+    public static boolean runAll(List<? extends Runnable> tasks) {
+        // if we're already on a scheduler thread, run inline so we can never deadlock waiting on ourselves
+        if (IS_SCHEDULER_THREAD.get()) {
+            for (Runnable task : tasks) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return false;
+                }
+
+                try {
+                    task.run();
+                } catch (CancellationException e) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        ThreadPoolExecutor pool = getExecutor();
+
+        // bound the amount of queued work so callers wait for space rather than queueing everything up front
+        Semaphore queuePermits = new Semaphore(getConcurrency() * 2);
+        List<Future<?>> futures = new ArrayList<>(tasks.size());
+        boolean completed = true;
+
+        try {
+            for (Runnable task : tasks) {
+                queuePermits.acquire();
+
+                try {
+                    futures.add(pool.submit(() -> {
+                        try {
+                            task.run();
+                        } finally {
+                            queuePermits.release();
+                        }
+                    }));
+                } catch (RuntimeException e) {
+                    queuePermits.release();
+                    throw e;
+                }
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof CancellationException) {
+                        completed = false;
+                    } else {
+                        LogManager.logStackTrace("Error running scheduled download task", e.getCause());
+                    }
+                } catch (CancellationException ignored) {
+                    // cancelled tasks are expected when cancelling
+                    completed = false;
+                }
+            }
+        } catch (InterruptedException e) {
+            LogManager.debug("Download tasks were interrupted, cancelling remaining tasks");
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        return completed;
+    }
+
+    /**
+     * Runs the given download task while holding a connection permit for the host the download is for, which limits
+     * how many connections are made to a single host at once.
+     *
+     * @throws InterruptedException if interrupted while waiting for a permit, in which case the task isn't run
+     */
+    static void runForHost(String url, Runnable task) throws InterruptedException {
+        HttpUrl httpUrl = url == null ? null : HttpUrl.parse(url);
+
+        if (httpUrl == null) {
+            task.run();
+            return;
+        }
+
+        acquireHostPermit(httpUrl.host());
+
+        try {
+            task.run();
+        } finally {
+            releaseHostPermit(httpUrl.host());
+        }
+    }
+
+    /**
+     * Takes a connection permit for the given host, waiting for one if there's none free. Permits are reentrant, so a
+     * thread already holding one for the host (such as a download task making its request) doesn't take another.
+     */
+    static void acquireHostPermit(String host) throws InterruptedException {
+        Map<String, HeldPermit> held = HELD_HOST_PERMITS.get();
+        HeldPermit permit = held.get(host);
+
+        if (permit == null) {
+            HostPermits permits = getHostPermits(host);
+            permits.acquire();
+            permit = new HeldPermit(permits);
+            held.put(host, permit);
+        }
+
+        permit.count++;
+    }
+
+    static void releaseHostPermit(String host) {
+        Map<String, HeldPermit> held = HELD_HOST_PERMITS.get();
+        HeldPermit permit = held.get(host);
+
+        if (permit != null && --permit.count == 0) {
+            held.remove(host);
+            // released to the semaphore it was taken from, even if the setting has changed since
+            permit.permits.release();
+        }
+    }
+
+    private static HostPermits getHostPermits(String host) {
+        int limit = getMaxConnectionsPerHost();
+        String key = host.toLowerCase(Locale.ENGLISH);
+        HostPermits permits = HOST_PERMITS.get(key);
+
+        if (permits != null && permits.limit == limit) {
+            return permits;
+        }
+
+        // the host hasn't been seen yet or the setting has changed, so only lock this host's entry to start afresh
+        return HOST_PERMITS.compute(key, (k, existing) -> existing != null && existing.limit == limit ? existing
+            : new HostPermits(limit));
+    }
+
+    private static final class HostPermits extends Semaphore {
+        private final int limit;
+
+        private HostPermits(int limit) {
+            super(limit, true);
+            this.limit = limit;
+        }
+    }
+
+    private static final class HeldPermit {
+        private final HostPermits permits;
+        private int count = 0;
+
+        private HeldPermit(HostPermits permits) {
+            this.permits = permits;
+        }
+    }
+}
@@ -50,10 +50,13 @@ import com.atlauncher.graphql.type.CustomType;
 import com.atlauncher.managers.LogManager;
 
 public class GraphqlClient {
+    private static final CustomTypeAdapter<String> idCustomTypeAdapter;
+    private static final CustomTypeAdapter<Date> dateCustomTypeAdapter;
+    private static final ApolloHttpCache httpCache;
 
     static {
 
-        CustomTypeAdapter<String> idCustomTypeAdapter = new CustomTypeAdapter<String>() {
+        idCustomTypeAdapter = new CustomTypeAdapter<String>() {
             @Override
             public String decode(CustomTypeValue<?> value) {
                 return value.value.toString();
@@ -65,7 +68,7 @@ public class GraphqlClient {
             }
         };
 
-        CustomTypeAdapter<Date> dateCustomTypeAdapter = new CustomTypeAdapter<Date>() {
+        dateCustomTypeAdapter = new CustomTypeAdapter<Date>() {
             DateFormat iso8601Format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSX");
 
             @Override
@@ -87,19 +90,33 @@ public class GraphqlClient {
 
         DiskLruHttpCacheStore cacheStore = new DiskLruHttpCacheStore(FileSystem.APOLLO_CACHE.toFile(),
                 100 * 1024 * 1024);
+        httpCache = new ApolloHttpCache(cacheStore);
 
-        apolloClient = ApolloClient.builder()
+        apolloClient = build();
+    }
+
+    public static volatile ApolloClient apolloClient;
+
+    private static ApolloClient build() {
+        return ApolloClient.builder()
                 .serverUrl(Constants.GRAPHQL_ENDPOINT)
                 .addCustomTypeAdapter(CustomType.ID, idCustomTypeAdapter)
                 .addCustomTypeAdapter(CustomType.DATETIME, dateCustomTypeAdapter)
                 .okHttpClient(Network.GRAPHQL_CLIENT)
-                .httpCache(new ApolloHttpCache(cacheStore))
+                .httpCache(httpCache)
                 .defaultHttpCachePolicy(
                         new HttpCachePolicy.Policy(FetchStrategy.CACHE_FIRST, 1, TimeUnit.MINUTES, false))
                 .build();
     }
 
-    public final static ApolloClient apolloClient;
+    /**
+     * Rebuilds the client on top of the current {@link Network#GRAPHQL_CLIENT}, so that changes made to the OkHttp
+     * clients (such as the transport settings) apply to GraphQL queries too. Queries already made carry on with the
+     * client they were made with.
+     */
+    public static void rebuild() {
+        apolloClient = build();
+    }
 
     public static <D extends Operation.Data, T, V extends Operation.Variables> T callAndWait(
             @NotNull Query<D, T, V> query) {
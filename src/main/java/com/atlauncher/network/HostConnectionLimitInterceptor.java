@@ -0,0 +1,55 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.network;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Limits how many requests are made to a single host at once, using the same per host permits as the
+ * {@link DownloadScheduler}.
+ *
+ * The dispatcher's per host limit only applies to calls made with {@code enqueue}, while most of the launcher makes
+ * its calls with {@code execute}, so this applies the users max connections per host setting to those too. Permits
+ * are reentrant, so requests made by a download task already holding a permit for the host don't wait on another.
+ * Outside of download tasks, the permit is held until the response headers have arrived.
+ */
+public final class HostConnectionLimitInterceptor implements Interceptor {
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String host = request.url().host();
+
+        try {
+            DownloadScheduler.acquireHostPermit(host);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a connection to " + host);
+        }
+
+        try {
+            return chain.proceed(request);
+        } finally {
+            DownloadScheduler.releaseHostPermit(host);
+        }
+    }
+}
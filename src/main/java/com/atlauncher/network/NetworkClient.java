@@ -17,25 +17,53 @@
  */
 package com.atlauncher.network;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.annotation.Nullable;
 
 import com.atlauncher.Gsons;
 import com.atlauncher.Network;
 import com.atlauncher.managers.LogManager;
+import com.google.gson.JsonIOException;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 
 import okhttp3.CacheControl;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.Headers;
+import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 
+/**
+ * Makes requests to JSON APIs, decoding the response straight from the response stream.
+ *
+ * GET requests are single flight: if the same request (same url, headers and cache control) is made while an
+ * identical one is still in flight, rather than making another call it waits for the body of the one in flight. Each
+ * caller decodes the body for themselves, so they're never handed an object another caller might modify. As the body
+ * has to be shared, GET responses are read fully before decoding, while POST responses are decoded as they stream in.
+ */
 public class NetworkClient {
+    private static final ConcurrentMap<RequestKey, CompletableFuture<RawBody>> inFlightRequests =
+        new ConcurrentHashMap<>();
+    private static final LongAdder singleFlightHits = new LongAdder();
+    private static final LongAdder singleFlightMisses = new LongAdder();
+
     @Nullable
     public static <T> T get(String url, Class<T> tClass) {
         try {
@@ -189,6 +217,137 @@ public class NetworkClient {
     @Nullable
     private static <T> T makeRequest(String url, @Nullable Headers headers, @Nullable RequestBody requestBody,
         Type type, @Nullable CacheControl cacheControl) throws DownloadException {
+        if (requestBody != null) {
+            return execute(url, headers, requestBody, cacheControl, response -> decode(response, type));
+        }
+
+        RequestKey key = new RequestKey(url, headers, cacheControl);
+        CompletableFuture<RawBody> future = new CompletableFuture<>();
+        CompletableFuture<RawBody> inFlight = inFlightRequests.putIfAbsent(key, future);
+
+        if (inFlight != null) {
+            singleFlightHits.increment();
+            LogManager.debug(String.format("Waiting on in flight request to %s", url), 3);
+            return decode(waitFor(inFlight), type);
+        }
+
+        singleFlightMisses.increment();
+
+        RawBody body;
+        try {
+            body = execute(url, headers, null, cacheControl, RawBody::read);
+            future.complete(body);
+        } catch (DownloadException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(key, future);
+        }
+
+        return decode(body, type);
+    }
+
+    @Nullable
+    private static RawBody waitFor(CompletableFuture<RawBody> inFlight) throws DownloadException {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof DownloadException) {
+                throw (DownloadException) e.getCause();
+            }
+
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw e;
+        }
+    }
+
+    @Nullable
+    private static <R> R execute(String url, @Nullable Headers headers, @Nullable RequestBody requestBody,
+        @Nullable CacheControl cacheControl, ResponseReader<R> reader) throws DownloadException {
+        Request request = buildRequest(url, headers, requestBody, cacheControl);
+
+        try (Response response = getClient(requestBody, cacheControl).newCall(request).execute()) {
+            return reader.read(response);
+        } catch (DownloadException e) {
+            throw e; // Re-throw DownloadException
+        } catch (IOException | JsonIOException e) {
+            LogManager.logStackTrace(String.format("Error calling %s", url), e, false);
+            return null;
+        }
+    }
+
+    /**
+     * Makes a GET request without blocking, completing the returned future with the decoded response (which may be
+     * null if there was no body). Unlike the blocking methods, failures (including unsuccessful responses, as a
+     * {@link DownloadException}) complete the future exceptionally rather than returning null.
+     *
+     * Like the blocking GET requests, this is single flight with any identical request already in flight.
+     */
+    public static <T> CompletableFuture<T> getAsync(String url, @Nullable Headers headers, Type type,
+        @Nullable CacheControl cacheControl) {
+        RequestKey key = new RequestKey(url, headers, cacheControl);
+        CompletableFuture<RawBody> future = new CompletableFuture<>();
+        CompletableFuture<RawBody> inFlight = inFlightRequests.putIfAbsent(key, future);
+
+        if (inFlight != null) {
+            singleFlightHits.increment();
+            return inFlight.thenApply(body -> decode(body, type));
+        }
+
+        singleFlightMisses.increment();
+
+        executeAsync(url, headers, null, cacheControl, RawBody::read).whenComplete((body, t) -> {
+            inFlightRequests.remove(key, future);
+
+            if (t != null) {
+                future.completeExceptionally(t);
+            } else {
+                future.complete(body);
+            }
+        });
+
+        // each caller decodes their own copy, and has their own future so they can't complete or cancel it for others
+        return future.thenApply(body -> decode(body, type));
+    }
+
+    /**
+     * Makes a POST request without blocking. See {@link #getAsync(String, Headers, Type, CacheControl)}.
+     */
+    public static <T> CompletableFuture<T> postAsync(String url, @Nullable Headers headers, RequestBody body,
+        Type type) {
+        return executeAsync(url, headers, body, null, response -> decode(response, type));
+    }
+
+    private static <R> CompletableFuture<R> executeAsync(String url, @Nullable Headers headers,
+        @Nullable RequestBody requestBody, @Nullable CacheControl cacheControl, ResponseReader<R> reader) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        Request request = buildRequest(url, headers, requestBody, cacheControl);
+
+        getClient(requestBody, cacheControl).newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                LogManager.logStackTrace(String.format("Error calling %s", url), e, false);
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (Response r = response) {
+                    future.complete(reader.read(r));
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            }
+        });
+
+        return future;
+    }
+
+    private static Request buildRequest(String url, @Nullable Headers headers, @Nullable RequestBody requestBody,
+        @Nullable CacheControl cacheControl) {
         Request.Builder builder = new Request.Builder().url(url);
 
         if (headers != null) {
@@ -203,30 +362,130 @@ public class NetworkClient {
             builder.cacheControl(cacheControl);
         }
 
-        OkHttpClient httpClient = (requestBody != null || cacheControl == null) ? Network.CLIENT
-            : Network.CACHED_CLIENT;
-        Request request = builder.build();
+        return builder.build();
+    }
 
-        try (Response response = httpClient.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                if (response != null && response.code() == 429) {
-                    LogManager.info(response.headers().toString());
-                }
+    private static OkHttpClient getClient(@Nullable RequestBody requestBody, @Nullable CacheControl cacheControl) {
+        return (requestBody != null || cacheControl == null) ? Network.CLIENT : Network.CACHED_CLIENT;
+    }
+
+    private static void checkSuccessful(Response response) throws DownloadException {
+        if (!response.isSuccessful()) {
+            if (response.code() == 429) {
+                LogManager.info(response.headers().toString());
+            }
+
+            throw new DownloadException(response);
+        }
+    }
+
+    /**
+     * Decodes a response straight from the response stream.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static <T> T decode(Response response, Type type) throws IOException {
+        checkSuccessful(response);
+
+        ResponseBody body = response.body();
+        if (body == null) {
+            return null;
+        }
+
+        try (JsonReader reader = Gsons.DEFAULT.newJsonReader(body.charStream())) {
+            return (T) Gsons.DEFAULT.fromJson(reader, type);
+        }
+    }
+
+    /**
+     * Decodes a body shared between single flight callers, giving each their own object.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static <T> T decode(@Nullable RawBody body, Type type) {
+        if (body == null) {
+            return null;
+        }
+
+        return (T) Gsons.DEFAULT.fromJson(Gsons.DEFAULT.newJsonReader(
+            new InputStreamReader(new ByteArrayInputStream(body.bytes), body.charset)), type);
+    }
+
+    /**
+     * @return the number of GET requests which were given the result of an identical request already in flight
+     */
+    public static long getSingleFlightHits() {
+        return singleFlightHits.sum();
+    }
 
-                throw new DownloadException(response);
+    /**
+     * @return the number of GET requests which had to make a call as no identical request was in flight
+     */
+    public static long getSingleFlightMisses() {
+        return singleFlightMisses.sum();
+    }
+
+    private static final class RequestKey {
+        private final String url;
+        private final Headers headers;
+        private final String cacheControl;
+
+        private RequestKey(String url, @Nullable Headers headers, @Nullable CacheControl cacheControl) {
+            this.url = url;
+            this.headers = headers;
+            // CacheControl doesn't implement equals, but its string form includes all of its directives
+            this.cacheControl = cacheControl == null ? null : cacheControl.toString();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof RequestKey)) {
+                return false;
             }
 
+            RequestKey that = (RequestKey) o;
+            return url.equals(that.url) && Objects.equals(headers, that.headers)
+                && Objects.equals(cacheControl, that.cacheControl);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(url, headers, cacheControl);
+        }
+    }
+
+    /**
+     * The body of a response to a single flight request, which is read fully so each caller can decode their own copy.
+     */
+    private static final class RawBody {
+        private final byte[] bytes;
+        private final Charset charset;
+
+        private RawBody(byte[] bytes, Charset charset) {
+            this.bytes = bytes;
+            this.charset = charset;
+        }
+
+        @Nullable
+        private static RawBody read(Response response) throws IOException {
+            checkSuccessful(response);
+
             ResponseBody body = response.body();
             if (body == null) {
                 return null;
             }
 
-            return Gsons.DEFAULT.fromJson(body.string(), type);
-        } catch (DownloadException e) {
-            throw e; // Re-throw DownloadException
-        } catch (IOException e) {
-            LogManager.logStackTrace(String.format("Error calling %s", url), e, false);
-            return null;
+            MediaType contentType = body.contentType();
+            return new RawBody(body.bytes(),
+                contentType == null ? StandardCharsets.UTF_8 : contentType.charset(StandardCharsets.UTF_8));
         }
     }
+
+    private interface ResponseReader<R> {
+        R read(Response response) throws IOException;
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.network;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.atlauncher.constants.Constants;
+import com.atlauncher.managers.LogManager;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Limits how quickly requests are made to rate limited APIs (CurseForge and Modrinth), and retries requests which get
+ * rate limited anyway.
+ *
+ * Each host has its own {@link TokenBucket}, which every call that actually goes over the network (so not responses
+ * from the cache) takes a token from through {@link #getNetworkInterceptor()}. This interceptor itself sits in front
+ * of that, and when a request is rate limited (a 429, or a 503 with a Retry-After header) it pauses the hosts bucket
+ * for however long the Retry-After header says (or a jittered exponential backoff if it doesn't say), so that every
+ * other request to that host waits too, and then retries the request. Requests to any other hosts are passed
+ * straight through.
+ */
+public final class RateLimitInterceptor implements Interceptor {
+    public static final int MAX_RETRIES = 3;
+
+    private static final long BASE_BACKOFF_MILLIS = 1000;
+    private static final long MAX_BACKOFF_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final Map<String, TokenBucket> buckets;
+
+    public RateLimitInterceptor(Map<String, TokenBucket> buckets) {
+        this.buckets = buckets;
+    }
+
+    /**
+     * Creates the interceptor for the rate limited APIs we use. Modrinth allows 300 requests a minute, and while
+     * CurseForge doesn't publish a limit, it does rate limit if too many requests are made at once.
+     */
+    public static RateLimitInterceptor forApis() {
+        Map<String, TokenBucket> buckets = new HashMap<>();
+        buckets.put(Constants.CURSEFORGE_CORE_API_HOST, new TokenBucket(10, 20));
+        buckets.put(Constants.MODRINTH_HOST, new TokenBucket(5, 20));
+
+        return new RateLimitInterceptor(buckets);
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        TokenBucket bucket = buckets.get(request.url().host());
+
+        if (bucket == null) {
+            return chain.proceed(request);
+        }
+
+        for (int attempt = 0;; attempt++) {
+            Response response = chain.proceed(request);
+
+            if (!isRateLimited(response) || attempt >= MAX_RETRIES) {
+                return response;
+            }
+
+            long delay = getRetryDelay(response, attempt);
+            LogManager.warn(String.format(Locale.ENGLISH, "Rate limited by %s, retrying in %dms",
+                    request.url().host(), delay));
+            response.close();
+
+            bucket.pause(delay);
+        }
+    }
+
+    /**
+     * @return the interceptor to add as a network interceptor, which takes a token from the hosts bucket before each
+     *         call over the network
+     */
+    public Interceptor getNetworkInterceptor() {
+        return chain -> {
+            TokenBucket bucket = buckets.get(chain.request().url().host());
+
+            if (bucket != null) {
+                bucket.acquire();
+            }
+
+            return chain.proceed(chain.request());
+        };
+    }
+
+    private static boolean isRateLimited(Response response) {
+        return response.code() == 429 || (response.code() == 503 && response.header("Retry-After") != null);
+    }
+
+    static long getRetryDelay(Response response, int attempt) {
+        String retryAfter = response.header("Retry-After");
+
+        if (retryAfter != null) {
+            try {
+                return Math.min(TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim())), MAX_BACKOFF_MILLIS);
+            } catch (NumberFormatException e) {
+                Date date = response.headers().getDate("Retry-After");
+
+                if (date != null) {
+                    return Math.max(0, Math.min(date.getTime() - System.currentTimeMillis(), MAX_BACKOFF_MILLIS));
+                }
+            }
+        }
+
+        // jittered, so that requests that were rate limited together don't all retry together
+        long backoff = Math.min(BASE_BACKOFF_MILLIS << attempt, MAX_BACKOFF_MILLIS);
+        return ThreadLocalRandom.current().nextLong(backoff / 2, backoff + 1);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.network;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Batches up lookups of single ids into one request for many ids.
+ *
+ * Ids asked for with {@link #get(Object)} are collected for a short time (or until there's enough to fill a batch)
+ * and then looked up all at once with the given loader. Asking for an id that's already waiting to be looked up
+ * shares the existing lookup.
+ *
+ * @param <K> the type of the ids
+ * @param <V> the type of what's looked up
+ */
+public final class RequestBatcher<K, V> {
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "RequestBatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int maxBatchSize;
+    private final long delayMillis;
+    private final Function<List<K>, CompletableFuture<Map<K, V>>> loader;
+
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+    private boolean flushScheduled = false;
+
+    /**
+     * @param maxBatchSize the most ids to look up at once
+     * @param delayMillis  how long to wait for more ids before looking them up
+     * @param loader       looks up the given ids, returning a map of id to value. Ids missing from the map are given
+     *                     null
+     */
+    public RequestBatcher(int maxBatchSize, long delayMillis, Function<List<K>, CompletableFuture<Map<K, V>>> loader) {
+        this.maxBatchSize = maxBatchSize;
+        this.delayMillis = delayMillis;
+        this.loader = loader;
+    }
+
+    /**
+     * Looks up the given id in the next batch. Each caller gets its own dependent future, so completing or cancelling
+     * it doesn't affect anyone else waiting on the same lookup.
+     */
+    public CompletableFuture<V> get(K id) {
+        CompletableFuture<V> future;
+        Map<K, CompletableFuture<V>> fullBatch = null;
+
+        synchronized (this) {
+            future = pending.get(id);
+
+            if (future != null) {
+                return future.thenApply(Function.identity());
+            }
+
+            future = new CompletableFuture<>();
+            pending.put(id, future);
+
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = takePending();
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                scheduler.schedule(this::flush, delayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (fullBatch != null) {
+            load(fullBatch);
+        }
+
+        return future.thenApply(Function.identity());
+    }
+
+    /**
+     * Looks up many ids at once. These go into the same batches as ids asked for with {@link #get(Object)}, so are
+     * split up into as many batches as needed and share lookups with anything else asking for the same ids.
+     *
+     * @return a future completed with a map of id to value, leaving out any ids which weren't found
+     */
+    public CompletableFuture<Map<K, V>> getAll(Collection<K> ids) {
+        Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+
+        for (K id : ids) {
+            if (!futures.containsKey(id)) {
+                futures.put(id, get(id));
+            }
+        }
+
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            Map<K, V> values = new LinkedHashMap<>();
+
+            futures.forEach((id, future) -> {
+                V value = future.join();
+
+                if (value != null) {
+                    values.put(id, value);
+                }
+            });
+
+            return values;
+        });
+    }
+
+    private void flush() {
+        Map<K, CompletableFuture<V>> batch;
+
+        synchronized (this) {
+            flushScheduled = false;
+            batch = takePending();
+        }
+
+        if (!batch.isEmpty()) {
+            load(batch);
+        }
+    }
+
+    private Map<K, CompletableFuture<V>> takePending() {
+        Map<K, CompletableFuture<V>> batch = pending;
+        pending = new LinkedHashMap<>();
+        return batch;
+    }
+
+    private void load(Map<K, CompletableFuture<V>> batch) {
+        CompletableFuture<Map<K, V>> result;
+
+        try {
+            result = loader.apply(new ArrayList<>(batch.keySet()));
+        } catch (Throwable t) {
+            result = new CompletableFuture<>();
+            result.completeExceptionally(t);
+        }
+
+        result.whenComplete((values, t) -> batch.forEach((id, future) -> {
+            if (t != null) {
+                future.completeExceptionally(t);
+            } else {
+                future.complete(values == null ? null : values.get(id));
+            }
+        }));
+    }
+}
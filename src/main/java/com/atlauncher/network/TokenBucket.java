@@ -0,0 +1,90 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.network;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket used to limit how quickly requests are made to a host.
+ *
+ * The bucket holds up to a given number of tokens, and is refilled at a steady rate. Each request takes a token,
+ * waiting for one if the bucket is empty. Tokens are reserved in the order requests ask for them, so waiting requests
+ * are let through one after the other at the refill rate rather than all at once.
+ */
+public final class TokenBucket {
+    private final double tokensPerNano;
+    private final int capacity;
+
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(double tokensPerSecond, int capacity) {
+        this.tokensPerNano = tokensPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = capacity;
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Takes a token from the bucket, waiting until one is available.
+     */
+    public void acquire() throws InterruptedIOException {
+        long waitNanos;
+
+        synchronized (this) {
+            long now = System.nanoTime();
+            refill(now);
+
+            tokens -= 1;
+            waitNanos = Math.max(lastRefill - now, 0);
+
+            if (tokens < 0) {
+                waitNanos += (long) (-tokens / tokensPerNano);
+            }
+        }
+
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to make request");
+            }
+        }
+    }
+
+    /**
+     * Stops any tokens being given out for the given amount of time, such as when the host has told us to back off.
+     * Once the time is up the bucket starts refilling from empty.
+     */
+    public synchronized void pause(long millis) {
+        long now = System.nanoTime();
+        refill(now);
+
+        lastRefill = Math.max(lastRefill, now + TimeUnit.MILLISECONDS.toNanos(millis));
+        tokens = Math.min(tokens, 0);
+    }
+
+    private void refill(long now) {
+        if (now > lastRefill) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+        }
+    }
+}
@@ -17,35 +17,110 @@
  */
 package com.atlauncher.thread;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 
-import com.atlauncher.evnt.LogEvent;
-
 import org.apache.logging.log4j.Logger;
 
+import com.atlauncher.App;
+import com.atlauncher.evnt.LogEvent;
+import com.atlauncher.evnt.LogEvent.LogType;
+import com.atlauncher.gui.components.Console;
+import com.atlauncher.managers.LogManager;
+
+/**
+ * Takes events off the log queue and posts them to log4j and the console.
+ *
+ * Events are taken off in batches rather than one at a time, so a burst of output (such as from a game starting up) is
+ * cleared quickly. After each batch, if any events have been dropped or spilled to disk since last time, a warning is
+ * logged saying so, and when in debug mode the queues statistics are logged after any large backlog is cleared.
+ *
+ * This is a daemon thread so that it never holds the launcher open, so when shutting down, LogManager interrupts it
+ * from a shutdown hook and it writes out anything still queued to the log file before finishing.
+ */
 public final class LoggingThread extends Thread {
+    private static final int MAX_BATCH_SIZE = 512;
+
     private final BlockingQueue<LogEvent> queue;
     private static final Logger logger = org.apache.logging.log4j.LogManager.getLogger(LoggingThread.class);
 
+    private final List<LogEvent> batch = new ArrayList<>(MAX_BATCH_SIZE);
+    private long reportedDroppedEvents = 0;
+    private long reportedSpilledEvents = 0;
+    private int peakBacklog = 0;
+
     public LoggingThread(BlockingQueue<LogEvent> queue) {
         this.queue = queue;
         this.setName("ATL-Logging-Thread");
+        this.setDaemon(true);
     }
 
     @Override
     public void run() {
         while (true) {
-            LogEvent next;
             try {
-                next = this.queue.take();
+                batch.add(this.queue.take());
             } catch (InterruptedException ignored) {
-                Thread.currentThread().interrupt();
+                // interrupted by LogManager's shutdown hook, so write out whatever is left before finishing
+                this.queue.drainTo(batch);
+                addReports();
+                post(false);
                 return;
             }
-            if (next != null) {
-                next.post(logger);
+
+            this.queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            peakBacklog = Math.max(peakBacklog, batch.size() + this.queue.size());
+
+            if (this.queue.isEmpty()) {
+                addReports();
+            }
+
+            post(true);
+            batch.clear();
+        }
+    }
+
+    private void post(boolean toConsole) {
+        Console console = !toConsole || App.console == null ? null : App.console.console;
+
+        for (LogEvent event : batch) {
+            if (console != null) {
+                event.postToConsole(console);
             }
+
+            event.postToLogger(logger);
         }
     }
 
+    /**
+     * Adds events onto the end of the batch reporting any events that have been lost from the console. These are
+     * added directly rather than going through the queue, as the queue may well be what's full.
+     */
+    private void addReports() {
+        long droppedEvents = LogManager.getDroppedEvents();
+        long spilledEvents = LogManager.getSpilledEvents();
+
+        if (droppedEvents != reportedDroppedEvents) {
+            batch.add(new LogEvent(LogType.WARN, String.format("%d log events were dropped as the log queue was full",
+                    droppedEvents - reportedDroppedEvents)));
+            reportedDroppedEvents = droppedEvents;
+        }
+
+        if (spilledEvents != reportedSpilledEvents) {
+            batch.add(new LogEvent(LogType.WARN,
+                    String.format("%d log events were written to logs/%s as the log queue was full",
+                            spilledEvents - reportedSpilledEvents, LogManager.SPILL_FILE_NAME)));
+            reportedSpilledEvents = spilledEvents;
+        }
+
+        if (LogManager.showDebug && peakBacklog >= MAX_BATCH_SIZE) {
+            batch.add(new LogEvent(LogType.DEBUG, String.format(
+                    "Log queue backlog of %d/%d events cleared (%d queued, %d dropped and %d spilled in total)",
+                    peakBacklog, LogManager.QUEUE_CAPACITY, LogManager.getQueuedEvents(), droppedEvents,
+                    spilledEvents)));
+        }
+
+        peakBacklog = 0;
+    }
 }
@@ -21,12 +21,19 @@ import java.util.concurrent.Callable;
 
 import com.atlauncher.App;
 import com.atlauncher.constants.Constants;
+import com.atlauncher.managers.AccountManager;
+import com.atlauncher.managers.LogManager;
+import com.atlauncher.utils.LogRedactor;
 import com.atlauncher.utils.Utils;
 
 public final class PasteUpload implements Callable<String> {
     @Override
     public String call() {
-        String log = App.console.getLog().replace(System.lineSeparator(), "\n");
+        // game output is redacted as it's logged, but make sure nothing from any account slipped through elsewhere. IP
+        // addresses are left alone as the launchers own logs have plenty of version numbers which look like them
+        LogRedactor logRedactor = LogRedactor.forAccounts(AccountManager.getAccounts(), !LogManager.showDebug,
+            false);
+        String log = logRedactor.redact(App.console.getLog().join().replace(System.lineSeparator(), "\n"));
 
         return Utils.uploadPaste(Constants.LAUNCHER_NAME + " - Log", log);
     }
@@ -17,7 +17,9 @@
  */
 package com.atlauncher.utils;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -29,22 +31,46 @@ import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
 
 import javax.annotation.Nullable;
 
 import org.apache.commons.compress.archivers.ArchiveEntry;
 import org.apache.commons.compress.archivers.ArchiveOutputStream;
 import org.apache.commons.compress.archivers.ArchiveStreamFactory;
+import org.apache.commons.compress.archivers.zip.DefaultBackingStoreSupplier;
+import org.apache.commons.compress.archivers.zip.ParallelScatterZipCreator;
+import org.apache.commons.compress.archivers.zip.Zip64Mode;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.apache.commons.compress.utils.IOUtils;
 import org.zeroturnaround.zip.NameMapper;
 import org.zeroturnaround.zip.ZipUtil;
 
+import com.atlauncher.FileSystem;
+import com.atlauncher.interfaces.NetworkProgressable;
 import com.atlauncher.managers.LogManager;
 
 public class ArchiveUtils {
+    // file types which are already compressed, so are stored as is in zips rather than compressing them again
+    private static final Set<String> COMPRESSED_EXTENSIONS = new HashSet<>(Arrays.asList("jar", "zip", "litemod",
+            "mrpack", "png", "jpg", "jpeg", "gif", "webp", "ogg", "mp3", "gz", "xz", "bz2", "7z", "rar"));
+
+    // how many bytes to read before reporting progress, so threads aren't constantly updating the progress bar
+    private static final long PROGRESS_REPORT_BYTES = 1024 * 1024;
+
     public static boolean archiveContainsFile(Path archivePath, String file) {
         try {
             return ZipUtil.containsEntry(archivePath.toFile(), file);
@@ -236,4 +262,180 @@ public class ArchiveUtils {
 
         return true;
     }
+
+    /**
+     * Creates a zip of the given path, compressing files on multiple threads at once. Files which are already
+     * compressed (such as jars and pngs) are stored rather than compressed again.
+     *
+     * Each thread compresses into its own temporary file, which are then joined together into the zip, so memory use
+     * doesn't grow with the size of the files being zipped.
+     *
+     * @param progressable optional, given the total size of the files to zip and then updated as they're compressed
+     */
+    public static boolean createZipInParallel(Path pathToCompress, Path archivePath, NameMapper nameMapper,
+            @Nullable NetworkProgressable progressable) {
+        List<Path> files = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        AtomicLong totalBytes = new AtomicLong(0);
+
+        try {
+            Files.walkFileTree(pathToCompress, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    // only copy files, no symbolic links or directories
+                    if (attributes.isSymbolicLink() || attributes.isDirectory() || file.equals(archivePath)) {
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    String fileName = nameMapper.map(pathToCompress.relativize(file).toString()
+                            .replace(File.separatorChar, '/'));
+
+                    if (fileName != null) {
+                        files.add(file);
+                        names.add(fileName);
+                        totalBytes.addAndGet(attributes.size());
+                    }
+
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    LogManager.logStackTrace(String.format("Unable to add %s to zip", file), e);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            LogManager.logStackTrace(e);
+            return false;
+        }
+
+        if (progressable != null) {
+            progressable.setTotalBytes(totalBytes.get());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime()
+                .availableProcessors()));
+        ParallelScatterZipCreator creator = new ParallelScatterZipCreator(executor,
+                new DefaultBackingStoreSupplier(Files.isDirectory(FileSystem.TEMP) ? FileSystem.TEMP : null));
+
+        for (int i = 0; i < files.size(); i++) {
+            Path file = files.get(i);
+
+            ZipArchiveEntry entry = new ZipArchiveEntry(names.get(i));
+            entry.setMethod(isAlreadyCompressed(file) ? ZipEntry.STORED : ZipEntry.DEFLATED);
+            try {
+                entry.setTime(Files.getLastModifiedTime(file).toMillis());
+            } catch (IOException ignored) {
+                // not important, so leave it as the current time
+            }
+
+            creator.addArchiveEntry(entry, () -> {
+                try {
+                    InputStream inputStream = Files.newInputStream(file);
+
+                    return progressable == null ? inputStream : new ProgressInputStream(inputStream, progressable);
+                } catch (IOException e) {
+                    LogManager.logStackTrace(String.format("Unable to add %s to zip", file), e);
+                    return new ByteArrayInputStream(new byte[0]);
+                }
+            });
+        }
+
+        try (ZipArchiveOutputStream zos = new ZipArchiveOutputStream(archivePath)) {
+            zos.setUseZip64(Zip64Mode.AsNeeded);
+            creator.writeTo(zos);
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            deleteQuietly(archivePath);
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (IOException | ExecutionException e) {
+            LogManager.logStackTrace(String.format("Failed to create zip %s", archivePath.toAbsolutePath()), e);
+            executor.shutdownNow();
+            deleteQuietly(archivePath);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if the file is of a type which is already compressed, so wouldn't get any smaller from compressing it.
+     */
+    public static boolean isAlreadyCompressed(Path file) {
+        String fileName = file.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+
+        return dot != -1 && COMPRESSED_EXTENSIONS.contains(fileName.substring(dot + 1).toLowerCase(Locale.ENGLISH));
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // ignored
+        }
+    }
+
+    /**
+     * Reports how much of a file has been read to a {@link NetworkProgressable}, in chunks.
+     */
+    private static final class ProgressInputStream extends FilterInputStream {
+        private final NetworkProgressable progressable;
+        private long unreportedBytes = 0;
+
+        private ProgressInputStream(InputStream in, NetworkProgressable progressable) {
+            super(in);
+            this.progressable = progressable;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+
+            if (read != -1) {
+                addReadBytes(1);
+            }
+
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+
+            if (read > 0) {
+                addReadBytes(read);
+            }
+
+            return read;
+        }
+
+        private void addReadBytes(long bytes) {
+            unreportedBytes += bytes;
+
+            if (unreportedBytes >= PROGRESS_REPORT_BYTES) {
+                report();
+            }
+        }
+
+        private void report() {
+            if (unreportedBytes == 0) {
+                return;
+            }
+
+            synchronized (progressable) {
+                progressable.addDownloadedBytes(unreportedBytes);
+            }
+
+            unreportedBytes = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            report();
+            super.close();
+        }
+    }
 }
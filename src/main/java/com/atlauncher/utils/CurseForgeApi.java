@@ -22,12 +22,15 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -42,6 +45,7 @@ import com.atlauncher.data.curseforge.CurseForgeProject;
 import com.atlauncher.managers.ConfigManager;
 import com.atlauncher.managers.LogManager;
 import com.atlauncher.network.NetworkClient;
+import com.atlauncher.network.RequestBatcher;
 import com.google.gson.reflect.TypeToken;
 
 import okhttp3.CacheControl;
@@ -56,6 +60,14 @@ public class CurseForgeApi {
     private final static Headers REQUEST_HEADERS = Headers.of(Constants.CURSEFORGE_API_KEY_HEADER,
             Constants.CURSEFORGE_CORE_API_KEY);
 
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final long BATCH_DELAY_MILLIS = 50;
+
+    private static final RequestBatcher<Integer, CurseForgeProject> PROJECT_BATCHER = new RequestBatcher<>(
+            MAX_BATCH_SIZE, BATCH_DELAY_MILLIS, CurseForgeApi::getProjectsAsync);
+    private static final RequestBatcher<Integer, CurseForgeFile> FILE_BATCHER = new RequestBatcher<>(
+            MAX_BATCH_SIZE, BATCH_DELAY_MILLIS, CurseForgeApi::getFilesAsync);
+
     public static List<CurseForgeProject> searchCurseForge(int sectionId, String query, int page,
             List<Integer> modLoaderTypes,
             String sort) {
@@ -226,8 +238,8 @@ public class CurseForgeApi {
         List<Integer> modLoaderTypes = new ArrayList<>();
         modLoaderTypes.add(Constants.CURSEFORGE_NEOFORGE_MODLOADER_ID);
 
-        List<String> neoForgeForgeCompatabilityVersions = ConfigManager
-                .getConfigItem("loaders.neoforge.forgeCompatibleMinecraftVersions", new ArrayList<>());
+        Set<String> neoForgeForgeCompatabilityVersions = ConfigManager
+                .getConfigSet("loaders.neoforge.forgeCompatibleMinecraftVersions");
         if (neoForgeForgeCompatabilityVersions.contains(gameVersion)) {
             modLoaderTypes.add(Constants.CURSEFORGE_FORGE_MODLOADER_ID);
         }
@@ -245,8 +257,8 @@ public class CurseForgeApi {
         modLoaderTypes.add(Constants.CURSEFORGE_NEOFORGE_MODLOADER_ID);
         modLoaderTypes.add(Constants.CURSEFORGE_FABRIC_MODLOADER_ID);
 
-        List<String> neoForgeForgeCompatabilityVersions = ConfigManager
-                .getConfigItem("loaders.neoforge.forgeCompatibleMinecraftVersions", new ArrayList<>());
+        Set<String> neoForgeForgeCompatabilityVersions = ConfigManager
+                .getConfigSet("loaders.neoforge.forgeCompatibleMinecraftVersions");
         if (neoForgeForgeCompatabilityVersions.contains(gameVersion)) {
             modLoaderTypes.add(Constants.CURSEFORGE_FORGE_MODLOADER_ID);
         }
@@ -415,6 +427,64 @@ public class CurseForgeApi {
         return null;
     }
 
+    /**
+     * Gets a project without blocking. Lookups made around the same time are batched up into a single request.
+     */
+    public static CompletableFuture<CurseForgeProject> getProjectByIdAsync(int projectId) {
+        return PROJECT_BATCHER.get(projectId);
+    }
+
+    /**
+     * Gets many projects without blocking, in batches shared with any other lookups. Failures are logged and give an
+     * empty map, the same as the blocking methods returning null.
+     */
+    public static CompletableFuture<Map<Integer, CurseForgeProject>> getProjectsByIdAsync(
+            Collection<Integer> projectIds) {
+        return PROJECT_BATCHER.getAll(projectIds).exceptionally(t -> {
+            LogManager.logStackTrace("Error getting projects from CurseForge", t, false);
+            return Collections.emptyMap();
+        });
+    }
+
+    public static CompletableFuture<Map<Integer, CurseForgeProject>> getProjectsAsync(List<Integer> projectIds) {
+        Map<String, List<Integer>> body = new HashMap<>();
+        body.put("modIds", projectIds);
+
+        java.lang.reflect.Type type = new TypeToken<CurseForgeCoreApiResponse<List<CurseForgeProject>>>() {}.getType();
+
+        return NetworkClient.<CurseForgeCoreApiResponse<List<CurseForgeProject>>>postAsync(
+                String.format("%s/mods", Constants.CURSEFORGE_CORE_API_URL),
+                REQUEST_HEADERS,
+                RequestBody.create(Gsons.DEFAULT.toJson(body),
+                        MediaType.get("application/json; charset=utf-8")),
+                type).thenApply(response -> response == null || response.data == null ? Collections.emptyMap()
+                        : response.data.stream()
+                                .collect(Collectors.toMap(p -> p.id, p -> p, (existing, replacement) -> existing)));
+    }
+
+    /**
+     * Gets a file without blocking. Lookups made around the same time are batched up into a single request.
+     */
+    public static CompletableFuture<CurseForgeFile> getFileByIdAsync(int fileId) {
+        return FILE_BATCHER.get(fileId);
+    }
+
+    public static CompletableFuture<Map<Integer, CurseForgeFile>> getFilesAsync(List<Integer> fileIds) {
+        Map<String, List<Integer>> body = new HashMap<>();
+        body.put("fileIds", fileIds);
+
+        java.lang.reflect.Type type = new TypeToken<CurseForgeCoreApiResponse<List<CurseForgeFile>>>() {}.getType();
+
+        return NetworkClient.<CurseForgeCoreApiResponse<List<CurseForgeFile>>>postAsync(
+                String.format("%s/mods/files", Constants.CURSEFORGE_CORE_API_URL),
+                REQUEST_HEADERS,
+                RequestBody.create(Gsons.DEFAULT.toJson(body),
+                        MediaType.get("application/json; charset=utf-8")),
+                type).thenApply(response -> response == null || response.data == null ? Collections.emptyMap()
+                        : response.data.stream()
+                                .collect(Collectors.toMap(f -> f.id, f -> f, (existing, replacement) -> existing)));
+    }
+
     public static List<CurseForgeFile> getFiles(int[] fileIds) {
         if (fileIds == null || fileIds.length == 0) {
             return Collections.emptyList();
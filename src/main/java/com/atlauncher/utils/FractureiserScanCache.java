@@ -0,0 +1,368 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.atlauncher.Gsons;
+import com.atlauncher.managers.LogManager;
+import com.google.common.hash.HashCode;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Keeps track of which files have been scanned and found clean of Fractureiser.
+ *
+ * Clean files are remembered by their SHA1 hash, as well as by their path, size and last modified time, so files which
+ * haven't changed since they were last scanned don't need to be hashed at all, and files which have been scanned
+ * before under another path (such as the same mod in another instance) only need to be hashed.
+ *
+ * Everything is kept in concurrent collections so it can be checked and added to from multiple scanning threads, and
+ * is saved to disk in a compact binary file which new entries are appended to, rather than rewriting the whole file
+ * after every scan. The file is compacted when it's loaded if it's built up a lot of entries which are no longer
+ * needed (such as from mods which have been updated).
+ */
+public class FractureiserScanCache {
+    private static final int MAGIC = 0x41464353; // AFCS
+    private static final int VERSION = 1;
+    private static final int SHA1_LENGTH = 20;
+
+    // compact the file once it has this many more records than are needed, so it doesn't grow forever
+    private static final int COMPACT_THRESHOLD = 1000;
+
+    private final Path file;
+    private final Path legacyFile;
+
+    private final Set<HashCode> scannedHashes = ConcurrentHashMap.newKeySet();
+    private final Map<String, ScannedFile> scannedFiles = new ConcurrentHashMap<>();
+    private final Queue<ScannedFile> pendingWrites = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean hasLoaded = false;
+
+    /**
+     * @param file       the file to store the cache in
+     * @param legacyFile the json file of scanned hashes used before, which is migrated into the new file if it
+     *                   exists
+     */
+    public FractureiserScanCache(Path file, Path legacyFile) {
+        this.file = file;
+        this.legacyFile = legacyFile;
+    }
+
+    /**
+     * Checks if the file at the given path has already been scanned and found clean, by its path, size and last
+     * modified time, without reading the file.
+     */
+    public boolean isScanned(Path path, BasicFileAttributes attributes) {
+        ScannedFile scannedFile = scannedFiles.get(getKey(path));
+
+        return scannedFile != null
+                && scannedFile.matches(attributes.size(), attributes.lastModifiedTime().toMillis())
+                && scannedHashes.contains(scannedFile.hash);
+    }
+
+    /**
+     * Checks if a file with the given hash has already been scanned and found clean. If so, the path is remembered
+     * so the next time it's checked it doesn't need to be hashed.
+     */
+    public boolean isScanned(Path path, BasicFileAttributes attributes, HashCode hash) {
+        if (!scannedHashes.contains(hash)) {
+            return false;
+        }
+
+        addScannedFile(path, attributes, hash);
+        return true;
+    }
+
+    /**
+     * Marks the given file as having been scanned and found clean.
+     */
+    public void markScanned(Path path, BasicFileAttributes attributes, HashCode hash) {
+        scannedHashes.add(hash);
+        addScannedFile(path, attributes, hash);
+    }
+
+    private void addScannedFile(Path path, BasicFileAttributes attributes, HashCode hash) {
+        ScannedFile scannedFile = new ScannedFile(getKey(path), attributes.size(),
+                attributes.lastModifiedTime().toMillis(), hash);
+        ScannedFile previous = scannedFiles.put(scannedFile.path, scannedFile);
+
+        if (!scannedFile.equals(previous)) {
+            pendingWrites.add(scannedFile);
+        }
+    }
+
+    private static String getKey(Path path) {
+        return path.toAbsolutePath().normalize().toString();
+    }
+
+    public int size() {
+        return scannedHashes.size();
+    }
+
+    /**
+     * Loads the cache from disk, if it hasn't already been loaded.
+     */
+    public synchronized void load() {
+        if (hasLoaded) {
+            return;
+        }
+
+        hasLoaded = true;
+
+        int records = 0;
+        if (Files.exists(file)) {
+            records = readRecords();
+        }
+
+        if (legacyFile != null && Files.exists(legacyFile)) {
+            migrateLegacyFile();
+        }
+
+        int neededRecords = scannedFiles.size() + getHashesWithoutFiles().size();
+        if (records == -1 || records > neededRecords + COMPACT_THRESHOLD) {
+            compact();
+        }
+    }
+
+    /**
+     * @return the number of records read, or -1 if the file needs rewriting
+     */
+    private int readRecords() {
+        int records = 0;
+
+        try (DataInputStream inputStream = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+            if (inputStream.readInt() != MAGIC || inputStream.readInt() != VERSION) {
+                LogManager.warn("Fractureiser scan cache is in an unknown format, so starting again");
+                return -1;
+            }
+
+            while (true) {
+                ScannedFile scannedFile = ScannedFile.read(inputStream);
+
+                if (scannedFile == null) {
+                    break;
+                }
+
+                records++;
+                scannedHashes.add(scannedFile.hash);
+
+                if (!scannedFile.path.isEmpty()) {
+                    scannedFiles.put(scannedFile.path, scannedFile);
+                }
+            }
+        } catch (EOFException e) {
+            // the last record was only partly written, so rewrite the file so anything appended after it can be read
+            LogManager.warn("Fractureiser scan cache was not fully written, so rewriting it");
+            return -1;
+        } catch (IOException e) {
+            LogManager.logStackTrace("Exception loading Fractureiser scan cache", e, false);
+        }
+
+        return records;
+    }
+
+    private void migrateLegacyFile() {
+        try (InputStreamReader fileReader = new InputStreamReader(Files.newInputStream(legacyFile),
+                StandardCharsets.UTF_8)) {
+            List<String> legacyHashes = Gsons.DEFAULT.fromJson(fileReader, new TypeToken<List<String>>() {
+            }.getType());
+
+            if (legacyHashes != null) {
+                int skipped = 0;
+
+                for (String legacyHash : legacyHashes) {
+                    HashCode hash;
+                    try {
+                        hash = Hashing.toHashCode(legacyHash);
+                    } catch (IllegalArgumentException e) {
+                        // skip anything that isn't a hash rather than failing (and so retrying) the whole migration
+                        skipped++;
+                        continue;
+                    }
+
+                    if (hash.bits() == SHA1_LENGTH * 8 && scannedHashes.add(hash)) {
+                        pendingWrites.add(new ScannedFile("", 0, 0, hash));
+                    }
+                }
+
+                if (skipped != 0) {
+                    LogManager.warn("Skipped " + skipped + " invalid hashes when migrating scanned Fracturiser hashes");
+                }
+            }
+        } catch (Exception e) {
+            LogManager.logStackTrace("Exception loading scanned Fracturiser hashes", e, false);
+            return;
+        }
+
+        save();
+
+        try {
+            Files.delete(legacyFile);
+        } catch (IOException e) {
+            LogManager.logStackTrace("Exception removing old scanned Fracturiser hashes", e, false);
+        }
+    }
+
+    private Set<HashCode> getHashesWithoutFiles() {
+        Set<HashCode> hashes = new HashSet<>(scannedHashes);
+        scannedFiles.values().forEach(scannedFile -> hashes.remove(scannedFile.hash));
+
+        return hashes;
+    }
+
+    /**
+     * Rewrites the file with only the records needed.
+     */
+    private synchronized void compact() {
+        List<ScannedFile> records = new ArrayList<>(scannedFiles.values());
+        getHashesWithoutFiles().forEach(hash -> records.add(new ScannedFile("", 0, 0, hash)));
+
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream outputStream = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            outputStream.writeInt(MAGIC);
+            outputStream.writeInt(VERSION);
+
+            for (ScannedFile record : records) {
+                record.write(outputStream);
+            }
+        } catch (IOException e) {
+            LogManager.logStackTrace("Exception compacting Fractureiser scan cache", e, false);
+            return;
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            pendingWrites.clear();
+        } catch (IOException e) {
+            LogManager.logStackTrace("Exception compacting Fractureiser scan cache", e, false);
+        }
+    }
+
+    /**
+     * Appends anything added since the cache was last saved to the file.
+     */
+    public synchronized void save() {
+        if (pendingWrites.isEmpty()) {
+            return;
+        }
+
+        boolean isNewFile = !Files.exists(file);
+
+        try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(
+                file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)))) {
+            if (isNewFile) {
+                outputStream.writeInt(MAGIC);
+                outputStream.writeInt(VERSION);
+            }
+
+            ScannedFile scannedFile;
+            while ((scannedFile = pendingWrites.poll()) != null) {
+                scannedFile.write(outputStream);
+            }
+        } catch (IOException e) {
+            LogManager.logStackTrace("Exception saving Fractureiser scan cache", e, false);
+        }
+    }
+
+    private static final class ScannedFile {
+        private final String path;
+        private final long size;
+        private final long modified;
+        private final HashCode hash;
+
+        private ScannedFile(String path, long size, long modified, HashCode hash) {
+            this.path = path;
+            this.size = size;
+            this.modified = modified;
+            this.hash = hash;
+        }
+
+        private boolean matches(long size, long modified) {
+            return this.size == size && this.modified == modified;
+        }
+
+        private void write(DataOutputStream outputStream) throws IOException {
+            outputStream.write(hash.asBytes());
+            outputStream.writeLong(size);
+            outputStream.writeLong(modified);
+            outputStream.writeUTF(path);
+        }
+
+        /**
+         * @return the next record, or null if at the end of the file
+         * @throws EOFException if the last record was only partly written
+         */
+        private static ScannedFile read(DataInputStream inputStream) throws IOException {
+            int firstByte = inputStream.read();
+
+            if (firstByte == -1) {
+                return null;
+            }
+
+            byte[] hash = new byte[SHA1_LENGTH];
+            hash[0] = (byte) firstByte;
+            inputStream.readFully(hash, 1, SHA1_LENGTH - 1);
+            long size = inputStream.readLong();
+            long modified = inputStream.readLong();
+            String path = inputStream.readUTF();
+
+            return new ScannedFile(path, size, modified, HashCode.fromBytes(hash));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof ScannedFile)) {
+                return false;
+            }
+
+            ScannedFile that = (ScannedFile) o;
+            return size == that.size && modified == that.modified && path.equals(that.path) && hash.equals(that.hash);
+        }
+
+        @Override
+        public int hashCode() {
+            return path.hashCode();
+        }
+    }
+}
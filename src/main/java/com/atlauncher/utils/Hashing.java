@@ -17,19 +17,18 @@
  */
 package com.atlauncher.utils;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
 import com.atlauncher.managers.LogManager;
 import com.google.common.hash.HashCode;
-import com.sangupta.murmur.Murmur2;
 
 public final class Hashing {
     public static final HashCode EMPTY_HASH_CODE = HashCode.fromBytes(new byte[1]);
+    private static final int MURMUR_BUFFER_SIZE = 64 * 1024;
 
     public static HashCode md5(String str) {
         if (str == null || str.isEmpty()) {
@@ -96,17 +95,30 @@ public final class Hashing {
             return -1L;
         }
 
-        try (ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-            try (BufferedInputStream bis = new BufferedInputStream(Files.newInputStream(file))) {
-                int b;
-                while ((b = bis.read()) != -1) {
-                    if (b != 9 && b != 10 && b != 13 && b != 32) {
-                        bos.write(b);
-                    }
-                }
+        byte[] buffer = new byte[MURMUR_BUFFER_SIZE];
+
+        // Murmur2 is seeded with the length of the data, so we need to know how many non whitespace bytes there are
+        // before we can start hashing, which means we read the file twice rather than holding it all in memory
+        int length = 0;
+        try (InputStream is = Files.newInputStream(file)) {
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                length += Murmur2Hasher.countNonWhitespace(buffer, 0, read);
+            }
+        }
+
+        Murmur2Hasher hasher = new Murmur2Hasher(1L, length);
+        try (InputStream is = Files.newInputStream(file)) {
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                hasher.update(buffer, 0, read);
             }
+        }
 
-            return Murmur2.hash(bos.toByteArray(), bos.size(), 1L);
+        try {
+            return hasher.hash();
+        } catch (IllegalStateException e) {
+            throw new IOException("File " + file.toAbsolutePath() + " changed while being hashed", e);
         }
     }
 
@@ -17,12 +17,9 @@
  */
 package com.atlauncher.utils;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -47,6 +44,7 @@ import com.atlauncher.App;
 import com.atlauncher.FileSystem;
 import com.atlauncher.Network;
 import com.atlauncher.managers.ConfigManager;
+import com.atlauncher.managers.JavaProbeManager;
 import com.atlauncher.managers.LogManager;
 import com.atlauncher.managers.PerformanceManager;
 import com.atlauncher.utils.javafinder.JavaFinder;
@@ -73,39 +71,10 @@ public class Java {
 
     public static String getVersionForJavaPath(File folder) {
         String executablePath = Java.getPathToJavaExecutable(folder.toPath());
-        ProcessBuilder processBuilder = new ProcessBuilder(executablePath, "-version");
-        processBuilder.directory(folder.getAbsoluteFile());
-        processBuilder.redirectErrorStream(true);
-
-        String version = "Unknown";
-
-        try {
-            Process process = processBuilder.start();
-            try (BufferedReader br = new BufferedReader(
-                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
-                String line;
-                Pattern p = Pattern.compile("(java|openjdk) version \"([^\"]*)\"");
-
-                while ((line = br.readLine()) != null) {
-                    // Extract version information
-                    Matcher m = p.matcher(line);
-
-                    if (m.find()) {
-                        version = m.group(2);
-                        break;
-                    }
-                }
-            }
-        } catch (IOException e) {
-            LogManager.logStackTrace(e);
-        }
+        String version = JavaProbeManager.probe(executablePath).version;
 
         LogManager.debug(String.format("Got version \"%s\" for Java at path \"%s\"", version, executablePath));
 
-        if (version.equals("Unknown")) {
-            LogManager.warn("Cannot get Java version from the output of \"" + folder.getAbsolutePath() + " -version\"");
-        }
-
         return version;
     }
 
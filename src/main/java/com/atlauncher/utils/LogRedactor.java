@@ -0,0 +1,141 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.utils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.atlauncher.data.AbstractAccount;
+
+/**
+ * Redacts sensitive information (usernames, UUIDs, IP addresses and access tokens) from logs.
+ *
+ * All the values to redact are compiled into a single pattern up front, so each line is only scanned once, and lines
+ * which don't contain anything to redact are returned as is without any allocations.
+ *
+ * Instances of this are not thread safe, as the matcher is reused between calls.
+ */
+public final class LogRedactor {
+    public static final String USERNAME_REPLACEMENT = "**MINECRAFTUSERNAME**";
+    public static final String UUID_REPLACEMENT = "**UUID**";
+    public static final String IP_ADDRESS_REPLACEMENT = "**IPADDRESS**";
+    public static final String ACCESS_TOKEN_REPLACEMENT = "**ACCESSTOKEN**";
+
+    private static final String IP_ADDRESS_REGEX = "\\b(?:\\d{1,3}\\.){3}\\d{1,3}\\b";
+
+    private final Map<String, String> replacements;
+    private final Matcher matcher;
+
+    private LogRedactor(Map<String, String> replacements, boolean redactIpAddresses) {
+        this.replacements = replacements;
+
+        // longest values first so that a value containing another value is redacted as a whole
+        String regex = replacements.keySet().stream().sorted(Comparator.comparingInt(String::length).reversed())
+            .map(Pattern::quote).collect(Collectors.joining("|"));
+
+        if (redactIpAddresses) {
+            regex = regex.isEmpty() ? IP_ADDRESS_REGEX : regex + "|" + IP_ADDRESS_REGEX;
+        }
+
+        this.matcher = regex.isEmpty() ? null : Pattern.compile(regex).matcher("");
+    }
+
+    /**
+     * Creates a redactor for the given account.
+     *
+     * @param account           the account whose details should be redacted
+     * @param redactIdentifying if the usernames, UUID and IP addresses should be redacted. The access token is always
+     *                          redacted
+     */
+    public static LogRedactor forAccount(AbstractAccount account, boolean redactIdentifying) {
+        return forAccounts(account == null ? Collections.emptyList() : Collections.singletonList(account),
+            redactIdentifying, redactIdentifying);
+    }
+
+    /**
+     * Creates a redactor for all the given accounts.
+     *
+     * @param accounts          the accounts whose details should be redacted
+     * @param redactIdentifying if the usernames and UUIDs should be redacted. Access tokens are always redacted
+     * @param redactIpAddresses if anything looking like an IPv4 address should be redacted
+     */
+    public static LogRedactor forAccounts(Collection<? extends AbstractAccount> accounts,
+        boolean redactIdentifying, boolean redactIpAddresses) {
+        Map<String, String> replacements = new HashMap<>();
+
+        for (AbstractAccount account : accounts) {
+            if (redactIdentifying) {
+                addReplacement(replacements, account.minecraftUsername, USERNAME_REPLACEMENT);
+                addReplacement(replacements, account.username, USERNAME_REPLACEMENT);
+
+                if (account.uuid != null) {
+                    addReplacement(replacements, account.uuid, UUID_REPLACEMENT);
+                    addReplacement(replacements, account.uuid.replace("-", ""), UUID_REPLACEMENT);
+                }
+            }
+
+            addReplacement(replacements, account.getAccessToken(), ACCESS_TOKEN_REPLACEMENT);
+        }
+
+        return new LogRedactor(replacements, redactIpAddresses);
+    }
+
+    private static void addReplacement(Map<String, String> replacements, String value, String replacement) {
+        if (value != null && !value.isEmpty()) {
+            replacements.put(value, replacement);
+        }
+    }
+
+    public String redact(String line) {
+        if (matcher == null || line == null) {
+            return line;
+        }
+
+        matcher.reset(line);
+
+        if (!matcher.find()) {
+            matcher.reset("");
+            return line;
+        }
+
+        StringBuilder sb = new StringBuilder(line.length());
+        int last = 0;
+
+        do {
+            sb.append(line, last, matcher.start());
+            sb.append(getReplacement());
+            last = matcher.end();
+        } while (matcher.find());
+
+        sb.append(line, last, line.length());
+        matcher.reset("");
+
+        return sb.toString();
+    }
+
+    private String getReplacement() {
+        // anything matched that isn't one of the values must have been matched by the IP address regex
+        return replacements.getOrDefault(matcher.group(), IP_ADDRESS_REPLACEMENT);
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.utils;
+
+import com.atlauncher.evnt.LogEvent.LogType;
+
+/**
+ * Works out the type of a line of Minecraft's (non log4j) output, and the part of the line to show.
+ *
+ * Modern versions of Minecraft (and mod loaders) start each line with a "[thread/LEVEL]" bracket, optionally after a
+ * timestamp, where the thread can be anything ("Render thread", "Worker-Main-3" and so on). For these lines the level
+ * is read straight from that bracket, so only the start of the line needs to be looked at (other than checking for
+ * exceptions, which are always shown as errors). This bracket takes precedence over any of the legacy markers later in
+ * the line, so "[Render thread/WARN]: ... INFO: ..." is a warning, where it used to be shown as info from the "INFO:".
+ *
+ * Other lines fall back to looking for the legacy markers (such as "[INFO]", "[SEVERE]" and "WARNING:"). Rather than
+ * checking for each of them one after the other, the brackets and colons in the line are each looked at once, and
+ * which marker wins is then decided in the same order the markers were checked for in the past.
+ */
+public final class MinecraftLogClassifier {
+    // the longest thread name we'll look through when looking for the end of a "[thread/LEVEL]" bracket
+    private static final int MAX_BRACKET_LENGTH = 128;
+
+    private MinecraftLogClassifier() {
+    }
+
+    /**
+     * @return an array with the {@link LogType} of the line and the message to show
+     */
+    public static Object[] classify(String text) {
+        Object[] result = classifyByLeadingThreadBracket(text);
+
+        if (result != null) {
+            return result;
+        }
+
+        return classifyByMarkers(text);
+    }
+
+    private static Object[] classifyByLeadingThreadBracket(String text) {
+        if (!text.startsWith("[")) {
+            return null;
+        }
+
+        int threadBracket = 0;
+        LogType type = getThreadBracketType(text, threadBracket);
+
+        // the first bracket may be a timestamp, in which case the thread bracket should be straight after it
+        if (type == null) {
+            int timestampEnd = text.indexOf(']');
+
+            if (timestampEnd == -1 || timestampEnd > MAX_BRACKET_LENGTH || !text.startsWith(" [", timestampEnd + 1)) {
+                return null;
+            }
+
+            threadBracket = timestampEnd + 2;
+            type = getThreadBracketType(text, threadBracket);
+
+            if (type == null) {
+                return null;
+            }
+        }
+
+        if (text.contains("Exception")) {
+            return new Object[] { LogType.ERROR, text };
+        }
+
+        return new Object[] { type, text.substring(threadBracket) };
+    }
+
+    private static Object[] classifyByMarkers(String text) {
+        int info = -1;
+        int warningBracket = -1;
+        int severe = -1;
+        int threadBracket = -1;
+        LogType threadBracketType = null;
+
+        for (int i = text.indexOf('['); i != -1; i = text.indexOf('[', i + 1)) {
+            if (text.startsWith("[INFO]", i)) {
+                // nothing takes precedence over this, so no need to look any further
+                if (text.startsWith(" [STDERR]", i + 6)) {
+                    return new Object[] { LogType.WARN, text.substring(i) };
+                }
+
+                if (info == -1) {
+                    info = i;
+                }
+            } else if (warningBracket == -1 && text.startsWith("[WARNING]", i)) {
+                warningBracket = i;
+            } else if (severe == -1 && text.startsWith("[SEVERE]", i)) {
+                severe = i;
+            } else if (threadBracketType == null) {
+                threadBracketType = getThreadBracketType(text, i);
+
+                if (threadBracketType != null) {
+                    threadBracket = i;
+                }
+            }
+        }
+
+        if (info != -1) {
+            String message = text.substring(info);
+
+            if (message.contains("CONFLICT")) {
+                return new Object[] { LogType.ERROR, message };
+            }
+
+            if (message.contains("overwriting existing item")) {
+                return new Object[] { LogType.WARN, message };
+            }
+
+            return new Object[] { LogType.INFO, message };
+        }
+
+        if (warningBracket != -1) {
+            return new Object[] { LogType.WARN, text.substring(warningBracket) };
+        }
+
+        int warningColon = -1;
+        int infoColon = -1;
+        for (int i = text.indexOf(':'); i != -1 && warningColon == -1; i = text.indexOf(':', i + 1)) {
+            if (i >= 7 && text.startsWith("WARNING", i - 7)) {
+                warningColon = i - 7;
+            } else if (infoColon == -1 && i >= 4 && text.startsWith("INFO", i - 4)) {
+                infoColon = i - 4;
+            }
+        }
+
+        if (warningColon != -1) {
+            return new Object[] { LogType.WARN, text.substring(warningColon) };
+        }
+
+        if (infoColon != -1) {
+            return new Object[] { LogType.INFO, text.substring(infoColon) };
+        }
+
+        if (text.contains("Exception")) {
+            return new Object[] { LogType.ERROR, text };
+        }
+
+        if (severe != -1) {
+            return new Object[] { LogType.ERROR, text.substring(severe) };
+        }
+
+        if (threadBracketType != null) {
+            return new Object[] { threadBracketType, text.substring(threadBracket) };
+        }
+
+        return new Object[] { LogType.INFO, text };
+    }
+
+    /**
+     * Checks if there is a "[thread/LEVEL]" bracket starting at the given index, and if so returns the type for the
+     * level.
+     */
+    private static LogType getThreadBracketType(String text, int start) {
+        int end = text.indexOf(']', start + 1);
+
+        if (end == -1 || end - start > MAX_BRACKET_LENGTH) {
+            return null;
+        }
+
+        int slash = text.lastIndexOf('/', end);
+
+        if (slash <= start) {
+            return null;
+        }
+
+        return getLevelType(text, slash + 1, end);
+    }
+
+    private static LogType getLevelType(String text, int start, int end) {
+        switch (end - start) {
+            case 4:
+                if (text.startsWith("INFO", start)) {
+                    return LogType.INFO;
+                }
+
+                if (text.startsWith("WARN", start)) {
+                    return LogType.WARN;
+                }
+
+                return null;
+            case 5:
+                if (text.startsWith("ERROR", start) || text.startsWith("FATAL", start)) {
+                    return LogType.ERROR;
+                }
+
+                // debug and trace are shown as info so they're not hidden when not in debug mode
+                if (text.startsWith("DEBUG", start) || text.startsWith("TRACE", start)) {
+                    return LogType.INFO;
+                }
+
+                return null;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.apache.commons.compress.utils.SeekableInMemoryByteChannel;
+
+import com.atlauncher.FileSystem;
+import com.atlauncher.Gsons;
+import com.atlauncher.data.ModMetadata;
+import com.atlauncher.data.minecraft.FabricMod;
+import com.atlauncher.data.minecraft.MCMod;
+import com.atlauncher.managers.LogManager;
+import com.google.common.hash.Hasher;
+import com.google.common.io.ByteStreams;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Keeps an index of the hashes (MD5, SHA1, SHA512 and CurseForge's Murmur2 fingerprint) and parsed mcmod.info and
+ * fabric.mod.json of the mod files in an instance or server, keyed by their path and checked against their size and
+ * last modified time.
+ *
+ * All the hashes for a file are worked out together from a single read of the file, so exporting, checking for
+ * updates and scanning for added mods only need to read a mod again when it's changed, rather than each of them
+ * hashing every mod, sometimes more than once.
+ */
+public class ModMetadataIndex {
+    // files up to this size are read into memory once and everything is worked out from that, while anything larger
+    // is streamed, which needs a second pass to work out the Murmur2 fingerprint. Files are read in parallel, so this
+    // is kept small to not hold many large mods in memory at once
+    private static final long MAX_IN_MEMORY_SIZE = 4 * 1024 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Map<Path, ModMetadataIndex> INDEXES = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final Map<String, ModMetadata> metadata = new ConcurrentHashMap<>();
+    private volatile boolean hasLoaded = false;
+    private volatile boolean isDirty = false;
+
+    /**
+     * @param file the file to store the index in
+     */
+    public ModMetadataIndex(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Gets the index for the instance or server with the given root folder.
+     */
+    public static ModMetadataIndex forRoot(Path root) {
+        return INDEXES.computeIfAbsent(root.toAbsolutePath().normalize(),
+                r -> new ModMetadataIndex(FileSystem.MOD_METADATA.resolve(Hashing.md5(r.toString()) + ".json")));
+    }
+
+    /**
+     * Removes the index for the instance or server with the given root folder, such as when it's deleted.
+     */
+    public static void delete(Path root) {
+        Path normalizedRoot = root.toAbsolutePath().normalize();
+        INDEXES.remove(normalizedRoot);
+
+        Path indexFile = FileSystem.MOD_METADATA.resolve(Hashing.md5(normalizedRoot.toString()) + ".json");
+        if (Files.exists(indexFile)) {
+            FileUtils.delete(indexFile);
+        }
+    }
+
+    /**
+     * Gets the metadata for the given file, reading it only if it's not in the index or has changed since it was.
+     *
+     * @return the metadata, or null if the file doesn't exist or can't be read
+     */
+    public ModMetadata get(Path path) {
+        load();
+
+        String key = getKey(path);
+
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            if (metadata.remove(key) != null) {
+                isDirty = true;
+            }
+
+            return null;
+        }
+
+        if (!attributes.isRegularFile()) {
+            return null;
+        }
+
+        long size = attributes.size();
+        long modified = attributes.lastModifiedTime().toMillis();
+
+        ModMetadata modMetadata = metadata.get(key);
+        if (modMetadata != null && modMetadata.matches(size, modified)) {
+            return modMetadata;
+        }
+
+        try {
+            modMetadata = read(path, size, modified);
+        } catch (IOException e) {
+            LogManager.logStackTrace("Error reading mod file " + path.toAbsolutePath(), e, false);
+            return null;
+        }
+
+        metadata.put(key, modMetadata);
+        isDirty = true;
+
+        return modMetadata;
+    }
+
+    public ModMetadata get(File file) {
+        return get(file.toPath());
+    }
+
+    static ModMetadata read(Path path, long size, long modified) throws IOException {
+        return read(path, size, modified, MAX_IN_MEMORY_SIZE);
+    }
+
+    @SuppressWarnings("deprecation")
+    static ModMetadata read(Path path, long size, long modified, long maxInMemorySize) throws IOException {
+        Hasher md5 = com.google.common.hash.Hashing.md5().newHasher();
+        Hasher sha1 = com.google.common.hash.Hashing.sha1().newHasher();
+        Hasher sha512 = com.google.common.hash.Hashing.sha512().newHasher();
+        long murmur;
+        String mcModJson;
+        String fabricModJson;
+
+        if (size <= maxInMemorySize) {
+            byte[] data = Files.readAllBytes(path);
+
+            md5.putBytes(data);
+            sha1.putBytes(data);
+            sha512.putBytes(data);
+
+            Murmur2Hasher murmurHasher = new Murmur2Hasher(1L, Murmur2Hasher.countNonWhitespace(data, 0, data.length));
+            murmurHasher.update(data, 0, data.length);
+            murmur = murmurHasher.hash();
+
+            try (ZipFile zipFile = ZipFile.builder().setSeekableByteChannel(new SeekableInMemoryByteChannel(data))
+                    .get()) {
+                mcModJson = getZipEntry(zipFile, "mcmod.info");
+                fabricModJson = getZipEntry(zipFile, "fabric.mod.json");
+            } catch (IOException e) {
+                // not a zip file, so there's no mod information
+                mcModJson = null;
+                fabricModJson = null;
+            }
+        } else {
+            byte[] buffer = new byte[BUFFER_SIZE];
+
+            int length = 0;
+            try (InputStream is = Files.newInputStream(path)) {
+                int read;
+                while ((read = is.read(buffer)) != -1) {
+                    md5.putBytes(buffer, 0, read);
+                    sha1.putBytes(buffer, 0, read);
+                    sha512.putBytes(buffer, 0, read);
+                    length += Murmur2Hasher.countNonWhitespace(buffer, 0, read);
+                }
+            }
+
+            Murmur2Hasher murmurHasher = new Murmur2Hasher(1L, length);
+            try (InputStream is = Files.newInputStream(path)) {
+                int read;
+                while ((read = is.read(buffer)) != -1) {
+                    murmurHasher.update(buffer, 0, read);
+                }
+            }
+
+            try {
+                murmur = murmurHasher.hash();
+            } catch (IllegalStateException e) {
+                throw new IOException("File " + path.toAbsolutePath() + " changed while being hashed", e);
+            }
+
+            try (ZipFile zipFile = ZipFile.builder().setPath(path).get()) {
+                mcModJson = getZipEntry(zipFile, "mcmod.info");
+                fabricModJson = getZipEntry(zipFile, "fabric.mod.json");
+            } catch (IOException e) {
+                // not a zip file, so there's no mod information
+                mcModJson = null;
+                fabricModJson = null;
+            }
+        }
+
+        MCMod mcMod = mcModJson == null ? null : Utils.parseMCMod(mcModJson);
+        FabricMod fabricMod = fabricModJson == null ? null : Utils.parseFabricMod(fabricModJson);
+
+        return new ModMetadata(size, modified, md5.hash().toString(), sha1.hash().toString(),
+                sha512.hash().toString(), murmur, mcMod, fabricMod);
+    }
+
+    private static String getZipEntry(ZipFile zipFile, String name) throws IOException {
+        ZipArchiveEntry entry = zipFile.getEntry(name);
+
+        if (entry == null) {
+            return null;
+        }
+
+        try (InputStream is = zipFile.getInputStream(entry)) {
+            return new String(ByteStreams.toByteArray(is), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String getKey(Path path) {
+        return path.toAbsolutePath().normalize().toString();
+    }
+
+    private synchronized void load() {
+        if (hasLoaded) {
+            return;
+        }
+
+        hasLoaded = true;
+
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        try (InputStreamReader fileReader = new InputStreamReader(Files.newInputStream(file),
+                StandardCharsets.UTF_8)) {
+            Type type = new TypeToken<Map<String, ModMetadata>>() {
+            }.getType();
+            Map<String, ModMetadata> savedMetadata = Gsons.DEFAULT_SLIM.fromJson(fileReader, type);
+
+            if (savedMetadata != null) {
+                metadata.putAll(savedMetadata);
+            }
+        } catch (JsonSyntaxException | JsonIOException | IOException e) {
+            LogManager.logStackTrace("Exception loading mod metadata index", e, false);
+        }
+    }
+
+    /**
+     * Saves the index to disk if anything has changed since it was last loaded/saved, dropping any files which no
+     * longer exist.
+     */
+    public synchronized void save() {
+        if (!isDirty) {
+            return;
+        }
+
+        isDirty = false;
+
+        metadata.keySet().removeIf(key -> !Files.exists(Paths.get(key)));
+
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStreamWriter fileWriter = new OutputStreamWriter(Files.newOutputStream(tempFile),
+                StandardCharsets.UTF_8)) {
+            Type type = new TypeToken<Map<String, ModMetadata>>() {
+            }.getType();
+            Gsons.DEFAULT_SLIM.toJson(metadata, type, fileWriter);
+        } catch (JsonIOException | IOException e) {
+            LogManager.logStackTrace("Exception saving mod metadata index", e, false);
+            return;
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LogManager.logStackTrace("Exception saving mod metadata index", e, false);
+        }
+    }
+}
@@ -22,12 +22,15 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -47,6 +50,7 @@ import com.atlauncher.data.modrinth.ModrinthVersion;
 import com.atlauncher.managers.ConfigManager;
 import com.atlauncher.managers.LogManager;
 import com.atlauncher.network.NetworkClient;
+import com.atlauncher.network.RequestBatcher;
 import com.google.gson.reflect.TypeToken;
 
 import okhttp3.CacheControl;
@@ -58,6 +62,14 @@ import okhttp3.RequestBody;
  * Various utility methods for interacting with the Modrinth API.
  */
 public class ModrinthApi {
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final long BATCH_DELAY_MILLIS = 50;
+
+    private static final RequestBatcher<String, ModrinthProject> PROJECT_BATCHER = new RequestBatcher<>(
+        MAX_BATCH_SIZE, BATCH_DELAY_MILLIS, ModrinthApi::getProjectsAsync);
+    private static final RequestBatcher<String, ModrinthVersion> SHA1_VERSION_BATCHER = new RequestBatcher<>(
+        MAX_BATCH_SIZE, BATCH_DELAY_MILLIS, hashes -> getVersionsFromHashesAsync(hashes, "sha1"));
+
     private static Headers getHeaders() {
         if (App.settings.modrinthApiKey == null || App.settings.modrinthApiKey.isEmpty()) {
             return null;
@@ -168,8 +180,8 @@ public class ModrinthApi {
             categories.add(Collections.singletonList(category));
         }
 
-        List<String> neoForgeForgeCompatabilityVersions = ConfigManager
-            .getConfigItem("loaders.neoforge.forgeCompatibleMinecraftVersions", new ArrayList<>());
+        Set<String> neoForgeForgeCompatabilityVersions = ConfigManager
+            .getConfigSet("loaders.neoforge.forgeCompatibleMinecraftVersions");
         if (gameVersions.stream().anyMatch(neoForgeForgeCompatabilityVersions::contains)) {
             categories.add(Arrays.asList("neoforge", "forge"));
         } else {
@@ -187,8 +199,8 @@ public class ModrinthApi {
             categories.add(Arrays.asList(category));
         }
 
-        List<String> neoForgeForgeCompatabilityVersions = ConfigManager
-            .getConfigItem("loaders.neoforge.forgeCompatibleMinecraftVersions", new ArrayList<String>());
+        Set<String> neoForgeForgeCompatabilityVersions = ConfigManager
+            .getConfigSet("loaders.neoforge.forgeCompatibleMinecraftVersions");
         if (gameVersions.stream().anyMatch(gv -> neoForgeForgeCompatabilityVersions.contains(gv))) {
             categories.add(Arrays.asList("neoforge", "forge", "fabric"));
         } else {
@@ -274,6 +286,16 @@ public class ModrinthApi {
         return getVersions(projectId, null, null);
     }
 
+    public static @Nullable List<ModrinthVersion> getVersions(String projectId, CacheControl cacheControl) {
+        java.lang.reflect.Type type = new TypeToken<List<ModrinthVersion>>() {
+        }.getType();
+
+        return NetworkClient.getCached(
+            String.format("%s/project/%s/version", Constants.MODRINTH_API_URL, projectId),
+            getHeaders(),
+            type, cacheControl);
+    }
+
     @Nullable
     public static List<ModrinthVersion> getVersions(String projectId, String minecraftVersion,
         LoaderVersion loaderVersion) {
@@ -299,8 +321,8 @@ public class ModrinthApi {
             if (loaderVersion.isForge()) {
                 loaders.add("forge");
             } else if (loaderVersion.isNeoForge()) {
-                List<String> neoForgeForgeCompatabilityVersions = ConfigManager
-                    .getConfigItem("loaders.neoforge.forgeCompatibleMinecraftVersions", new ArrayList<>());
+                Set<String> neoForgeForgeCompatabilityVersions = ConfigManager
+                    .getConfigSet("loaders.neoforge.forgeCompatibleMinecraftVersions");
                 if (neoForgeForgeCompatabilityVersions.contains(minecraftVersion)) {
                     loaders.add("forge");
                 }
@@ -448,6 +470,95 @@ public class ModrinthApi {
             type, new CacheControl.Builder().maxStale(10, TimeUnit.MINUTES).build());
     }
 
+    /**
+     * Gets a project by its id or slug without blocking. Lookups made around the same time are batched up into a
+     * single request.
+     */
+    public static CompletableFuture<ModrinthProject> getProjectAsync(String projectId) {
+        return PROJECT_BATCHER.get(projectId.replace("local-", ""));
+    }
+
+    /**
+     * Gets many projects by their id or slug without blocking, in batches shared with any other lookups. Failures are
+     * logged and give an empty map, the same as the blocking methods returning null.
+     */
+    public static CompletableFuture<Map<String, ModrinthProject>> getProjectsByIdAsync(Collection<String> projectIds) {
+        return PROJECT_BATCHER.getAll(projectIds).exceptionally(t -> {
+            LogManager.logStackTrace("Error getting projects from Modrinth", t, false);
+            return Collections.emptyMap();
+        });
+    }
+
+    /**
+     * @return a future completed with a map of the projects looked up, by both their id and slug
+     */
+    public static CompletableFuture<Map<String, ModrinthProject>> getProjectsAsync(List<String> projectIds) {
+        return getProjectsAsync(projectIds, new CacheControl.Builder().maxStale(10, TimeUnit.MINUTES).build());
+    }
+
+    public static CompletableFuture<Map<String, ModrinthProject>> getProjectsAsync(List<String> projectIds,
+        CacheControl cacheControl) {
+        java.lang.reflect.Type type = new TypeToken<List<ModrinthProject>>() {
+        }.getType();
+
+        return NetworkClient.<List<ModrinthProject>>getAsync(
+            String.format("%s/projects?ids=%s", Constants.MODRINTH_API_URL, Gsons.DEFAULT_SLIM.toJson(projectIds)),
+            getHeaders(),
+            type, cacheControl).thenApply(projects -> {
+                Map<String, ModrinthProject> projectsMap = new HashMap<>();
+
+                if (projects != null) {
+                    for (ModrinthProject project : projects) {
+                        projectsMap.put(project.id, project);
+
+                        if (project.slug != null) {
+                            projectsMap.put(project.slug, project);
+                        }
+                    }
+                }
+
+                return projectsMap;
+            });
+    }
+
+    /**
+     * Gets the version for a file by its SHA1 hash without blocking. Lookups made around the same time are batched up
+     * into a single request.
+     */
+    public static CompletableFuture<ModrinthVersion> getVersionFromSha1HashAsync(String hash) {
+        return SHA1_VERSION_BATCHER.get(hash);
+    }
+
+    /**
+     * Gets the versions for many files by their SHA1 hashes without blocking, in batches shared with any other
+     * lookups. Failures are logged and give an empty map, the same as the blocking methods returning null.
+     *
+     * @return a future completed with a map of hash to version, leaving out any hashes which weren't found
+     */
+    public static CompletableFuture<Map<String, ModrinthVersion>> getVersionsFromSha1HashesAsync(
+        Collection<String> hashes) {
+        return SHA1_VERSION_BATCHER.getAll(hashes).exceptionally(t -> {
+            LogManager.logStackTrace("Error getting versions from Modrinth", t, false);
+            return Collections.emptyMap();
+        });
+    }
+
+    private static CompletableFuture<Map<String, ModrinthVersion>> getVersionsFromHashesAsync(List<String> hashes,
+        String algorithm) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("hashes", hashes);
+        body.put("algorithm", algorithm);
+
+        java.lang.reflect.Type type = new TypeToken<Map<String, ModrinthVersion>>() {
+        }.getType();
+
+        return NetworkClient.postAsync(
+            String.format("%s/version_files", Constants.MODRINTH_API_URL),
+            getHeaders(), RequestBody.create(Gsons.DEFAULT_SLIM.toJson(body),
+                MediaType.get("application/json; charset=utf-8")),
+            type);
+    }
+
     public static Map<String, ModrinthProject> getProjectsAsMap(String[] projectIds) {
         try {
             List<ModrinthProject> projects = getProjects(projectIds);
@@ -0,0 +1,121 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.utils;
+
+/**
+ * Incremental version of the 32 bit Murmur2 hash used by CurseForge for fingerprinting files, which skips over
+ * whitespace bytes (tab, line feed, carriage return and space) as CurseForge does.
+ *
+ * This gives the exact same results as {@link com.sangupta.murmur.Murmur2#hash(byte[], int, long)} when called with
+ * the file contents with whitespace removed, but without needing to hold the whole file in memory. Since Murmur2 is
+ * seeded with the length of the data, the number of non whitespace bytes must be known up front (see
+ * {@link #countNonWhitespace(byte[], int, int)}).
+ */
+public final class Murmur2Hasher {
+    private static final long M = 0x5bd1e995L;
+    private static final int R = 24;
+    private static final long UINT_MASK = 0xFFFFFFFFL;
+
+    private final int length;
+    private final byte[] word = new byte[4];
+
+    private long h;
+    private int wordLength = 0;
+    private int count = 0;
+
+    public Murmur2Hasher(long seed, int length) {
+        this.length = length;
+        this.h = (seed ^ length) & UINT_MASK;
+    }
+
+    public static boolean isWhitespace(byte b) {
+        return b == 9 || b == 10 || b == 13 || b == 32;
+    }
+
+    public static int countNonWhitespace(byte[] data, int offset, int length) {
+        int count = 0;
+
+        for (int i = offset; i < offset + length; i++) {
+            if (!isWhitespace(data[i])) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    public void update(byte[] data, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            byte b = data[i];
+
+            if (isWhitespace(b)) {
+                continue;
+            }
+
+            word[wordLength++] = b;
+            count++;
+
+            if (wordLength == 4) {
+                mix();
+                wordLength = 0;
+            }
+        }
+    }
+
+    private void mix() {
+        long k = (word[0] & 0xFF) | (word[1] & 0xFF) << 8 | (word[2] & 0xFF) << 16 | (long) (word[3] & 0xFF) << 24;
+
+        k = (k * M) & UINT_MASK;
+        k ^= (k >>> R) & UINT_MASK;
+        k = (k * M) & UINT_MASK;
+
+        h = (h * M) & UINT_MASK;
+        h = (h ^ k) & UINT_MASK;
+    }
+
+    /**
+     * Finishes the hash and returns it.
+     *
+     * @throws IllegalStateException if the number of non whitespace bytes given doesn't match the expected length
+     */
+    @SuppressWarnings("fallthrough")
+    public long hash() {
+        if (count != length) {
+            throw new IllegalStateException("Expected " + length + " non whitespace bytes but got " + count);
+        }
+
+        // the remaining bytes are sign extended here to match com.sangupta.murmur.Murmur2
+        switch (wordLength) {
+            case 3:
+                h ^= ((long) (word[2] << 16)) & UINT_MASK;
+                // fall through
+            case 2:
+                h ^= ((long) (word[1] << 8)) & UINT_MASK;
+                // fall through
+            case 1:
+                h ^= ((long) word[0]) & UINT_MASK;
+                h = (h * M) & UINT_MASK;
+        }
+
+        h ^= (h >>> 13) & UINT_MASK;
+        h = (h * M) & UINT_MASK;
+        h ^= h >>> 15;
+
+        return h;
+    }
+}
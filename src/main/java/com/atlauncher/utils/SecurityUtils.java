@@ -18,12 +18,9 @@
 package com.atlauncher.utils;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.lang.reflect.Type;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -34,18 +31,15 @@ import java.util.function.Function;
 import java.util.jar.JarFile;
 
 import com.atlauncher.FileSystem;
-import com.atlauncher.Gsons;
 import com.atlauncher.managers.LogManager;
 import com.google.common.hash.HashCode;
-import com.google.gson.JsonIOException;
-import com.google.gson.reflect.TypeToken;
 
 import me.cortex.jarscanner.Detector;
 
 public class SecurityUtils {
-    // List of SHA1 hashes of files scanned as clean for Fractureiser
-    public static final List<String> FRACTURISER_SCANNED_HASHES = new ArrayList<>();
-    public static boolean hasLoadedFractureiserScannedHashes = false;
+    // Files scanned as clean for Fractureiser
+    public static final FractureiserScanCache FRACTURISER_SCAN_CACHE = new FractureiserScanCache(
+        FileSystem.FRACTURISER_SCAN_CACHE, FileSystem.FRACTURISER_SCANNED_HASHES);
 
     public static List<Path> scanForFractureiser(List<Path> paths) throws InterruptedException {
         Function<String, String> logOutput = outputString -> {
@@ -53,15 +47,30 @@ public class SecurityUtils {
             return outputString;
         };
 
-        loadFractureiserScannedHashes();
+        FRACTURISER_SCAN_CACHE.load();
 
         List<Path> infectionsFound = Collections.synchronizedList(new ArrayList<>());
 
         ExecutorService executor = Executors.newFixedThreadPool(4);
         for (final Path path : paths) {
             executor.submit(() -> {
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                } catch (IOException e) {
+                    LogManager.error(
+                        String.format("Failed to scan %s for Fractureiser", path.toAbsolutePath().toString()));
+                    return;
+                }
+
+                if (FRACTURISER_SCAN_CACHE.isScanned(path, attributes)) {
+                    LogManager.debug(String.format("%s is unchanged since it was scanned for Fractureiser",
+                        path.toAbsolutePath().toString()));
+                    return;
+                }
+
                 HashCode fileHash = Hashing.sha1(path);
-                if (FRACTURISER_SCANNED_HASHES.contains(fileHash.toString())) {
+                if (FRACTURISER_SCAN_CACHE.isScanned(path, attributes, fileHash)) {
                     LogManager.debug(String.format("%s has already been scanned for Fractureiser",
                         path.toAbsolutePath().toString()));
                     return;
@@ -72,8 +81,8 @@ public class SecurityUtils {
                 try (JarFile scannableJarFile = new JarFile(path.toFile())) {
                     if (Detector.scan(scannableJarFile, path, logOutput)) {
                         infectionsFound.add(path);
-                    } else {
-                        FRACTURISER_SCANNED_HASHES.add(fileHash.toString());
+                    } else if (!fileHash.equals(Hashing.EMPTY_HASH_CODE)) {
+                        FRACTURISER_SCAN_CACHE.markScanned(path, attributes, fileHash);
                     }
                 } catch (Exception e) {
                     LogManager.error(
@@ -85,36 +94,8 @@ public class SecurityUtils {
         executor.shutdown();
         executor.awaitTermination(5, TimeUnit.MINUTES);
 
-        saveFractureiserScannedHashes();
+        FRACTURISER_SCAN_CACHE.save();
 
         return infectionsFound;
     }
-
-    private static void loadFractureiserScannedHashes() {
-        if (!hasLoadedFractureiserScannedHashes && Files.exists(FileSystem.FRACTURISER_SCANNED_HASHES)) {
-            try (InputStreamReader fileReader = new InputStreamReader(
-                Files.newInputStream(FileSystem.FRACTURISER_SCANNED_HASHES), StandardCharsets.UTF_8)) {
-                Type stringListType = new TypeToken<List<String>>() {
-                }.getType();
-                List<String> scannedHashes = Gsons.DEFAULT.fromJson(fileReader, stringListType);
-
-                FRACTURISER_SCANNED_HASHES.addAll(scannedHashes);
-
-                hasLoadedFractureiserScannedHashes = true;
-            } catch (Exception e) {
-                LogManager.logStackTrace("Exception loading scanned Fracturiser hashes", e, false);
-            }
-        }
-    }
-
-    private static void saveFractureiserScannedHashes() {
-        try (OutputStreamWriter fileWriter = new OutputStreamWriter(
-            Files.newOutputStream(FileSystem.FRACTURISER_SCANNED_HASHES), StandardCharsets.UTF_8)) {
-            Type stringListType = new TypeToken<List<String>>() {
-            }.getType();
-            Gsons.DEFAULT.toJson(FRACTURISER_SCANNED_HASHES, stringListType, fileWriter);
-        } catch (JsonIOException | IOException e) {
-            LogManager.logStackTrace(e, false);
-        }
-    }
 }
@@ -53,9 +53,13 @@ public class TechnicApi {
     }
 
     public static TechnicModpack getModpackBySlugWithThrow(String slug) throws DownloadException {
+        return getModpackBySlugWithThrow(slug, new CacheControl.Builder().maxStale(10, TimeUnit.MINUTES).build());
+    }
+
+    public static TechnicModpack getModpackBySlugWithThrow(String slug, CacheControl cacheControl)
+            throws DownloadException {
         return NetworkClient.getCachedWithThrow(String.format("%s/modpack/%s?build=%s", Constants.TECHNIC_API_URL, slug,
-                Constants.LAUNCHER_NAME.toLowerCase(Locale.ENGLISH)), TechnicModpack.class,
-                new CacheControl.Builder().maxStale(10, TimeUnit.MINUTES).build());
+                Constants.LAUNCHER_NAME.toLowerCase(Locale.ENGLISH)), TechnicModpack.class, cacheControl);
     }
 
     private static Object normalizeSolderUrl(String solderUrl) {
@@ -67,11 +71,16 @@ public class TechnicApi {
     }
 
     public static TechnicSolderModpack getSolderModpackBySlug(String solderUrl, String slug) {
-        return NetworkClient.getCached(String.format("%s/modpack/%s", normalizeSolderUrl(solderUrl), slug),
-                TechnicSolderModpack.class,
+        return getSolderModpackBySlug(solderUrl, slug,
                 new CacheControl.Builder().maxStale(10, TimeUnit.MINUTES).build());
     }
 
+    public static TechnicSolderModpack getSolderModpackBySlug(String solderUrl, String slug,
+            CacheControl cacheControl) {
+        return NetworkClient.getCached(String.format("%s/modpack/%s", normalizeSolderUrl(solderUrl), slug),
+                TechnicSolderModpack.class, cacheControl);
+    }
+
     public static TechnicSolderModpackManifest getSolderModpackManifest(String solderUrl, String slug, String build) {
         return NetworkClient.getCached(String.format("%s/modpack/%s/%s", normalizeSolderUrl(solderUrl), slug, build),
                 TechnicSolderModpackManifest.class,
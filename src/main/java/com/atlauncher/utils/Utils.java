@@ -1485,11 +1485,24 @@ public class Utils {
     }
 
     public static MCMod getMCModForFile(File file) {
+        try {
+            return parseMCMod(ArchiveUtils.getFile(file.toPath(), "mcmod.info"));
+        } catch (Exception ignored) {
+            // ignored
+        }
+
+        return null;
+    }
+
+    /**
+     * Parses the contents of a mcmod.info file and returns the first mod in it, or null if there isn't one.
+     */
+    public static MCMod parseMCMod(String json) {
         try {
             java.lang.reflect.Type type = new TypeToken<List<MCMod>>() {
             }.getType();
 
-            List<MCMod> mods = Gsons.DEFAULT.fromJson(ArchiveUtils.getFile(file.toPath(), "mcmod.info"), type);
+            List<MCMod> mods = Gsons.DEFAULT.fromJson(json, type);
 
             if (!mods.isEmpty() && mods.get(0) != null) {
                 return mods.get(0);
@@ -1503,13 +1516,21 @@ public class Utils {
 
     public static FabricMod getFabricModForFile(File file) {
         try {
-            FabricMod mod = Gsons.DEFAULT.fromJson(ArchiveUtils.getFile(file.toPath(), "fabric.mod.json"),
-                FabricMod.class);
+            return parseFabricMod(ArchiveUtils.getFile(file.toPath(), "fabric.mod.json"));
+        } catch (Exception ignored) {
+            // ignored
+        }
 
-            if (mod != null) {
-                return mod;
-            }
-        } catch (Exception ignored2) {
+        return null;
+    }
+
+    /**
+     * Parses the contents of a fabric.mod.json file, returning null if it's not valid.
+     */
+    public static FabricMod parseFabricMod(String json) {
+        try {
+            return Gsons.DEFAULT.fromJson(json, FabricMod.class);
+        } catch (Exception ignored) {
             // ignored
         }
 
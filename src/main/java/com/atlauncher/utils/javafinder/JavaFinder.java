@@ -35,6 +35,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.atlauncher.App;
+import com.atlauncher.managers.JavaProbeManager;
 import com.atlauncher.managers.LogManager;
 import com.atlauncher.managers.PerformanceManager;
 import com.atlauncher.utils.OS;
@@ -150,9 +151,14 @@ public class JavaFinder {
             javaPaths = new SoftReference<>(javaExecs);
         }
 
-        PerformanceManager.end();
-        return javaExecs.stream().distinct().filter(java -> Files.exists(Paths.get(java))).map(JavaInfo::new)
+        List<String> existingJavaExecs = javaExecs.stream().distinct().filter(java -> Files.exists(Paths.get(java)))
                 .collect(Collectors.toList());
+
+        // probe any new or updated installs in parallel up front, so creating each JavaInfo below is just a lookup
+        JavaProbeManager.probeAll(existingJavaExecs);
+
+        PerformanceManager.end();
+        return existingJavaExecs.stream().map(JavaInfo::new).collect(Collectors.toList());
     }
 
     // Inspired by
@@ -19,13 +19,13 @@ package com.atlauncher.viewmodel.impl;
 
 import java.awt.Font;
 import java.util.ArrayList;
-import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -35,7 +35,6 @@ import javax.annotation.Nullable;
 
 import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
-import org.joda.time.format.ISODateTimeFormat;
 import org.mini2Dx.gettext.GetText;
 
 import com.apollographql.apollo.ApolloQueryCall;
@@ -189,7 +188,7 @@ public class CreatePackViewModel implements SettingsListener, ICreatePackViewMod
                 final DateTimeFormatter fmt = DateTimeFormat.forPattern(App.settings.dateFormat);
 
                 return MinecraftManager.getFilteredMinecraftVersions(filtered).stream().map(it -> new MCVersionRow(
-                        it.id, fmt.print(ISODateTimeFormat.dateTimeParser().parseDateTime(it.releaseTime)),
+                        it.id, fmt.print(it.getReleaseTimeMillis()),
                         it.type.toString())).collect(Collectors.toList());
             }).subscribeOn(Schedulers.io());
 
@@ -293,88 +292,88 @@ public class CreatePackViewModel implements SettingsListener, ICreatePackViewMod
             .subscribeOn(Schedulers.computation());
 
     // was lazy
-    private final List<String> fabricDisabledMCVersions = ConfigManager
-            .getConfigItem("loaders.fabric.disabledMinecraftVersions", emptyList());
+    private final Set<String> fabricDisabledMCVersions = ConfigManager
+            .getConfigSet("loaders.fabric.disabledMinecraftVersions");
 
     public final Observable<Boolean> isFabricVisible = selectedMinecraftVersionFlow
             .map(version -> !fabricDisabledMCVersions.contains(version.orElse(null)))
             .subscribeOn(Schedulers.computation());
 
     // was lazy
-    private final List<String> legacyFabricDisabledMCVersions = ConfigManager.getConfigItem(
-            "loaders.fabric.disabledMinecraftVersions", emptyList());
+    private final Set<String> legacyFabricDisabledMCVersions = ConfigManager.getConfigSet(
+            "loaders.fabric.disabledMinecraftVersions");
 
     public final Observable<Boolean> isLegacyFabricVisible = selectedMinecraftVersionFlow
             .map(version -> !legacyFabricDisabledMCVersions.contains(version.orElse(null)))
             .subscribeOn(Schedulers.computation());
 
     // was lazy
-    private final List<String> neoForgeDisabledMCVersions = ConfigManager.getConfigItem(
-            "loaders.neoforge.disabledMinecraftVersions", emptyList());
+    private final Set<String> neoForgeDisabledMCVersions = ConfigManager.getConfigSet(
+            "loaders.neoforge.disabledMinecraftVersions");
 
     public final Observable<Boolean> isNeoForgeVisible = selectedMinecraftVersionFlow
             .map(version -> !neoForgeDisabledMCVersions.contains(version.orElse(null)))
             .subscribeOn(Schedulers.computation());
 
     // was lazy
-    private final List<String> paperDisabledMCVersions = ConfigManager.getConfigItem(
-            "loaders.paper.disabledMinecraftVersions", emptyList());
+    private final Set<String> paperDisabledMCVersions = ConfigManager.getConfigSet(
+            "loaders.paper.disabledMinecraftVersions");
 
     public final Observable<Boolean> isPaperVisible = selectedMinecraftVersionFlow
             .map(version -> !paperDisabledMCVersions.contains(version.orElse(null)))
             .subscribeOn(Schedulers.computation());
 
     // was lazy
-    private final List<String> purpurDisabledMCVersions = ConfigManager.getConfigItem(
-            "loaders.purpur.disabledMinecraftVersions", emptyList());
+    private final Set<String> purpurDisabledMCVersions = ConfigManager.getConfigSet(
+            "loaders.purpur.disabledMinecraftVersions");
 
     public final Observable<Boolean> isPurpurVisible = selectedMinecraftVersionFlow
             .map(version -> !purpurDisabledMCVersions.contains(version.orElse(null)))
             .subscribeOn(Schedulers.computation());
 
     // was lazy
-    private final List<String> forgeDisabledMCVersions = ConfigManager.getConfigItem(
-            "loaders.forge.disabledMinecraftVersions", emptyList());
+    private final Set<String> forgeDisabledMCVersions = ConfigManager.getConfigSet(
+            "loaders.forge.disabledMinecraftVersions");
 
     public final Observable<Boolean> isForgeVisible = selectedMinecraftVersionFlow
             .map(version -> !forgeDisabledMCVersions.contains(version.orElse(null)))
             .subscribeOn(Schedulers.computation());
 
     // was lazy
-    private final List<String> quiltDisabledMCVersions = ConfigManager.getConfigItem(
-            "loaders.quilt.disabledMinecraftVersions", emptyList());
+    private final Set<String> quiltDisabledMCVersions = ConfigManager.getConfigSet(
+            "loaders.quilt.disabledMinecraftVersions");
 
     public final Observable<Boolean> isQuiltVisible = selectedMinecraftVersionFlow
             .map(version -> !quiltDisabledMCVersions.contains(version.orElse(null)))
             .subscribeOn(Schedulers.computation());
 
     // was lazy
-    private final List<String> disabledQuiltVersions = ConfigManager.getConfigItem(
-            "loaders.quilt.disabledVersions", emptyList());
+    private final Set<String> disabledQuiltVersions = ConfigManager.getConfigSet(
+            "loaders.quilt.disabledVersions");
 
     // was lazy
-    private final List<String> disabledFabricVersions = ConfigManager.getConfigItem(
-            "loaders.fabric.disabledVersions", emptyList());
+    private final Set<String> disabledFabricVersions = ConfigManager.getConfigSet(
+            "loaders.fabric.disabledVersions");
 
     // was lazy
-    private final List<String> disabledLegacyFabricVersions = ConfigManager.getConfigItem(
-            "loaders.legacyfabric.disabledVersions", emptyList());
+    private final Set<String> disabledLegacyFabricVersions = ConfigManager.getConfigSet(
+            "loaders.legacyfabric.disabledVersions");
 
     // was lazy
-    private final List<String> disabledNeoForgeVersions = ConfigManager.getConfigItem(
-            "loaders.neoforge.disabledVersions", emptyList());
+    private final Set<String> disabledNeoForgeVersions = ConfigManager.getConfigSet(
+            "loaders.neoforge.disabledVersions");
 
     // was lazy
-    private final List<String> disabledPaperVersions = ConfigManager.getConfigItem(
-            "loaders.paper.disabledVersions", emptyList());
+    private final Set<String> disabledPaperVersions = ConfigManager.getConfigSet(
+            "loaders.paper.disabledVersions");
 
     // was lazy
-    private final List<String> disabledPurpurVersions = ConfigManager.getConfigItem(
-            "loaders.purpur.disabledVersions", emptyList());
+    private final Set<String> disabledPurpurVersions = ConfigManager.getConfigSet(
+            "loaders.purpur.disabledVersions");
 
     // was lazy
-    private final List<String> disabledForgeVersions = ConfigManager.getConfigItem(
-            "loaders.forge.disabledVersions", emptyList());
+    private final Set<String> disabledForgeVersions = ConfigManager.getConfigSet(
+            "loaders.forge.disabledVersions");
 
     private final LoaderVersion noLoaderVersions = new LoaderVersion(GetText.tr("No Versions Found"));
     private final LoaderVersion errorLoadingVersions = new LoaderVersion(GetText.tr("Error Getting Versions"));
@@ -42,6 +42,8 @@ public class BackupsSettingsViewModel implements SettingsListener {
 
     private final BehaviorSubject<Boolean> enableAutomaticBackupAfterLaunch = BehaviorSubject.create();
 
+    private final BehaviorSubject<Integer> incrementalBackupsToKeep = BehaviorSubject.create();
+
     private final BehaviorSubject<String> backupsPath = BehaviorSubject.create();
 
     private final BehaviorSubject<CheckState> backupsPathChecker = BehaviorSubject.create();
@@ -56,6 +58,7 @@ public class BackupsSettingsViewModel implements SettingsListener {
     public void onSettingsSaved() {
         backupMode.onNext(App.settings.backupMode.ordinal());
         enableAutomaticBackupAfterLaunch.onNext(App.settings.enableAutomaticBackupAfterLaunch);
+        incrementalBackupsToKeep.onNext(App.settings.incrementalBackupsToKeep);
         backupsPath.onNext(Optional.ofNullable(App.settings.backupsPath)
                 .orElse(FileSystem.BACKUPS.toAbsolutePath().toString()));
     }
@@ -92,6 +95,21 @@ public class BackupsSettingsViewModel implements SettingsListener {
         SettingsManager.post();
     }
 
+    /**
+     * Listen to changes to the number of incremental backups to keep
+     */
+    public Observable<Integer> getIncrementalBackupsToKeep() {
+        return incrementalBackupsToKeep.observeOn(SwingSchedulers.edt());
+    }
+
+    /**
+     * Set the number of incremental backups to keep
+     */
+    public void setIncrementalBackupsToKeep(int backupsToKeep) {
+        App.settings.incrementalBackupsToKeep = backupsToKeep;
+        SettingsManager.post();
+    }
+
     /**
      * Listen to backups path changes
      */
@@ -37,6 +37,7 @@ import com.atlauncher.evnt.listener.SettingsListener;
 import com.atlauncher.evnt.manager.SettingsManager;
 import com.atlauncher.gui.tabs.settings.JavaSettingsTab;
 import com.atlauncher.managers.SettingsValidityManager;
+import com.atlauncher.managers.VerifiedFileManager;
 import com.atlauncher.utils.Java;
 import com.atlauncher.utils.OS;
 import com.gitlab.doomsdayrs.lib.rxswing.schedulers.SwingSchedulers;
@@ -67,7 +68,8 @@ public class JavaSettingsViewModel implements SettingsListener {
         _useJavaProvidedByMinecraft = BehaviorSubject.create(),
         _disableLegacyLaunching = BehaviorSubject.create(),
         _useSystemGlfw = BehaviorSubject.create(),
-        _useSystemOpenAl = BehaviorSubject.create();
+        _useSystemOpenAl = BehaviorSubject.create(),
+        _alwaysVerifyGameFiles = BehaviorSubject.create();
 
     private final BehaviorSubject<CheckState> javaPathCheckState = BehaviorSubject.create(),
         javaInstallLocationCheckState = BehaviorSubject.create(),
@@ -212,6 +214,7 @@ public class JavaSettingsViewModel implements SettingsListener {
         _disableLegacyLaunching.onNext(App.settings.disableLegacyLaunching);
         _useSystemGlfw.onNext(App.settings.useSystemGlfw);
         _useSystemOpenAl.onNext(App.settings.useSystemOpenAl);
+        _alwaysVerifyGameFiles.onNext(App.settings.alwaysVerifyGameFiles);
     }
 
     /**
@@ -460,6 +463,19 @@ public class JavaSettingsViewModel implements SettingsListener {
         SettingsManager.post();
     }
 
+    public Observable<Boolean> getAlwaysVerifyGameFiles() {
+        return _alwaysVerifyGameFiles.observeOn(SwingSchedulers.edt());
+    }
+
+    public void setAlwaysVerifyGameFiles(Boolean b) {
+        if (b && !App.settings.alwaysVerifyGameFiles) {
+            VerifiedFileManager.clear();
+        }
+
+        App.settings.alwaysVerifyGameFiles = b;
+        SettingsManager.post();
+    }
+
     public void setJavaInstallLocationPending() {
         SettingsValidityManager.setValidity("javaInstallLocation", false);
     }
@@ -21,6 +21,7 @@ import com.atlauncher.App;
 import com.atlauncher.evnt.listener.SettingsListener;
 import com.atlauncher.evnt.manager.SettingsManager;
 import com.atlauncher.gui.tabs.settings.LoggingSettingsTab;
+import com.atlauncher.managers.LogManager;
 import com.gitlab.doomsdayrs.lib.rxswing.schedulers.SwingSchedulers;
 
 import io.reactivex.rxjava3.core.Observable;
@@ -33,6 +34,8 @@ public class LoggingSettingsViewModel implements SettingsListener {
     private final BehaviorSubject<Boolean>
         _enableLogging = BehaviorSubject.create(),
         _enableAnalytics = BehaviorSubject.create();
+    private final BehaviorSubject<Integer> _consoleMaxLines = BehaviorSubject.create();
+    private final BehaviorSubject<LogManager.OverflowPolicy> _logOverflowPolicy = BehaviorSubject.create();
 
     public LoggingSettingsViewModel() {
         onSettingsSaved();
@@ -43,6 +46,8 @@ public class LoggingSettingsViewModel implements SettingsListener {
     public void onSettingsSaved() {
         _enableLogging.onNext(App.settings.enableLogs);
         _enableAnalytics.onNext(App.settings.enableAnalytics);
+        _consoleMaxLines.onNext(App.settings.consoleMaxLines);
+        _logOverflowPolicy.onNext(LogManager.OverflowPolicy.fromString(App.settings.logOverflowPolicy));
     }
 
     public Observable<Boolean> getEnableLogging() {
@@ -62,4 +67,28 @@ public class LoggingSettingsViewModel implements SettingsListener {
         App.settings.enableAnalytics = b;
         SettingsManager.post();
     }
-}
\ No newline at end of file
+
+    public Observable<Integer> getConsoleMaxLines() {
+        return _consoleMaxLines.observeOn(SwingSchedulers.edt());
+    }
+
+    public void setConsoleMaxLines(int lines) {
+        App.settings.consoleMaxLines = lines;
+        SettingsManager.post();
+    }
+
+    public Observable<LogManager.OverflowPolicy> getLogOverflowPolicy() {
+        return _logOverflowPolicy.observeOn(SwingSchedulers.edt());
+    }
+
+    public void setLogOverflowPolicy(LogManager.OverflowPolicy policy) {
+        App.settings.logOverflowPolicy = policy.name();
+
+        // a policy passed on the command line takes precedence until the launcher is restarted
+        if (App.logOverflowPolicy == null) {
+            LogManager.overflowPolicy = policy;
+        }
+
+        SettingsManager.post();
+    }
+}
@@ -28,6 +28,7 @@ import com.atlauncher.data.ProxyType;
 import com.atlauncher.evnt.listener.SettingsListener;
 import com.atlauncher.evnt.manager.SettingsManager;
 import com.atlauncher.gui.tabs.settings.NetworkSettingsTab;
+import com.atlauncher.managers.ExternalPackUpdateManager;
 import com.atlauncher.managers.SettingsValidityManager;
 import com.atlauncher.utils.Utils;
 import com.gitlab.doomsdayrs.lib.rxswing.schedulers.SwingSchedulers;
@@ -42,10 +43,13 @@ public class NetworkSettingsViewModel implements SettingsListener {
 
     private final BehaviorSubject<Integer> _concurrentConnections = BehaviorSubject.create(),
             _connectionTimeout = BehaviorSubject.create(),
+            _maxConnectionsPerHost = BehaviorSubject.create(),
+            _packUpdateCheckInterval = BehaviorSubject.create(),
             _proxyPort = BehaviorSubject.create(),
             _proxyType = BehaviorSubject.create();
 
-    private final BehaviorSubject<Boolean> _enableProxy = BehaviorSubject.create();
+    private final BehaviorSubject<Boolean> _enableProxy = BehaviorSubject.create(),
+            _enableHttp2 = BehaviorSubject.create();
 
     private final BehaviorSubject<String> _proxyHost = BehaviorSubject.create(),
             modrinthAPIKey = BehaviorSubject.create();
@@ -64,6 +68,9 @@ public class NetworkSettingsViewModel implements SettingsListener {
     public void onSettingsSaved() {
         _concurrentConnections.onNext(App.settings.concurrentConnections);
         _connectionTimeout.onNext(App.settings.connectionTimeout);
+        _maxConnectionsPerHost.onNext(App.settings.maxConnectionsPerHost);
+        _enableHttp2.onNext(App.settings.enableHttp2);
+        _packUpdateCheckInterval.onNext(App.settings.packUpdateCheckInterval);
         _proxyPort.onNext(App.settings.proxyPort);
         _enableProxy.onNext(App.settings.enableProxy);
         _proxyHost.onNext(App.settings.proxyHost);
@@ -72,8 +79,14 @@ public class NetworkSettingsViewModel implements SettingsListener {
     }
 
     public void setConcurrentConnections(int connections) {
+        boolean connectionsChanged = App.settings.concurrentConnections != connections;
+
         App.settings.concurrentConnections = connections;
         SettingsManager.post();
+
+        if (connectionsChanged) {
+            Network.setTransportSettings();
+        }
     }
 
     public Observable<Integer> getConcurrentConnections() {
@@ -95,6 +108,51 @@ public class NetworkSettingsViewModel implements SettingsListener {
         return _connectionTimeout.observeOn(SwingSchedulers.edt());
     }
 
+    public void setMaxConnectionsPerHost(int connections) {
+        boolean connectionsChanged = App.settings.maxConnectionsPerHost != connections;
+
+        App.settings.maxConnectionsPerHost = connections;
+        SettingsManager.post();
+
+        if (connectionsChanged) {
+            Network.setTransportSettings();
+        }
+    }
+
+    public Observable<Integer> getMaxConnectionsPerHost() {
+        return _maxConnectionsPerHost.observeOn(SwingSchedulers.edt());
+    }
+
+    public void setEnableHttp2(Boolean b) {
+        boolean http2Changed = App.settings.enableHttp2 != b;
+
+        App.settings.enableHttp2 = b;
+        SettingsManager.post();
+
+        if (http2Changed) {
+            Network.setTransportSettings();
+        }
+    }
+
+    public Observable<Boolean> getEnableHttp2() {
+        return _enableHttp2.observeOn(SwingSchedulers.edt());
+    }
+
+    public void setPackUpdateCheckInterval(int interval) {
+        boolean intervalChanged = App.settings.packUpdateCheckInterval != interval;
+
+        App.settings.packUpdateCheckInterval = interval;
+        SettingsManager.post();
+
+        if (intervalChanged) {
+            ExternalPackUpdateManager.scheduleChecks();
+        }
+    }
+
+    public Observable<Integer> getPackUpdateCheckInterval() {
+        return _packUpdateCheckInterval.observeOn(SwingSchedulers.edt());
+    }
+
     public void setEnableProxy(Boolean b) {
         App.settings.enableProxy = b;
         SettingsManager.post();
@@ -0,0 +1,80 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.atlauncher.utils.Hashing;
+
+public class PackRegistryTest {
+    private static Pack pack(int id, String name, int position, boolean featured, boolean system) {
+        Pack pack = new Pack();
+        pack.id = id;
+        pack.name = name;
+        pack.position = position;
+        pack.type = PackType.PUBLIC;
+        pack.featured = featured;
+        pack.system = system;
+
+        return pack;
+    }
+
+    private static List<String> names(List<Pack> packs) {
+        return packs.stream().map(Pack::getName).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testLookups() {
+        Pack first = pack(1, "Sky Factory", 2, false, false);
+        Pack second = pack(2, "Vanilla Minecraft", 1, false, false);
+        Pack semiPublic = pack(3, "Secret Pack", 3, false, false);
+        semiPublic.type = PackType.SEMIPUBLIC;
+        semiPublic.code = Hashing.md5("secret").toString();
+
+        PackRegistry registry = new PackRegistry(Arrays.asList(first, second, semiPublic));
+
+        assertSame(first, registry.getById(1));
+        assertNull(registry.getById(4));
+        assertSame(second, registry.getByName("vanilla minecraft"));
+        assertSame(first, registry.getBySafeName("SKYFACTORY"));
+        assertNull(registry.getByName(null));
+        assertSame(semiPublic, registry.getSemiPublicByCode(Hashing.md5("secret")));
+        assertNull(registry.getSemiPublicByCode(Hashing.md5("wrong")));
+    }
+
+    @Test
+    public void testSortedPacksLeaveOutSystemPacks() {
+        PackRegistry registry = new PackRegistry(Arrays.asList(pack(1, "beta", 3, true, false),
+                pack(2, "Alpha", 2, false, false), pack(3, "System", 0, false, true), pack(4, "Gamma", 1, true, false)));
+
+        assertEquals(Arrays.asList("Alpha", "beta", "Gamma"), names(registry.getSortedAlphabetically(false, false)));
+        assertEquals(Arrays.asList("Gamma", "beta", "Alpha"), names(registry.getSortedAlphabetically(false, true)));
+        assertEquals(Arrays.asList("Gamma", "Alpha", "beta"), names(registry.getSortedPositionally(false, false)));
+        assertEquals(Arrays.asList("Gamma", "beta"), names(registry.getSortedPositionally(true, false)));
+        assertEquals(Arrays.asList("beta", "Gamma"), names(registry.getSortedAlphabetically(true, false)));
+        assertEquals(4, registry.size());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.gui.card;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import com.atlauncher.data.Instance;
+
+public class InstanceCardTest {
+    private static final String TITLE_FORMAT = "%1$s (%2$s %3$s)";
+
+    @Test
+    public void testDisplayStateMatchesUnchangedInstance() {
+        Instance instance = mock(Instance.class);
+        when(instance.getRevision()).thenReturn(3);
+
+        InstanceCard.DisplayState state = new InstanceCard.DisplayState(instance, true, TITLE_FORMAT);
+
+        assertTrue(state.matches(instance, true, TITLE_FORMAT));
+    }
+
+    @Test
+    public void testDisplayStateDoesntMatchWhenAnythingShownChanges() {
+        Instance instance = mock(Instance.class);
+        when(instance.getRevision()).thenReturn(3);
+
+        InstanceCard.DisplayState state = new InstanceCard.DisplayState(instance, false, TITLE_FORMAT);
+
+        assertFalse(state.matches(instance, true, TITLE_FORMAT));
+        assertFalse(state.matches(instance, false, "%1$s"));
+        assertFalse(state.matches(mock(Instance.class), false, TITLE_FORMAT));
+
+        // saving the instance bumps its revision, so the card needs rebuilding
+        when(instance.getRevision()).thenReturn(4);
+        assertFalse(state.matches(instance, false, TITLE_FORMAT));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.gui.tabs.instances;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.atlauncher.data.Instance;
+import com.atlauncher.gui.models.InstanceUIModel;
+
+public class InstancesListPanelTest {
+    private final Map<UUID, FakeCard> cards = new HashMap<>();
+    private final AtomicInteger created = new AtomicInteger(0);
+
+    private List<FakeCard> getCardsToShow(InstanceUIModel... models) {
+        return InstancesListPanel.getCardsToShow(Arrays.asList(models), cards,
+                (card, model) -> card.model.instance == model.instance && card.model.hasUpdate == model.hasUpdate,
+                model -> {
+                    created.incrementAndGet();
+                    return new FakeCard(model);
+                });
+    }
+
+    private static InstanceUIModel model(UUID uuid, boolean hasUpdate) {
+        Instance instance = mock(Instance.class);
+        when(instance.getUUID()).thenReturn(uuid);
+
+        return new InstanceUIModel(instance, hasUpdate);
+    }
+
+    @Test
+    public void testCardsAreReusedAndReordered() {
+        InstanceUIModel first = model(UUID.randomUUID(), false);
+        InstanceUIModel second = model(UUID.randomUUID(), false);
+
+        List<FakeCard> shown = getCardsToShow(first, second);
+        List<FakeCard> reordered = getCardsToShow(second, first);
+
+        assertEquals(2, created.get());
+        assertSame(shown.get(0), reordered.get(1));
+        assertSame(shown.get(1), reordered.get(0));
+    }
+
+    @Test
+    public void testCardsHiddenBySearchAreKeptForReuse() {
+        InstanceUIModel first = model(UUID.randomUUID(), false);
+        InstanceUIModel second = model(UUID.randomUUID(), false);
+
+        List<FakeCard> shown = getCardsToShow(first, second);
+        assertEquals(Collections.singletonList(shown.get(1)), getCardsToShow(second));
+        List<FakeCard> shownAgain = getCardsToShow(first, second);
+
+        assertEquals(2, created.get());
+        assertSame(shown.get(0), shownAgain.get(0));
+    }
+
+    @Test
+    public void testCardIsRebuiltWhenNoLongerDisplayingInstance() {
+        UUID uuid = UUID.randomUUID();
+        InstanceUIModel model = model(uuid, false);
+
+        FakeCard card = getCardsToShow(model).get(0);
+        FakeCard updated = getCardsToShow(new InstanceUIModel(model.instance, true)).get(0);
+
+        assertEquals(2, created.get());
+        assertNotSame(card, updated);
+        assertSame(updated, cards.get(uuid));
+    }
+
+    private static final class FakeCard {
+        private final InstanceUIModel model;
+
+        private FakeCard(InstanceUIModel model) {
+            this.model = model;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.managers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.atlauncher.Data;
+import com.atlauncher.Gsons;
+import com.google.gson.reflect.TypeToken;
+
+public class ConfigManagerTest {
+    private static Map<String, Object> parse(String json) {
+        return Gsons.DEFAULT.fromJson(json, new TypeToken<Map<String, Object>>() {
+        }.getType());
+    }
+
+    @BeforeEach
+    public void initialize() {
+        Data.CONFIG = ConfigManager.flatten(parse("{\"useLwjglReplacement\": true, \"loaders\": {\"fabric\": "
+                + "{\"enabled\": true, \"disabledVersions\": [\"0.1\"]}, \"neoforge\": {\"enabled\": false, "
+                + "\"forgeCompatibleMinecraftVersions\": [\"1.20.1\"]}}}"),
+                parse("{\"loaders\": {\"neoforge\": {\"enabled\": true}}}"));
+    }
+
+    @Test
+    public void testGetConfigItem() {
+        assertTrue(ConfigManager.getConfigItem("useLwjglReplacement", false));
+        assertTrue(ConfigManager.getConfigItem("loaders.fabric.enabled", false));
+        assertEquals(Collections.singletonList("0.1"),
+                ConfigManager.getConfigItem("loaders.fabric.disabledVersions", Collections.emptyList()));
+        assertFalse(ConfigManager.getConfigItem("loaders.quilt.enabled", false));
+        assertFalse(ConfigManager.getConfigItem("missing", false));
+    }
+
+    @Test
+    public void testGetConfigItemPrefersOverrides() {
+        assertTrue(ConfigManager.getConfigItem("loaders.neoforge.enabled", false));
+
+        // values not overridden are kept
+        assertEquals(Collections.singletonList("1.20.1"),
+                ConfigManager.getConfigItem("loaders.neoforge.forgeCompatibleMinecraftVersions",
+                        Collections.emptyList()));
+    }
+
+    @Test
+    public void testGetConfigSetAndList() {
+        assertTrue(ConfigManager.getConfigSet("loaders.neoforge.forgeCompatibleMinecraftVersions").contains("1.20.1"));
+        assertEquals(Arrays.asList("0.1"), ConfigManager.getConfigList("loaders.fabric.disabledVersions"));
+        assertTrue(ConfigManager.getConfigSet("loaders.quilt.disabledVersions").isEmpty());
+
+        // the views are only built once
+        assertSame(ConfigManager.getConfigSet("loaders.fabric.disabledVersions"),
+                ConfigManager.getConfigSet("loaders.fabric.disabledVersions"));
+    }
+
+    @Test
+    public void testGetConfigSetUpdatesWhenConfigReplaced() {
+        assertTrue(ConfigManager.getConfigSet("loaders.fabric.disabledVersions").contains("0.1"));
+
+        Data.CONFIG = new HashMap<>();
+        Data.CONFIG.put("loaders.fabric.disabledVersions", Arrays.asList("0.2"));
+
+        assertEquals(Collections.singleton("0.2"), ConfigManager.getConfigSet("loaders.fabric.disabledVersions"));
+    }
+}
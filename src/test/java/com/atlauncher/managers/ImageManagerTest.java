@@ -0,0 +1,125 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.managers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.ImageIcon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ImageManagerTest {
+    // a 16x16 image is 1KB at 4 bytes a pixel
+    private static final long IMAGE_BYTES = 16 * 16 * 4;
+
+    @TempDir
+    Path tempDir;
+
+    private static ImageIcon icon() {
+        return new ImageIcon(new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB));
+    }
+
+    @Test
+    public void testMemoryCacheEvictsLeastRecentlyUsedOverBudget() {
+        ImageManager.MemoryCache cache = new ImageManager.MemoryCache(IMAGE_BYTES * 4);
+
+        cache.put("a", icon());
+        cache.put("b", icon());
+        cache.put("c", icon());
+        cache.put("d", icon());
+        assertEquals(IMAGE_BYTES * 4, cache.getBytes());
+
+        // using a makes b the least recently used, so it's the one removed to make space for e
+        assertNotNull(cache.get("a"));
+        cache.put("e", icon());
+
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("a"));
+        assertNotNull(cache.get("c"));
+        assertNotNull(cache.get("d"));
+        assertNotNull(cache.get("e"));
+        assertEquals(IMAGE_BYTES * 4, cache.getBytes());
+    }
+
+    @Test
+    public void testMemoryCacheDoesntKeepImagesTooLargeForBudget() {
+        ImageManager.MemoryCache cache = new ImageManager.MemoryCache(IMAGE_BYTES * 3);
+
+        cache.put("a", icon());
+        cache.put("b", icon());
+
+        assertNull(cache.get("b"));
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.getBytes());
+    }
+
+    @Test
+    public void testMemoryCacheReplacingImageKeepsCountRight() {
+        ImageManager.MemoryCache cache = new ImageManager.MemoryCache(IMAGE_BYTES * 4);
+
+        cache.put("a", icon());
+        cache.put("a", icon());
+
+        assertEquals(IMAGE_BYTES, cache.getBytes());
+    }
+
+    private Path cachedFile(String name, int size, long lastModified) throws IOException {
+        Path path = tempDir.resolve(name);
+        Files.write(path, new byte[size]);
+        Files.setLastModifiedTime(path, FileTime.fromMillis(lastModified));
+        return path;
+    }
+
+    @Test
+    public void testPruneCacheRemovesFilesOlderThanAllowed() throws IOException {
+        long now = System.currentTimeMillis();
+        Path recent = cachedFile("recent", 10, now - TimeUnit.DAYS.toMillis(1));
+        Path old = cachedFile("old", 10, now - TimeUnit.DAYS.toMillis(60));
+
+        ImageManager.pruneCache(tempDir, 1000, now - TimeUnit.DAYS.toMillis(30));
+
+        assertTrue(Files.exists(recent));
+        assertFalse(Files.exists(old));
+    }
+
+    @Test
+    public void testPruneCacheRemovesLeastRecentlyUsedOverSizeLimit() throws IOException {
+        long now = System.currentTimeMillis();
+        Path newest = cachedFile("newest", 400, now - 1000);
+        Path middle = cachedFile("middle", 400, now - 2000);
+        Path oldest = cachedFile("oldest", 400, now - 3000);
+
+        ImageManager.pruneCache(tempDir, 1000, now - TimeUnit.DAYS.toMillis(30));
+
+        assertTrue(Files.exists(newest));
+        assertTrue(Files.exists(middle));
+        assertFalse(Files.exists(oldest));
+    }
+}
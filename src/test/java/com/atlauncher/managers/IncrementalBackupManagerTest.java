@@ -0,0 +1,220 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.managers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.atlauncher.data.BackupMode;
+import com.atlauncher.data.IncrementalBackup;
+import com.atlauncher.utils.ZipNameMapper;
+
+public class IncrementalBackupManagerTest {
+    @TempDir
+    Path testStorage;
+
+    private static long countObjects(Path backupsPath) throws IOException {
+        try (Stream<Path> stream = Files.walk(backupsPath.resolve("incremental/objects"))) {
+            return stream.filter(Files::isRegularFile).count();
+        }
+    }
+
+    private static void write(Path path, String contents) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.write(path, contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testUnchangedFilesAreOnlyStoredOnce() throws IOException, InterruptedException {
+        Path backups = testStorage.resolve("backups");
+        Path instance = testStorage.resolve("instance");
+        write(instance.resolve("mods/mod.jar"), "mod");
+        write(instance.resolve("saves/world/level.dat"), "level 1");
+        write(instance.resolve("options.txt"), "fov:70");
+
+        IncrementalBackup first = IncrementalBackupManager.backup(backups, "Instance", instance,
+                ZipNameMapper.getMapperForBackupMode(BackupMode.INCREMENTAL), null);
+        assertNotNull(first);
+        assertEquals(3, first.files.size());
+        assertEquals(3, countObjects(backups));
+
+        write(instance.resolve("saves/world/level.dat"), "level 2");
+
+        IncrementalBackup second = IncrementalBackupManager.backup(backups, "Instance", instance,
+                ZipNameMapper.getMapperForBackupMode(BackupMode.INCREMENTAL), null);
+        assertNotNull(second);
+        assertEquals(3, second.files.size());
+        assertEquals(4, countObjects(backups));
+
+        List<IncrementalBackup> backupsList = IncrementalBackupManager.getBackups(backups, "Instance");
+        assertEquals(2, backupsList.size());
+    }
+
+    @Test
+    public void testRestoreRebuildsSnapshot() throws IOException, InterruptedException {
+        Path backups = testStorage.resolve("backups");
+        Path instance = testStorage.resolve("instance");
+        write(instance.resolve("saves/world/level.dat"), "level 1");
+        write(instance.resolve("logs/latest.log"), "not backed up");
+
+        IncrementalBackup first = IncrementalBackupManager.backup(backups, "Instance", instance,
+                ZipNameMapper.getMapperForBackupMode(BackupMode.NORMAL), null);
+        assertNotNull(first);
+        assertEquals(1, first.files.size());
+
+        write(instance.resolve("saves/world/level.dat"), "level 2");
+
+        Path restored = testStorage.resolve("restored");
+        assertTrue(IncrementalBackupManager.restore(backups, first, restored,
+                ZipNameMapper.getMapperForBackupMode(BackupMode.NORMAL), null));
+        assertArrayEquals("level 1".getBytes(StandardCharsets.UTF_8),
+                Files.readAllBytes(restored.resolve("saves/world/level.dat")));
+        assertFalse(Files.exists(restored.resolve("logs/latest.log")));
+    }
+
+    @Test
+    public void testRestoreRemovesFilesAddedAfterBackup() throws IOException, InterruptedException {
+        Path backups = testStorage.resolve("backups");
+        Path instance = testStorage.resolve("instance");
+        write(instance.resolve("saves/world/level.dat"), "level 1");
+
+        IncrementalBackup first = IncrementalBackupManager.backup(backups, "Instance", instance,
+                ZipNameMapper.getMapperForBackupMode(BackupMode.NORMAL), null);
+        assertNotNull(first);
+
+        write(instance.resolve("saves/world/level.dat"), "level 2");
+        write(instance.resolve("saves/world/region/r.0.0.mca"), "region");
+        write(instance.resolve("logs/latest.log"), "not backed up");
+
+        assertTrue(IncrementalBackupManager.restore(backups, first, instance,
+                ZipNameMapper.getMapperForBackupMode(BackupMode.NORMAL), null));
+        assertArrayEquals("level 1".getBytes(StandardCharsets.UTF_8),
+                Files.readAllBytes(instance.resolve("saves/world/level.dat")));
+        assertFalse(Files.exists(instance.resolve("saves/world/region/r.0.0.mca")));
+        assertTrue(Files.exists(instance.resolve("logs/latest.log")));
+    }
+
+    private void assertFailedRestoreLeavesInstanceAlone(boolean corrupt) throws IOException, InterruptedException {
+        Path backups = testStorage.resolve("backups");
+        Path instance = testStorage.resolve("instance");
+        write(instance.resolve("options.txt"), "fov:70");
+        write(instance.resolve("saves/world/level.dat"), "level 1");
+
+        IncrementalBackup first = IncrementalBackupManager.backup(backups, "Instance", instance,
+                ZipNameMapper.getMapperForBackupMode(BackupMode.NORMAL), null);
+        assertNotNull(first);
+
+        write(instance.resolve("options.txt"), "fov:90");
+        write(instance.resolve("saves/world/level.dat"), "level 2");
+        write(instance.resolve("saves/world/region/r.0.0.mca"), "region");
+
+        try (Stream<Path> stream = Files.walk(backups.resolve("incremental/objects"))) {
+            for (Path object : stream.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                if (corrupt) {
+                    write(object, "corrupt");
+                } else {
+                    Files.delete(object);
+                }
+            }
+        }
+
+        assertFalse(IncrementalBackupManager.restore(backups, first, instance,
+                ZipNameMapper.getMapperForBackupMode(BackupMode.NORMAL), null));
+        assertArrayEquals("fov:90".getBytes(StandardCharsets.UTF_8),
+                Files.readAllBytes(instance.resolve("options.txt")));
+        assertArrayEquals("level 2".getBytes(StandardCharsets.UTF_8),
+                Files.readAllBytes(instance.resolve("saves/world/level.dat")));
+        assertTrue(Files.exists(instance.resolve("saves/world/region/r.0.0.mca")));
+
+        try (Stream<Path> stream = Files.walk(instance)) {
+            assertFalse(stream.anyMatch(path -> path.getFileName().toString().endsWith(".restore.tmp")));
+        }
+    }
+
+    @Test
+    public void testRestoreWithMissingObjectsLeavesInstanceAlone() throws IOException, InterruptedException {
+        assertFailedRestoreLeavesInstanceAlone(false);
+    }
+
+    @Test
+    public void testRestoreWithCorruptObjectsLeavesInstanceAlone() throws IOException, InterruptedException {
+        assertFailedRestoreLeavesInstanceAlone(true);
+    }
+
+    @Test
+    public void testPruneKeepsObjectsWhenAManifestCantBeRead() throws IOException, InterruptedException {
+        Path backups = testStorage.resolve("backups");
+        Path instance = testStorage.resolve("instance");
+        write(instance.resolve("saves/world/level.dat"), "level 1");
+
+        IncrementalBackupManager.backup(backups, "Other", instance,
+                ZipNameMapper.getMapperForBackupMode(BackupMode.INCREMENTAL), null);
+        assertEquals(1, countObjects(backups));
+
+        // the only backup using the object can no longer be read, so it's unknown what it uses
+        try (Stream<Path> stream = Files.list(backups.resolve("incremental/snapshots/Other"))) {
+            write(stream.findFirst().get(), "{\"files\": [");
+        }
+
+        IncrementalBackupManager.prune(backups, "Instance", 1);
+        assertEquals(1, countObjects(backups));
+    }
+
+    @Test
+    public void testPruneRemovesOldBackupsAndUnusedObjects() throws IOException, InterruptedException {
+        Path backups = testStorage.resolve("backups");
+        Path instance = testStorage.resolve("instance");
+        write(instance.resolve("options.txt"), "fov:70");
+        write(instance.resolve("saves/world/level.dat"), "level 1");
+
+        IncrementalBackupManager.backup(backups, "Instance", instance,
+                ZipNameMapper.getMapperForBackupMode(BackupMode.INCREMENTAL), null);
+
+        write(instance.resolve("saves/world/level.dat"), "level 2");
+        IncrementalBackup second = IncrementalBackupManager.backup(backups, "Instance", instance,
+                ZipNameMapper.getMapperForBackupMode(BackupMode.INCREMENTAL), null);
+        assertEquals(3, countObjects(backups));
+
+        IncrementalBackupManager.prune(backups, "Instance", 1);
+
+        List<IncrementalBackup> remaining = IncrementalBackupManager.getBackups(backups, "Instance");
+        assertEquals(1, remaining.size());
+        assertEquals(second.name, remaining.get(0).name);
+        assertEquals(2, countObjects(backups));
+
+        Path restored = testStorage.resolve("restored");
+        assertTrue(IncrementalBackupManager.restore(backups, remaining.get(0), restored,
+                ZipNameMapper.getMapperForBackupMode(BackupMode.INCREMENTAL), null));
+        assertArrayEquals("level 2".getBytes(StandardCharsets.UTF_8),
+                Files.readAllBytes(restored.resolve("saves/world/level.dat")));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.managers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.atlauncher.data.JavaProbe;
+
+public class JavaProbeManagerTest {
+    @TempDir
+    Path testStorage;
+
+    private Path createReleaseFile(String contents) throws IOException {
+        return Files.write(testStorage.resolve("release"), contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testReadsVersionAndArchFromReleaseFile() throws IOException {
+        Path releaseFile = createReleaseFile("IMPLEMENTOR=\"Eclipse Adoptium\"\nJAVA_VERSION=\"17.0.2\"\n"
+                + "JAVA_VERSION_DATE=\"2022-01-18\"\nOS_ARCH=\"x86_64\"\nOS_NAME=\"Linux\"\n");
+
+        JavaProbe probe = JavaProbeManager.readReleaseFile(releaseFile, 10, 20);
+        assertEquals("17.0.2", probe.version);
+        assertTrue(probe.is64bits);
+        assertTrue(probe.matches(10, 20));
+    }
+
+    @Test
+    public void testReadsJava8ReleaseFile() throws IOException {
+        Path releaseFile = createReleaseFile("JAVA_VERSION=\"1.8.0_312\"\r\nOS_NAME=\"Windows\"\r\nOS_ARCH=\"i586\"\r\n");
+
+        JavaProbe probe = JavaProbeManager.readReleaseFile(releaseFile, 10, 20);
+        assertEquals("1.8.0_312", probe.version);
+        assertFalse(probe.is64bits);
+    }
+
+    @Test
+    public void testMissingOrIncompleteReleaseFileIsNotUsed() throws IOException {
+        assertNull(JavaProbeManager.readReleaseFile(testStorage.resolve("release"), 10, 20));
+
+        Path releaseFile = createReleaseFile("JAVA_VERSION=\"11.0.14\"\n");
+        assertNull(JavaProbeManager.readReleaseFile(releaseFile, 10, 20));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.managers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.atlauncher.Data;
+import com.atlauncher.data.minecraft.MinecraftVersionCatalog;
+import com.atlauncher.data.minecraft.VersionManifestVersion;
+import com.atlauncher.data.minecraft.VersionManifestVersionType;
+import com.atlauncher.exceptions.InvalidMinecraftVersion;
+
+public class MinecraftManagerTest {
+    private static VersionManifestVersion createVersion(String id, VersionManifestVersionType type,
+            String releaseTime) {
+        VersionManifestVersion version = new VersionManifestVersion();
+        version.id = id;
+        version.type = type;
+        version.releaseTime = releaseTime;
+
+        return version;
+    }
+
+    private static List<String> ids(List<VersionManifestVersion> versions) {
+        return versions.stream().map(v -> v.id).collect(Collectors.toList());
+    }
+
+    @BeforeEach
+    public void initialize() {
+        Data.MINECRAFT = new MinecraftVersionCatalog(Arrays.asList(
+                createVersion("1.20", VersionManifestVersionType.RELEASE, "2023-06-02T08:36:17+00:00"),
+                createVersion("1.20.1", VersionManifestVersionType.RELEASE, "2023-06-12T13:25:51+00:00"),
+                createVersion("1.2.5", VersionManifestVersionType.RELEASE, "2012-03-29T22:00:00+00:00"),
+                createVersion("1.19.4", VersionManifestVersionType.RELEASE, "2023-03-14T12:56:18+00:00"),
+                createVersion("23w31a", VersionManifestVersionType.SNAPSHOT, "2023-08-01T11:03:10+00:00"),
+                createVersion("b1.7.3", VersionManifestVersionType.OLD_BETA, "2011-07-07T22:00:00+00:00")));
+
+        Data.CONFIG = new HashMap<>();
+    }
+
+    @Test
+    public void testGetMinecraftVersion() throws InvalidMinecraftVersion {
+        assertTrue(MinecraftManager.isMinecraftVersion("1.20.1"));
+        assertFalse(MinecraftManager.isMinecraftVersion("1.21"));
+        assertEquals("1.20.1", MinecraftManager.getMinecraftVersion("1.20.1").id);
+        assertThrows(InvalidMinecraftVersion.class, () -> MinecraftManager.getMinecraftVersion("1.21"));
+    }
+
+    @Test
+    public void testGetMinecraftVersionsSortsNewestFirst() {
+        assertEquals(Arrays.asList("23w31a", "1.20.1", "1.20", "1.19.4", "1.2.5", "b1.7.3"),
+                ids(MinecraftManager.getMinecraftVersions()));
+    }
+
+    @Test
+    public void testGetFilteredMinecraftVersions() {
+        assertEquals(Arrays.asList("1.20.1", "1.20", "1.19.4", "1.2.5"),
+                ids(MinecraftManager.getFilteredMinecraftVersions(VersionManifestVersionType.RELEASE)));
+        assertEquals(Arrays.asList("23w31a", "1.20.1", "1.20", "1.19.4", "1.2.5"),
+                ids(MinecraftManager.getFilteredMinecraftVersions(
+                        Arrays.asList(VersionManifestVersionType.SNAPSHOT, VersionManifestVersionType.RELEASE))));
+        assertEquals(Collections.emptyList(),
+                ids(MinecraftManager.getFilteredMinecraftVersions(Collections.emptyList())));
+    }
+
+    @Test
+    public void testGetFilteredMinecraftVersionsLeavesOutDisabledVersions() {
+        Data.CONFIG.put("minecraft.release.disabledVersions", Arrays.asList("1.20", "1.2.5"));
+
+        assertEquals(Arrays.asList("1.20.1", "1.19.4"),
+                ids(MinecraftManager.getFilteredMinecraftVersions(VersionManifestVersionType.RELEASE)));
+        assertEquals(Arrays.asList("23w31a", "1.20.1", "1.19.4", "b1.7.3"),
+                ids(MinecraftManager.getMinecraftVersions()));
+    }
+
+    @Test
+    public void testGetMajorMinecraftVersions() throws InvalidMinecraftVersion {
+        assertEquals(Arrays.asList("1.20.1", "1.20"), ids(MinecraftManager.getMajorMinecraftVersions("1.20.1")));
+        assertEquals(Arrays.asList("1.20.1", "1.20"), ids(MinecraftManager.getMajorMinecraftVersions("1.20")));
+        assertEquals(Collections.singletonList("1.2.5"), ids(MinecraftManager.getMajorMinecraftVersions("1.2.5")));
+        assertEquals(Collections.singletonList("23w31a"), ids(MinecraftManager.getMajorMinecraftVersions("23w31a")));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.network;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.atlauncher.App;
+import com.atlauncher.data.Settings;
+
+public class DownloadSchedulerTest {
+    @Test
+    public void testRunForHostDoesntRunTaskWhenInterrupted() {
+        AtomicBoolean ran = new AtomicBoolean(false);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(InterruptedException.class,
+                () -> DownloadScheduler.runForHost("https://example.com/file.jar", () -> ran.set(true)));
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertFalse(ran.get());
+    }
+
+    @Test
+    public void testRunAllReportsCancelledTasks() {
+        AtomicInteger ran = new AtomicInteger(0);
+
+        assertTrue(DownloadScheduler.runAll(Arrays.asList(ran::incrementAndGet, ran::incrementAndGet)));
+        assertFalse(DownloadScheduler.runAll(Arrays.asList(ran::incrementAndGet, () -> {
+            throw new CancellationException("cancelled");
+        })));
+        assertTrue(ran.get() >= 3);
+    }
+
+    @Test
+    public void testHostPermitsAreReentrantAndReleased() {
+        Settings settings = App.settings;
+        App.settings = new Settings();
+        App.settings.maxConnectionsPerHost = 1;
+
+        try {
+            AtomicBoolean ran = new AtomicBoolean(false);
+
+            // with a limit of one, a request made from a download task would never get a permit if they weren't
+            // reentrant, and another thread would never get one afterwards if they weren't all released
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                DownloadScheduler.runForHost("https://reentrant.example.com/file.jar", () -> {
+                    try {
+                        DownloadScheduler.acquireHostPermit("reentrant.example.com");
+                        DownloadScheduler.releaseHostPermit("reentrant.example.com");
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+
+                CompletableFuture.runAsync(() -> {
+                    try {
+                        DownloadScheduler.runForHost("https://reentrant.example.com/other.jar", () -> ran.set(true));
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }).get();
+            });
+
+            assertTrue(ran.get());
+        } finally {
+            App.settings = settings;
+        }
+    }
+}
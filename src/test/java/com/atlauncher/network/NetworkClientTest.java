@@ -0,0 +1,151 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.Delay;
+import org.mockserver.socket.PortFactory;
+import org.mockserver.verify.VerificationTimes;
+
+import com.atlauncher.App;
+import com.atlauncher.data.Settings;
+import com.google.gson.reflect.TypeToken;
+
+public class NetworkClientTest {
+    private static ClientAndServer mockServer;
+
+    @BeforeAll
+    public static void setUp() {
+        if (App.settings == null) {
+            App.settings = new Settings();
+        }
+
+        mockServer = ClientAndServer.startClientAndServer(PortFactory.findFreePort());
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        mockServer.stop();
+    }
+
+    private static String url(String path) {
+        return "http://localhost:" + mockServer.getPort() + path;
+    }
+
+    @Test
+    public void testGetDecodesResponse() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < 1000; i++) {
+            sb.append(i == 0 ? "" : ",").append("\"key").append(i).append("\":").append(i);
+        }
+        mockServer.when(request().withPath("/decode")).respond(response().withBody(sb.append("}").toString()));
+
+        Map<String, Integer> result = NetworkClient.get(url("/decode"), new TypeToken<Map<String, Integer>>() {
+        }.getType());
+
+        assertEquals(1000, result.size());
+        assertEquals(999, result.get("key999"));
+    }
+
+    @Test
+    public void testGetWithEmptyResponse() {
+        mockServer.when(request().withPath("/empty")).respond(response().withStatusCode(200));
+
+        assertNull(NetworkClient.get(url("/empty"), Object.class));
+    }
+
+    @Test
+    public void testIdenticalRequestsInFlightAreCoalesced() throws Exception {
+        mockServer.when(request().withPath("/coalesce"))
+            .respond(response().withBody("[1, 2, 3]").withDelay(Delay.milliseconds(500)));
+
+        long hits = NetworkClient.getSingleFlightHits();
+        int callers = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            List<Future<List<Integer>>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return NetworkClient.get(url("/coalesce"), new TypeToken<List<Integer>>() {
+                    }.getType());
+                }));
+            }
+            start.countDown();
+
+            List<Integer> first = futures.get(0).get(10, TimeUnit.SECONDS);
+            assertEquals(Arrays.asList(1, 2, 3), first);
+
+            // each caller decodes their own copy, so one modifying theirs doesn't affect the others
+            first.clear();
+            for (Future<List<Integer>> future : futures.subList(1, callers)) {
+                assertEquals(Arrays.asList(1, 2, 3), future.get(10, TimeUnit.SECONDS));
+            }
+
+            assertEquals(callers - 1, NetworkClient.getSingleFlightHits() - hits);
+            mockServer.verify(request().withPath("/coalesce"), VerificationTimes.exactly(1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGetAsync() throws Exception {
+        mockServer.when(request().withPath("/async")).respond(response().withBody("[4, 5]"));
+
+        CompletableFuture<List<Integer>> future = NetworkClient.getAsync(url("/async"), null,
+            new TypeToken<List<Integer>>() {
+            }.getType(), null);
+
+        assertEquals(2, future.get(10, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    public void testGetAsyncFailsOnUnsuccessfulResponse() {
+        mockServer.when(request().withPath("/async-missing")).respond(response().withStatusCode(404));
+
+        CompletableFuture<Object> future = NetworkClient.getAsync(url("/async-missing"), null, Object.class, null);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof DownloadException);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.Times;
+import org.mockserver.socket.PortFactory;
+import org.mockserver.verify.VerificationTimes;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+public class RateLimitInterceptorTest {
+    private static ClientAndServer mockServer;
+
+    private OkHttpClient client;
+
+    @BeforeAll
+    public static void setUpServer() {
+        mockServer = ClientAndServer.startClientAndServer(PortFactory.findFreePort());
+    }
+
+    @AfterAll
+    public static void tearDownServer() {
+        mockServer.stop();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        mockServer.reset();
+
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(
+                Collections.singletonMap("localhost", new TokenBucket(20, 5)));
+        client = new OkHttpClient.Builder().addInterceptor(interceptor)
+                .addNetworkInterceptor(interceptor.getNetworkInterceptor()).build();
+    }
+
+    private Response get(String path) throws Exception {
+        return client.newCall(new Request.Builder().url("http://localhost:" + mockServer.getPort() + path).build())
+                .execute();
+    }
+
+    @Test
+    public void testRetriesAfterRetryAfter() throws Exception {
+        mockServer.when(request().withPath("/limited"), Times.once())
+                .respond(response().withStatusCode(429).withHeader("Retry-After", "1"));
+        mockServer.when(request().withPath("/limited")).respond(response().withStatusCode(200).withBody("ok"));
+
+        long start = System.nanoTime();
+        try (Response response = get("/limited")) {
+            assertEquals(200, response.code());
+            assertEquals("ok", response.body().string());
+        }
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(900));
+        mockServer.verify(request().withPath("/limited"), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    public void testGivesUpAfterMaxRetries() throws Exception {
+        mockServer.when(request().withPath("/always-limited"))
+                .respond(response().withStatusCode(429).withHeader("Retry-After", "0"));
+
+        try (Response response = get("/always-limited")) {
+            assertEquals(429, response.code());
+        }
+
+        mockServer.verify(request().withPath("/always-limited"),
+                VerificationTimes.exactly(RateLimitInterceptor.MAX_RETRIES + 1));
+    }
+
+    @Test
+    public void testRequestsArePacedOnceBucketIsEmpty() throws Exception {
+        mockServer.when(request().withPath("/paced")).respond(response().withStatusCode(200));
+
+        // 5 requests can be made straight away, then 10 more at 20 a second
+        long start = System.nanoTime();
+        for (int i = 0; i < 15; i++) {
+            try (Response response = get("/paced")) {
+                assertEquals(200, response.code());
+            }
+        }
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(450));
+    }
+
+    @Test
+    public void testRetryDelayWithoutRetryAfterIsJitteredBackoff() {
+        Response response = new Response.Builder()
+                .request(new Request.Builder().url("http://localhost/").build())
+                .protocol(okhttp3.Protocol.HTTP_1_1).code(429).message("Too Many Requests").build();
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            long delay = RateLimitInterceptor.getRetryDelay(response, attempt);
+            long backoff = 1000L << attempt;
+
+            assertTrue(delay >= backoff / 2 && delay <= backoff, "delay " + delay + " for attempt " + attempt);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestBatcherTest {
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+
+    private final Function<List<Integer>, CompletableFuture<Map<Integer, String>>> loader = ids -> {
+        batches.add(new ArrayList<>(ids));
+
+        return CompletableFuture.completedFuture(ids.stream().filter(id -> id > 0)
+                .collect(Collectors.toMap(id -> id, id -> "value" + id)));
+    };
+
+    @Test
+    public void testLookupsAreBatched() throws Exception {
+        RequestBatcher<Integer, String> batcher = new RequestBatcher<>(100, 50, loader);
+
+        CompletableFuture<String> one = batcher.get(1);
+        CompletableFuture<String> two = batcher.get(2);
+        CompletableFuture<String> missing = batcher.get(-1);
+
+        assertEquals("value1", one.get(5, TimeUnit.SECONDS));
+        assertEquals("value2", two.get(5, TimeUnit.SECONDS));
+        assertNull(missing.get(5, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList(Arrays.asList(1, 2, -1)), batches);
+    }
+
+    @Test
+    public void testSameIdSharesLookupWithoutSharingFuture() throws Exception {
+        RequestBatcher<Integer, String> batcher = new RequestBatcher<>(100, 50, loader);
+
+        CompletableFuture<String> first = batcher.get(1);
+        CompletableFuture<String> second = batcher.get(1);
+        assertNotSame(first, second);
+
+        // cancelling one caller's future shouldn't cancel the lookup for the other
+        first.cancel(false);
+        assertEquals("value1", second.get(5, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList(Collections.singletonList(1)), batches);
+    }
+
+    @Test
+    public void testFullBatchIsLookedUpStraightAway() throws Exception {
+        RequestBatcher<Integer, String> batcher = new RequestBatcher<>(2, TimeUnit.MINUTES.toMillis(1), loader);
+
+        batcher.get(1);
+        assertEquals("value2", batcher.get(2).get(5, TimeUnit.SECONDS));
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    public void testGetAllSplitsIntoBatchesAndLeavesOutMissingIds() throws Exception {
+        RequestBatcher<Integer, String> batcher = new RequestBatcher<>(2, 10, loader);
+
+        CompletableFuture<Map<Integer, String>> all = batcher.getAll(Arrays.asList(1, 2, 2, -1, 3, 4));
+
+        Map<Integer, String> values = all.get(5, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList(1, 2, 3, 4), new ArrayList<>(values.keySet()));
+        assertEquals("value3", values.get(3));
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(-1, 3), Collections.singletonList(4)), batches);
+    }
+
+    @Test
+    public void testFailedLookupFailsAllFutures() {
+        RequestBatcher<Integer, String> batcher = new RequestBatcher<>(100, 10, ids -> {
+            CompletableFuture<Map<Integer, String>> future = new CompletableFuture<>();
+            future.completeExceptionally(new IOException("failed"));
+            return future;
+        });
+
+        CompletableFuture<String> one = batcher.get(1);
+        CompletableFuture<String> two = batcher.get(2);
+
+        assertThrows(ExecutionException.class, () -> one.get(5, TimeUnit.SECONDS));
+        assertThrows(ExecutionException.class, () -> two.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.atlauncher.interfaces.NetworkProgressable;
+import com.google.common.io.ByteStreams;
+
+public class ArchiveUtilsTest {
+    @TempDir
+    Path testStorage;
+
+    private static byte[] readEntry(ZipFile zipFile, String name) throws IOException {
+        try (InputStream is = zipFile.getInputStream(zipFile.getEntry(name))) {
+            return ByteStreams.toByteArray(is);
+        }
+    }
+
+    @Test
+    public void testCreateZipInParallel() throws IOException {
+        Path instance = Files.createDirectories(testStorage.resolve("instance"));
+        Files.createDirectories(instance.resolve("mods"));
+        Files.createDirectories(instance.resolve("saves/world/region"));
+
+        byte[] modBytes = new byte[100_000];
+        new Random(1).nextBytes(modBytes);
+        byte[] regionBytes = new byte[200_000];
+
+        Files.write(instance.resolve("mods/mod.jar"), modBytes);
+        Files.write(instance.resolve("saves/world/region/r.0.0.mca"), regionBytes);
+        Files.write(instance.resolve("options.txt"), "fov:70".getBytes(StandardCharsets.UTF_8));
+        Files.write(instance.resolve("not-backed-up.txt"), "skip".getBytes(StandardCharsets.UTF_8));
+
+        long[] progress = new long[2];
+        NetworkProgressable progressable = new NetworkProgressable() {
+            @Override
+            public void setTotalBytes(long bytes) {
+                progress[0] = bytes;
+            }
+
+            @Override
+            public void addDownloadedBytes(long bytes) {
+                progress[1] += bytes;
+            }
+
+            @Override
+            public void addBytesToDownload(long bytes) {
+                progress[0] += bytes;
+            }
+        };
+
+        Path zip = testStorage.resolve("backup.zip");
+        assertTrue(ArchiveUtils.createZipInParallel(instance, zip, ZipNameMapper.NORMAL_PLUS_MODS_BACKUP,
+                progressable));
+
+        try (ZipFile zipFile = new ZipFile(zip.toFile())) {
+            assertEquals(3, zipFile.size());
+            assertNull(zipFile.getEntry("not-backed-up.txt"));
+
+            ZipEntry modEntry = zipFile.getEntry("mods/mod.jar");
+            assertNotNull(modEntry);
+            assertEquals(ZipEntry.STORED, modEntry.getMethod());
+            assertArrayEquals(modBytes, readEntry(zipFile, "mods/mod.jar"));
+
+            ZipEntry regionEntry = zipFile.getEntry("saves/world/region/r.0.0.mca");
+            assertNotNull(regionEntry);
+            assertEquals(ZipEntry.DEFLATED, regionEntry.getMethod());
+            assertTrue(regionEntry.getCompressedSize() < regionEntry.getSize());
+            assertArrayEquals(regionBytes, readEntry(zipFile, "saves/world/region/r.0.0.mca"));
+
+            assertEquals("fov:70", new String(readEntry(zipFile, "options.txt"), StandardCharsets.UTF_8));
+        }
+
+        long expectedBytes = modBytes.length + regionBytes.length + 6;
+        assertEquals(expectedBytes, progress[0]);
+        assertEquals(expectedBytes, progress[1]);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.hash.HashCode;
+
+public class FractureiserScanCacheTest {
+    @TempDir
+    Path testStorage;
+
+    private Path createJar(String name, String contents) throws IOException {
+        return Files.write(testStorage.resolve(name), contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static BasicFileAttributes attributes(Path path) throws IOException {
+        return Files.readAttributes(path, BasicFileAttributes.class);
+    }
+
+    @Test
+    public void testScannedFilesAreRememberedAfterReloading() throws IOException {
+        Path cacheFile = testStorage.resolve("cache.bin");
+        Path jar = createJar("mod.jar", "mod");
+        HashCode hash = Hashing.sha1(jar);
+
+        FractureiserScanCache cache = new FractureiserScanCache(cacheFile, null);
+        cache.load();
+        assertFalse(cache.isScanned(jar, attributes(jar)));
+        cache.markScanned(jar, attributes(jar), hash);
+        cache.save();
+
+        FractureiserScanCache reloadedCache = new FractureiserScanCache(cacheFile, null);
+        reloadedCache.load();
+        assertTrue(reloadedCache.isScanned(jar, attributes(jar)));
+        assertTrue(reloadedCache.isScanned(jar, attributes(jar), hash));
+        assertEquals(1, reloadedCache.size());
+    }
+
+    @Test
+    public void testChangedFileIsOnlyKnownByHash() throws IOException {
+        Path jar = createJar("mod.jar", "mod");
+        HashCode hash = Hashing.sha1(jar);
+
+        FractureiserScanCache cache = new FractureiserScanCache(testStorage.resolve("cache.bin"), null);
+        cache.load();
+        cache.markScanned(jar, attributes(jar), hash);
+
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(attributes(jar).lastModifiedTime().toMillis() + 5000));
+        assertFalse(cache.isScanned(jar, attributes(jar)));
+
+        // same contents, so is still known by its hash, and after that by its path again
+        assertTrue(cache.isScanned(jar, attributes(jar), hash));
+        assertTrue(cache.isScanned(jar, attributes(jar)));
+    }
+
+    @Test
+    public void testSameFileInAnotherPlaceIsKnownByHash() throws IOException {
+        Path jar = createJar("mod.jar", "mod");
+        Path copy = createJar("copy.jar", "mod");
+
+        FractureiserScanCache cache = new FractureiserScanCache(testStorage.resolve("cache.bin"), null);
+        cache.load();
+        cache.markScanned(jar, attributes(jar), Hashing.sha1(jar));
+
+        assertFalse(cache.isScanned(copy, attributes(copy)));
+        assertTrue(cache.isScanned(copy, attributes(copy), Hashing.sha1(copy)));
+    }
+
+    @Test
+    public void testLegacyHashesAreMigrated() throws IOException {
+        Path cacheFile = testStorage.resolve("cache.bin");
+        Path legacyFile = testStorage.resolve("legacy.json");
+        Path jar = createJar("mod.jar", "mod");
+        HashCode hash = Hashing.sha1(jar);
+        Files.write(legacyFile, ("[\"" + hash + "\"]").getBytes(StandardCharsets.UTF_8));
+
+        FractureiserScanCache cache = new FractureiserScanCache(cacheFile, legacyFile);
+        cache.load();
+        assertFalse(Files.exists(legacyFile));
+
+        FractureiserScanCache reloadedCache = new FractureiserScanCache(cacheFile, legacyFile);
+        reloadedCache.load();
+        assertTrue(reloadedCache.isScanned(jar, attributes(jar), hash));
+    }
+
+    @Test
+    public void testInvalidLegacyHashesAreSkipped() throws IOException {
+        Path cacheFile = testStorage.resolve("cache.bin");
+        Path legacyFile = testStorage.resolve("legacy.json");
+        Path jar = createJar("mod.jar", "mod");
+        HashCode hash = Hashing.sha1(jar);
+        Files.write(legacyFile, ("[\"not a hash\", \"zz\", null, \"" + hash + "\"]").getBytes(StandardCharsets.UTF_8));
+
+        FractureiserScanCache cache = new FractureiserScanCache(cacheFile, legacyFile);
+        cache.load();
+        assertFalse(Files.exists(legacyFile));
+
+        FractureiserScanCache reloadedCache = new FractureiserScanCache(cacheFile, legacyFile);
+        reloadedCache.load();
+        assertTrue(reloadedCache.isScanned(jar, attributes(jar), hash));
+    }
+
+    @Test
+    public void testPartlyWrittenRecordIsIgnored() throws IOException {
+        Path cacheFile = testStorage.resolve("cache.bin");
+        Path jar = createJar("mod.jar", "mod");
+        HashCode hash = Hashing.sha1(jar);
+
+        FractureiserScanCache cache = new FractureiserScanCache(cacheFile, null);
+        cache.load();
+        cache.markScanned(jar, attributes(jar), hash);
+        cache.save();
+
+        Files.write(cacheFile, new byte[] { 1, 2, 3 }, StandardOpenOption.APPEND);
+
+        FractureiserScanCache reloadedCache = new FractureiserScanCache(cacheFile, null);
+        reloadedCache.load();
+        assertTrue(reloadedCache.isScanned(jar, attributes(jar)));
+        assertEquals(1, reloadedCache.size());
+
+        // anything added afterwards can still be read back in
+        Path otherJar = createJar("other.jar", "other");
+        reloadedCache.markScanned(otherJar, attributes(otherJar), Hashing.sha1(otherJar));
+        reloadedCache.save();
+
+        FractureiserScanCache finalCache = new FractureiserScanCache(cacheFile, null);
+        finalCache.load();
+        assertTrue(finalCache.isScanned(jar, attributes(jar)));
+        assertTrue(finalCache.isScanned(otherJar, attributes(otherJar)));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import com.atlauncher.data.AbstractAccount;
+
+public class LogRedactorTest {
+    private static AbstractAccount createAccount(String username, String accessToken) {
+        AbstractAccount account = mock(AbstractAccount.class);
+        account.username = username;
+        account.minecraftUsername = username;
+        account.uuid = "069a79f4-44e9-4726-a5be-fca90e38aaf5";
+        when(account.getAccessToken()).thenReturn(accessToken);
+
+        return account;
+    }
+
+    @Test
+    public void testRedact() {
+        LogRedactor logRedactor = LogRedactor.forAccount(createAccount("Notch", "secrettoken"), true);
+
+        assertEquals("[Client thread/INFO]: Setting user: **MINECRAFTUSERNAME**",
+            logRedactor.redact("[Client thread/INFO]: Setting user: Notch"));
+        assertEquals("UUID of player **MINECRAFTUSERNAME** is **UUID** (**UUID**)",
+            logRedactor.redact("UUID of player Notch is 069a79f4-44e9-4726-a5be-fca90e38aaf5 "
+                + "(069a79f444e94726a5befca90e38aaf5)"));
+        assertEquals("Connecting to **IPADDRESS**, 25565", logRedactor.redact("Connecting to 192.168.1.120, 25565"));
+        assertEquals("--accessToken **ACCESSTOKEN**", logRedactor.redact("--accessToken secrettoken"));
+    }
+
+    @Test
+    public void testRedactReturnsSameStringWhenNothingToRedact() {
+        LogRedactor logRedactor = LogRedactor.forAccount(createAccount("Notch", "secrettoken"), true);
+        String line = "[Render thread/INFO]: Reloading ResourceManager: Default";
+
+        assertSame(line, logRedactor.redact(line));
+    }
+
+    @Test
+    public void testRedactTreatsValuesLiterally() {
+        LogRedactor logRedactor = LogRedactor.forAccount(createAccount("a.b*c(", "token"), true);
+
+        assertEquals("user **MINECRAFTUSERNAME** axbbc(", logRedactor.redact("user a.b*c( axbbc("));
+    }
+
+    @Test
+    public void testRedactOnlyAccessTokenWhenNotRedactingIdentifyingInformation() {
+        LogRedactor logRedactor = LogRedactor.forAccount(createAccount("Notch", "secrettoken"), false);
+
+        assertEquals("Notch connecting to 192.168.1.120 with **ACCESSTOKEN**",
+            logRedactor.redact("Notch connecting to 192.168.1.120 with secrettoken"));
+    }
+
+    @Test
+    public void testRedactWithoutIpAddresses() {
+        LogRedactor logRedactor = LogRedactor.forAccounts(
+            Collections.singletonList(createAccount("Notch", "secrettoken")), true, false);
+
+        assertEquals("**MINECRAFTUSERNAME** on ATLauncher 3.4.41.1",
+            logRedactor.redact("Notch on ATLauncher 3.4.41.1"));
+    }
+}
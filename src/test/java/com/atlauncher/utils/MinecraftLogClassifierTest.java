@@ -0,0 +1,85 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import org.junit.jupiter.api.Test;
+
+import com.atlauncher.evnt.LogEvent.LogType;
+
+public class MinecraftLogClassifierTest {
+    private static void assertClassified(LogType type, String message, String line) {
+        assertArrayEquals(new Object[] { type, message }, MinecraftLogClassifier.classify(line), line);
+    }
+
+    @Test
+    public void testClassifyThreadBrackets() {
+        assertClassified(LogType.INFO, "[Client thread/INFO]: Setting user: Player",
+                "[12:00:00] [Client thread/INFO]: Setting user: Player");
+        assertClassified(LogType.WARN, "[Render thread/WARN]: Missing sound for event: minecraft:item.goat_horn.play",
+                "[12:00:00] [Render thread/WARN]: Missing sound for event: minecraft:item.goat_horn.play");
+        assertClassified(LogType.ERROR, "[Worker-Main-3/ERROR]: Couldn't parse element loot_tables:stone",
+                "[12:00:00] [Worker-Main-3/ERROR]: Couldn't parse element loot_tables:stone");
+        assertClassified(LogType.ERROR, "[main/FATAL] [FML]: Fatal errors were detected during the transition",
+                "[12Mar2022 12:00:00.000] [main/FATAL] [FML]: Fatal errors were detected during the transition");
+        assertClassified(LogType.INFO, "[main/INFO]: Loading tweak class name", "[main/INFO]: Loading tweak class name");
+        assertClassified(LogType.ERROR, "[12:00:00] [Client thread/INFO] [STDERR]: java.lang.NullPointerException",
+                "[12:00:00] [Client thread/INFO] [STDERR]: java.lang.NullPointerException");
+    }
+
+    @Test
+    public void testLeadingThreadBracketTakesPrecedenceOverLaterMarkers() {
+        assertClassified(LogType.WARN, "[Render thread/WARN]: Unknown option INFO: enabled",
+                "[12:00:00] [Render thread/WARN]: Unknown option INFO: enabled");
+        assertClassified(LogType.ERROR, "[Worker-Main-3/ERROR]: Mod sent [INFO] before it was loaded",
+                "[12:00:00] [Worker-Main-3/ERROR]: Mod sent [INFO] before it was loaded");
+        assertClassified(LogType.INFO, "[main/INFO]: Falling back to defaults, WARNING: config missing",
+                "[main/INFO]: Falling back to defaults, WARNING: config missing");
+    }
+
+    @Test
+    public void testClassifyLegacyMarkers() {
+        assertClassified(LogType.WARN, "[INFO] [STDERR] java.lang.ClassNotFoundException: Display",
+                "2022-03-01 12:00:00 [INFO] [STDERR] java.lang.ClassNotFoundException: Display");
+        assertClassified(LogType.INFO, "[INFO] [ForgeModLoader] Forge Mod Loader version 6.4.49.965 loading",
+                "2022-03-01 12:00:00 [INFO] [ForgeModLoader] Forge Mod Loader version 6.4.49.965 loading");
+        assertClassified(LogType.ERROR, "[INFO] [ForgeModLoader] CONFLICT @ 2001",
+                "2022-03-01 12:00:00 [INFO] [ForgeModLoader] CONFLICT @ 2001");
+        assertClassified(LogType.WARN, "[INFO] [Minecraft] overwriting existing item at id 4000",
+                "2022-03-01 12:00:00 [INFO] [Minecraft] overwriting existing item at id 4000");
+        assertClassified(LogType.WARN, "[WARNING] [ForgeModLoader] The coremod has no MCVersion annotation",
+                "2022-03-01 12:00:00 [WARNING] [ForgeModLoader] The coremod has no MCVersion annotation");
+        assertClassified(LogType.ERROR, "[SEVERE] [Minecraft-Client] Unable to launch",
+                "2022-03-01 12:00:00 [SEVERE] [Minecraft-Client] Unable to launch");
+        assertClassified(LogType.WARN, "WARNING: An illegal reflective access operation has occurred",
+                "WARNING: An illegal reflective access operation has occurred");
+        assertClassified(LogType.INFO, "INFO: Found 12 valid configurations", "INFO: Found 12 valid configurations");
+        assertClassified(LogType.ERROR, "Caused by: java.io.IOException: Connection reset by peer",
+                "Caused by: java.io.IOException: Connection reset by peer");
+        assertClassified(LogType.INFO, "\tat net.minecraft.client.Minecraft.run(Minecraft.java:441)",
+                "\tat net.minecraft.client.Minecraft.run(Minecraft.java:441)");
+    }
+
+    @Test
+    public void testClassifyFallsBackToInfo() {
+        assertClassified(LogType.INFO, "Some random output", "Some random output");
+        assertClassified(LogType.INFO, "[12:00:00] [not a thread]", "[12:00:00] [not a thread]");
+        assertClassified(LogType.INFO, "", "");
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.atlauncher.data.ModMetadata;
+
+public class ModMetadataIndexTest {
+    @TempDir
+    Path testStorage;
+
+    private Path createJar(String name, String entryName, String entryContents) throws IOException {
+        Path jar = testStorage.resolve(name);
+
+        try (OutputStream os = Files.newOutputStream(jar); ZipOutputStream zos = new ZipOutputStream(os)) {
+            zos.putNextEntry(new ZipEntry(entryName));
+            zos.write(entryContents.getBytes(StandardCharsets.UTF_8));
+            zos.closeEntry();
+        }
+
+        return jar;
+    }
+
+    @Test
+    public void testHashesMatchHashingEachSeparately() throws IOException {
+        Path jar = createJar("mod.jar", "mcmod.info", "[{\"modid\": \"test\", \"name\": \"Test Mod\"}]");
+
+        ModMetadata metadata = new ModMetadataIndex(testStorage.resolve("index.json")).get(jar);
+
+        assertEquals(Files.size(jar), metadata.size);
+        assertEquals(Hashing.md5(jar).toString(), metadata.md5);
+        assertEquals(Hashing.sha1(jar).toString(), metadata.sha1);
+        assertEquals(Hashing.sha512(jar).toString(), metadata.sha512);
+        assertEquals(Hashing.murmur(jar), metadata.murmur);
+        assertEquals("Test Mod", metadata.mcMod.name);
+        assertNull(metadata.fabricMod);
+    }
+
+    @Test
+    public void testStreamingLargeFilesGivesTheSameMetadata() throws IOException {
+        Path jar = testStorage.resolve("large.jar");
+
+        // stored uncompressed so the file is spread over many reads, with whitespace for the fingerprint to skip
+        StringBuilder padding = new StringBuilder();
+        for (int i = 0; i < 50000; i++) {
+            padding.append("line ").append(i).append("\t\r\n");
+        }
+
+        try (OutputStream os = Files.newOutputStream(jar); ZipOutputStream zos = new ZipOutputStream(os)) {
+            zos.setLevel(0);
+            zos.putNextEntry(new ZipEntry("mcmod.info"));
+            zos.write("[{\"modid\": \"test\", \"name\": \"Test Mod\"}]".getBytes(StandardCharsets.UTF_8));
+            zos.closeEntry();
+            zos.putNextEntry(new ZipEntry("padding.txt"));
+            zos.write(padding.toString().getBytes(StandardCharsets.UTF_8));
+            zos.closeEntry();
+        }
+
+        long size = Files.size(jar);
+        long modified = Files.getLastModifiedTime(jar).toMillis();
+        ModMetadata streamed = ModMetadataIndex.read(jar, size, modified, 0);
+        ModMetadata inMemory = ModMetadataIndex.read(jar, size, modified, size);
+
+        assertEquals(Hashing.md5(jar).toString(), streamed.md5);
+        assertEquals(Hashing.sha1(jar).toString(), streamed.sha1);
+        assertEquals(Hashing.sha512(jar).toString(), streamed.sha512);
+        assertEquals(Hashing.murmur(jar), streamed.murmur);
+        assertEquals(inMemory.murmur, streamed.murmur);
+        assertEquals("Test Mod", streamed.mcMod.name);
+    }
+
+    @Test
+    public void testReadsFabricModAndHandlesNonZipFiles() throws IOException {
+        Path jar = createJar("fabric.jar", "fabric.mod.json", "{\"id\": \"test\", \"name\": \"Fabric Mod\"}");
+        Path notZip = Files.write(testStorage.resolve("notes.txt"), "not a zip".getBytes(StandardCharsets.UTF_8));
+
+        ModMetadataIndex index = new ModMetadataIndex(testStorage.resolve("index.json"));
+
+        assertEquals("Fabric Mod", index.get(jar).fabricMod.name);
+        assertNull(index.get(jar).mcMod);
+        assertNull(index.get(notZip).mcMod);
+        assertEquals(Hashing.sha1(notZip).toString(), index.get(notZip).sha1);
+        assertNull(index.get(testStorage.resolve("missing.jar")));
+    }
+
+    @Test
+    public void testUnchangedFilesAreNotReadAgainAfterReloading() throws IOException {
+        Path indexFile = testStorage.resolve("index.json");
+        Path jar = createJar("mod.jar", "mcmod.info", "[{\"modid\": \"test\", \"name\": \"Test Mod\"}]");
+        FileTime modified = Files.getLastModifiedTime(jar);
+
+        ModMetadataIndex index = new ModMetadataIndex(indexFile);
+        String sha1 = index.get(jar).sha1;
+        index.save();
+
+        // same size and last modified time, so should be trusted without reading the file
+        byte[] contents = Files.readAllBytes(jar);
+        contents[contents.length - 1] ^= 1;
+        Files.write(jar, contents);
+        Files.setLastModifiedTime(jar, modified);
+
+        ModMetadataIndex reloadedIndex = new ModMetadataIndex(indexFile);
+        assertEquals(sha1, reloadedIndex.get(jar).sha1);
+
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(modified.toMillis() + 5000));
+        assertNotEquals(sha1, reloadedIndex.get(jar).sha1);
+        assertEquals(Hashing.sha1(jar).toString(), reloadedIndex.get(jar).sha1);
+    }
+}
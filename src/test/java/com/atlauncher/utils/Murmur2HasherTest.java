@@ -0,0 +1,108 @@
+/*
+ * ATLauncher - https://github.com/ATLauncher/ATLauncher
+ * Copyright (C) 2013-2022 ATLauncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.atlauncher.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sangupta.murmur.Murmur2;
+
+public class Murmur2HasherTest {
+    @TempDir
+    Path testStorage;
+
+    private static long expectedHash(byte[] data) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+        for (byte b : data) {
+            if (b != 9 && b != 10 && b != 13 && b != 32) {
+                bos.write(b);
+            }
+        }
+
+        return Murmur2.hash(bos.toByteArray(), bos.size(), 1L);
+    }
+
+    private static byte[] randomData(Random random, int size) {
+        byte[] data = new byte[size];
+        random.nextBytes(data);
+
+        // sprinkle in plenty of whitespace so it's filtered out across word boundaries
+        for (int i = 0; i < size; i += 1 + random.nextInt(7)) {
+            data[i] = new byte[] { 9, 10, 13, 32 }[random.nextInt(4)];
+        }
+
+        return data;
+    }
+
+    @Test
+    public void testHashMatchesMurmur2ForAllTailLengths() {
+        Random random = new Random(1);
+
+        for (int size = 0; size < 64; size++) {
+            byte[] data = randomData(random, size);
+
+            Murmur2Hasher hasher = new Murmur2Hasher(1L, Murmur2Hasher.countNonWhitespace(data, 0, data.length));
+            hasher.update(data, 0, data.length);
+
+            assertEquals(expectedHash(data), hasher.hash(), "Hash differs for data of size " + size);
+        }
+    }
+
+    @Test
+    public void testHashMatchesMurmur2WhenUpdatedInChunks() {
+        Random random = new Random(2);
+        byte[] data = randomData(random, 10_003);
+
+        for (int chunkSize : new int[] { 1, 3, 7, 4096 }) {
+            Murmur2Hasher hasher = new Murmur2Hasher(1L, Murmur2Hasher.countNonWhitespace(data, 0, data.length));
+
+            for (int offset = 0; offset < data.length; offset += chunkSize) {
+                hasher.update(data, offset, Math.min(chunkSize, data.length - offset));
+            }
+
+            assertEquals(expectedHash(data), hasher.hash(), "Hash differs for chunk size " + chunkSize);
+        }
+    }
+
+    @Test
+    public void testHashThrowsWhenLengthDoesntMatch() {
+        Murmur2Hasher hasher = new Murmur2Hasher(1L, 5);
+        hasher.update(new byte[] { 1, 2, 32, 3 }, 0, 4);
+
+        assertThrows(IllegalStateException.class, hasher::hash);
+    }
+
+    @Test
+    public void testMurmurOfFileMatchesMurmur2() throws Exception {
+        byte[] data = randomData(new Random(3), 200_001);
+        Path file = testStorage.resolve("mod.jar");
+        Files.write(file, data);
+
+        assertEquals(expectedHash(data), Hashing.murmur(file));
+        assertEquals(-1L, Hashing.murmur(testStorage.resolve("missing.jar")));
+    }
+}